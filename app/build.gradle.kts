@@ -51,6 +51,7 @@ android {
 }
 
 dependencies {
+    implementation(project(":engine"))
     implementation(libs.androidx.core)
     implementation(libs.androidx.appcompat)
     implementation(libs.com.google.android.material)
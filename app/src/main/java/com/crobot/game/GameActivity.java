@@ -105,11 +105,13 @@ public class GameActivity extends AppCompatActivity {
         executorService.execute(() -> {
             try {
                 LevelModel level = levelRepository.loadLevel(world, stage);
+                // Decode the tileset and build enemies here; the view only swaps the result in.
+                GameView.PreparedLevel prepared = gameView.prepareLevel(level, world, stage);
                 mainHandler.post(() -> {
                     if (loadingView != null) {
                         loadingView.setVisibility(View.GONE);
                     }
-                    gameView.bindLevel(level, world, stage);
+                    gameView.bindLevel(prepared);
                 });
             } catch (IOException | RuntimeException ex) {
                 mainHandler.post(() -> {
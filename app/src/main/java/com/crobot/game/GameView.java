@@ -12,6 +12,7 @@ import android.graphics.Path;
 import android.graphics.Rect;
 import android.graphics.RectF;
 import android.graphics.Typeface;
+import android.os.PowerManager;
 import android.util.SparseArray;
 import android.view.MotionEvent;
 import android.view.SurfaceHolder;
@@ -24,30 +25,53 @@ import com.crobot.game.enemy.AnimatedEnemy;
 import com.crobot.game.enemy.EnemyAnimations;
 import com.crobot.game.level.LegacyWorldData;
 import com.crobot.game.level.LevelModel;
+import com.crobot.game.physics.Aabb;
+import com.crobot.game.sim.CrobotSimulation;
+import com.crobot.game.sim.DebugPlatform;
+import com.crobot.game.sim.EnemyInstance;
+import com.crobot.game.sim.EnemyKind;
+import com.crobot.game.sim.Player;
+import com.crobot.game.sim.Projectile;
 import com.example.robotparkour.audio.GameAudioManager;
 import com.example.robotparkour.audio.WorldMusicLibrary;
+import com.example.robotparkour.core.AllocationBudget;
+import com.example.robotparkour.core.DrawList;
+import com.example.robotparkour.core.FrameScheduler;
+import com.example.robotparkour.core.InputEventQueue;
+import com.example.robotparkour.core.QualityGovernor;
+import com.example.robotparkour.core.SurfacePresenter;
 import com.example.robotparkour.core.WorldInfo;
+import com.example.robotparkour.entity.SpriteFrameCache;
+import com.example.robotparkour.ui.GlyphAtlas;
+import com.example.robotparkour.ui.ScreenOverlays;
+import com.example.robotparkour.util.TextBuffer;
 import com.example.robotparkour.util.TimeFormatter;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * SurfaceView responsible for rendering the platformer level and updating the simulation.
+ * The fixed-step simulation runs on its own thread and publishes {@link RenderSnapshot}s
+ * that the render thread draws without taking any lock.
  */
 public class GameView extends SurfaceView implements SurfaceHolder.Callback, Runnable {
 
     public enum Control { LEFT, RIGHT, JUMP, DUCK }
 
+    private static final Control[] CONTROLS = Control.values();
+    private static final EnemyKind[] ENEMY_KINDS = EnemyKind.values();
+
     public interface LevelCompletionListener {
         void onLevelCompleted(int world, int stage);
     }
@@ -118,54 +142,161 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     private static final BackgroundTheme DEFAULT_THEME = BACKGROUND_THEMES.get(1);
 
     private static final float FIXED_TIME_STEP = 1f / 60f;
-    private static final float GRAVITY = 1400f;
-    private static final float MOVE_SPEED = 200f;
+    private static final long FIXED_STEP_NANOS = (long) (FIXED_TIME_STEP * 1_000_000_000L);
     private static final int SAFE_TOP_PX = 64;
     private static final int SAFE_BOTTOM_PX = 48;
     private static final float BASE_SCROLL_SPEED = 120f;
+    private static final float MIN_WORLD_RESOLUTION_SCALE = 0.25f;
+    // Player pose bits; a pose indexes robotFrames.
+    private static final int ROBOT_FRAME_RIGHT = 1;
+    private static final int ROBOT_FRAME_CROUCH = 2;
+    private static final int ROBOT_FRAME_COUNT = 4;
     private static final float BOSS_MESSAGE_DURATION = 4.5f;
     private static final float BOSS_MESSAGE_FADE = 0.8f;
     private static final String BOSS_NAME = "KoopaByte";
+    private static final int SNAPSHOT_INDEX_MASK = 0x3;
+    private static final int SNAPSHOT_FRESH = 0x4;
+    private static final int COIN_COLOR = Color.parseColor("#FFD166");
+    private static final int SPIKE_FILL_COLOR = Color.parseColor("#C94E4E");
+    private static final int SPIKE_EDGE_COLOR = Color.parseColor("#FCD7D7");
+    private static final int FLAG_POLE_COLOR = Color.parseColor("#C7CDD6");
+    private static final int FLAG_CLOTH_COLOR = Color.parseColor("#4FC1FF");
+    private static final int ENEMY_BODY_COLOR = Color.parseColor("#BF6C32");
+    private static final int ENEMY_EYE_COLOR = Color.parseColor("#FCEBD2");
+    private static final int ENEMY_MOUTH_COLOR = Color.parseColor("#2D160C");
+    private static final int PROJECTILE_COLOR = Color.parseColor("#FF8A65");
+
+    private static final int ENTITY_SKIP = 0;
+    private static final int ENTITY_COIN = 1;
+    private static final int ENTITY_SPIKE = 2;
+    private static final int ENTITY_FLAG = 3;
+    private static final int ENTITY_ENEMY = 4;
+    private static final int ENTITY_GENERIC = 5;
 
     private final Paint backgroundPaint = new Paint();
     private final Paint entityPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint uiPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint tileFallbackPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final TileChunkCache tileChunkCache = new TileChunkCache();
+    private final TileMesh tileMesh = new TileMesh();
+    private final SpriteFrameCache robotFrames =
+            new SpriteFrameCache(ROBOT_FRAME_COUNT, 0.45f, GameView::paintRobotFrame);
+    private final ScreenOverlays screenOverlays = new ScreenOverlays(SAFE_TOP_PX, SAFE_BOTTOM_PX);
+    private final DrawList entityList = new DrawList();
     private final Paint timerPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint bossTextPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private GlyphAtlas hudGlyphs;
+    private GlyphAtlas timerGlyphs;
+    private GlyphAtlas bossGlyphs;
+    private GlyphAtlas bossSubtitleGlyphs;
     private final Rect srcRect = new Rect();
     private final Rect dstRect = new Rect();
     private final RectF tempRectF = new RectF();
-    private final RectF flagBounds = new RectF();
+    private final Path scratchPath = new Path();
+    // Render thread only; see classifyEntities().
+    @Nullable
+    private LevelModel classifiedLevel;
+    private int[] entityKinds = new int[0];
+    // HUD text, re-formatted only when the value it shows changes.
+    private final TextBuffer hudTimerText = new TextBuffer(16);
+    private final TextBuffer hudHeaderText = new TextBuffer(48);
+    private int hudTimerMillis = -1;
+    @Nullable
+    private WorldInfo hudHeaderWorld;
+    private int hudHeaderWorldNumber = -1;
+    private int hudHeaderStage = -1;
 
     private Thread renderThread;
+    private Thread simulationThread;
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private final FrameScheduler frameScheduler =
+            new FrameScheduler(FrameScheduler.TargetRate.HZ_60, FrameScheduler.Mode.VSYNC);
+    private final FrameScheduler simulationScheduler =
+            new FrameScheduler(FrameScheduler.TargetRate.HZ_60, FrameScheduler.Mode.TIMED_SLEEP);
     private boolean surfaceReady;
 
+    // Guards simulation state against surfaceChanged() and level swaps while the loop is stopped. Never taken by render.
+    private final Object simulationLock = new Object();
+    // Level prepared off-thread and waiting to be swapped in by the simulation thread.
+    private final AtomicReference<PreparedLevel> pendingLevel = new AtomicReference<>();
+    // Triple buffer: the simulation owns one snapshot, the render thread owns one and the third
+    // is the latest published frame. SNAPSHOT_FRESH marks a publish the renderer has not taken.
+    private final RenderSnapshot[] snapshots = {
+            new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+    };
+    private final AtomicInteger publishedSnapshot = new AtomicInteger(0);
+    private int simulationSnapshot = 1;
+    private int renderSnapshot = 2;
+    // Snapshot being drawn and its interpolated view; only touched by the render thread.
+    private RenderSnapshot frame = snapshots[2];
+    private float interpolationAlpha = 1f;
+    private float viewCameraX;
+    private float viewCameraY;
+    private final RectF interpolatedBounds = new RectF();
+    // Layout size in view pixels; the surface buffer may be smaller if it was given a fixed size.
+    // Captured on the UI thread so the simulation and render threads never call getWidth() or
+    // getHeight(). frameWidth/frameHeight are the render thread's copy for the current frame.
+    private volatile int layoutWidth;
+    private volatile int layoutHeight;
+    private int frameWidth;
+    private int frameHeight;
+    // World pass resolution requested by settings; the governor may lower it further.
+    private volatile float worldResolutionScale = 1f;
+    private volatile boolean worldResolutionFiltered = true;
+    private final WorldBuffer worldBuffer = new WorldBuffer();
+    private final SurfacePresenter presenter = new SurfacePresenter(getHolder());
+    private QualityGovernor qualityGovernor;
+    private AllocationBudget allocationBudget;
+    private AllocationBudget simulationBudget;
+    private boolean antiAliasEnabled = true;
+
     @Nullable
     private LevelModel level;
     @Nullable
     private Bitmap tileset;
     private int tilesetColumns;
 
-    private final Player player = new Player();
+    // Simulation thread only, apart from isLevelCompleted().
+    private final CrobotSimulation simulation = new CrobotSimulation();
+    private final CrobotSimulation.Listener simulationListener = new CrobotSimulation.Listener() {
+        @Override
+        public void onJump() {
+            audioManager.playJump();
+        }
+
+        @Override
+        public void onPlayerRespawned() {
+            interpolationReset = true;
+            shakeOffsetX = 0f;
+            shakeOffsetY = 0f;
+            screenShakeTimer = 0f;
+        }
+
+        @Override
+        public void onLevelCompleted() {
+            bossMessageVisible = false;
+            screenShakeTimer = 0f;
+            shakeOffsetX = 0f;
+            shakeOffsetY = 0f;
+            audioManager.playVictory();
+            final int world = currentWorldNumber;
+            final int stage = currentStage;
+            post(() -> notifyLevelCompleted(world, stage));
+        }
+    };
     private final GameAudioManager audioManager;
-    private final List<EnemyInstance> enemies = new ArrayList<>();
-    private final List<Projectile> projectiles = new ArrayList<>();
-    private final List<DebugPlatform> debugPlatforms = new ArrayList<>();
-    private final Map<String, GuardianGate> guardianGates = new HashMap<>();
+    // One shared sprite per enemy kind of the bound level; instances only carry a phase.
+    private final Map<EnemyKind, AnimatedEnemy> enemySprites = new EnumMap<>(EnemyKind.class);
     private final Random random = new Random();
 
-    private boolean moveLeft;
-    private boolean moveRight;
-    private boolean jumpPressed;
-    private boolean jumpConsumed;
-    private boolean shouldPlayJumpSound;
-    private boolean duckPressed;
-    private boolean playerRespawnedThisFrame;
+    // Touch changes travel from the UI thread through inputQueue and are applied per step.
+    private final InputEventQueue inputQueue = new InputEventQueue(64);
+    private final InputEventQueue.Consumer inputConsumer = this::applyControlEvent;
+    // Control states last offered to inputQueue; only touched on the UI thread.
+    private final boolean[] offeredControlStates = new boolean[CONTROLS.length];
+    private long simulationTimeNanos;
     private boolean isBossWorld;
-    private float runTimerSeconds;
     private float screenShakeTimer;
     private float screenShakeDuration;
     private float screenShakeMagnitude;
@@ -174,10 +305,12 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     private boolean bossMessageVisible;
     private float bossMessageTimer;
 
-    private float previousVx;
-
     private float cameraX;
     private float cameraY;
+    private float previousCameraX;
+    private float previousCameraY;
+    // Set when positions jump (level bind, respawn) so the next frame does not blend across the jump.
+    private boolean interpolationReset;
     private float currentScale = 1f;
     private float parallaxTimer;
     private float animationTimer;
@@ -189,10 +322,6 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     private BackgroundTheme currentBackgroundTheme = DEFAULT_THEME;
     @Nullable
     private LevelCompletionListener levelCompletionListener;
-    private boolean levelCompleted;
-    private boolean completionSoundPlayed;
-
-    private PlayerAction lastPlayerAction = PlayerAction.IDLE;
 
     public GameView(@NonNull Context context) {
         super(context);
@@ -211,6 +340,11 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     private void init() {
+        qualityGovernor = new QualityGovernor(
+                (PowerManager) getContext().getSystemService(Context.POWER_SERVICE));
+        allocationBudget = new AllocationBudget(getContext(), "crobot GameView");
+        simulationBudget = new AllocationBudget(getContext(), "crobot simulation");
+        simulation.setListener(simulationListener);
         getHolder().addCallback(this);
         setFocusable(true);
         BackgroundTheme theme = currentBackgroundTheme != null ? currentBackgroundTheme : DEFAULT_THEME;
@@ -231,28 +365,99 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         timerPaint.setShadowLayer(3f, 0f, 2f, Color.argb(180, 0, 0, 0));
         timerPaint.setTypeface(Typeface.create(Typeface.DEFAULT_BOLD, Typeface.BOLD));
         timerPaint.setTextAlign(Paint.Align.LEFT);
-        bossTextPaint.setColor(Color.parseColor("#FF4C4C"));
+        bossTextPaint.setColor(0xFFFF4C4C);
         bossTextPaint.setTextSize(64f);
         bossTextPaint.setShadowLayer(8f, 0f, 0f, Color.argb(200, 0, 0, 0));
         bossTextPaint.setTextAlign(Paint.Align.CENTER);
         bossTextPaint.setTypeface(Typeface.create(Typeface.DEFAULT_BOLD, Typeface.BOLD));
+        // HUD and banner text is blitted from baked glyphs; the paints above only lend their style.
+        hudGlyphs = new GlyphAtlas(textPaint, GlyphAtlas.DEFAULT_CHARSET,
+                2f, 1f, 1f, Color.argb(160, 0, 0, 0));
+        timerGlyphs = new GlyphAtlas(timerPaint, GlyphAtlas.DEFAULT_CHARSET,
+                3f, 0f, 2f, Color.argb(180, 0, 0, 0));
+        bossGlyphs = new GlyphAtlas(bossTextPaint, GlyphAtlas.DEFAULT_CHARSET,
+                8f, 0f, 0f, Color.argb(200, 0, 0, 0));
+        bossSubtitleGlyphs = new GlyphAtlas(bossTextPaint, GlyphAtlas.DEFAULT_CHARSET,
+                8f, 0f, 0f, Color.argb(200, 0, 0, 0));
+    }
+
+    /**
+     * Builds everything a level needs (tileset, enemies, spawn point) without touching the
+     * running world, so it is safe to call from a loader thread. Pass the result to
+     * {@link #bindLevel(PreparedLevel)}.
+     */
+    @NonNull
+    public PreparedLevel prepareLevel(@NonNull LevelModel level, int world, int stage) {
+        PreparedLevel prepared = new PreparedLevel(level, Math.max(1, world), Math.max(1, stage));
+        prepared.worldInfo = LegacyWorldData.findWorld(prepared.world);
+        BackgroundTheme theme = BACKGROUND_THEMES.get(prepared.world);
+        prepared.theme = theme != null ? theme : DEFAULT_THEME;
+        String worldName = prepared.worldInfo != null ? prepared.worldInfo.getName() : null;
+        boolean bossWorld = worldName != null && worldName.toLowerCase(Locale.US).contains("boss");
+        prepared.setup = CrobotSimulation.prepare(level, bossWorld);
+        for (EnemyKind kind : prepared.setup.getSpriteKinds()) {
+            AnimatedEnemy sprite = EnemyAnimations.create(getContext(), kind.getTypeName());
+            prepared.enemySprites.put(kind, sprite);
+            prepared.setup.setAnimationSpeed(kind, sprite.getAnimationSpeed());
+        }
+        int viewHeight = layoutHeight;
+        if (viewHeight > 0) {
+            // Rasterize the sprites here, on the loader, not on the first frame that shows them.
+            warmEnemySprites(prepared.enemySprites, level, scaleFor(level, viewHeight));
+        }
+        loadTilesetBitmap(level, prepared);
+        return prepared;
+    }
+
+    /**
+     * Prepares and binds a level in one go. Loader code should call {@link #prepareLevel}
+     * on its worker thread instead so the UI thread does not decode bitmaps.
+     */
+    public void bindLevel(@NonNull LevelModel level, int world, int stage) {
+        bindLevel(prepareLevel(level, world, stage));
+    }
+
+    /**
+     * Queues a prepared level. The simulation thread swaps it in between two step batches, so
+     * neither the running world nor the frame being drawn ever sees a half-bound level.
+     */
+    public void bindLevel(@NonNull PreparedLevel prepared) {
+        // Held buttons are re-offered with their next touch event after the swap.
+        Arrays.fill(offeredControlStates, false);
+        PreparedLevel dropped = pendingLevel.getAndSet(prepared);
+        if (dropped != null) {
+            // Superseded before the simulation picked it up, so nothing has drawn it yet.
+            releasePreparedLevel(dropped);
+        }
+        configureMusic(prepared.worldInfo);
+        if (!running.get()) {
+            // No simulation thread to pick it up; the threads are only started on this thread.
+            synchronized (simulationLock) {
+                applyPendingLevel();
+            }
+        }
     }
 
-    public void bindLevel(@NonNull LevelModel level, int world, int stage) {
+    /**
+     * Simulation thread (or a stopped loop): publishes the newest prepared level in one step.
+     */
+    private void applyPendingLevel() {
+        PreparedLevel prepared = pendingLevel.getAndSet(null);
+        if (prepared == null) {
+            return;
+        }
+        LevelModel level = prepared.level;
+        // The outgoing tileset and enemy frames may still be in a published snapshot, a chunk
+        // build or the tile mesh shader; like TileChunkCache.bind(), leave them to the GC.
         this.level = level;
-        currentWorldNumber = Math.max(1, world);
-        currentStage = Math.max(1, stage);
-        currentWorldInfo = LegacyWorldData.findWorld(currentWorldNumber);
-        currentBackgroundTheme = BACKGROUND_THEMES.get(currentWorldNumber);
-        if (currentBackgroundTheme == null) {
-            currentBackgroundTheme = DEFAULT_THEME;
-        }
-        if (currentBackgroundTheme != null) {
-            backgroundPaint.setColor(currentBackgroundTheme.backgroundColor);
-        }
-        String worldName = currentWorldInfo != null ? currentWorldInfo.getName() : null;
-        isBossWorld = worldName != null && worldName.toLowerCase(Locale.US).contains("boss");
-        runTimerSeconds = 0f;
+        tileset = prepared.tileset;
+        tilesetColumns = prepared.tilesetColumns;
+        currentWorldNumber = prepared.world;
+        currentStage = prepared.stage;
+        currentWorldInfo = prepared.worldInfo;
+        currentBackgroundTheme = prepared.theme;
+        isBossWorld = prepared.setup.isBossWorld();
+        interpolationReset = true;
         screenShakeTimer = 0f;
         screenShakeDuration = 0f;
         screenShakeMagnitude = 0f;
@@ -264,153 +469,86 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         cameraY = 0f;
         parallaxTimer = 0f;
         animationTimer = 0f;
-        player.width = level.getTileWidth() * 0.82f;
-        player.height = level.getTileHeight() * 1.65f;
-        player.vx = 0f;
-        previousVx = 0f;
-        player.vy = 0f;
-        player.onGround = false;
-        player.facingRight = true;
-        shouldPlayJumpSound = false;
-        levelCompleted = false;
-        completionSoundPlayed = false;
-        moveLeft = false;
-        moveRight = false;
-        jumpPressed = false;
-        jumpConsumed = false;
-        duckPressed = false;
-        lastPlayerAction = PlayerAction.IDLE;
-
-        boolean spawnFound = false;
-        for (LevelModel.Entity entity : level.getEntities()) {
-            if ("spawn".equalsIgnoreCase(entity.getType())) {
-                player.x = entity.getX();
-                player.y = entity.getY();
-                player.spawnX = player.x;
-                player.spawnY = player.y;
-                spawnFound = true;
-                break;
-            }
-        }
-        if (!spawnFound) {
-            player.x = level.getTileWidth() * 2.5f;
-            player.y = level.getPixelHeight() - level.getTileHeight() * 2f;
-            player.spawnX = player.x;
-            player.spawnY = player.y;
-        }
-
-        player.standingHeight = level.getTileHeight() * 1.9f;
-        player.crouchHeight = level.getTileHeight() * 0.95f;
-        player.height = player.standingHeight;
-        player.jumpVelocity = computeJumpVelocity(level);
-        player.crouching = false;
-        player.stickyTimer = 0f;
-        player.slipTimer = 0f;
-        player.jumpCooldownTimer = 0f;
-        player.timeSlowTimer = 0f;
-        player.touchedDebugSymbol = false;
-
-        enemies.clear();
-        projectiles.clear();
-        debugPlatforms.clear();
-        guardianGates.clear();
-        buildEnemyInstances(level);
+        // Touches queued against the old level must not leak into the new one.
+        inputQueue.clear();
+
+        simulation.load(prepared.setup);
+        enemySprites.clear();
+        enemySprites.putAll(prepared.enemySprites);
 
         if (isBossWorld) {
             triggerBossIntro(level);
         }
-
-        loadTilesetBitmap(level.getTilesetAssetPath());
         updateScale(level);
-        configureMusic();
+        if (layoutHeight > 0) {
+            // Covers a level prepared before the view was laid out, when the scale did not change.
+            warmEnemySprites(enemySprites, level, currentScale);
+        }
     }
 
-    private float computeJumpVelocity(@NonNull LevelModel level) {
-        float tileHeight = Math.max(1f, level.getTileHeight());
-        float desiredJumpHeight = tileHeight * 3f;
-        return (float) -Math.sqrt(2f * GRAVITY * desiredJumpHeight);
+    private void releasePreparedLevel(@NonNull PreparedLevel prepared) {
+        if (prepared.tileset != null) {
+            prepared.tileset.recycle();
+            prepared.tileset = null;
+        }
+        for (AnimatedEnemy sprite : prepared.enemySprites.values()) {
+            sprite.release();
+        }
     }
 
-    private void loadTilesetBitmap(@NonNull String assetPath) {
+    private void loadTilesetBitmap(@NonNull LevelModel level, @NonNull PreparedLevel prepared) {
+        String assetPath = level.getTilesetAssetPath();
         if (assetPath.isEmpty()) {
-            tileset = null;
-            tilesetColumns = 0;
             return;
         }
         AssetManager assets = getContext().getAssets();
         try (InputStream inputStream = assets.open(assetPath)) {
             Bitmap bitmap = BitmapFactory.decodeStream(inputStream);
-            tileset = bitmap;
-            tilesetColumns = bitmap.getWidth() / level.getTileWidth();
+            prepared.tileset = bitmap;
+            prepared.tilesetColumns = bitmap.getWidth() / level.getTileWidth();
         } catch (IOException ex) {
-            tileset = null;
-            tilesetColumns = 0;
+            prepared.tileset = null;
+            prepared.tilesetColumns = 0;
         }
     }
 
     private void updateScale(@NonNull LevelModel level) {
-        int viewHeight = getHeight();
+        int viewHeight = layoutHeight;
         if (viewHeight <= 0) {
             return;
         }
-        float desiredScale = viewHeight / (float) Math.max(level.getPixelHeight(), 1);
-        if (!Float.isFinite(desiredScale) || desiredScale <= 0f) {
-            desiredScale = 1f;
+        float desiredScale = scaleFor(level, viewHeight);
+        if (desiredScale != currentScale) {
+            currentScale = desiredScale;
+            warmEnemySprites(enemySprites, level, desiredScale);
         }
-        currentScale = desiredScale;
     }
 
-    private void configureMusic() {
-        audioManager.stopMusic();
-        audioManager.setMusicTrack(WorldMusicLibrary.getTrackFor(getContext(), currentWorldInfo));
-        audioManager.startMusic();
+    private static float scaleFor(@NonNull LevelModel level, int viewHeight) {
+        float scale = viewHeight / (float) Math.max(level.getPixelHeight(), 1);
+        return Float.isFinite(scale) && scale > 0f ? scale : 1f;
     }
 
-    private void buildEnemyInstances(@NonNull LevelModel level) {
-        enemies.clear();
-        projectiles.clear();
-        debugPlatforms.clear();
-        guardianGates.clear();
-
-        float tileWidth = Math.max(1f, level.getTileWidth());
-        float tileHeight = Math.max(1f, level.getTileHeight());
-
-        Map<String, EnemyInstance> leadersById = new HashMap<>();
-        for (LevelModel.Entity entity : level.getEntities()) {
-            String type = entity.getType();
-            if (type == null) {
-                continue;
-            }
-            EnemyKind kind = EnemyKind.fromType(type);
-            if (kind == null) {
-                continue;
-            }
-            AnimatedEnemy animatedSprite = EnemyAnimations.create(getContext(), kind.typeName);
-            EnemyInstance instance = new EnemyInstance(kind, entity.getX(), entity.getY(),
-                    tileWidth, tileHeight, entity.getExtras(), animatedSprite);
-            if (instance.kind == EnemyKind.PACKET_HOUND && !isBossWorld) {
-                continue;
-            }
-            if (instance.kind == EnemyKind.PACKET_HOUND && isBossWorld) {
-                instance.width = tileWidth * 1.6f;
-                instance.height = tileHeight * 1.9f;
-                instance.animatedSprite = null;
-            }
-            enemies.add(instance);
-            if (kind == EnemyKind.BOTNET_BEE_LEADER && instance.swarmId != null) {
-                leadersById.put(instance.swarmId, instance);
-            }
-            if ((kind == EnemyKind.TWOFA_GUARDIAN_JUMP || kind == EnemyKind.TWOFA_GUARDIAN_DASH)
-                    && instance.channel != null && !guardianGates.containsKey(instance.channel)) {
-                guardianGates.put(instance.channel, new GuardianGate());
+    /**
+     * Rasterizes each sprite at the on-screen size of its kind at {@code scale}; sprites already
+     * at that size are left alone.
+     */
+    private static void warmEnemySprites(@NonNull Map<EnemyKind, AnimatedEnemy> sprites,
+                                         @NonNull LevelModel level,
+                                         float scale) {
+        for (EnemyKind kind : ENEMY_KINDS) {
+            AnimatedEnemy sprite = sprites.get(kind);
+            if (sprite != null) {
+                sprite.warm(level.getTileWidth() * kind.getWidthScale() * scale,
+                        level.getTileHeight() * kind.getHeightScale() * scale);
             }
         }
+    }
 
-        for (EnemyInstance enemy : enemies) {
-            if (enemy.kind == EnemyKind.BOTNET_BEE_MINION && enemy.leaderId != null) {
-                enemy.leader = leadersById.get(enemy.leaderId);
-            }
-        }
+    private void configureMusic(@Nullable WorldInfo worldInfo) {
+        audioManager.stopMusic();
+        audioManager.setMusicTrack(WorldMusicLibrary.getTrackFor(getContext(), worldInfo));
+        audioManager.startMusic();
     }
 
     private void triggerBossIntro(@NonNull LevelModel level) {
@@ -422,770 +560,16 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         bossMessageTimer = 0f;
     }
 
-    private void updateEnemies(float deltaSeconds, @NonNull LevelModel level) {
-        float levelWidth = level.getPixelWidth();
-        float levelHeight = level.getPixelHeight();
-        Iterator<EnemyInstance> iterator = enemies.iterator();
-        while (iterator.hasNext()) {
-            EnemyInstance enemy = iterator.next();
-            if (!enemy.active) {
-                iterator.remove();
-                continue;
-            }
-            if (enemy.animatedSprite != null) {
-                enemy.animatedSprite.update(deltaSeconds);
-            }
-            enemy.timer += deltaSeconds;
-            enemy.stateTimer += deltaSeconds;
-
-            switch (enemy.kind) {
-                case BUGBLOB:
-                    updateHopper(enemy, deltaSeconds, level,
-                            new float[] { enemy.tileHeight * 0.9f, enemy.tileHeight * 1.6f, enemy.tileHeight * 0.9f });
-                    break;
-                case KEYLOGGER_BEETLE:
-                    updateKeylogger(enemy, deltaSeconds, level);
-                    break;
-                case COOKIE_CRUMBLER:
-                    updateGroundPatrol(enemy, deltaSeconds, level, 48f);
-                    break;
-                case BIT_BAT:
-                    updateFlyer(enemy, deltaSeconds, 36f, enemy.tileHeight * 1.2f, 1.6f);
-                    break;
-                case PHISH_CARP:
-                    updatePopper(enemy, deltaSeconds, enemy.tileHeight * 2.4f, 1.8f, false);
-                    break;
-                case SPAM_DRONE:
-                    updateSpamDrone(enemy, deltaSeconds);
-                    break;
-                case CLOUD_LEECH:
-                    updateCloudLeech(enemy, deltaSeconds);
-                    break;
-                case TROJAN_TURRET:
-                    updateTrojanTurret(enemy, deltaSeconds, level);
-                    break;
-                case RANSOM_KNIGHT:
-                    updateGroundPatrol(enemy, deltaSeconds, level, 56f);
-                    break;
-                case ROOTKIT_RAIDER:
-                    updateRootkit(enemy, deltaSeconds);
-                    break;
-                case FIREWALL_GUARDIAN:
-                    updateFirewallGuardian(enemy, deltaSeconds);
-                    break;
-                case POPUP_PIRANHA:
-                    updatePopper(enemy, deltaSeconds, enemy.tileHeight * 2.2f, 1.4f, true);
-                    break;
-                case LAG_BUBBLE:
-                    updateLagBubble(enemy, deltaSeconds);
-                    break;
-                case MEMORY_LEAK_SLIME:
-                    updateMemoryLeak(enemy, deltaSeconds);
-                    break;
-                case CAPTCHA_GARGOYLE:
-                    updateCaptcha(enemy, deltaSeconds);
-                    break;
-                case PACKET_HOUND:
-                    updatePacketHound(enemy, deltaSeconds, level);
-                    break;
-                case BSOD_BLOCK:
-                    updateBsodBlock(enemy, deltaSeconds);
-                    break;
-                case PATCH_GOLEM:
-                    updatePatchGolem(enemy, deltaSeconds);
-                    break;
-                case GLITCH_SAW:
-                    updateGlitchSaw(enemy, deltaSeconds);
-                    break;
-                case ADWARE_BALLOON:
-                    updateAdwareBalloon(enemy, deltaSeconds);
-                    break;
-                case BOTNET_BEE_LEADER:
-                    updateBeeLeader(enemy, deltaSeconds);
-                    break;
-                case BOTNET_BEE_MINION:
-                    updateBeeMinion(enemy, deltaSeconds);
-                    break;
-                case WURM_WEASEL:
-                    updateGroundPatrol(enemy, deltaSeconds, level, 72f);
-                    break;
-                case TREIBER_DRONE:
-                    updateTreiberDrone(enemy, deltaSeconds, level);
-                    break;
-                case DRIVER_MODULE:
-                    updateDriverModule(enemy, deltaSeconds, level);
-                    break;
-                case PORT_PLANT:
-                    updatePopper(enemy, deltaSeconds, enemy.tileHeight * 2.0f, 1.2f, true);
-                    break;
-                case COMPILE_CRUSHER:
-                    updateCompileCrusher(enemy, deltaSeconds);
-                    break;
-                case GARBAGE_COLLECTOR:
-                    updateGarbageCollector(enemy, deltaSeconds);
-                    break;
-                case KERNEL_KOBOLD:
-                    updateKernelKobold(enemy, deltaSeconds);
-                    break;
-                case VPN_VAMPYRE:
-                    updateVpnVampire(enemy, deltaSeconds);
-                    break;
-                case UPDATE_OGRE:
-                    updateUpdateOgre(enemy, deltaSeconds, level);
-                    break;
-                case TWOFA_GUARDIAN_JUMP:
-                case TWOFA_GUARDIAN_DASH:
-                    updateGuardian(enemy);
-                    break;
-                case CHECKSUM_CRAB:
-                    updateChecksumCrab(enemy, deltaSeconds, level);
-                    break;
-                case PHISHING_SIREN:
-                    updatePhishingSiren(enemy, deltaSeconds);
-                    break;
-            }
-
-            enemy.x = clamp(enemy.x, enemy.width / 2f, Math.max(enemy.width / 2f, levelWidth - enemy.width / 2f));
-            if (enemy.kind == EnemyKind.LAG_BUBBLE || enemy.kind == EnemyKind.GARBAGE_COLLECTOR) {
-                enemy.y = clamp(enemy.y, enemy.height, levelHeight - enemy.height * 0.5f);
-            } else if (enemy.kind != EnemyKind.PHISH_CARP && enemy.kind != EnemyKind.POPUP_PIRANHA && enemy.kind != EnemyKind.PORT_PLANT) {
-                enemy.y = Math.min(enemy.y, levelHeight + enemy.height * 2f);
-            }
-            if (enemy.y > levelHeight + enemy.height * 2f) {
-                enemy.active = false;
-            }
-        }
-        enemies.removeIf(instance -> !instance.active);
-    }
-
-    private void updateProjectiles(float deltaSeconds, @NonNull LevelModel level) {
-        float levelWidth = level.getPixelWidth();
-        float levelHeight = level.getPixelHeight();
-        Iterator<Projectile> iterator = projectiles.iterator();
-        RectF playerBounds = player.getBounds();
-        while (iterator.hasNext()) {
-            Projectile projectile = iterator.next();
-            projectile.lifetime -= deltaSeconds;
-            if (projectile.gravity) {
-                projectile.vy += GRAVITY * deltaSeconds;
-            }
-            projectile.x += projectile.vx * deltaSeconds;
-            projectile.y += projectile.vy * deltaSeconds;
-            if (projectile.lifetime <= 0f
-                    || projectile.x < -projectile.radius
-                    || projectile.x > levelWidth + projectile.radius
-                    || projectile.y > levelHeight + projectile.radius * 2f) {
-                iterator.remove();
-                continue;
-            }
-            if (circleIntersects(playerBounds, projectile.x, projectile.y, projectile.radius)) {
-                duckPressed = false;
-                lastPlayerAction = PlayerAction.IDLE;
-                player.respawn();
-                onPlayerRespawned();
-                iterator.remove();
-            }
-        }
-    }
-
-    private void updateDebugPlatforms(float deltaSeconds) {
-        Iterator<DebugPlatform> iterator = debugPlatforms.iterator();
-        while (iterator.hasNext()) {
-            DebugPlatform platform = iterator.next();
-            platform.lifetime -= deltaSeconds;
-            if (platform.lifetime <= 0f) {
-                iterator.remove();
-            }
-        }
-    }
-
-    private void updateHopper(@NonNull EnemyInstance enemy,
-                              float deltaSeconds,
-                              @NonNull LevelModel level,
-                              @NonNull float[] jumpPattern) {
-        float cadence = Math.max(0.4f, getExtraFloat(enemy, "cadence", 0.6f));
-        enemy.stateTimer += deltaSeconds;
-        if (enemy.onGround && enemy.stateTimer >= cadence) {
-            int index = ((int) enemy.state) % jumpPattern.length;
-            float desired = Math.max(level.getTileHeight() * 0.6f, jumpPattern[index]);
-            enemy.vy = (float) -Math.sqrt(2f * GRAVITY * desired);
-            enemy.onGround = false;
-            enemy.stateTimer = 0f;
-            enemy.state = (enemy.state + 1f) % jumpPattern.length;
-        }
-        if (!enemy.onGround) {
-            enemy.vy += GRAVITY * deltaSeconds;
-            enemy.y += enemy.vy * deltaSeconds;
-            if (enemy.y >= enemy.baseY) {
-                enemy.y = enemy.baseY;
-                enemy.vy = 0f;
-                enemy.onGround = true;
-            }
-        }
-    }
-
-    private void updateGroundPatrol(@NonNull EnemyInstance enemy,
-                                    float deltaSeconds,
-                                    @NonNull LevelModel level,
-                                    float speed) {
-        float patrolRange = Math.max(enemy.tileWidth * 2f,
-                getExtraFloat(enemy, "range", enemy.tileWidth * 3.5f));
-        float minX = enemy.baseX - patrolRange;
-        float maxX = enemy.baseX + patrolRange;
-        enemy.x += enemy.direction * speed * deltaSeconds;
-        if (enemy.x <= minX) {
-            enemy.x = minX;
-            enemy.direction = 1;
-        } else if (enemy.x >= maxX) {
-            enemy.x = maxX;
-            enemy.direction = -1;
-        }
-        enemy.onGround = true;
-        enemy.baseY = Math.max(enemy.baseY, level.getTileHeight());
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateKeylogger(@NonNull EnemyInstance enemy,
-                                 float deltaSeconds,
-                                 @NonNull LevelModel level) {
-        updateGroundPatrol(enemy, deltaSeconds, level, 52f);
-        if (lastPlayerAction == PlayerAction.JUMP && enemy.onGround && enemy.stateTimer > 0.3f) {
-            float hopHeight = level.getTileHeight() * 1.2f;
-            enemy.vy = (float) -Math.sqrt(2f * GRAVITY * hopHeight);
-            enemy.onGround = false;
-            enemy.stateTimer = 0f;
-        }
-        if (!enemy.onGround) {
-            enemy.vy += GRAVITY * deltaSeconds;
-            enemy.y += enemy.vy * deltaSeconds;
-            if (enemy.y >= enemy.baseY) {
-                enemy.y = enemy.baseY;
-                enemy.vy = 0f;
-                enemy.onGround = true;
-            }
-        }
-    }
-
-    private void updateFlyer(@NonNull EnemyInstance enemy,
-                             float deltaSeconds,
-                             float speed,
-                             float amplitude,
-                             float periodSeconds) {
-        enemy.timer += deltaSeconds;
-        float frequency = (float) (Math.PI * 2f / Math.max(0.1f, periodSeconds));
-        enemy.y = enemy.baseY + (float) Math.sin(enemy.timer * frequency) * amplitude;
-        enemy.x += enemy.direction * speed * deltaSeconds;
-        float range = Math.max(enemy.tileWidth * 3f, getExtraFloat(enemy, "range", enemy.tileWidth * 4f));
-        if (enemy.x > enemy.baseX + range) {
-            enemy.x = enemy.baseX + range;
-            enemy.direction = -1;
-        } else if (enemy.x < enemy.baseX - range) {
-            enemy.x = enemy.baseX - range;
-            enemy.direction = 1;
-        }
-    }
-
-    private void updatePopper(@NonNull EnemyInstance enemy,
-                               float deltaSeconds,
-                               float riseHeight,
-                               float riseSpeedMultiplier,
-                               boolean waitForPlayer) {
-        float cycle = Math.max(2.6f, getExtraFloat(enemy, "cycle", 3.4f));
-        float riseSpeed = Math.max(36f, riseSpeedMultiplier * enemy.tileHeight);
-        float restY = enemy.baseY;
-        float peakY = restY - riseHeight;
-        enemy.stateTimer += deltaSeconds;
-        boolean trigger = !waitForPlayer || Math.abs(player.x - enemy.x) < enemy.tileWidth * 3.5f;
-        if (!trigger) {
-            enemy.stateTimer = 0f;
-            enemy.y = restY;
-            enemy.visible = false;
-            return;
-        }
-        enemy.visible = true;
-        float localTime = enemy.stateTimer % cycle;
-        float riseDuration = Math.min(cycle * 0.35f, Math.max(0.4f, riseHeight / riseSpeed));
-        if (localTime < riseDuration) {
-            enemy.y = restY - (riseHeight * (localTime / riseDuration));
-        } else if (localTime < riseDuration + 0.8f) {
-            enemy.y = peakY;
-        } else {
-            float fallProgress = (localTime - riseDuration - 0.8f)
-                    / Math.max(0.2f, cycle - (riseDuration + 0.8f));
-            enemy.y = peakY + riseHeight * clamp(fallProgress, 0f, 1f);
-        }
-    }
-
-    private void updateSpamDrone(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.timer += deltaSeconds;
-        float angularSpeed = (float) (Math.PI * 0.6f);
-        float radius = Math.max(enemy.tileWidth * 2.2f, getExtraFloat(enemy, "radius", enemy.tileWidth * 2.8f));
-        float centerX = player.x;
-        float centerY = player.y - player.height * 1.6f;
-        float angle = enemy.timer * angularSpeed;
-        enemy.x = centerX + (float) Math.cos(angle) * radius;
-        enemy.y = centerY + (float) Math.sin(angle) * radius * 0.4f;
-        float dropInterval = Math.max(1.2f, getExtraFloat(enemy, "drop_interval", 1.8f));
-        if (enemy.timer - enemy.state >= dropInterval) {
-            enemy.state = enemy.timer;
-            spawnProjectile(enemy, enemy.x, enemy.y, 0f, 160f, enemy.tileWidth * 0.4f, 4f, true);
-        }
-    }
-
-    private void updateCloudLeech(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        float followSpeed = Math.max(40f, getExtraFloat(enemy, "speed", 60f));
-        float targetX = player.x;
-        float targetY = player.y - player.height * 1.8f;
-        enemy.x += clamp(targetX - enemy.x, -followSpeed, followSpeed) * deltaSeconds;
-        float baseY = enemy.y + clamp(targetY - enemy.y, -followSpeed, followSpeed) * deltaSeconds;
-        enemy.timer += deltaSeconds;
-        enemy.y = baseY + (float) Math.sin(enemy.timer * 1.6f) * enemy.tileHeight * 0.3f;
-    }
-
-    private void updateTrojanTurret(@NonNull EnemyInstance enemy,
-                                    float deltaSeconds,
-                                    @NonNull LevelModel level) {
-        float triggerDistance = Math.max(enemy.tileWidth * 4f, getExtraFloat(enemy, "trigger", enemy.tileWidth * 5f));
-        float distanceToPlayer = distance(enemy.x, enemy.y, player.x, player.y - player.height * 0.5f);
-        enemy.stateTimer += deltaSeconds;
-        if (distanceToPlayer < triggerDistance && enemy.stateTimer > 2.2f) {
-            enemy.stateTimer = 0f;
-            float spread = enemy.tileWidth * 0.4f;
-            for (int i = -1; i <= 1; i++) {
-                float vx = i * 40f;
-                float vy = -180f - Math.abs(i) * 40f;
-                spawnProjectile(enemy, enemy.x + i * spread, enemy.y - enemy.height * 0.6f,
-                        vx, vy, enemy.tileWidth * 0.32f, 3.5f, true);
-            }
-        }
-        enemy.y = enemy.baseY;
-        enemy.x = enemy.baseX;
-    }
-
-    private void updateRootkit(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.stateTimer += deltaSeconds;
-        switch ((int) enemy.state) {
-            case 0:
-                enemy.x = enemy.baseX;
-                enemy.y = enemy.baseY;
-                enemy.visible = true;
-                if (enemy.stateTimer > 2.4f) {
-                    enemy.state = 1f;
-                    enemy.stateTimer = 0f;
-                    enemy.visible = false;
-                }
-                break;
-            case 1:
-                if (enemy.stateTimer > 0.7f) {
-                    enemy.state = 2f;
-                    enemy.stateTimer = 0f;
-                    enemy.visible = true;
-                    float offset = enemy.tileWidth * 2.2f;
-                    enemy.x = player.x + (player.facingRight ? -offset : offset);
-                    enemy.y = player.y;
-                }
-                break;
-            case 2:
-                if (enemy.stateTimer > 1.6f) {
-                    enemy.state = 0f;
-                    enemy.stateTimer = 0f;
-                    enemy.x = enemy.baseX;
-                    enemy.y = enemy.baseY;
-                    enemy.visible = true;
-                }
-                break;
-            default:
-                enemy.state = 0f;
-                enemy.stateTimer = 0f;
-                enemy.visible = true;
-                break;
-        }
-    }
-
-    private void updateFirewallGuardian(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.stateTimer += deltaSeconds;
-        float cadence = Math.max(2f, getExtraFloat(enemy, "cadence", 2.6f));
-        if (enemy.stateTimer >= cadence) {
-            enemy.stateTimer = 0f;
-            for (int i = 0; i < 6; i++) {
-                float angle = (float) (i * Math.PI * 2f / 6f);
-                float vx = (float) Math.cos(angle) * 140f;
-                float vy = (float) Math.sin(angle) * 140f;
-                spawnProjectile(enemy, enemy.x, enemy.y - enemy.height * 0.5f, vx, vy,
-                        enemy.tileWidth * 0.35f, 3f, false);
-            }
-        }
-        enemy.x = enemy.baseX;
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateLagBubble(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.timer += deltaSeconds;
-        enemy.y = enemy.baseY + (float) Math.sin(enemy.timer * 0.4f) * enemy.tileHeight * 0.6f;
-        enemy.x = enemy.baseX + (float) Math.cos(enemy.timer * 0.2f) * enemy.tileWidth * 0.4f;
-    }
-
-    private void updateMemoryLeak(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        float growRate = Math.max(0.2f, getExtraFloat(enemy, "growth", 0.3f));
-        enemy.height = clamp(enemy.height + enemy.tileHeight * growRate * deltaSeconds,
-                enemy.tileHeight * 0.6f, enemy.tileHeight * 3.5f);
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateCaptcha(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.stateTimer += deltaSeconds;
-        if (enemy.stateTimer > 2f) {
-            enemy.stateTimer = 0f;
-            enemy.state = (enemy.state + 1f) % 4f;
-        }
-        enemy.visible = enemy.stateTimer > 0.5f;
-    }
-
-    private void updatePacketHound(@NonNull EnemyInstance enemy,
-                                   float deltaSeconds,
-                                   @NonNull LevelModel level) {
-        float chaseSpeed = Math.max(80f, getExtraFloat(enemy, "speed", 92f));
-        if (isBossWorld) {
-            chaseSpeed = Math.max(chaseSpeed, 140f);
-        }
-        float direction = player.x - enemy.x;
-        int dir = direction < 0f ? -1 : 1;
-        if (Math.abs(direction) < 1f) {
-            dir = enemy.direction;
-        }
-        if (dir == 0) {
-            dir = 1;
-        }
-        enemy.direction = dir;
-        enemy.x += enemy.direction * chaseSpeed * deltaSeconds;
-        float minX = enemy.tileWidth * 0.5f;
-        float maxX = Math.max(minX, level.getPixelWidth() - enemy.tileWidth * 0.5f);
-        enemy.x = clamp(enemy.x, minX, maxX);
-        enemy.onGround = true;
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateBsodBlock(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        float holdTime = Math.max(0.6f, getExtraFloat(enemy, "freeze", 0.8f));
-        if (enemy.state == 0f) {
-            enemy.stateTimer += deltaSeconds;
-            enemy.vy = 0f;
-            enemy.y = enemy.baseY;
-            if (enemy.stateTimer > holdTime) {
-                enemy.state = 1f;
-                enemy.stateTimer = 0f;
-            }
-        } else {
-            enemy.vy += GRAVITY * deltaSeconds;
-            enemy.y += enemy.vy * deltaSeconds;
-            if (enemy.y > enemy.baseY + enemy.tileHeight * 8f) {
-                enemy.active = false;
-            }
-        }
-    }
-
-    private void updatePatchGolem(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        float walkSpeed = Math.max(28f, getExtraFloat(enemy, "speed", 32f));
-        enemy.x += enemy.direction * walkSpeed * deltaSeconds;
-        float range = Math.max(enemy.tileWidth * 3f, getExtraFloat(enemy, "range", enemy.tileWidth * 4f));
-        if (enemy.x >= enemy.baseX + range) {
-            enemy.x = enemy.baseX + range;
-            enemy.direction = -1;
-        } else if (enemy.x <= enemy.baseX - range) {
-            enemy.x = enemy.baseX - range;
-            enemy.direction = 1;
-        }
-        enemy.stateTimer += deltaSeconds;
-        if (enemy.stateTimer > 3.5f) {
-            enemy.stateTimer = 0f;
-            spawnDebugPlatform(enemy.x, enemy.baseY, enemy.tileWidth * 2.6f,
-                    enemy.tileHeight * 0.8f, 3f);
-            enemy.platformCarrier = true;
-        } else if (enemy.platformCarrier && enemy.stateTimer > 2.8f) {
-            enemy.platformCarrier = false;
-        }
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateGlitchSaw(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.timer += deltaSeconds;
-        float range = Math.max(enemy.tileWidth * 4f, getExtraFloat(enemy, "range", enemy.tileWidth * 5f));
-        float speed = Math.max(90f, getExtraFloat(enemy, "speed", 120f));
-        enemy.x = enemy.baseX + (float) Math.sin(enemy.timer * speed / range) * range;
-        enemy.y = enemy.baseY;
-        enemy.visible = ((int) (enemy.timer * 10f)) % 2 == 0;
-    }
-
-    private void updateAdwareBalloon(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.timer += deltaSeconds;
-        enemy.x = enemy.baseX + (float) Math.sin(enemy.timer * 1.3f) * enemy.tileWidth * 2f;
-        enemy.y = enemy.baseY + (float) Math.cos(enemy.timer * 1.6f) * enemy.tileHeight * 1.4f;
-    }
-
-    private void updateBeeLeader(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.timer += deltaSeconds;
-        float circleRadius = Math.max(enemy.tileWidth * 2.2f, getExtraFloat(enemy, "radius", enemy.tileWidth * 2.4f));
-        float angularSpeed = Math.max(1.6f, getExtraFloat(enemy, "omega", 2.2f));
-        float angle = enemy.timer * angularSpeed;
-        enemy.x = enemy.baseX + (float) Math.cos(angle) * circleRadius;
-        enemy.y = enemy.baseY + (float) Math.sin(angle) * circleRadius * 0.7f;
-    }
-
-    private void updateBeeMinion(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        EnemyInstance leader = enemy.leader;
-        if (leader == null || !leader.active) {
-            updateFlyer(enemy, deltaSeconds, 60f, enemy.tileHeight, 2f);
-            return;
-        }
-        float followLag = Math.max(0.2f, getExtraFloat(enemy, "lag", 0.35f));
-        enemy.x += (leader.x - enemy.x) * clamp(deltaSeconds / followLag, 0f, 1f);
-        enemy.y += (leader.y - enemy.y) * clamp(deltaSeconds / followLag, 0f, 1f);
-    }
-
-    private void updateTreiberDrone(@NonNull EnemyInstance enemy,
-                                    float deltaSeconds,
-                                    @NonNull LevelModel level) {
-        updateGroundPatrol(enemy, deltaSeconds, level, 64f);
-    }
-
-    private void updateDriverModule(@NonNull EnemyInstance enemy,
-                                    float deltaSeconds,
-                                    @NonNull LevelModel level) {
-        float speed = Math.max(120f, getExtraFloat(enemy, "speed", 150f));
-        enemy.x += enemy.direction * speed * deltaSeconds;
-        float minX = enemy.tileWidth * 0.5f;
-        float maxX = Math.max(minX, level.getPixelWidth() - enemy.tileWidth * 0.5f);
-        if (enemy.x <= minX || enemy.x >= maxX) {
-            enemy.active = false;
-        }
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateCompileCrusher(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.stateTimer += deltaSeconds;
-        if (enemy.state == 0f && (lastPlayerAction == PlayerAction.MOVE_LEFT
-                || lastPlayerAction == PlayerAction.MOVE_RIGHT)
-                && Math.abs(player.x - enemy.x) < enemy.tileWidth * 2.5f) {
-            enemy.state = 1f;
-            enemy.stateTimer = 0f;
-        }
-        if (enemy.state == 1f) {
-            enemy.vy += GRAVITY * deltaSeconds;
-            enemy.y += enemy.vy * deltaSeconds;
-            if (enemy.y > enemy.baseY + enemy.tileHeight * 6f) {
-                enemy.active = false;
-            }
-        }
-    }
-
-    private void updateGarbageCollector(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        float pullRadius = Math.max(enemy.tileWidth * 5f, getExtraFloat(enemy, "radius", enemy.tileWidth * 6f));
-        float dist = distance(enemy.x, enemy.y, player.x, player.y - player.height * 0.5f);
-        if (dist < pullRadius) {
-            float pullStrength = Math.max(30f, getExtraFloat(enemy, "pull", 60f));
-            player.vx += clamp(enemy.x - player.x, -pullStrength, pullStrength) * deltaSeconds;
-        }
-        enemy.stateTimer += deltaSeconds;
-        if (enemy.stateTimer > 4.5f) {
-            enemy.stateTimer = 0f;
-            for (EnemyInstance instance : enemies) {
-                if (instance != enemy && instance.active
-                        && distance(enemy.x, enemy.y, instance.x, instance.y) < pullRadius) {
-                    instance.active = false;
-                    spawnProjectile(enemy, enemy.x, enemy.y - enemy.height * 0.4f,
-                            random.nextFloat() * 240f - 120f,
-                            -220f - random.nextFloat() * 60f,
-                            enemy.tileWidth * 0.3f, 3.2f, true);
-                }
-            }
-        }
-    }
-
-    private void updateKernelKobold(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.stateTimer += deltaSeconds;
-        if (enemy.stateTimer > 2.2f) {
-            enemy.stateTimer = 0f;
-            enemy.state = (enemy.state + 1f) % 3f;
-        }
-        float offset = enemy.tileWidth * 3.5f;
-        int index = (int) enemy.state;
-        enemy.x = enemy.baseX + (index - 1) * offset;
-        enemy.y = enemy.baseY - (index == 1 ? enemy.tileHeight * 1.5f : 0f);
-    }
-
-    private void updateVpnVampire(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.stateTimer += deltaSeconds;
-        float visibilityCycle = Math.max(3f, getExtraFloat(enemy, "cycle", 4.5f));
-        float phase = enemy.stateTimer % visibilityCycle;
-        enemy.visible = phase < visibilityCycle * 0.6f;
-        enemy.x = enemy.baseX;
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateUpdateOgre(@NonNull EnemyInstance enemy,
-                                  float deltaSeconds,
-                                  @NonNull LevelModel level) {
-        enemy.stateTimer += deltaSeconds;
-        float pause = Math.max(1.5f, getExtraFloat(enemy, "pause", 2.2f));
-        if (enemy.stateTimer > pause) {
-            enemy.stateTimer = 0f;
-            enemy.state = (enemy.state + 1f) % 2f;
-        }
-        if (enemy.state == 0f) {
-            updateGroundPatrol(enemy, deltaSeconds, level, 40f);
-        } else {
-            enemy.onGround = true;
-            enemy.vx = 0f;
-        }
-    }
-
-    private void updateGuardian(@NonNull EnemyInstance enemy) {
-        GuardianGate gate = guardianGates.get(enemy.channel);
-        if (gate != null && gate.isOpen()) {
-            enemy.deactivated = true;
-            enemy.visible = false;
-            enemy.active = false;
-        }
-        enemy.x = enemy.baseX;
-        enemy.y = enemy.baseY;
-    }
-
-    private void updateChecksumCrab(@NonNull EnemyInstance enemy,
-                                    float deltaSeconds,
-                                    @NonNull LevelModel level) {
-        float mirrorSpeed = Math.max(48f, getExtraFloat(enemy, "speed", 54f));
-        if (lastPlayerAction == PlayerAction.MOVE_LEFT) {
-            enemy.direction = -1;
-        } else if (lastPlayerAction == PlayerAction.MOVE_RIGHT) {
-            enemy.direction = 1;
-        }
-        enemy.x += enemy.direction * mirrorSpeed * deltaSeconds;
-        float minX = enemy.tileWidth * 0.5f;
-        float maxX = Math.max(minX, level.getPixelWidth() - enemy.tileWidth * 0.5f);
-        if (enemy.x <= minX || enemy.x >= maxX) {
-            enemy.direction *= -1;
-        }
-        enemy.y = enemy.baseY;
-    }
-
-    private void updatePhishingSiren(@NonNull EnemyInstance enemy, float deltaSeconds) {
-        enemy.stateTimer += deltaSeconds;
-        float cycle = Math.max(3f, getExtraFloat(enemy, "cycle", 3.8f));
-        if (enemy.stateTimer > cycle) {
-            enemy.stateTimer = 0f;
-            enemy.state = (enemy.state + 1f) % 2f;
-        }
-        enemy.visible = enemy.state == 0f || enemy.stateTimer > cycle * 0.25f;
-        enemy.x = enemy.baseX + (enemy.state == 0f ? 0f : enemy.tileWidth * 1.2f);
-    }
-
-    private void applyEnemyEffect(@NonNull EnemyInstance enemy,
-                                  @NonNull RectF enemyBounds,
-                                  @NonNull RectF playerBounds) {
-        boolean stomp = player.vy > 0f && playerBounds.bottom <= enemyBounds.top + enemy.tileHeight * 0.45f;
-        switch (enemy.kind) {
-            case BUGBLOB:
-            case COOKIE_CRUMBLER:
-            case WURM_WEASEL:
-            case BOTNET_BEE_MINION:
-                if (stomp) {
-                    defeatEnemy(enemy);
-                    bouncePlayer();
-                    return;
-                }
-                break;
-            case TREIBER_DRONE:
-                if (stomp) {
-                    convertToDriverModule(enemy);
-                    bouncePlayer();
-                    return;
-                }
-                break;
-            case DRIVER_MODULE:
-                enemy.active = false;
-                spawnDebugPlatform(enemy.x, enemy.y, enemy.tileWidth * 1.5f, enemy.tileHeight,
-                        2.5f);
-                return;
-            case PATCH_GOLEM:
-                if (stomp) {
-                    bouncePlayer();
-                    return;
-                }
-                break;
-            case ADWARE_BALLOON:
-                player.vx += (player.x < enemy.x ? -1f : 1f) * 120f;
-                return;
-            case LAG_BUBBLE:
-                player.timeSlowTimer = Math.max(player.timeSlowTimer, 1.2f);
-                return;
-            case MEMORY_LEAK_SLIME:
-                player.stickyTimer = Math.max(player.stickyTimer, 2.4f);
-                return;
-            case FIREWALL_GUARDIAN:
-            case SPAM_DRONE:
-            case TROJAN_TURRET:
-            case ROOTKIT_RAIDER:
-            case PHISH_CARP:
-            case POPUP_PIRANHA:
-            case BIT_BAT:
-            case CLOUD_LEECH:
-            case PHISHING_SIREN:
-            case RANSOM_KNIGHT:
-            case PACKET_HOUND:
-            case BSOD_BLOCK:
-            case GLITCH_SAW:
-            case BOTNET_BEE_LEADER:
-            case PORT_PLANT:
-            case COMPILE_CRUSHER:
-            case GARBAGE_COLLECTOR:
-            case KERNEL_KOBOLD:
-            case VPN_VAMPYRE:
-            case UPDATE_OGRE:
-            case TWOFA_GUARDIAN_JUMP:
-            case TWOFA_GUARDIAN_DASH:
-            case CHECKSUM_CRAB:
-                break;
-        }
-        playerRespawnedThisFrame = true;
-        player.respawn();
-        onPlayerRespawned();
-        previousVx = 0f;
-        lastPlayerAction = PlayerAction.IDLE;
-    }
-
-    private void defeatEnemy(@NonNull EnemyInstance enemy) {
-        enemy.active = false;
-        enemy.visible = false;
-    }
-
-    private void convertToDriverModule(@NonNull EnemyInstance enemy) {
-        enemy.kind = EnemyKind.DRIVER_MODULE;
-        enemy.state = 0f;
-        enemy.stateTimer = 0f;
-        enemy.direction = player.facingRight ? 1 : -1;
-        enemy.vx = enemy.direction * 180f;
-        enemy.height = enemy.tileHeight * EnemyKind.DRIVER_MODULE.heightScale;
-        enemy.width = enemy.tileWidth * EnemyKind.DRIVER_MODULE.widthScale;
-        enemy.baseX = enemy.x;
-        enemy.baseY = enemy.y;
-        enemy.onGround = true;
-    }
-
-    private void bouncePlayer() {
-        player.vy = player.jumpVelocity * 0.6f;
-        player.onGround = false;
-    }
-
     private void drawEnemySprite(@NonNull Canvas canvas,
-                                 @NonNull EnemyInstance enemy,
+                                 @NonNull EnemySnapshot enemy,
                                  float left,
                                  float top,
                                  float right,
                                  float bottom) {
-        AnimatedEnemy sprite = enemy.animatedSprite;
+        AnimatedEnemy sprite = enemy.sprite;
         if (sprite != null) {
             tempRectF.set(left, top, right, bottom);
-            sprite.draw(canvas, tempRectF);
+            sprite.draw(canvas, tempRectF, enemy.spriteTimer);
             if (!enemy.visible) {
                 entityPaint.setColor(Color.argb(100, 255, 255, 255));
                 canvas.drawRoundRect(tempRectF, tempRectF.height() * 0.35f,
@@ -1196,116 +580,116 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         int color;
         switch (enemy.kind) {
             case BUGBLOB:
-                color = Color.parseColor("#6EC6FF");
+                color = 0xFF6EC6FF;
                 break;
             case KEYLOGGER_BEETLE:
-                color = Color.parseColor("#F06292");
+                color = 0xFFF06292;
                 break;
             case COOKIE_CRUMBLER:
-                color = Color.parseColor("#A1887F");
+                color = 0xFFA1887F;
                 break;
             case BIT_BAT:
-                color = Color.parseColor("#9575CD");
+                color = 0xFF9575CD;
                 break;
             case PHISH_CARP:
-                color = Color.parseColor("#4DD0E1");
+                color = 0xFF4DD0E1;
                 break;
             case SPAM_DRONE:
-                color = Color.parseColor("#FFB74D");
+                color = 0xFFFFB74D;
                 break;
             case CLOUD_LEECH:
-                color = Color.parseColor("#B39DDB");
+                color = 0xFFB39DDB;
                 break;
             case TROJAN_TURRET:
-                color = Color.parseColor("#FF8A65");
+                color = 0xFFFF8A65;
                 break;
             case RANSOM_KNIGHT:
-                color = Color.parseColor("#90CAF9");
+                color = 0xFF90CAF9;
                 break;
             case ROOTKIT_RAIDER:
-                color = Color.parseColor("#FF7043");
+                color = 0xFFFF7043;
                 break;
             case FIREWALL_GUARDIAN:
-                color = Color.parseColor("#FF5252");
+                color = 0xFFFF5252;
                 break;
             case POPUP_PIRANHA:
-                color = Color.parseColor("#81C784");
+                color = 0xFF81C784;
                 break;
             case LAG_BUBBLE:
-                color = Color.parseColor("#E0F7FA");
+                color = 0xFFE0F7FA;
                 break;
             case MEMORY_LEAK_SLIME:
-                color = Color.parseColor("#66BB6A");
+                color = 0xFF66BB6A;
                 break;
             case CAPTCHA_GARGOYLE:
-                color = Color.parseColor("#BDBDBD");
+                color = 0xFFBDBDBD;
                 break;
             case PACKET_HOUND:
-                if (isBossWorld) {
-                    drawKoopaByte(canvas, enemy, left, top, right, bottom);
+                if (frame.bossWorld) {
+                    drawKoopaByte(canvas, left, top, right, bottom);
                     return;
                 }
-                color = Color.parseColor("#A5D6A7");
+                color = 0xFFA5D6A7;
                 break;
             case BSOD_BLOCK:
-                color = Color.parseColor("#2196F3");
+                color = 0xFF2196F3;
                 break;
             case PATCH_GOLEM:
-                color = Color.parseColor("#8D6E63");
+                color = 0xFF8D6E63;
                 break;
             case GLITCH_SAW:
-                color = Color.parseColor("#CE93D8");
+                color = 0xFFCE93D8;
                 break;
             case ADWARE_BALLOON:
-                color = Color.parseColor("#FFF176");
+                color = 0xFFFFF176;
                 break;
             case BOTNET_BEE_LEADER:
             case BOTNET_BEE_MINION:
-                color = Color.parseColor("#FFD54F");
+                color = 0xFFFFD54F;
                 break;
             case WURM_WEASEL:
-                color = Color.parseColor("#AEEA00");
+                color = 0xFFAEEA00;
                 break;
             case TREIBER_DRONE:
-                color = Color.parseColor("#FFAB40");
+                color = 0xFFFFAB40;
                 break;
             case DRIVER_MODULE:
-                color = Color.parseColor("#FFCC80");
+                color = 0xFFFFCC80;
                 break;
             case PORT_PLANT:
-                color = Color.parseColor("#4CAF50");
+                color = 0xFF4CAF50;
                 break;
             case COMPILE_CRUSHER:
-                color = Color.parseColor("#F44336");
+                color = 0xFFF44336;
                 break;
             case GARBAGE_COLLECTOR:
-                color = Color.parseColor("#455A64");
+                color = 0xFF455A64;
                 break;
             case KERNEL_KOBOLD:
-                color = Color.parseColor("#9CCC65");
+                color = 0xFF9CCC65;
                 break;
             case VPN_VAMPYRE:
-                color = Color.parseColor("#AB47BC");
+                color = 0xFFAB47BC;
                 break;
             case UPDATE_OGRE:
-                color = Color.parseColor("#8BC34A");
+                color = 0xFF8BC34A;
                 break;
             case TWOFA_GUARDIAN_JUMP:
             case TWOFA_GUARDIAN_DASH:
-                color = Color.parseColor("#26C6DA");
+                color = 0xFF26C6DA;
                 break;
             case CHECKSUM_CRAB:
-                color = Color.parseColor("#FF7043");
+                color = 0xFFFF7043;
                 break;
             case PHISHING_SIREN:
-                color = Color.parseColor("#64B5F6");
+                color = 0xFF64B5F6;
                 break;
             default:
                 color = Color.MAGENTA;
                 break;
         }
         entityPaint.setColor(color);
-        canvas.drawRoundRect(new RectF(left, top, right, bottom), 12f, 12f, entityPaint);
+        canvas.drawRoundRect(left, top, right, bottom, 12f, 12f, entityPaint);
         if (!enemy.visible) {
             entityPaint.setColor(Color.argb(100, 255, 255, 255));
             canvas.drawRect(left, top, right, bottom, entityPaint);
@@ -1313,7 +697,6 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     private void drawKoopaByte(@NonNull Canvas canvas,
-                               @NonNull EnemyInstance enemy,
                                float left,
                                float top,
                                float right,
@@ -1324,13 +707,13 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         int originalColor = entityPaint.getColor();
         entityPaint.setStyle(Paint.Style.FILL);
 
-        float pulse = (float) Math.sin(animationTimer * 6f) * 0.08f;
+        float pulse = (float) Math.sin(frame.animationTimer * 6f) * 0.08f;
 
-        entityPaint.setColor(Color.parseColor("#5C0A0A"));
+        entityPaint.setColor(0xFF5C0A0A);
         canvas.drawRoundRect(left + width * 0.05f, top + height * 0.24f,
                 right - width * 0.05f, bottom, width * 0.18f, width * 0.18f, entityPaint);
 
-        entityPaint.setColor(Color.parseColor("#C62828"));
+        entityPaint.setColor(0xFFC62828);
         canvas.drawRoundRect(left + width * 0.12f, top + height * 0.08f,
                 right - width * 0.12f, top + height * (0.6f + pulse * 0.05f), width * 0.25f, width * 0.25f, entityPaint);
 
@@ -1338,48 +721,48 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         canvas.drawRoundRect(left + width * 0.2f, top + height * (0.18f + pulse * 0.04f),
                 right - width * 0.2f, top + height * 0.52f, width * 0.18f, width * 0.18f, entityPaint);
 
-        entityPaint.setColor(Color.parseColor("#FFE082"));
+        entityPaint.setColor(0xFFFFE082);
         for (int i = 0; i < 4; i++) {
             float cx = left + width * (0.2f + 0.2f * i);
             drawSpike(canvas, cx, top + height * 0.04f, width * 0.08f, height * 0.24f);
         }
-        entityPaint.setColor(Color.parseColor("#FFAB40"));
+        entityPaint.setColor(0xFFFFAB40);
         drawSpike(canvas, left + width * 0.1f, top + height * 0.28f, width * 0.07f, height * 0.18f);
         drawSpike(canvas, right - width * 0.1f, top + height * 0.28f, width * 0.07f, height * 0.18f);
 
-        entityPaint.setColor(Color.parseColor("#4E0707"));
+        entityPaint.setColor(0xFF4E0707);
         canvas.drawRoundRect(left + width * 0.18f, top + height * 0.34f,
                 right - width * 0.18f, bottom - height * 0.15f, width * 0.1f, width * 0.1f, entityPaint);
 
-        entityPaint.setColor(Color.parseColor("#FFD7D7"));
+        entityPaint.setColor(0xFFFFD7D7);
         float eyeY = top + height * 0.48f;
         float eyeRadius = width * 0.09f;
         canvas.drawCircle(left + width * 0.34f, eyeY, eyeRadius, entityPaint);
         canvas.drawCircle(right - width * 0.34f, eyeY, eyeRadius, entityPaint);
-        entityPaint.setColor(Color.parseColor("#390000"));
+        entityPaint.setColor(0xFF390000);
         canvas.drawCircle(left + width * 0.34f, eyeY, eyeRadius * 0.55f, entityPaint);
         canvas.drawCircle(right - width * 0.34f, eyeY, eyeRadius * 0.55f, entityPaint);
         entityPaint.setColor(Color.argb(180, 255, 70, 90));
         canvas.drawCircle(left + width * 0.34f, eyeY, eyeRadius * 0.3f, entityPaint);
         canvas.drawCircle(right - width * 0.34f, eyeY, eyeRadius * 0.3f, entityPaint);
 
-        entityPaint.setColor(Color.parseColor("#2B0000"));
+        entityPaint.setColor(0xFF2B0000);
         canvas.drawRoundRect(left + width * 0.28f, top + height * 0.58f,
                 right - width * 0.28f, top + height * 0.7f, width * 0.08f, width * 0.08f, entityPaint);
-        entityPaint.setColor(Color.parseColor("#FFB74D"));
+        entityPaint.setColor(0xFFFFB74D);
         canvas.drawRect(left + width * 0.3f, top + height * 0.62f,
                 left + width * 0.42f, top + height * 0.66f, entityPaint);
         canvas.drawRect(right - width * 0.42f, top + height * 0.62f,
                 right - width * 0.3f, top + height * 0.66f, entityPaint);
 
-        entityPaint.setColor(Color.parseColor("#FF6F61"));
+        entityPaint.setColor(0xFFFF6F61);
         drawClaw(canvas, left + width * 0.2f, bottom - height * 0.08f, width * 0.12f, height * 0.22f, true);
         drawClaw(canvas, right - width * 0.2f, bottom - height * 0.08f, width * 0.12f, height * 0.22f, false);
 
         entityPaint.setColor(Color.argb(130, 255, 64, 192));
         float stripWidth = width * 0.18f;
         float stripHeight = height * 0.08f;
-        float offset = (float) Math.sin(animationTimer * 9f) * width * 0.1f;
+        float offset = (float) Math.sin(frame.animationTimer * 9f) * width * 0.1f;
         canvas.drawRect(left + width * 0.3f + offset, top + height * 0.32f,
                 left + width * 0.3f + offset + stripWidth, top + height * 0.32f + stripHeight, entityPaint);
         canvas.drawRect(left + width * 0.25f - offset, top + height * 0.46f,
@@ -1390,7 +773,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     private void drawSpike(@NonNull Canvas canvas, float centerX, float tipY, float halfWidth, float height) {
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         path.moveTo(centerX, tipY);
         path.lineTo(centerX - halfWidth, tipY + height);
         path.lineTo(centerX + halfWidth, tipY + height);
@@ -1404,7 +788,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                           float width,
                           float height,
                           boolean leftHanded) {
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         float direction = leftHanded ? -1f : 1f;
         path.moveTo(baseX, baseY - height * 0.4f);
         path.lineTo(baseX + direction * width, baseY);
@@ -1413,163 +798,14 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         canvas.drawPath(path, entityPaint);
     }
 
-    private boolean circleIntersects(@NonNull RectF rect,
-                                     float cx,
-                                     float cy,
-                                     float radius) {
-        float closestX = clamp(cx, rect.left, rect.right);
-        float closestY = clamp(cy, rect.top, rect.bottom);
-        float dx = cx - closestX;
-        float dy = cy - closestY;
-        return dx * dx + dy * dy <= radius * radius;
-    }
-
-    private void spawnProjectile(@NonNull EnemyInstance source,
-                                 float x,
-                                 float y,
-                                 float vx,
-                                 float vy,
-                                 float radius,
-                                 float lifetime,
-                                 boolean gravity) {
-        Projectile projectile = new Projectile();
-        projectile.x = x;
-        projectile.y = y;
-        projectile.vx = vx;
-        projectile.vy = vy;
-        projectile.radius = radius;
-        projectile.lifetime = lifetime;
-        projectile.gravity = gravity;
-        projectile.source = source.kind;
-        projectiles.add(projectile);
-    }
-
-    private void spawnDebugPlatform(float centerX,
-                                    float baseY,
-                                    float width,
-                                    float height,
-                                    float lifetime) {
-        debugPlatforms.add(new DebugPlatform(centerX, baseY, width, height, lifetime));
-    }
-
-    private float distance(float ax, float ay, float bx, float by) {
-        float dx = ax - bx;
-        float dy = ay - by;
-        return (float) Math.sqrt(dx * dx + dy * dy);
-    }
-
-    private void handleGuardian(@NonNull EnemyInstance enemy,
-                                @NonNull RectF enemyBounds,
-                                @NonNull RectF playerBounds) {
-        GuardianGate gate = guardianGates.get(enemy.channel);
-        if (gate == null) {
-            return;
-        }
-        if (RectF.intersects(enemyBounds, playerBounds)) {
-            if (enemy.kind == EnemyKind.TWOFA_GUARDIAN_JUMP
-                    && lastPlayerAction == PlayerAction.JUMP) {
-                gate.jumpSatisfied = true;
-            } else if (enemy.kind == EnemyKind.TWOFA_GUARDIAN_DASH
-                    && lastPlayerAction == PlayerAction.CROUCH) {
-                gate.duckSatisfied = true;
-            }
-        }
-        if (gate.isOpen()) {
-            enemy.deactivated = true;
-            enemy.visible = false;
-            enemy.active = false;
-        }
-    }
-
-    private float getExtraFloat(@NonNull EnemyInstance enemy, @NonNull String key, float defaultValue) {
-        String value = enemy.extras.get(key);
-        if (value == null) {
-            return defaultValue;
-        }
-        try {
-            return Float.parseFloat(value);
-        } catch (NumberFormatException ex) {
-            return defaultValue;
-        }
-    }
-
-    private void resolveEnemyInteractions(@NonNull LevelModel level) {
-        RectF playerBounds = player.getBounds();
-        boolean groundedByPlatform = false;
-        playerRespawnedThisFrame = false;
-
-        for (DebugPlatform platform : debugPlatforms) {
-            if (platform.bounds.right < playerBounds.left || platform.bounds.left > playerBounds.right) {
-                continue;
-            }
-            float platformTop = platform.bounds.top;
-            if (player.vy >= 0f
-                    && playerBounds.bottom >= platformTop - 6f
-                    && playerBounds.bottom <= platform.bounds.bottom + 6f) {
-                player.y = platform.bounds.bottom;
-                player.onGround = true;
-                player.vy = Math.min(0f, player.vy);
-                groundedByPlatform = true;
-                player.touchedDebugSymbol = true;
-            }
-        }
-
-        for (EnemyInstance enemy : enemies) {
-            if (!enemy.active) {
-                continue;
-            }
-            if (enemy.kind == EnemyKind.LAG_BUBBLE) {
-                float dist = distance(player.x, player.y, enemy.x, enemy.y - enemy.height * 0.5f);
-                if (dist < enemy.tileWidth * 2.5f) {
-                    player.timeSlowTimer = Math.max(player.timeSlowTimer, 0.9f);
-                }
-            }
-            RectF enemyBounds = enemy.getBounds();
-
-            if (enemy.kind == EnemyKind.PATCH_GOLEM && enemy.platformCarrier) {
-                if (player.vy >= 0f
-                        && playerBounds.bottom >= enemyBounds.top - 6f
-                        && playerBounds.bottom <= enemyBounds.top + enemy.tileHeight * 0.4f
-                        && playerBounds.right > enemyBounds.left
-                        && playerBounds.left < enemyBounds.right) {
-                    player.y = enemyBounds.bottom;
-                    player.onGround = true;
-                    player.vy = Math.min(0f, player.vy);
-                    groundedByPlatform = true;
-                    continue;
-                }
-            }
-
-            if (enemy.kind == EnemyKind.TWOFA_GUARDIAN_JUMP
-                    || enemy.kind == EnemyKind.TWOFA_GUARDIAN_DASH) {
-                handleGuardian(enemy, enemyBounds, playerBounds);
-            }
-
-            if (enemy.deactivated || !enemy.visible) {
-                continue;
-            }
-
-            if (RectF.intersects(enemyBounds, playerBounds)) {
-                applyEnemyEffect(enemy, enemyBounds, playerBounds);
-                if (playerRespawnedThisFrame) {
-                    playerBounds = player.getBounds();
-                    playerRespawnedThisFrame = false;
-                }
-            }
-        }
-
-        if (!groundedByPlatform && !player.onGround) {
-            player.touchedDebugSymbol = false;
-        }
-    }
-
     private void drawEnemies(@NonNull Canvas canvas, @NonNull LevelModel level) {
-        float scale = currentScale > 0f ? currentScale : 1f;
-        for (EnemyInstance enemy : enemies) {
-            if (!enemy.active || (!enemy.visible && enemy.kind != EnemyKind.VPN_VAMPYRE)) {
-                continue;
-            }
-            RectF bounds = enemy.getBounds();
+        RenderSnapshot frame = this.frame;
+        for (int i = 0; i < frame.enemyCount; i++) {
+            EnemySnapshot enemy = frame.enemies[i];
+            RectF bounds = interpolatedBounds;
+            float lag = 1f - interpolationAlpha;
+            bounds.set(enemy.bounds);
+            bounds.offset(enemy.offsetX * lag, enemy.offsetY * lag);
             float left = worldToScreenX(bounds.left);
             float top = worldToScreenY(bounds.top);
             float right = worldToScreenX(bounds.right);
@@ -1579,31 +815,31 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     private void drawProjectiles(@NonNull Canvas canvas) {
-        Paint.Style originalStyle = entityPaint.getStyle();
-        int originalColor = entityPaint.getColor();
-        for (Projectile projectile : projectiles) {
-            float x = worldToScreenX(projectile.x);
-            float y = worldToScreenY(projectile.y);
-            float radius = Math.max(3f, projectile.radius * (currentScale > 0f ? currentScale : 1f));
-            entityPaint.setStyle(Paint.Style.FILL);
-            entityPaint.setColor(Color.parseColor("#FF8A65"));
-            canvas.drawCircle(x, y, radius, entityPaint);
+        RenderSnapshot frame = this.frame;
+        entityList.setStyle(Paint.Style.FILL).setColor(PROJECTILE_COLOR);
+        for (int i = 0; i < frame.projectileCount; i++) {
+            int base = i * RenderSnapshot.PROJECTILE_STRIDE;
+            float x = worldToScreenX(lerp(frame.projectiles[base + 3], frame.projectiles[base], interpolationAlpha));
+            float y = worldToScreenY(lerp(frame.projectiles[base + 4], frame.projectiles[base + 1], interpolationAlpha));
+            float radius = Math.max(3f, frame.projectiles[base + 2] * frame.scale);
+            entityList.circle(x, y, radius);
         }
-        entityPaint.setStyle(originalStyle);
-        entityPaint.setColor(originalColor);
+        entityList.replay(canvas);
     }
 
     private void drawDebugPlatforms(@NonNull Canvas canvas) {
         Paint.Style originalStyle = entityPaint.getStyle();
         int originalColor = entityPaint.getColor();
         entityPaint.setStyle(Paint.Style.FILL);
-        for (DebugPlatform platform : debugPlatforms) {
-            float alpha = Math.max(0.2f, Math.min(1f, platform.lifetime));
+        RenderSnapshot frame = this.frame;
+        for (int i = 0; i < frame.debugPlatformCount; i++) {
+            int base = i * RenderSnapshot.PLATFORM_STRIDE;
+            float alpha = Math.max(0.2f, Math.min(1f, frame.debugPlatforms[base + 4]));
             entityPaint.setColor(Color.argb((int) (alpha * 180), 255, 229, 127));
-            float left = worldToScreenX(platform.bounds.left);
-            float top = worldToScreenY(platform.bounds.top);
-            float right = worldToScreenX(platform.bounds.right);
-            float bottom = worldToScreenY(platform.bounds.bottom);
+            float left = worldToScreenX(frame.debugPlatforms[base]);
+            float top = worldToScreenY(frame.debugPlatforms[base + 1]);
+            float right = worldToScreenX(frame.debugPlatforms[base + 2]);
+            float bottom = worldToScreenY(frame.debugPlatforms[base + 3]);
             canvas.drawRoundRect(left, top, right, bottom, (right - left) * 0.1f, (bottom - top) * 0.1f, entityPaint);
         }
         entityPaint.setStyle(originalStyle);
@@ -1613,17 +849,31 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     @Override
     public void surfaceCreated(@NonNull SurfaceHolder holder) {
         surfaceReady = true;
+        // The first steps can run before surfaceChanged() arrives; give them the laid-out size.
+        captureLayoutSize(0, 0);
         startRenderThread();
     }
 
     @Override
     public void surfaceChanged(@NonNull SurfaceHolder holder, int format, int width, int height) {
-        LevelModel level = this.level;
-        if (level != null) {
-            updateScale(level);
+        captureLayoutSize(width, height);
+        synchronized (simulationLock) {
+            LevelModel level = this.level;
+            if (level != null) {
+                updateScale(level);
+            }
         }
     }
 
+    /**
+     * UI thread: records the view's size, falling back to the surface's {@code width} x
+     * {@code height} before the first layout.
+     */
+    private void captureLayoutSize(int width, int height) {
+        layoutWidth = getWidth() > 0 ? getWidth() : width;
+        layoutHeight = getHeight() > 0 ? getHeight() : height;
+    }
+
     @Override
     public void surfaceDestroyed(@NonNull SurfaceHolder holder) {
         surfaceReady = false;
@@ -1635,97 +885,265 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
             return;
         }
         running.set(true);
+        simulationThread = new Thread(this::runSimulation, "PlatformerSimulationThread");
+        simulationThread.start();
         renderThread = new Thread(this, "PlatformerRenderThread");
         renderThread.start();
     }
 
     private void stopRenderThread() {
         running.set(false);
-        if (renderThread != null) {
+        frameScheduler.stop();
+        simulationScheduler.stop();
+        renderThread = joinThread(renderThread);
+        simulationThread = joinThread(simulationThread);
+        allocationBudget.stop();
+        simulationBudget.stop();
+    }
+
+    @Nullable
+    private Thread joinThread(@Nullable Thread thread) {
+        if (thread != null) {
             try {
-                renderThread.join();
+                thread.join();
             } catch (InterruptedException ex) {
                 Thread.currentThread().interrupt();
             }
-            renderThread = null;
         }
+        return null;
+    }
+
+    private void runSimulation() {
+        double accumulator = 0.0;
+        final double step = FIXED_TIME_STEP;
+        simulationScheduler.start();
+        inputQueue.clear();
+        while (running.get()) {
+            double delta = simulationScheduler.awaitNextFrame();
+            accumulator = FrameScheduler.clampAccumulator(accumulator + delta, step);
+            long frameNanos = simulationScheduler.getFrameTimeNanos();
+            synchronized (simulationLock) {
+                // Frame boundary: a level bound since the last batch replaces the world here.
+                applyPendingLevel();
+                simulationBudget.beginFrame();
+                while (accumulator >= step) {
+                    accumulator -= step;
+                    simulationTimeNanos = frameNanos - (long) (accumulator * 1_000_000_000.0);
+                    update(FIXED_TIME_STEP);
+                }
+                publishSnapshot();
+                simulationBudget.endFrame();
+            }
+        }
+        simulationScheduler.stop();
     }
 
     @Override
     public void run() {
-        long previous = System.nanoTime();
-        double accumulator = 0.0;
-        final double step = 1_000_000_000.0 * FIXED_TIME_STEP;
-        SurfaceHolder holder = getHolder();
+        frameScheduler.start();
+        presenter.start();
+        qualityGovernor.resetWindow();
         while (running.get()) {
-            long now = System.nanoTime();
-            double delta = now - previous;
-            previous = now;
-            accumulator += delta;
-
-            while (accumulator >= step) {
-                update(FIXED_TIME_STEP);
-                accumulator -= step;
-            }
+            frameScheduler.awaitNextFrame();
+            long workStartNanos = System.nanoTime();
+            frame = acquireSnapshot();
+            updateInterpolation(frame);
 
             Canvas canvas = null;
             try {
-                canvas = holder.lockCanvas();
+                canvas = presenter.lockCanvas();
                 if (canvas != null) {
+                    allocationBudget.beginFrame();
                     render(canvas);
+                    allocationBudget.endFrame();
                 }
             } finally {
                 if (canvas != null) {
-                    holder.unlockCanvasAndPost(canvas);
+                    presenter.unlockCanvasAndPost(canvas);
+                    long workNanos = System.nanoTime() - workStartNanos;
+                    presenter.recordFrameWork(workNanos);
+                    onFrameWorkMeasured(workNanos);
                 }
             }
         }
+        frameScheduler.stop();
+        presenter.stop();
+    }
+
+    private void onFrameWorkMeasured(long workNanos) {
+        qualityGovernor.setFrameBudgetNanos(1_000_000_000L / frameScheduler.getTargetRate().getHertz());
+        // The reduced-resolution tier only shrinks the world buffer, see render(); the surface
+        // keeps its layout size so the HUD stays sharp.
+        qualityGovernor.onFrameRendered(workNanos);
+    }
+
+    /**
+     * Detail tiers the renderer currently honours.
+     */
+    @NonNull
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    /**
+     * Renders the world (background, tiles, entities, player) at {@code scale} of the view
+     * resolution and stretches it back up; the HUD stays at full resolution. The quality governor
+     * may lower the scale further. Any thread.
+     */
+    public void setWorldResolutionScale(float scale) {
+        worldResolutionScale = clamp(scale, MIN_WORLD_RESOLUTION_SCALE, 1f);
+    }
+
+    /**
+     * Bilinear ({@code true}, the default) or nearest-neighbour upscaling of a reduced world pass.
+     */
+    public void setWorldResolutionFiltering(boolean bilinear) {
+        worldResolutionFiltered = bilinear;
+    }
+
+    /**
+     * Presents through the hardware canvas where supported (API 29+) instead of the software
+     * canvas. Applied when the render loop restarts.
+     */
+    public void setHardwareCanvasEnabled(boolean enabled) {
+        presenter.setHardwareRequested(enabled);
+    }
+
+    /**
+     * Whether the running render loop actually presents through the hardware canvas.
+     */
+    public boolean isHardwareCanvasActive() {
+        return presenter.isHardwareActive();
+    }
+
+    public void setTargetFrameRate(@NonNull FrameScheduler.TargetRate targetRate) {
+        frameScheduler.setTargetRate(targetRate);
+    }
+
+    public void setFrameSchedulerMode(@NonNull FrameScheduler.Mode mode) {
+        frameScheduler.setMode(mode);
+    }
+
+    private void updateInterpolation(@NonNull RenderSnapshot frame) {
+        // The snapshot is at most one step old; blend from the step before it so motion stays continuous.
+        float alpha = (System.nanoTime() - frame.stepTimeNanos) / (float) FIXED_STEP_NANOS;
+        interpolationAlpha = clamp(alpha, 0f, 1f);
+        viewCameraX = lerp(frame.previousCameraX, frame.cameraX, interpolationAlpha);
+        viewCameraY = lerp(frame.previousCameraY, frame.cameraY, interpolationAlpha);
+    }
+
+    private void publishSnapshot() {
+        captureSnapshot(snapshots[simulationSnapshot]);
+        int previous = publishedSnapshot.getAndSet(simulationSnapshot | SNAPSHOT_FRESH);
+        simulationSnapshot = previous & SNAPSHOT_INDEX_MASK;
+    }
+
+    @NonNull
+    private RenderSnapshot acquireSnapshot() {
+        if ((publishedSnapshot.get() & SNAPSHOT_FRESH) != 0) {
+            int previous = publishedSnapshot.getAndSet(renderSnapshot);
+            renderSnapshot = previous & SNAPSHOT_INDEX_MASK;
+        }
+        return snapshots[renderSnapshot];
+    }
+
+    private void captureSnapshot(@NonNull RenderSnapshot out) {
+        out.level = level;
+        out.tileset = tileset;
+        out.tilesetColumns = tilesetColumns;
+        out.theme = currentBackgroundTheme != null ? currentBackgroundTheme : DEFAULT_THEME;
+        out.worldInfo = currentWorldInfo;
+        out.worldNumber = currentWorldNumber;
+        out.stage = currentStage;
+        out.bossWorld = isBossWorld;
+        out.scale = currentScale > 0f ? currentScale : 1f;
+        out.stepTimeNanos = simulationTimeNanos;
+        out.cameraX = cameraX + shakeOffsetX;
+        out.cameraY = cameraY + shakeOffsetY;
+        out.previousCameraX = previousCameraX + shakeOffsetX;
+        out.previousCameraY = previousCameraY + shakeOffsetY;
+        out.parallaxTimer = parallaxTimer;
+        out.animationTimer = animationTimer;
+        Player player = simulation.getPlayer();
+        float halfWidth = player.width / 2f;
+        out.playerBounds.set(player.x - halfWidth, player.y - player.height, player.x + halfWidth, player.y);
+        out.playerOffsetX = player.getPreviousX() - player.x;
+        out.playerOffsetY = player.getPreviousY() - player.y;
+        out.playerFacingRight = player.isFacingRight();
+        out.playerCrouching = player.isCrouching();
+        out.runTimerSeconds = simulation.getRunTimerSeconds();
+        out.bossMessageVisible = bossMessageVisible;
+        out.bossMessageTimer = bossMessageTimer;
+
+        out.enemyCount = 0;
+        List<EnemyInstance> enemies = simulation.getEnemies();
+        for (int i = 0, count = enemies.size(); i < count; i++) {
+            EnemyInstance enemy = enemies.get(i);
+            if (!enemy.isActive() || (!enemy.isVisible() && enemy.getKind() != EnemyKind.VPN_VAMPYRE)) {
+                continue;
+            }
+            EnemySnapshot target = out.nextEnemy();
+            target.kind = enemy.getKind();
+            target.visible = enemy.isVisible();
+            target.sprite = enemy.hasSprite() ? enemySprites.get(enemy.getKind()) : null;
+            target.spriteTimer = enemy.getSpritePhase();
+            float x = enemy.getX();
+            float y = enemy.getY();
+            float halfEnemyWidth = enemy.getWidth() / 2f;
+            target.bounds.set(x - halfEnemyWidth, y - enemy.getHeight(), x + halfEnemyWidth, y);
+            target.offsetX = enemy.getPreviousX() - x;
+            target.offsetY = enemy.getPreviousY() - y;
+        }
+
+        List<Projectile> projectiles = simulation.getProjectiles();
+        out.projectileCount = 0;
+        out.ensureProjectileCapacity(projectiles.size());
+        for (int i = 0, count = projectiles.size(); i < count; i++) {
+            Projectile projectile = projectiles.get(i);
+            int base = out.projectileCount * RenderSnapshot.PROJECTILE_STRIDE;
+            out.projectiles[base] = projectile.getX();
+            out.projectiles[base + 1] = projectile.getY();
+            out.projectiles[base + 2] = projectile.getRadius();
+            out.projectiles[base + 3] = projectile.getPreviousX();
+            out.projectiles[base + 4] = projectile.getPreviousY();
+            out.projectileCount++;
+        }
+
+        List<DebugPlatform> debugPlatforms = simulation.getDebugPlatforms();
+        out.debugPlatformCount = 0;
+        out.ensureDebugPlatformCapacity(debugPlatforms.size());
+        for (int i = 0, count = debugPlatforms.size(); i < count; i++) {
+            DebugPlatform platform = debugPlatforms.get(i);
+            Aabb bounds = platform.getBounds();
+            int base = out.debugPlatformCount * RenderSnapshot.PLATFORM_STRIDE;
+            out.debugPlatforms[base] = bounds.left;
+            out.debugPlatforms[base + 1] = bounds.top;
+            out.debugPlatforms[base + 2] = bounds.right;
+            out.debugPlatforms[base + 3] = bounds.bottom;
+            out.debugPlatforms[base + 4] = platform.getLifetime();
+            out.debugPlatformCount++;
+        }
     }
 
     private void update(float deltaSeconds) {
+        inputQueue.drainUntil(simulationTimeNanos, inputConsumer);
         LevelModel level = this.level;
         if (level == null) {
             return;
         }
+        previousCameraX = cameraX;
+        previousCameraY = cameraY;
         parallaxTimer += deltaSeconds;
         animationTimer += deltaSeconds;
         updateScale(level);
-        if (levelCompleted) {
-            updateCamera(level);
-            updateBossEffects(deltaSeconds);
-            return;
-        }
-        float timeScale = player.timeSlowTimer > 0f ? 0.6f : 1f;
-        float effectiveDelta = deltaSeconds * timeScale;
-        updateStatusEffects(deltaSeconds);
-        handleInput(level);
-        applyPhysics(effectiveDelta, level);
-        updateEnemies(effectiveDelta, level);
-        updateProjectiles(effectiveDelta, level);
-        updateDebugPlatforms(deltaSeconds);
-        resolveEnemyInteractions(level);
-        if (shouldPlayJumpSound) {
-            audioManager.playJump();
-            shouldPlayJumpSound = false;
-        }
-        runTimerSeconds += deltaSeconds;
+        simulation.step(deltaSeconds);
         updateCamera(level);
-        checkLevelCompletion(level);
         updateBossEffects(deltaSeconds);
-    }
-
-    private void updateStatusEffects(float deltaSeconds) {
-        if (player.stickyTimer > 0f) {
-            player.stickyTimer = Math.max(0f, player.stickyTimer - deltaSeconds);
-        }
-        if (player.slipTimer > 0f) {
-            player.slipTimer = Math.max(0f, player.slipTimer - deltaSeconds);
-        }
-        if (player.jumpCooldownTimer > 0f) {
-            player.jumpCooldownTimer = Math.max(0f, player.jumpCooldownTimer - deltaSeconds);
-        }
-        if (player.timeSlowTimer > 0f) {
-            player.timeSlowTimer = Math.max(0f, player.timeSlowTimer - deltaSeconds);
+        if (interpolationReset) {
+            simulation.storePreviousPositions();
+            previousCameraX = cameraX;
+            previousCameraY = cameraY;
+            interpolationReset = false;
         }
     }
 
@@ -1748,203 +1166,12 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         }
     }
 
-    private void onPlayerRespawned() {
-        runTimerSeconds = 0f;
-        shakeOffsetX = 0f;
-        shakeOffsetY = 0f;
-        screenShakeTimer = 0f;
-    }
-
-    private void handleInput(@NonNull LevelModel level) {
-        float movementSpeed = MOVE_SPEED;
-        if (player.stickyTimer > 0f) {
-            movementSpeed *= 0.5f;
-        }
-        if (player.crouching) {
-            movementSpeed *= 0.6f;
-        }
-        player.vx = 0f;
-        PlayerAction action = PlayerAction.IDLE;
-        if (moveLeft && !moveRight) {
-            player.vx -= movementSpeed;
-            player.facingRight = false;
-            action = PlayerAction.MOVE_LEFT;
-        } else if (moveRight && !moveLeft) {
-            player.vx += movementSpeed;
-            player.facingRight = true;
-            action = PlayerAction.MOVE_RIGHT;
-        } else if (player.slipTimer > 0f) {
-            player.vx = previousVx * 0.94f;
-        }
-
-        if (!duckPressed) {
-            tryStand(level);
-        } else if (!player.crouching && player.onGround) {
-            player.crouching = true;
-            player.height = player.crouchHeight;
-            action = PlayerAction.CROUCH;
-        } else if (player.crouching) {
-            action = PlayerAction.CROUCH;
-        }
-
-        if (!jumpPressed) {
-            jumpConsumed = false;
-        }
-        if (player.jumpCooldownTimer > 0f) {
-            jumpConsumed = true;
-        }
-        if (jumpPressed && !jumpConsumed && player.onGround && player.jumpCooldownTimer <= 0f) {
-            player.vy = player.jumpVelocity;
-            player.onGround = false;
-            jumpConsumed = true;
-            shouldPlayJumpSound = true;
-            action = PlayerAction.JUMP;
-        }
-        lastPlayerAction = action;
-        previousVx = player.vx;
-    }
-
-    private void applyPhysics(float deltaSeconds, @NonNull LevelModel level) {
-        player.vy += GRAVITY * deltaSeconds;
-        moveHorizontally(player.vx * deltaSeconds, level);
-        moveVertically(player.vy * deltaSeconds, level);
-    }
-
-    private void tryStand(@NonNull LevelModel level) {
-        if (!player.crouching) {
-            return;
-        }
-        float targetHeight = player.standingHeight;
-        if (targetHeight <= player.height) {
-            player.height = targetHeight;
-            player.crouching = false;
-            return;
-        }
-        RectF bounds = player.getBounds();
-        float newTop = player.y - targetHeight;
-        int leftTile = (int) Math.floor(bounds.left / level.getTileWidth());
-        int rightTile = (int) Math.floor((bounds.right - 1f) / level.getTileWidth());
-        int topTile = (int) Math.floor(newTop / level.getTileHeight());
-        int bottomTile = (int) Math.floor((player.y - 1f) / level.getTileHeight());
-        boolean blocked = false;
-        for (int tx = leftTile; tx <= rightTile && !blocked; tx++) {
-            for (int ty = topTile; ty <= bottomTile; ty++) {
-                if (isSolid(level, tx, ty)) {
-                    blocked = true;
-                    break;
-                }
-            }
-        }
-        if (!blocked) {
-            player.height = targetHeight;
-            player.crouching = false;
-        }
-    }
-
-    private void moveHorizontally(float delta, @NonNull LevelModel level) {
-        if (delta == 0f) {
-            return;
-        }
-        float newX = player.x + delta;
-        RectF bounds = player.getBounds();
-        bounds.offset(delta, 0f);
-        if (delta > 0) {
-            int tileRight = (int) Math.floor((bounds.right - 1) / level.getTileWidth());
-            int topTile = (int) Math.floor(bounds.top / level.getTileHeight());
-            int bottomTile = (int) Math.floor((bounds.bottom - 1) / level.getTileHeight());
-            for (int ty = topTile; ty <= bottomTile; ty++) {
-                if (isSolid(level, tileRight, ty)) {
-                    float tileLeftEdge = tileRight * level.getTileWidth();
-                    newX = tileLeftEdge - (bounds.width() / 2f);
-                    player.vx = 0f;
-                    break;
-                }
-            }
-        } else {
-            int tileLeft = (int) Math.floor(bounds.left / level.getTileWidth());
-            int topTile = (int) Math.floor(bounds.top / level.getTileHeight());
-            int bottomTile = (int) Math.floor((bounds.bottom - 1) / level.getTileHeight());
-            for (int ty = topTile; ty <= bottomTile; ty++) {
-                if (isSolid(level, tileLeft, ty)) {
-                    float tileRightEdge = (tileLeft + 1) * level.getTileWidth();
-                    newX = tileRightEdge + (bounds.width() / 2f);
-                    player.vx = 0f;
-                    break;
-                }
-            }
-        }
-        float halfWidth = bounds.width() / 2f;
-        float minX = halfWidth;
-        float maxX = Math.max(minX, level.getPixelWidth() - halfWidth);
-        if (newX < minX) {
-            newX = minX;
-            player.vx = 0f;
-        } else if (newX > maxX) {
-            newX = maxX;
-            player.vx = 0f;
-        }
-        player.x = newX;
-    }
-
-    private void moveVertically(float delta, @NonNull LevelModel level) {
-        if (delta == 0f) {
-            return;
-        }
-        float newY = player.y + delta;
-        RectF bounds = player.getBounds();
-        bounds.offset(0f, delta);
-        if (delta > 0) {
-            int tileBottom = (int) Math.floor((bounds.bottom - 1) / level.getTileHeight());
-            int leftTile = (int) Math.floor(bounds.left / level.getTileWidth());
-            int rightTile = (int) Math.floor((bounds.right - 1) / level.getTileWidth());
-            for (int tx = leftTile; tx <= rightTile; tx++) {
-                if (isSolid(level, tx, tileBottom)) {
-                    float tileWorldBottom = tileBottom * level.getTileHeight();
-                    newY = tileWorldBottom;
-                    player.vy = 0f;
-                    player.onGround = true;
-                    break;
-                }
-            }
-        } else {
-            int tileTop = (int) Math.floor(bounds.top / level.getTileHeight());
-            int leftTile = (int) Math.floor(bounds.left / level.getTileWidth());
-            int rightTile = (int) Math.floor((bounds.right - 1) / level.getTileWidth());
-            for (int tx = leftTile; tx <= rightTile; tx++) {
-                if (isSolid(level, tx, tileTop)) {
-                    float tileWorldTop = (tileTop + 1) * level.getTileHeight();
-                    newY = tileWorldTop + player.height;
-                    player.vy = 0f;
-                    break;
-                }
-            }
-        }
-        float minY = player.height;
-        float maxY = level.getPixelHeight();
-        if (newY < minY) {
-            newY = minY;
-            player.vy = 0f;
-        } else if (newY > maxY) {
-            newY = maxY;
-            player.vy = 0f;
-            player.onGround = true;
-        }
-        player.y = newY;
-        if (delta < 0 && player.vy < 0f) {
-            player.onGround = false;
-        }
-    }
-
-    private boolean isSolid(@NonNull LevelModel level, int tileX, int tileY) {
-        int gid = level.getTileLayer().getTileId(tileX, tileY);
-        return level.getCollisionMap().isSolid(gid);
-    }
-
     private void updateCamera(@NonNull LevelModel level) {
         float scale = currentScale > 0f ? currentScale : 1f;
-        float viewWidthWorld = getWidth() / scale;
-        float viewHeightWorld = getHeight() / scale;
+        float viewWidthWorld = layoutWidth / scale;
+        float viewHeightWorld = layoutHeight / scale;
 
+        Player player = simulation.getPlayer();
         float targetX = player.x - viewWidthWorld * 0.4f;
         float maxScrollX = Math.max(0f, level.getPixelWidth() - viewWidthWorld);
         cameraX = clamp(targetX, 0f, maxScrollX);
@@ -1955,78 +1182,6 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         cameraY = clamp(targetY, 0f, maxScrollY);
     }
 
-    private void checkLevelCompletion(@NonNull LevelModel level) {
-        if (levelCompleted) {
-            return;
-        }
-        RectF playerBounds = player.getBounds();
-        float tileWidth = level.getTileWidth();
-        float tileHeight = level.getTileHeight();
-        for (LevelModel.Entity entity : level.getEntities()) {
-            String type = entity.getType();
-            if (type == null) {
-                continue;
-            }
-            String lowerType = type.toLowerCase(Locale.US);
-            if (lowerType.contains("flag")) {
-                buildFlagBounds(entity, tileWidth, tileHeight, flagBounds);
-                if (RectF.intersects(playerBounds, flagBounds)) {
-                    triggerLevelCompleted();
-                    break;
-                }
-            }
-        }
-    }
-
-    private void buildFlagBounds(@NonNull LevelModel.Entity entity,
-                                 float tileWidth,
-                                 float tileHeight,
-                                 @NonNull RectF outBounds) {
-        float baseX = entity.getX();
-        float baseY = entity.getY();
-        float poleHeight = tileHeight * 3.2f;
-        float left = baseX - tileWidth * 0.7f;
-        float right = baseX + tileWidth * 1.5f;
-        float top = baseY - poleHeight;
-        float bottom = baseY + tileHeight * 0.4f;
-        if (right < left) {
-            float temp = left;
-            left = right;
-            right = temp;
-        }
-        if (bottom < top) {
-            float temp = top;
-            top = bottom;
-            bottom = temp;
-        }
-        outBounds.set(left, top, right, bottom);
-    }
-
-    private void triggerLevelCompleted() {
-        if (levelCompleted) {
-            return;
-        }
-        levelCompleted = true;
-        moveLeft = false;
-        moveRight = false;
-        jumpPressed = false;
-        shouldPlayJumpSound = false;
-        player.vx = 0f;
-        player.vy = 0f;
-        player.onGround = true;
-        bossMessageVisible = false;
-        screenShakeTimer = 0f;
-        shakeOffsetX = 0f;
-        shakeOffsetY = 0f;
-        if (!completionSoundPlayed) {
-            audioManager.playVictory();
-            completionSoundPlayed = true;
-        }
-        final int world = currentWorldNumber;
-        final int stage = currentStage;
-        post(() -> notifyLevelCompleted(world, stage));
-    }
-
     private void notifyLevelCompleted(int world, int stage) {
         LevelCompletionListener listener = levelCompletionListener;
         if (listener != null) {
@@ -2246,13 +1401,43 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     private void render(@NonNull Canvas canvas) {
-        int width = canvas.getWidth();
-        int height = canvas.getHeight();
-        canvas.drawRect(0, 0, width, height, backgroundPaint);
-        LevelModel level = this.level;
+        int bufferWidth = canvas.getWidth();
+        int bufferHeight = canvas.getHeight();
+        if (frame.theme != null) {
+            backgroundPaint.setColor(frame.theme.backgroundColor);
+        }
+        canvas.drawRect(0, 0, bufferWidth, bufferHeight, backgroundPaint);
+        LevelModel level = frame.level;
         if (level == null) {
             return;
         }
+        frameWidth = layoutWidth > 0 ? layoutWidth : bufferWidth;
+        frameHeight = layoutHeight > 0 ? layoutHeight : bufferHeight;
+        boolean scaled = frameWidth != bufferWidth || frameHeight != bufferHeight;
+        if (scaled) {
+            // Everything below lays out in view pixels; squeeze it into the reduced buffer.
+            canvas.save();
+            canvas.scale(bufferWidth / (float) frameWidth, bufferHeight / (float) frameHeight);
+        }
+        applyAntiAlias(qualityGovernor.isAntiAliasEnabled());
+        float worldScale = Math.min(worldResolutionScale, qualityGovernor.getResolutionScale());
+        if (worldScale < 1f) {
+            Canvas worldCanvas = worldBuffer.begin(frameWidth, frameHeight, worldScale);
+            worldCanvas.drawRect(0, 0, frameWidth, frameHeight, backgroundPaint);
+            drawWorld(worldCanvas, level);
+            worldBuffer.setFilterBitmap(worldResolutionFiltered);
+            worldBuffer.end(canvas, frameWidth, frameHeight);
+        } else {
+            drawWorld(canvas, level);
+        }
+        drawHud(canvas, level);
+        drawBossMessage(canvas);
+        if (scaled) {
+            canvas.restore();
+        }
+    }
+
+    private void drawWorld(@NonNull Canvas canvas, @NonNull LevelModel level) {
         drawParallaxBackground(canvas);
         drawTiles(canvas, level);
         drawEntities(canvas, level);
@@ -2260,25 +1445,37 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         drawEnemies(canvas, level);
         drawProjectiles(canvas);
         drawPlayer(canvas);
-        drawHud(canvas, level);
-        drawBossMessage(canvas);
+    }
+
+    private void applyAntiAlias(boolean enabled) {
+        if (antiAliasEnabled == enabled) {
+            return;
+        }
+        antiAliasEnabled = enabled;
+        entityPaint.setAntiAlias(enabled);
+        uiPaint.setAntiAlias(enabled);
+        tileFallbackPaint.setAntiAlias(enabled);
+        entityList.setAntiAlias(enabled);
+        robotFrames.setFilterBitmap(enabled);
     }
 
     private void drawParallaxBackground(@NonNull Canvas canvas) {
-        int width = canvas.getWidth();
-        int height = canvas.getHeight();
+        int width = frameWidth;
+        int height = frameHeight;
         if (width <= 0 || height <= 0) {
             return;
         }
-        canvas.save();
-        BackgroundTheme theme = currentBackgroundTheme != null ? currentBackgroundTheme : DEFAULT_THEME;
-        if (theme == null) {
-            theme = DEFAULT_THEME;
+        BackgroundTheme theme = frame.theme != null ? frame.theme : DEFAULT_THEME;
+        // The solid theme colour is already down; lower tiers skip the animated layers on top.
+        if (qualityGovernor.isParallaxEnabled()) {
+            canvas.save();
+            drawPointerPlainsBackground(canvas, width, height, frame.parallaxTimer, theme);
+            canvas.restore();
         }
-        drawPointerPlainsBackground(canvas, width, height, parallaxTimer, theme);
-        canvas.restore();
         drawStatusBar(canvas, width, height, theme);
-        drawScanlineOverlay(canvas, width, height);
+        if (qualityGovernor.isScanlinesEnabled()) {
+            drawScanlineOverlay(canvas, width, height);
+        }
     }
 
     private void drawPointerPlainsBackground(@NonNull Canvas canvas,
@@ -2292,20 +1489,22 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         float tabOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, tabPeriod);
         for (float x = -tabPeriod; x < width + tabPeriod; x += tabPeriod) {
             float left = x - tabOffset;
-            RectF outer = new RectF(left + tabPeriod * 0.08f, 12f,
+            RectF outer = tempRectF;
+            outer.set(left + tabPeriod * 0.08f, 12f,
                     left + tabPeriod * 0.72f, SAFE_TOP_PX - 12f);
             uiPaint.setColor(theme.tabOuterColor);
             canvas.drawRoundRect(outer, 26f, 26f, uiPaint);
             uiPaint.setColor(theme.tabInnerColor);
-            canvas.drawRoundRect(new RectF(outer.left + 12f, outer.top + 8f,
-                    outer.right - 12f, outer.bottom - 8f), 20f, 20f, uiPaint);
+            canvas.drawRoundRect(outer.left + 12f, outer.top + 8f,
+                    outer.right - 12f, outer.bottom - 8f, 20f, 20f, uiPaint);
         }
         uiPaint.setColor(theme.activeOuterColor);
-        RectF active = new RectF(width * 0.34f, 8f, width * 0.58f, SAFE_TOP_PX - 10f);
+        RectF active = tempRectF;
+        active.set(width * 0.34f, 8f, width * 0.58f, SAFE_TOP_PX - 10f);
         canvas.drawRoundRect(active, 28f, 28f, uiPaint);
         uiPaint.setColor(theme.activeInnerColor);
-        canvas.drawRoundRect(new RectF(active.left + 12f, active.top + 10f,
-                active.right - 12f, active.bottom - 14f), 22f, 22f, uiPaint);
+        canvas.drawRoundRect(active.left + 12f, active.top + 10f,
+                active.right - 12f, active.bottom - 14f, 22f, 22f, uiPaint);
 
         float farPeriod = Math.max(width / 3f, 280f);
         drawHillBand(canvas, width, height * 0.58f, height,
@@ -2319,13 +1518,14 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         float bushOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, bushPeriod);
         for (float x = -bushPeriod; x < width + bushPeriod; x += bushPeriod) {
             float left = x - bushOffset + width * 0.05f;
-            RectF bush = new RectF(left, height * 0.62f,
+            RectF bush = tempRectF;
+            bush.set(left, height * 0.62f,
                     left + bushPeriod * 0.64f, height * 0.82f);
             uiPaint.setColor(theme.bushOuterColor);
             canvas.drawRoundRect(bush, 40f, 40f, uiPaint);
             uiPaint.setColor(theme.bushInnerColor);
-            canvas.drawRoundRect(new RectF(bush.left + 14f, bush.top + 14f,
-                    bush.right - 14f, bush.bottom - 14f), 34f, 34f, uiPaint);
+            canvas.drawRoundRect(bush.left + 14f, bush.top + 14f,
+                    bush.right - 14f, bush.bottom - 14f, 34f, 34f, uiPaint);
         }
 
         drawIndentGuides(canvas, width, width * 0.22f, SAFE_TOP_PX + 16f,
@@ -2352,7 +1552,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         }
         uiPaint.setAlpha(255);
 
-        drawGutterRail(canvas, width, height, width * 0.05f, theme.gutterBaseColor,
+        drawGutterRail(canvas, height, width * 0.05f, theme.gutterBaseColor,
                 theme.gutterLightColor, theme.gutterTrackColor, time, 0.8f, 0.32f);
         drawMinimapColumn(canvas, width, height, theme.minimapBaseColor,
                 theme.minimapOutlineColor, theme.minimapGlowColor, time, 0.5f);
@@ -2374,11 +1574,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     private void drawScanlineOverlay(@NonNull Canvas canvas, int width, int height) {
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.argb(18, 255, 255, 255));
-        for (float y = SAFE_TOP_PX; y < height - SAFE_BOTTOM_PX; y += 4f) {
-            canvas.drawRect(0f, y, width, y + 1f, uiPaint);
-        }
+        screenOverlays.drawScanlines(canvas, width, height);
     }
 
     private float computeLoopOffset(float time, float speed, float period) {
@@ -2420,7 +1616,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                               int color) {
         uiPaint.setStyle(Paint.Style.FILL);
         uiPaint.setColor(color);
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         path.moveTo(-width, bottom);
         for (float x = -period; x <= width + period; x += period / 2f) {
             float px = x - offset;
@@ -2433,7 +1630,6 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     private void drawGutterRail(@NonNull Canvas canvas,
-                                 int width,
                                  int height,
                                  float railWidth,
                                  int baseColor,
@@ -2442,24 +1638,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                                  float time,
                                  float speedFactor,
                                  float glowStrength) {
-        float bottom = height - SAFE_BOTTOM_PX;
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(baseColor);
-        canvas.drawRect(0f, SAFE_TOP_PX, railWidth, bottom, uiPaint);
-
-        uiPaint.setColor(trackColor);
-        float verticalOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * speedFactor, railWidth * 0.6f);
-        canvas.drawRect(verticalOffset - railWidth * 0.25f, SAFE_TOP_PX,
-                verticalOffset - railWidth * 0.25f + 3f, bottom, uiPaint);
-
-        float blink = (float) ((Math.sin(time * Math.PI / 1.5f) + 1f) * 0.5f);
-        int alpha = (int) (80 + 120 * blink * glowStrength);
-        uiPaint.setColor(Color.argb(alpha, Color.red(lightColor), Color.green(lightColor), Color.blue(lightColor)));
-        float spacing = 68f;
-        for (float y = SAFE_TOP_PX + 48f; y < bottom - 24f; y += spacing) {
-            float wobble = (float) Math.sin(time * 3f + y * 0.05f) * 2f;
-            canvas.drawCircle(railWidth * 0.55f + wobble, y, railWidth * 0.26f, uiPaint);
-        }
+        screenOverlays.drawGutterRail(canvas, height, railWidth, baseColor, lightColor,
+                trackColor, time, BASE_SCROLL_SPEED * speedFactor, glowStrength);
     }
 
     private void drawMinimapColumn(@NonNull Canvas canvas,
@@ -2470,46 +1650,60 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                                    int glowColor,
                                    float time,
                                    float shimmerSpeed) {
-        float minimapWidth = Math.max(18f, width * 0.028f);
-        float left = width - minimapWidth - width * 0.02f;
-        RectF column = new RectF(left, SAFE_TOP_PX + 16f,
-                left + minimapWidth, height - SAFE_BOTTOM_PX - 16f);
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(baseColor);
-        canvas.drawRoundRect(column, 18f, 18f, uiPaint);
-
-        uiPaint.setStyle(Paint.Style.STROKE);
-        uiPaint.setStrokeWidth(3f);
-        uiPaint.setColor(accentColor);
-        canvas.drawRoundRect(new RectF(column.left + 4f, column.top + 6f,
-                column.right - 4f, column.bottom - 6f), 16f, 16f, uiPaint);
-
-        uiPaint.setStyle(Paint.Style.FILL);
-        float bandHeight = 22f;
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * shimmerSpeed, bandHeight * 2f);
-        uiPaint.setColor(glowColor);
-        uiPaint.setAlpha(160);
-        for (float y = column.top - bandHeight; y < column.bottom + bandHeight; y += bandHeight * 2f) {
-            float top = y - offset;
-            canvas.drawRect(column.left + 6f, top,
-                    column.right - 6f, top + bandHeight * 0.6f, uiPaint);
-        }
-        uiPaint.setAlpha(255);
+        screenOverlays.drawMinimapColumn(canvas, width, height, baseColor, accentColor,
+                glowColor, time, BASE_SCROLL_SPEED * shimmerSpeed);
     }
 
     private void drawTiles(@NonNull Canvas canvas, @NonNull LevelModel level) {
         int tileWidth = level.getTileWidth();
         int tileHeight = level.getTileHeight();
-        float scale = currentScale > 0f ? currentScale : 1f;
-        float viewWidthWorld = canvas.getWidth() / scale;
-        float viewHeightWorld = canvas.getHeight() / scale;
-        float cameraX = this.cameraX + shakeOffsetX;
-        float cameraY = this.cameraY + shakeOffsetY;
+        float scale = frame.scale;
+        float viewWidthWorld = frameWidth / scale;
+        float viewHeightWorld = frameHeight / scale;
+        float cameraX = viewCameraX;
+        float cameraY = viewCameraY;
         int startX = Math.max(0, (int) Math.floor(cameraX / tileWidth));
         int endX = Math.min(level.getWidth() - 1, (int) Math.ceil((cameraX + viewWidthWorld) / tileWidth));
         int startY = Math.max(0, (int) Math.floor(cameraY / tileHeight));
         int endY = Math.min(level.getHeight() - 1, (int) Math.ceil((cameraY + viewHeightWorld) / tileHeight));
 
+        tileChunkCache.bind(level, frame.tileset, frame.tilesetColumns, scale);
+        int chunkTiles = TileChunkCache.CHUNK_TILES;
+        boolean chunksReady = true;
+        for (int chunkY = startY / chunkTiles; chunkY <= endY / chunkTiles; chunkY++) {
+            for (int chunkX = startX / chunkTiles; chunkX <= endX / chunkTiles; chunkX++) {
+                // No early exit: every missing chunk should be queued this frame.
+                chunksReady &= tileChunkCache.isReady(chunkX, chunkY);
+            }
+        }
+        // While chunks are being composited, the whole window goes out as one mesh instead;
+        // mixing the two would blend translucent tile pixels twice where they overlap.
+        if (!chunksReady && tileMesh.draw(canvas, level, frame.tileset, frame.tilesetColumns,
+                startX, endX, startY, endY, cameraX, cameraY, scale)) {
+            return;
+        }
+        for (int chunkY = startY / chunkTiles; chunkY <= endY / chunkTiles; chunkY++) {
+            for (int chunkX = startX / chunkTiles; chunkX <= endX / chunkTiles; chunkX++) {
+                if (tileChunkCache.drawChunk(canvas, chunkX, chunkY, cameraX * scale, cameraY * scale)) {
+                    continue;
+                }
+                // Chunk still being composited: draw its visible tiles one by one this frame.
+                drawTileRange(canvas, level,
+                        Math.max(startX, chunkX * chunkTiles), Math.min(endX, chunkX * chunkTiles + chunkTiles - 1),
+                        Math.max(startY, chunkY * chunkTiles), Math.min(endY, chunkY * chunkTiles + chunkTiles - 1));
+            }
+        }
+    }
+
+    private void drawTileRange(@NonNull Canvas canvas, @NonNull LevelModel level,
+                               int startX, int endX, int startY, int endY) {
+        int tileWidth = level.getTileWidth();
+        int tileHeight = level.getTileHeight();
+        float scale = frame.scale;
+        float cameraX = viewCameraX;
+        float cameraY = viewCameraY;
+        Bitmap tileset = frame.tileset;
+        int tilesetColumns = frame.tilesetColumns;
         for (int x = startX; x <= endX; x++) {
             for (int y = startY; y <= endY; y++) {
                 int gid = level.getTileLayer().getTileId(x, y);
@@ -2529,345 +1723,366 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                     dstRect.set(Math.round(left), Math.round(top), Math.round(right), Math.round(bottom));
                     canvas.drawBitmap(tileset, srcRect, dstRect, null);
                 } else {
-                    drawFallbackTile(canvas, gid, left, top, right, bottom);
+                    drawFallbackTile(canvas, tileFallbackPaint, tempRectF, gid, left, top, right, bottom);
                 }
             }
         }
     }
 
-    private void drawFallbackTile(@NonNull Canvas canvas,
-                                   int gid,
-                                   float left,
-                                   float top,
-                                   float right,
-                                   float bottom) {
-        tempRectF.set(left, top, right, bottom);
-        float width = tempRectF.width();
-        float height = tempRectF.height();
+    /**
+     * Draws a tile of a level without tileset. Also called by {@link TileChunkCache} on its
+     * worker thread, hence the caller-owned paint and rect.
+     */
+    static void drawFallbackTile(@NonNull Canvas canvas,
+                                 @NonNull Paint paint,
+                                 @NonNull RectF rect,
+                                 int gid,
+                                 float left,
+                                 float top,
+                                 float right,
+                                 float bottom) {
+        rect.set(left, top, right, bottom);
+        float width = rect.width();
+        float height = rect.height();
         float radius = Math.min(width, height) * 0.16f;
         switch (gid) {
             case 1: // Editor block
-                tileFallbackPaint.setColor(Color.parseColor("#1E1E1E"));
-                canvas.drawRoundRect(tempRectF, radius, radius, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#2D2D30"));
-                canvas.drawRect(tempRectF.left, tempRectF.top,
-                        tempRectF.right, tempRectF.top + height * 0.18f, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#3C3C3C"));
-                canvas.drawRect(tempRectF.left, tempRectF.top + height * 0.18f,
-                        tempRectF.left + width * 0.2f, tempRectF.bottom, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#252526"));
-                canvas.drawRect(tempRectF.left + width * 0.22f, tempRectF.top + height * 0.22f,
-                        tempRectF.right - width * 0.08f, tempRectF.top + height * 0.42f, tileFallbackPaint);
+                paint.setColor(0xFF1E1E1E);
+                canvas.drawRoundRect(rect, radius, radius, paint);
+                paint.setColor(0xFF2D2D30);
+                canvas.drawRect(rect.left, rect.top,
+                        rect.right, rect.top + height * 0.18f, paint);
+                paint.setColor(0xFF3C3C3C);
+                canvas.drawRect(rect.left, rect.top + height * 0.18f,
+                        rect.left + width * 0.2f, rect.bottom, paint);
+                paint.setColor(0xFF252526);
+                canvas.drawRect(rect.left + width * 0.22f, rect.top + height * 0.22f,
+                        rect.right - width * 0.08f, rect.top + height * 0.42f, paint);
                 break;
             case 2: // Terminal block
-                tileFallbackPaint.setColor(Color.parseColor("#252526"));
-                canvas.drawRoundRect(tempRectF, radius, radius, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#0E639C"));
+                paint.setColor(0xFF252526);
+                canvas.drawRoundRect(rect, radius, radius, paint);
+                paint.setColor(0xFF0E639C);
                 float indicatorRadius = Math.min(width, height) * 0.12f;
-                canvas.drawCircle(tempRectF.left + indicatorRadius * 1.8f,
-                        tempRectF.top + indicatorRadius * 1.8f, indicatorRadius, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#3C3C3C"));
-                canvas.drawRect(tempRectF.left, tempRectF.top,
-                        tempRectF.right, tempRectF.top + height * 0.18f, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#1F1F1F"));
-                canvas.drawRect(tempRectF.left + width * 0.12f, tempRectF.top + height * 0.26f,
-                        tempRectF.right - width * 0.12f, tempRectF.bottom - height * 0.22f, tileFallbackPaint);
+                canvas.drawCircle(rect.left + indicatorRadius * 1.8f,
+                        rect.top + indicatorRadius * 1.8f, indicatorRadius, paint);
+                paint.setColor(0xFF3C3C3C);
+                canvas.drawRect(rect.left, rect.top,
+                        rect.right, rect.top + height * 0.18f, paint);
+                paint.setColor(0xFF1F1F1F);
+                canvas.drawRect(rect.left + width * 0.12f, rect.top + height * 0.26f,
+                        rect.right - width * 0.12f, rect.bottom - height * 0.22f, paint);
                 break;
             case 3: // Debug block
-                tileFallbackPaint.setColor(Color.parseColor("#373277"));
-                canvas.drawRoundRect(tempRectF, radius, radius, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#1E1E1E"));
+                paint.setColor(0xFF373277);
+                canvas.drawRoundRect(rect, radius, radius, paint);
+                paint.setColor(0xFF1E1E1E);
                 float inset = Math.min(width, height) * 0.18f;
-                canvas.drawRoundRect(tempRectF.left + inset, tempRectF.top + inset,
-                        tempRectF.right - inset, tempRectF.bottom - inset, radius, radius, tileFallbackPaint);
+                canvas.drawRoundRect(rect.left + inset, rect.top + inset,
+                        rect.right - inset, rect.bottom - inset, radius, radius, paint);
                 float dotRadius = Math.min(width, height) * 0.12f;
-                tileFallbackPaint.setColor(Color.parseColor("#F14C4C"));
-                canvas.drawCircle(tempRectF.left + width * 0.25f, tempRectF.centerY(), dotRadius, tileFallbackPaint);
-                tileFallbackPaint.setColor(Color.parseColor("#3794FF"));
-                canvas.drawCircle(tempRectF.right - width * 0.25f, tempRectF.centerY(), dotRadius, tileFallbackPaint);
+                paint.setColor(0xFFF14C4C);
+                canvas.drawCircle(rect.left + width * 0.25f, rect.centerY(), dotRadius, paint);
+                paint.setColor(0xFF3794FF);
+                canvas.drawCircle(rect.right - width * 0.25f, rect.centerY(), dotRadius, paint);
                 break;
             default:
-                tileFallbackPaint.setColor(Color.parseColor("#1E1E1E"));
-                canvas.drawRoundRect(tempRectF, radius, radius, tileFallbackPaint);
+                paint.setColor(0xFF1E1E1E);
+                canvas.drawRoundRect(rect, radius, radius, paint);
                 break;
         }
     }
 
     private void drawEntities(@NonNull Canvas canvas, @NonNull LevelModel level) {
-        float scale = currentScale > 0f ? currentScale : 1f;
-        float cameraX = this.cameraX + shakeOffsetX;
-        float cameraY = this.cameraY + shakeOffsetY;
-        for (LevelModel.Entity entity : level.getEntities()) {
-            String type = entity.getType();
-            if (type == null || "spawn".equalsIgnoreCase(type)) {
+        float scale = frame.scale;
+        float cameraX = viewCameraX;
+        float cameraY = viewCameraY;
+        float tileWidth = level.getTileWidth() * scale;
+        float tileHeight = level.getTileHeight() * scale;
+        List<LevelModel.Entity> entities = level.getEntities();
+        int[] kinds = classifyEntities(level);
+        // Placed entities do not overlap, so their commands are regrouped by paint state.
+        entityList.beginBatch();
+        for (int i = 0; i < kinds.length; i++) {
+            int kind = kinds[i];
+            if (kind == ENTITY_SKIP) {
                 continue;
             }
+            LevelModel.Entity entity = entities.get(i);
             float screenX = (entity.getX() - cameraX) * scale;
             float screenY = (entity.getY() - cameraY) * scale;
-            float tileWidth = level.getTileWidth() * scale;
-            float tileHeight = level.getTileHeight() * scale;
-            String lowerType = type.toLowerCase(Locale.US);
-            if (EnemyKind.fromType(lowerType) != null) {
+            entityList.beginItem();
+            switch (kind) {
+                case ENTITY_COIN:
+                    recordCoinEntity(screenX, screenY, tileWidth);
+                    break;
+                case ENTITY_SPIKE:
+                    recordSpikeEntity(screenX, screenY, tileWidth, tileHeight);
+                    break;
+                case ENTITY_FLAG:
+                    recordFlagEntity(screenX, screenY, tileWidth, tileHeight);
+                    break;
+                case ENTITY_ENEMY:
+                    recordEnemyEntity(screenX, screenY, tileWidth, tileHeight);
+                    break;
+                default:
+                    // The label needs textPaint's shadow, so unknown entities bypass the list.
+                    drawGenericEntity(canvas, screenX, screenY, tileWidth, tileHeight, entity.getType());
+                    break;
+            }
+        }
+        entityList.endBatch();
+        entityList.replay(canvas);
+    }
+
+    /**
+     * Sorts the level's placed entities into draw kinds once per level, so the render pass does
+     * not lower-case and match type strings every frame.
+     */
+    @NonNull
+    private int[] classifyEntities(@NonNull LevelModel level) {
+        if (classifiedLevel == level) {
+            return entityKinds;
+        }
+        List<LevelModel.Entity> entities = level.getEntities();
+        int[] kinds = new int[entities.size()];
+        for (int i = 0; i < kinds.length; i++) {
+            String type = entities.get(i).getType();
+            if (type == null || "spawn".equalsIgnoreCase(type)) {
+                kinds[i] = ENTITY_SKIP;
                 continue;
             }
-            if (lowerType.contains("coin")) {
-                drawCoinEntity(canvas, screenX, screenY, tileWidth);
+            String lowerType = type.toLowerCase(Locale.US);
+            if (EnemyKind.fromType(lowerType) != null) {
+                kinds[i] = ENTITY_SKIP;
+            } else if (lowerType.contains("coin")) {
+                kinds[i] = ENTITY_COIN;
             } else if (lowerType.contains("spike")) {
-                drawSpikeEntity(canvas, screenX, screenY, tileWidth, tileHeight);
+                kinds[i] = ENTITY_SPIKE;
             } else if (lowerType.contains("flag")) {
-                drawFlagEntity(canvas, screenX, screenY, tileWidth, tileHeight);
+                kinds[i] = ENTITY_FLAG;
             } else if (lowerType.contains("enemy")) {
-                drawEnemyEntity(canvas, screenX, screenY, tileWidth, tileHeight);
+                kinds[i] = ENTITY_ENEMY;
             } else {
-                drawGenericEntity(canvas, screenX, screenY, tileWidth, tileHeight, type);
+                kinds[i] = ENTITY_GENERIC;
             }
         }
+        classifiedLevel = level;
+        entityKinds = kinds;
+        return kinds;
     }
 
     private void drawPlayer(@NonNull Canvas canvas) {
-        RectF bounds = player.getBounds();
+        RectF bounds = interpolatedBounds;
+        float lag = 1f - interpolationAlpha;
+        bounds.set(frame.playerBounds);
+        bounds.offset(frame.playerOffsetX * lag, frame.playerOffsetY * lag);
         float left = worldToScreenX(bounds.left);
         float right = worldToScreenX(bounds.right);
         float top = worldToScreenY(bounds.top);
         float bottom = worldToScreenY(bounds.bottom);
-        drawRobotSprite(canvas, left, top, right, bottom, player.facingRight, player.crouching);
+        int pose = (frame.playerFacingRight ? ROBOT_FRAME_RIGHT : 0)
+                | (frame.playerCrouching ? ROBOT_FRAME_CROUCH : 0);
+        robotFrames.draw(canvas, pose, left, top, right, bottom);
     }
 
     private void drawHud(@NonNull Canvas canvas, @NonNull LevelModel level) {
         float padding = 24f;
-        float timerSize = Math.max(30f, canvas.getWidth() * 0.03f);
-        timerPaint.setTextSize(timerSize);
-        String timerText = "Zeit " + TimeFormatter.format(Math.max(0f, runTimerSeconds));
+        float timerSize = Math.max(30f, frameWidth * 0.03f);
+        timerGlyphs.setTextSize(timerSize);
+        int timerMillis = TimeFormatter.toMillis(frame.runTimerSeconds);
+        if (timerMillis != hudTimerMillis) {
+            hudTimerMillis = timerMillis;
+            TimeFormatter.appendMillis(hudTimerText.clear().append("Zeit "), timerMillis);
+        }
         float timerBaseline = padding + timerSize;
-        canvas.drawText(timerText, padding, timerBaseline, timerPaint);
-
-        float originalSize = textPaint.getTextSize();
-        textPaint.setTextSize(originalSize * 0.85f);
-        String worldName = currentWorldInfo != null ? currentWorldInfo.getName()
-                : String.format(Locale.US, "World %d", currentWorldNumber);
-        String header = String.format(Locale.US, "%s  (W%d-%d)", worldName, currentWorldNumber, currentStage);
+        timerGlyphs.draw(canvas, hudTimerText.getChars(), 0, hudTimerText.length(), padding, timerBaseline);
+
+        if (frame.worldInfo != hudHeaderWorld || frame.worldNumber != hudHeaderWorldNumber
+                || frame.stage != hudHeaderStage) {
+            hudHeaderWorld = frame.worldInfo;
+            hudHeaderWorldNumber = frame.worldNumber;
+            hudHeaderStage = frame.stage;
+            hudHeaderText.clear();
+            if (frame.worldInfo != null) {
+                hudHeaderText.append(frame.worldInfo.getName());
+            } else {
+                hudHeaderText.append("World ").append(frame.worldNumber);
+            }
+            hudHeaderText.append("  (W").append(frame.worldNumber).append('-').append(frame.stage).append(')');
+        }
+        hudGlyphs.setTextSize(textPaint.getTextSize() * 0.85f);
         float infoBaseline = timerBaseline + timerSize * 0.55f;
-        canvas.drawText(header, padding, infoBaseline, textPaint);
-        textPaint.setTextSize(originalSize);
+        hudGlyphs.draw(canvas, hudHeaderText.getChars(), 0, hudHeaderText.length(), padding, infoBaseline);
     }
 
     private void drawBossMessage(@NonNull Canvas canvas) {
-        if (!bossMessageVisible) {
+        if (!frame.bossMessageVisible) {
             return;
         }
+        float bossMessageTimer = frame.bossMessageTimer;
         float fadeIn = Math.min(1f, bossMessageTimer / 0.4f);
         float fadeOut = bossMessageTimer > (BOSS_MESSAGE_DURATION - BOSS_MESSAGE_FADE)
                 ? Math.max(0f, (BOSS_MESSAGE_DURATION - bossMessageTimer) / BOSS_MESSAGE_FADE)
                 : 1f;
         float alphaFactor = Math.max(0f, Math.min(fadeIn, fadeOut));
-        int originalAlpha = bossTextPaint.getAlpha();
         float baseSize = bossTextPaint.getTextSize();
-        bossTextPaint.setAlpha((int) (alphaFactor * 255));
-        float centerX = canvas.getWidth() / 2f;
-        float centerY = canvas.getHeight() * 0.28f;
-        canvas.drawText(BOSS_NAME + " ist aufgetaucht!", centerX, centerY, bossTextPaint);
-        bossTextPaint.setTextSize(baseSize * 0.55f);
-        canvas.drawText("Ein glühender Systemfehler jagt dich!", centerX, centerY + baseSize * 0.85f, bossTextPaint);
-        bossTextPaint.setTextSize(baseSize);
-        bossTextPaint.setAlpha(originalAlpha);
+        int alpha = (int) (alphaFactor * 255);
+        float centerX = frameWidth / 2f;
+        float centerY = frameHeight * 0.28f;
+        bossGlyphs.setTextSize(baseSize);
+        bossGlyphs.setAlpha(alpha);
+        bossGlyphs.drawCentered(canvas, BOSS_NAME + " ist aufgetaucht!", centerX, centerY);
+        bossSubtitleGlyphs.setTextSize(baseSize * 0.55f);
+        bossSubtitleGlyphs.setAlpha(alpha);
+        bossSubtitleGlyphs.drawCentered(canvas, "Ein glühender Systemfehler jagt dich!",
+                centerX, centerY + baseSize * 0.85f);
     }
 
     private float worldToScreenX(float worldX) {
-        float scale = currentScale > 0f ? currentScale : 1f;
-        return (worldX - (cameraX + shakeOffsetX)) * scale;
+        return (worldX - viewCameraX) * frame.scale;
     }
 
     private float worldToScreenY(float worldY) {
-        float scale = currentScale > 0f ? currentScale : 1f;
-        return (worldY - (cameraY + shakeOffsetY)) * scale;
-    }
-
-    private void drawRobotSprite(@NonNull Canvas canvas,
-                                 float left,
-                                 float top,
-                                 float right,
-                                 float bottom,
-                                 boolean facingRight,
-                                 boolean crouching) {
-        float width = right - left;
-        float height = bottom - top;
-
-        Paint.Style originalStyle = entityPaint.getStyle();
-        int originalColor = entityPaint.getColor();
-        Paint.Align originalAlign = entityPaint.getTextAlign();
-        float originalTextSize = entityPaint.getTextSize();
-        float originalStroke = entityPaint.getStrokeWidth();
-
-        entityPaint.setStyle(Paint.Style.FILL);
-        entityPaint.setColor(Color.parseColor("#4A90E2"));
-        canvas.drawRoundRect(left + width * 0.12f, top + height * 0.12f,
-                right - width * 0.12f, bottom - height * 0.12f, width * 0.18f, width * 0.18f, entityPaint);
-
-        entityPaint.setColor(Color.parseColor("#A1C4FD"));
-        float visorTop = crouching ? top + height * 0.12f : top + height * 0.06f;
-        float visorBottom = crouching ? top + height * 0.46f : top + height * 0.45f;
-        canvas.drawRoundRect(left + width * 0.2f, visorTop,
-                right - width * 0.2f, visorBottom, width * 0.16f, width * 0.16f, entityPaint);
-
-        entityPaint.setColor(Color.parseColor("#0D1B2A"));
-        float eyeY = crouching ? top + height * 0.3f : top + height * 0.24f;
+        return (worldY - viewCameraY) * frame.scale;
+    }
+
+    /**
+     * Bakes player pose {@code frame} ({@link #ROBOT_FRAME_RIGHT}, {@link #ROBOT_FRAME_CROUCH})
+     * with the player bounds spanning (0, 0) to ({@code width}, {@code height}).
+     */
+    private static void paintRobotFrame(@NonNull Canvas canvas,
+                                        @NonNull Paint paint,
+                                        int frame,
+                                        float width,
+                                        float height) {
+        boolean facingRight = (frame & ROBOT_FRAME_RIGHT) != 0;
+        boolean crouching = (frame & ROBOT_FRAME_CROUCH) != 0;
+
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(0xFF4A90E2);
+        canvas.drawRoundRect(width * 0.12f, height * 0.12f,
+                width - width * 0.12f, height - height * 0.12f, width * 0.18f, width * 0.18f, paint);
+
+        paint.setColor(0xFFA1C4FD);
+        float visorTop = crouching ? height * 0.12f : height * 0.06f;
+        float visorBottom = crouching ? height * 0.46f : height * 0.45f;
+        canvas.drawRoundRect(width * 0.2f, visorTop,
+                width - width * 0.2f, visorBottom, width * 0.16f, width * 0.16f, paint);
+
+        paint.setColor(0xFF0D1B2A);
+        float eyeY = crouching ? height * 0.3f : height * 0.24f;
         float eyeOffset = width * 0.12f * (facingRight ? 1f : -1f);
         float eyeRadius = Math.max(3f, width * 0.06f);
-        canvas.drawCircle(left + width * 0.5f - eyeOffset, eyeY, eyeRadius, entityPaint);
-        canvas.drawCircle(left + width * 0.5f + eyeOffset, eyeY, eyeRadius, entityPaint);
+        canvas.drawCircle(width * 0.5f - eyeOffset, eyeY, eyeRadius, paint);
+        canvas.drawCircle(width * 0.5f + eyeOffset, eyeY, eyeRadius, paint);
 
-        entityPaint.setColor(Color.parseColor("#3D7ECC"));
+        paint.setColor(0xFF3D7ECC);
         float armLength = width * 0.38f;
         float armHeight = height * 0.08f;
-        float armTop = crouching ? top + height * 0.46f : top + height * 0.38f;
+        float armTop = crouching ? height * 0.46f : height * 0.38f;
         if (facingRight) {
-            canvas.drawRoundRect(right - width * 0.12f, armTop,
-                    right + armLength, armTop + armHeight, armHeight, armHeight, entityPaint);
-            canvas.drawRoundRect(left - armLength, armTop,
-                    left + width * 0.12f, armTop + armHeight, armHeight, armHeight, entityPaint);
+            canvas.drawRoundRect(width - width * 0.12f, armTop,
+                    width + armLength, armTop + armHeight, armHeight, armHeight, paint);
+            canvas.drawRoundRect(-armLength, armTop,
+                    width * 0.12f, armTop + armHeight, armHeight, armHeight, paint);
         } else {
-            canvas.drawRoundRect(left - armLength, armTop,
-                    left + width * 0.12f, armTop + armHeight, armHeight, armHeight, entityPaint);
-            canvas.drawRoundRect(right - width * 0.12f, armTop,
-                    right + armLength, armTop + armHeight, armHeight, armHeight, entityPaint);
+            canvas.drawRoundRect(-armLength, armTop,
+                    width * 0.12f, armTop + armHeight, armHeight, armHeight, paint);
+            canvas.drawRoundRect(width - width * 0.12f, armTop,
+                    width + armLength, armTop + armHeight, armHeight, armHeight, paint);
         }
 
-        entityPaint.setColor(Color.parseColor("#344E9A"));
+        paint.setColor(0xFF344E9A);
         float footHeight = crouching ? height * 0.2f : height * 0.14f;
-        canvas.drawRoundRect(left + width * 0.08f, bottom - footHeight,
-                left + width * 0.42f, bottom, footHeight * 0.6f, footHeight * 0.6f, entityPaint);
-        canvas.drawRoundRect(right - width * 0.42f, bottom - footHeight,
-                right - width * 0.08f, bottom, footHeight * 0.6f, footHeight * 0.6f, entityPaint);
+        canvas.drawRoundRect(width * 0.08f, height - footHeight,
+                width * 0.42f, height, footHeight * 0.6f, footHeight * 0.6f, paint);
+        canvas.drawRoundRect(width - width * 0.42f, height - footHeight,
+                width - width * 0.08f, height, footHeight * 0.6f, footHeight * 0.6f, paint);
 
-        entityPaint.setColor(Color.parseColor("#0D1B2A"));
-        entityPaint.setTextAlign(Paint.Align.CENTER);
-        entityPaint.setTextSize(height * 0.22f);
-        canvas.drawText("</>", left + width * 0.5f, bottom - height * 0.32f, entityPaint);
-
-        entityPaint.setStyle(originalStyle);
-        entityPaint.setColor(originalColor);
-        entityPaint.setTextAlign(originalAlign);
-        entityPaint.setTextSize(originalTextSize);
-        entityPaint.setStrokeWidth(originalStroke);
+        paint.setColor(0xFF0D1B2A);
+        paint.setTextAlign(Paint.Align.CENTER);
+        paint.setTextSize(height * 0.22f);
+        canvas.drawText("</>", width * 0.5f, height - height * 0.32f, paint);
     }
 
-    private void drawCoinEntity(@NonNull Canvas canvas, float centerX, float centerY, float tileSize) {
-        Paint.Style originalStyle = entityPaint.getStyle();
-        int originalColor = entityPaint.getColor();
-        float originalStroke = entityPaint.getStrokeWidth();
-
+    private void recordCoinEntity(float centerX, float centerY, float tileSize) {
         float size = tileSize * 0.6f;
-        float wobble = (float) Math.sin(animationTimer * 6f + centerX * 0.01f) * tileSize * 0.06f;
+        float wobble = (float) Math.sin(frame.animationTimer * 6f + centerX * 0.01f) * tileSize * 0.06f;
         float top = centerY - size / 2f + wobble;
         float bottom = centerY + size / 2f + wobble;
 
-        entityPaint.setStyle(Paint.Style.STROKE);
-        entityPaint.setStrokeWidth(Math.max(2f, tileSize * 0.08f));
-        entityPaint.setColor(Color.parseColor("#FFD166"));
-        RectF leftArc = new RectF(centerX - size, top, centerX - size * 0.2f, bottom);
-        RectF rightArc = new RectF(centerX + size * 0.2f, top, centerX + size, bottom);
-        canvas.drawArc(leftArc, 110, 140, false, entityPaint);
-        canvas.drawArc(rightArc, -70, 140, false, entityPaint);
-
-        entityPaint.setStyle(originalStyle);
-        entityPaint.setColor(originalColor);
-        entityPaint.setStrokeWidth(originalStroke);
+        entityList.setStyle(Paint.Style.STROKE)
+                .setStrokeWidth(Math.max(2f, tileSize * 0.08f))
+                .setColor(COIN_COLOR);
+        entityList.arc(centerX - size, top, centerX - size * 0.2f, bottom, 110, 140);
+        entityList.arc(centerX + size * 0.2f, top, centerX + size, bottom, -70, 140);
     }
 
-    private void drawSpikeEntity(@NonNull Canvas canvas,
-                                 float centerX,
-                                 float baseY,
-                                 float tileWidth,
-                                 float tileHeight) {
-        Paint.Style originalStyle = entityPaint.getStyle();
-        int originalColor = entityPaint.getColor();
-        float originalStroke = entityPaint.getStrokeWidth();
-
-        Path path = new Path();
+    private void recordSpikeEntity(float centerX,
+                                   float baseY,
+                                   float tileWidth,
+                                   float tileHeight) {
+        Path path = entityList.obtainPath();
         float halfWidth = tileWidth * 0.45f;
         path.moveTo(centerX - halfWidth, baseY);
         path.lineTo(centerX, baseY - tileHeight * 0.9f);
         path.lineTo(centerX + halfWidth, baseY);
         path.close();
 
-        entityPaint.setStyle(Paint.Style.FILL);
-        entityPaint.setColor(Color.parseColor("#C94E4E"));
-        canvas.drawPath(path, entityPaint);
-
-        entityPaint.setStyle(Paint.Style.STROKE);
-        entityPaint.setStrokeWidth(Math.max(2f, tileWidth * 0.05f));
-        entityPaint.setColor(Color.parseColor("#FCD7D7"));
-        canvas.drawPath(path, entityPaint);
+        entityList.setStyle(Paint.Style.FILL).setColor(SPIKE_FILL_COLOR);
+        entityList.path(path);
 
-        entityPaint.setStyle(originalStyle);
-        entityPaint.setColor(originalColor);
-        entityPaint.setStrokeWidth(originalStroke);
+        entityList.setStyle(Paint.Style.STROKE)
+                .setStrokeWidth(Math.max(2f, tileWidth * 0.05f))
+                .setColor(SPIKE_EDGE_COLOR);
+        entityList.path(path);
     }
 
-    private void drawFlagEntity(@NonNull Canvas canvas,
-                                float baseX,
-                                float baseY,
-                                float tileWidth,
-                                float tileHeight) {
-        Paint.Style originalStyle = entityPaint.getStyle();
-        int originalColor = entityPaint.getColor();
-        float originalStroke = entityPaint.getStrokeWidth();
-
+    private void recordFlagEntity(float baseX,
+                                  float baseY,
+                                  float tileWidth,
+                                  float tileHeight) {
         float poleHeight = tileHeight * 3.2f;
         float poleTop = baseY - poleHeight;
 
-        entityPaint.setStyle(Paint.Style.STROKE);
-        entityPaint.setStrokeWidth(Math.max(2f, tileWidth * 0.08f));
-        entityPaint.setColor(Color.parseColor("#C7CDD6"));
-        canvas.drawLine(baseX, poleTop, baseX, baseY, entityPaint);
+        entityList.setStyle(Paint.Style.STROKE)
+                .setStrokeWidth(Math.max(2f, tileWidth * 0.08f))
+                .setColor(FLAG_POLE_COLOR);
+        entityList.line(baseX, poleTop, baseX, baseY);
 
-        entityPaint.setStyle(Paint.Style.FILL);
-        entityPaint.setColor(Color.parseColor("#4FC1FF"));
         float flagWidth = tileWidth * 1.4f;
         float flagHeight = tileHeight * 0.9f;
-        Path flag = new Path();
+        Path flag = entityList.obtainPath();
         flag.moveTo(baseX, poleTop + flagHeight * 0.3f);
         flag.lineTo(baseX + flagWidth, poleTop + flagHeight * 0.6f);
         flag.lineTo(baseX, poleTop + flagHeight);
         flag.close();
-        canvas.drawPath(flag, entityPaint);
-
-        entityPaint.setStyle(originalStyle);
-        entityPaint.setColor(originalColor);
-        entityPaint.setStrokeWidth(originalStroke);
+        entityList.setStyle(Paint.Style.FILL).setColor(FLAG_CLOTH_COLOR);
+        entityList.path(flag);
     }
 
-    private void drawEnemyEntity(@NonNull Canvas canvas,
-                                 float centerX,
-                                 float baseY,
-                                 float tileWidth,
-                                 float tileHeight) {
-        Paint.Style originalStyle = entityPaint.getStyle();
-        int originalColor = entityPaint.getColor();
-        float originalStroke = entityPaint.getStrokeWidth();
-
+    private void recordEnemyEntity(float centerX,
+                                   float baseY,
+                                   float tileWidth,
+                                   float tileHeight) {
         float bodyWidth = tileWidth * 1.1f;
         float bodyHeight = tileHeight * 0.9f;
-        RectF body = new RectF(centerX - bodyWidth / 2f, baseY - bodyHeight,
-                centerX + bodyWidth / 2f, baseY);
-        entityPaint.setStyle(Paint.Style.FILL);
-        entityPaint.setColor(Color.parseColor("#BF6C32"));
-        canvas.drawRoundRect(body, bodyWidth * 0.3f, bodyWidth * 0.3f, entityPaint);
+        float bodyTop = baseY - bodyHeight;
+        entityList.setStyle(Paint.Style.FILL).setColor(ENEMY_BODY_COLOR);
+        entityList.roundRect(centerX - bodyWidth / 2f, bodyTop, centerX + bodyWidth / 2f, baseY,
+                bodyWidth * 0.3f, bodyWidth * 0.3f);
 
-        entityPaint.setColor(Color.parseColor("#FCEBD2"));
+        entityList.setColor(ENEMY_EYE_COLOR);
         float eyeRadius = Math.max(2f, tileWidth * 0.12f);
-        canvas.drawCircle(centerX - eyeRadius * 1.6f, body.top + bodyHeight * 0.35f, eyeRadius, entityPaint);
-        canvas.drawCircle(centerX + eyeRadius * 1.6f, body.top + bodyHeight * 0.35f, eyeRadius, entityPaint);
+        entityList.circle(centerX - eyeRadius * 1.6f, bodyTop + bodyHeight * 0.35f, eyeRadius);
+        entityList.circle(centerX + eyeRadius * 1.6f, bodyTop + bodyHeight * 0.35f, eyeRadius);
 
-        entityPaint.setColor(Color.parseColor("#2D160C"));
+        entityList.setColor(ENEMY_MOUTH_COLOR);
         float mouthWidth = bodyWidth * 0.5f;
         float mouthHeight = bodyHeight * 0.12f;
-        canvas.drawRect(centerX - mouthWidth / 2f, body.top + bodyHeight * 0.65f,
-                centerX + mouthWidth / 2f, body.top + bodyHeight * 0.65f + mouthHeight, entityPaint);
-
-        entityPaint.setStyle(originalStyle);
-        entityPaint.setColor(originalColor);
-        entityPaint.setStrokeWidth(originalStroke);
+        entityList.rect(centerX - mouthWidth / 2f, bodyTop + bodyHeight * 0.65f,
+                centerX + mouthWidth / 2f, bodyTop + bodyHeight * 0.65f + mouthHeight);
     }
 
     private void drawGenericEntity(@NonNull Canvas canvas,
@@ -2881,7 +2096,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
 
         entityPaint.setStyle(Paint.Style.FILL);
         entityPaint.setColor(Color.argb(140, 255, 255, 255));
-        RectF rect = new RectF(centerX - tileWidth * 0.5f, baseY - tileHeight,
+        RectF rect = tempRectF;
+        rect.set(centerX - tileWidth * 0.5f, baseY - tileHeight,
                 centerX + tileWidth * 0.5f, baseY);
         canvas.drawRoundRect(rect, tileWidth * 0.2f, tileWidth * 0.2f, entityPaint);
 
@@ -2911,6 +2127,22 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
 
     public void onHostDestroy() {
         stopRenderThread();
+        tileChunkCache.release();
+        tileMesh.release();
+        screenOverlays.release();
+        robotFrames.release();
+        worldBuffer.release();
+        for (AnimatedEnemy sprite : enemySprites.values()) {
+            sprite.release();
+        }
+        hudGlyphs.release();
+        timerGlyphs.release();
+        bossGlyphs.release();
+        bossSubtitleGlyphs.release();
+        PreparedLevel pending = pendingLevel.getAndSet(null);
+        if (pending != null) {
+            releasePreparedLevel(pending);
+        }
         if (tileset != null) {
             tileset.recycle();
             tileset = null;
@@ -2919,47 +2151,41 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
 
     public void handleButtonTouch(@NonNull Control control, @NonNull MotionEvent event) {
-        if (levelCompleted) {
+        if (simulation.isLevelCompleted()) {
             return;
         }
         boolean pressed = event.getActionMasked() != MotionEvent.ACTION_UP
                 && event.getActionMasked() != MotionEvent.ACTION_CANCEL;
-        switch (control) {
+        int code = control.ordinal();
+        if (offeredControlStates[code] == pressed) {
+            return;
+        }
+        if (inputQueue.offer(code, pressed, InputEventQueue.toNanoTime(event.getEventTime()))) {
+            offeredControlStates[code] = pressed;
+        }
+    }
+
+    private void applyControlEvent(int code, boolean pressed, long timestampNanos) {
+        switch (CONTROLS[code]) {
             case LEFT:
-                moveLeft = pressed;
+                simulation.setMoveLeft(pressed);
                 break;
             case RIGHT:
-                moveRight = pressed;
+                simulation.setMoveRight(pressed);
                 break;
             case JUMP:
-                jumpPressed = pressed;
-                if (pressed) {
-                    duckPressed = false;
-                    LevelModel currentLevel = this.level;
-                    if (currentLevel != null) {
-                        tryStand(currentLevel);
-                    }
-                }
-                if (!pressed) {
-                    jumpConsumed = false;
-                }
+                simulation.setJumpPressed(pressed);
                 break;
             case DUCK:
-                duckPressed = pressed;
-                if (pressed) {
-                    jumpPressed = false;
-                    jumpConsumed = true;
-                }
-                if (!pressed) {
-                    LevelModel currentLevel = this.level;
-                    if (currentLevel != null) {
-                        tryStand(currentLevel);
-                    }
-                }
+                simulation.setDuckPressed(pressed);
                 break;
         }
     }
 
+    private float lerp(float from, float to, float alpha) {
+        return from + (to - from) * alpha;
+    }
+
     private float clamp(float value, float min, float max) {
         if (value < min) {
             return min;
@@ -2970,215 +2196,107 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         return value;
     }
 
-    private enum PlayerAction {
-        IDLE,
-        MOVE_LEFT,
-        MOVE_RIGHT,
-        JUMP,
-        CROUCH
-    }
-
-    private enum EnemyKind {
-        BUGBLOB("bugblob", 0.9f, 1.0f),
-        KEYLOGGER_BEETLE("keylogger_beetle", 0.9f, 0.9f),
-        COOKIE_CRUMBLER("cookie_crumbler", 1.0f, 0.9f),
-        BIT_BAT("bit_bat", 0.8f, 0.8f),
-        PHISH_CARP("phish_carp", 0.9f, 1.0f),
-        SPAM_DRONE("spam_drone", 0.9f, 0.9f),
-        CLOUD_LEECH("cloud_leech", 1.0f, 1.0f),
-        TROJAN_TURRET("trojan_turret", 1.2f, 1.2f),
-        RANSOM_KNIGHT("ransom_knight", 1.1f, 1.4f),
-        ROOTKIT_RAIDER("rootkit_raider", 1.0f, 1.0f),
-        FIREWALL_GUARDIAN("firewall_guardian", 1.2f, 1.6f),
-        POPUP_PIRANHA("popup_piranha", 0.9f, 1.2f),
-        LAG_BUBBLE("lag_bubble", 1.4f, 1.4f),
-        MEMORY_LEAK_SLIME("memory_leak_slime", 1.0f, 1.0f),
-        CAPTCHA_GARGOYLE("captcha_gargoyle", 1.1f, 1.6f),
-        PACKET_HOUND("packet_hound", 1.0f, 0.9f),
-        BSOD_BLOCK("bsod_block", 1.4f, 1.0f),
-        PATCH_GOLEM("patch_golem", 1.6f, 1.0f),
-        GLITCH_SAW("glitch_saw", 1.2f, 1.2f),
-        ADWARE_BALLOON("adware_balloon", 1.0f, 1.0f),
-        BOTNET_BEE_LEADER("botnet_bee_leader", 0.8f, 0.8f),
-        BOTNET_BEE_MINION("botnet_bee_minion", 0.6f, 0.6f),
-        WURM_WEASEL("wurm_weasel", 0.9f, 0.9f),
-        TREIBER_DRONE("treiber_drone", 1.0f, 1.0f),
-        DRIVER_MODULE("driver_module", 0.9f, 0.9f),
-        PORT_PLANT("port_plant", 1.0f, 1.4f),
-        COMPILE_CRUSHER("compile_crusher", 1.6f, 1.8f),
-        GARBAGE_COLLECTOR("garbage_collector", 1.8f, 1.6f),
-        KERNEL_KOBOLD("kernel_kobold", 1.0f, 1.2f),
-        VPN_VAMPYRE("vpn_vampire", 1.0f, 1.4f),
-        UPDATE_OGRE("update_ogre", 1.6f, 1.8f),
-        TWOFA_GUARDIAN_JUMP("twofa_guardian_jump", 1.4f, 2.2f),
-        TWOFA_GUARDIAN_DASH("twofa_guardian_dash", 1.4f, 2.2f),
-        CHECKSUM_CRAB("checksum_crab", 1.1f, 1.0f),
-        PHISHING_SIREN("phishing_siren", 1.2f, 1.4f);
-
-        private final String typeName;
-        private final float widthScale;
-        private final float heightScale;
-
-        EnemyKind(@NonNull String typeName, float widthScale, float heightScale) {
-            this.typeName = typeName;
-            this.widthScale = widthScale;
-            this.heightScale = heightScale;
+    /**
+     * A fully built level waiting to be swapped in; see {@link #prepareLevel}.
+     */
+    public static final class PreparedLevel {
+        private final LevelModel level;
+        private final int world;
+        private final int stage;
+        private final Map<EnemyKind, AnimatedEnemy> enemySprites = new EnumMap<>(EnemyKind.class);
+        @Nullable
+        private WorldInfo worldInfo;
+        private BackgroundTheme theme;
+        private CrobotSimulation.Setup setup;
+        @Nullable
+        private Bitmap tileset;
+        private int tilesetColumns;
+
+        private PreparedLevel(@NonNull LevelModel level, int world, int stage) {
+            this.level = level;
+            this.world = world;
+            this.stage = stage;
         }
+    }
+
+    private static final class RenderSnapshot {
+        static final int PROJECTILE_STRIDE = 5;
+        static final int PLATFORM_STRIDE = 5;
 
         @Nullable
-        static EnemyKind fromType(@NonNull String type) {
-            String key = type.toLowerCase(Locale.US);
-            return LOOKUP.get(key);
-        }
+        LevelModel level;
+        @Nullable
+        Bitmap tileset;
+        int tilesetColumns;
+        @Nullable
+        BackgroundTheme theme;
+        @Nullable
+        WorldInfo worldInfo;
+        int worldNumber = 1;
+        int stage = 1;
+        boolean bossWorld;
+        float scale = 1f;
+        // Simulated time of the last step, for computing the interpolation alpha.
+        long stepTimeNanos;
+        // Camera positions with screen shake already applied.
+        float cameraX;
+        float cameraY;
+        float previousCameraX;
+        float previousCameraY;
+        float parallaxTimer;
+        float animationTimer;
+        final RectF playerBounds = new RectF();
+        // Previous-step position minus current position.
+        float playerOffsetX;
+        float playerOffsetY;
+        boolean playerFacingRight = true;
+        boolean playerCrouching;
+        float runTimerSeconds;
+        boolean bossMessageVisible;
+        float bossMessageTimer;
+        EnemySnapshot[] enemies = new EnemySnapshot[0];
+        int enemyCount;
+        // x, y, radius, previous x, previous y per projectile.
+        float[] projectiles = new float[0];
+        int projectileCount;
+        // left, top, right, bottom, lifetime per platform.
+        float[] debugPlatforms = new float[0];
+        int debugPlatformCount;
 
-        private static Map<String, EnemyKind> createLookup() {
-            Map<String, EnemyKind> map = new HashMap<>();
-            for (EnemyKind kind : values()) {
-                map.put(kind.typeName, kind);
+        @NonNull
+        EnemySnapshot nextEnemy() {
+            if (enemyCount == enemies.length) {
+                EnemySnapshot[] grown = new EnemySnapshot[Math.max(8, enemies.length * 2)];
+                System.arraycopy(enemies, 0, grown, 0, enemies.length);
+                for (int i = enemies.length; i < grown.length; i++) {
+                    grown[i] = new EnemySnapshot();
+                }
+                enemies = grown;
             }
-            return map;
+            return enemies[enemyCount++];
         }
 
-        private static final Map<String, EnemyKind> LOOKUP = createLookup();
-    }
-
-    private static final class EnemyInstance {
-        EnemyKind kind;
-        final float tileWidth;
-        final float tileHeight;
-        float width;
-        float height;
-        float x;
-        float y;
-        float baseX;
-        float baseY;
-        float vx;
-        float vy;
-        float timer;
-        float state;
-        float stateTimer;
-        int direction = 1;
-        boolean active = true;
-        boolean deactivated;
-        boolean onGround;
-        boolean visible = true;
-        boolean platformCarrier;
-        String swarmId;
-        String leaderId;
-        EnemyInstance leader;
-        String channel;
-        String trigger;
-        Map<String, String> extras;
-        AnimatedEnemy animatedSprite;
-
-        EnemyInstance(@NonNull EnemyKind kind,
-                      float pixelX,
-                      float pixelY,
-                      float tileWidth,
-                      float tileHeight,
-                      @Nullable Map<String, String> extras,
-                      @Nullable AnimatedEnemy animatedSprite) {
-            this.kind = kind;
-            this.tileWidth = tileWidth;
-            this.tileHeight = tileHeight;
-            this.width = tileWidth * kind.widthScale;
-            this.height = tileHeight * kind.heightScale;
-            this.x = pixelX;
-            this.y = pixelY;
-            this.baseX = pixelX;
-            this.baseY = pixelY;
-            this.vx = 0f;
-            this.vy = 0f;
-            this.timer = 0f;
-            this.state = 0f;
-            this.stateTimer = 0f;
-            this.direction = 1;
-            if (extras == null || extras.isEmpty()) {
-                this.extras = Collections.emptyMap();
-            } else {
-                this.extras = Collections.unmodifiableMap(new HashMap<>(extras));
+        void ensureProjectileCapacity(int count) {
+            if (projectiles.length < count * PROJECTILE_STRIDE) {
+                projectiles = new float[Math.max(8, count * 2) * PROJECTILE_STRIDE];
             }
-            this.swarmId = this.extras.get("swarm");
-            this.leaderId = this.extras.get("leader");
-            this.channel = this.extras.get("channel");
-            this.trigger = this.extras.get("trigger");
-            this.animatedSprite = animatedSprite;
         }
 
-        @NonNull
-        RectF getBounds() {
-            return new RectF(x - width / 2f, y - height, x + width / 2f, y);
+        void ensureDebugPlatformCapacity(int count) {
+            if (debugPlatforms.length < count * PLATFORM_STRIDE) {
+                debugPlatforms = new float[Math.max(4, count * 2) * PLATFORM_STRIDE];
+            }
         }
     }
 
-    private static final class Projectile {
-        float x;
-        float y;
-        float vx;
-        float vy;
-        float radius;
-        float lifetime;
-        boolean gravity;
-        EnemyKind source;
-    }
-
-    private static final class DebugPlatform {
+    private static final class EnemySnapshot {
+        EnemyKind kind;
+        @Nullable
+        AnimatedEnemy sprite;
+        float spriteTimer;
+        boolean visible;
         final RectF bounds = new RectF();
-        float lifetime;
-
-        DebugPlatform(float centerX, float baseY, float width, float height, float lifetime) {
-            bounds.set(centerX - width / 2f, baseY - height, centerX + width / 2f, baseY);
-            this.lifetime = lifetime;
-        }
-    }
-
-    private static final class GuardianGate {
-        boolean jumpSatisfied;
-        boolean duckSatisfied;
-
-        boolean isOpen() {
-            return jumpSatisfied && duckSatisfied;
-        }
-    }
-
-    private static final class Player {
-        float x;
-        float y;
-        float vx;
-        float vy;
-        float width;
-        float height;
-        float standingHeight;
-        float crouchHeight;
-        float jumpVelocity;
-        float spawnX;
-        float spawnY;
-        float stickyTimer;
-        float slipTimer;
-        float jumpCooldownTimer;
-        float timeSlowTimer;
-        boolean touchedDebugSymbol;
-        boolean onGround;
-        boolean facingRight = true;
-        boolean crouching;
-
-        RectF getBounds() {
-            float halfWidth = width / 2f;
-            return new RectF(x - halfWidth, y - height, x + halfWidth, y);
-        }
-
-        void respawn() {
-            x = spawnX;
-            y = spawnY;
-            vx = 0f;
-            vy = 0f;
-            onGround = false;
-            crouching = false;
-            height = standingHeight;
-            stickyTimer = 0f;
-            slipTimer = 0f;
-            jumpCooldownTimer = 0f;
-            timeSlowTimer = 0f;
-        }
+        float offsetX;
+        float offsetY;
     }
 }
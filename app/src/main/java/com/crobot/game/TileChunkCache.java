@@ -0,0 +1,268 @@
+// app/src/main/java/com/crobot/game/TileChunkCache.java
+package com.crobot.game;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.crobot.game.level.LevelModel;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-composites the static tile layer into square chunk bitmaps at the current draw scale, so
+ * the render thread blits a handful of chunks instead of one scaled bitmap per tile. Chunks are
+ * built on a worker thread and kept in a small LRU; until a chunk is ready the caller draws its
+ * tiles directly.
+ */
+final class TileChunkCache {
+
+    /** Tiles along each side of a chunk. */
+    static final int CHUNK_TILES = 16;
+
+    // A landscape view straddles at most six chunks at the usual scales; the rest is slack for
+    // the column scrolling in while the one scrolling out has not been evicted yet.
+    private static final int MAX_CHUNKS = 12;
+    private static final long SHUTDOWN_WAIT_MILLIS = 200L;
+
+    private final Object lock = new Object();
+    // A null value marks a chunk without tiles, so it is neither drawn nor rebuilt.
+    private final LinkedHashMap<Long, Bitmap> chunks = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Long> pending = new HashSet<>();
+
+    // Worker thread only.
+    private final Paint fallbackPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF fallbackRect = new RectF();
+    private final Rect srcRect = new Rect();
+    private final Rect dstRect = new Rect();
+
+    // Guarded by lock.
+    @Nullable
+    private ExecutorService worker;
+    @Nullable
+    private LevelModel level;
+    @Nullable
+    private Bitmap tileset;
+    private int tilesetColumns;
+    private float scale;
+    private int generation;
+
+    TileChunkCache() {
+        fallbackPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Render thread, once per frame: drops every chunk when the level, tileset or scale differs
+     * from what the cached chunks were built for.
+     */
+    void bind(@NonNull LevelModel level, @Nullable Bitmap tileset, int tilesetColumns, float scale) {
+        synchronized (lock) {
+            if (this.level == level && this.tileset == tileset
+                    && this.tilesetColumns == tilesetColumns && this.scale == scale) {
+                return;
+            }
+            this.level = level;
+            this.tileset = tileset;
+            this.tilesetColumns = tilesetColumns;
+            this.scale = scale;
+            generation++;
+            // The render thread may still hold a dropped bitmap this frame, so leave it to the GC.
+            chunks.clear();
+            pending.clear();
+        }
+    }
+
+    /**
+     * Draws chunk ({@code chunkX}, {@code chunkY}) with the camera at ({@code cameraPixelX},
+     * {@code cameraPixelY}) in scaled pixels. Returns {@code false} if the chunk is not built
+     * yet; its build is queued and the caller should draw those tiles itself this frame.
+     */
+    boolean drawChunk(@NonNull Canvas canvas, int chunkX, int chunkY,
+                      float cameraPixelX, float cameraPixelY) {
+        long key = key(chunkX, chunkY);
+        LevelModel level;
+        Bitmap bitmap;
+        float scale;
+        synchronized (lock) {
+            level = this.level;
+            scale = this.scale;
+            if (level == null) {
+                return false;
+            }
+            if (!chunks.containsKey(key)) {
+                requestBuild(key, chunkX, chunkY);
+                return false;
+            }
+            bitmap = chunks.get(key);
+        }
+        if (bitmap != null) {
+            float left = originPixel(chunkX, level.getTileWidth(), scale) - cameraPixelX;
+            float top = originPixel(chunkY, level.getTileHeight(), scale) - cameraPixelY;
+            canvas.drawBitmap(bitmap, Math.round(left), Math.round(top), null);
+        }
+        return true;
+    }
+
+    /**
+     * Whether chunk ({@code chunkX}, {@code chunkY}) is built; queues its build if it is not.
+     */
+    boolean isReady(int chunkX, int chunkY) {
+        long key = key(chunkX, chunkY);
+        synchronized (lock) {
+            if (level == null) {
+                return false;
+            }
+            if (chunks.containsKey(key)) {
+                return true;
+            }
+            requestBuild(key, chunkX, chunkY);
+            return false;
+        }
+    }
+
+    /**
+     * Stops the worker and frees every chunk. Call after the render thread has stopped.
+     */
+    void release() {
+        ExecutorService worker;
+        synchronized (lock) {
+            worker = this.worker;
+            this.worker = null;
+            generation++;
+            level = null;
+            tileset = null;
+            pending.clear();
+        }
+        if (worker != null) {
+            worker.shutdownNow();
+            try {
+                // The tileset is recycled right after this; no build may still be reading it.
+                worker.awaitTermination(SHUTDOWN_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (lock) {
+            for (Bitmap bitmap : chunks.values()) {
+                if (bitmap != null) {
+                    bitmap.recycle();
+                }
+            }
+            chunks.clear();
+        }
+    }
+
+    private void requestBuild(long key, int chunkX, int chunkY) {
+        if (!pending.add(key)) {
+            return;
+        }
+        if (worker == null) {
+            worker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "TileChunkBuilder");
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            });
+        }
+        int buildGeneration = generation;
+        LevelModel level = this.level;
+        Bitmap tileset = this.tileset;
+        int tilesetColumns = this.tilesetColumns;
+        float scale = this.scale;
+        worker.execute(() -> build(key, chunkX, chunkY, buildGeneration,
+                level, tileset, tilesetColumns, scale));
+    }
+
+    private void build(long key, int chunkX, int chunkY, int buildGeneration,
+                       @NonNull LevelModel level, @Nullable Bitmap tileset,
+                       int tilesetColumns, float scale) {
+        synchronized (lock) {
+            if (buildGeneration != generation) {
+                return;
+            }
+        }
+        Bitmap bitmap = rasterize(level, tileset, tilesetColumns, scale, chunkX, chunkY);
+        synchronized (lock) {
+            if (buildGeneration != generation) {
+                return;
+            }
+            pending.remove(key);
+            chunks.put(key, bitmap);
+            Iterator<Map.Entry<Long, Bitmap>> eldest = chunks.entrySet().iterator();
+            while (chunks.size() > MAX_CHUNKS && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    @Nullable
+    private Bitmap rasterize(@NonNull LevelModel level, @Nullable Bitmap tileset,
+                             int tilesetColumns, float scale, int chunkX, int chunkY) {
+        int tileWidth = level.getTileWidth();
+        int tileHeight = level.getTileHeight();
+        LevelModel.TileLayer layer = level.getTileLayer();
+        int firstX = chunkX * CHUNK_TILES;
+        int firstY = chunkY * CHUNK_TILES;
+        int endX = Math.min(level.getWidth(), firstX + CHUNK_TILES);
+        int endY = Math.min(level.getHeight(), firstY + CHUNK_TILES);
+        // Tile edges are rounded in level space, so neighbouring chunks meet without gaps.
+        int originX = originPixel(chunkX, tileWidth, scale);
+        int originY = originPixel(chunkY, tileHeight, scale);
+        int width = Math.round(endX * tileWidth * scale) - originX;
+        int height = Math.round(endY * tileHeight * scale) - originY;
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+
+        Bitmap bitmap = null;
+        Canvas canvas = null;
+        for (int x = firstX; x < endX; x++) {
+            for (int y = firstY; y < endY; y++) {
+                int gid = layer.getTileId(x, y);
+                if (gid <= 0) {
+                    continue;
+                }
+                if (bitmap == null) {
+                    bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+                    canvas = new Canvas(bitmap);
+                }
+                int left = Math.round(x * tileWidth * scale) - originX;
+                int top = Math.round(y * tileHeight * scale) - originY;
+                int right = Math.round((x + 1) * tileWidth * scale) - originX;
+                int bottom = Math.round((y + 1) * tileHeight * scale) - originY;
+                if (tileset != null && tilesetColumns > 0) {
+                    int index = gid - 1;
+                    int srcX = (index % tilesetColumns) * tileWidth;
+                    int srcY = (index / tilesetColumns) * tileHeight;
+                    srcRect.set(srcX, srcY, srcX + tileWidth, srcY + tileHeight);
+                    dstRect.set(left, top, right, bottom);
+                    canvas.drawBitmap(tileset, srcRect, dstRect, null);
+                } else {
+                    GameView.drawFallbackTile(canvas, fallbackPaint, fallbackRect, gid,
+                            left, top, right, bottom);
+                }
+            }
+        }
+        return bitmap;
+    }
+
+    private static int originPixel(int chunkIndex, int tileSize, float scale) {
+        return Math.round(chunkIndex * CHUNK_TILES * tileSize * scale);
+    }
+
+    private static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+}
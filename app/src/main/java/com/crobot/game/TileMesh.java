@@ -0,0 +1,175 @@
+// app/src/main/java/com/crobot/game/TileMesh.java
+package com.crobot.game;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Shader;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.crobot.game.level.LevelModel;
+
+import java.util.Arrays;
+
+/**
+ * The visible tile window as one textured triangle mesh, drawn with a single
+ * {@link Canvas#drawVertices} call that samples the tileset through a {@link BitmapShader}.
+ * Vertices are in level pixels and columns live in ring slots ({@code x % slotColumns}), so
+ * scrolling only rewrites the columns that enter the window. Render thread only.
+ */
+final class TileMesh {
+
+    private static final int FLOATS_PER_TILE = 8;
+    private static final int INDICES_PER_TILE = 6;
+    // Indices are shorts; staying below Short.MAX_VALUE avoids relying on unsigned handling.
+    private static final int MAX_TILES = Short.MAX_VALUE / 4;
+    // Spare columns and rows, so small camera moves do not force a full rebuild.
+    private static final int SLACK = 2;
+
+    private final Paint paint = new Paint();
+
+    @Nullable
+    private LevelModel level;
+    @Nullable
+    private Bitmap tileset;
+    private int tilesetColumns;
+
+    private float[] vertices = new float[0];
+    private float[] texCoords = new float[0];
+    private short[] indices = new short[0];
+    private int slotColumns;
+    private int firstRow;
+    private int rows;
+    private int builtStartX;
+    private int builtEndX = -1;
+
+    /**
+     * Draws tiles {@code startX..endX} x {@code startY..endY} with the camera at
+     * ({@code cameraX}, {@code cameraY}) in level pixels. Returns {@code false} without drawing
+     * if there is no tileset or the window is too large for one mesh.
+     */
+    boolean draw(@NonNull Canvas canvas, @NonNull LevelModel level,
+                 @Nullable Bitmap tileset, int tilesetColumns,
+                 int startX, int endX, int startY, int endY,
+                 float cameraX, float cameraY, float scale) {
+        if (tileset == null || tilesetColumns <= 0 || endX < startX || endY < startY) {
+            return false;
+        }
+        if (this.level != level || this.tileset != tileset || this.tilesetColumns != tilesetColumns) {
+            this.level = level;
+            this.tileset = tileset;
+            this.tilesetColumns = tilesetColumns;
+            paint.setShader(new BitmapShader(tileset, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP));
+            slotColumns = 0;
+        }
+        int windowColumns = endX - startX + 1;
+        if (windowColumns > slotColumns || startY < firstRow || endY >= firstRow + rows) {
+            if (!reset(level, windowColumns, startY, endY)) {
+                return false;
+            }
+        }
+        // The window is narrower than the ring, so a new column never lands on a kept one.
+        for (int x = startX; x <= endX; x++) {
+            if (x < builtStartX || x > builtEndX) {
+                writeColumn(level, x);
+            }
+        }
+        builtStartX = startX;
+        builtEndX = endX;
+
+        int tileCount = slotColumns * rows;
+        canvas.save();
+        canvas.translate(-Math.round(cameraX * scale), -Math.round(cameraY * scale));
+        canvas.scale(scale, scale);
+        canvas.drawVertices(Canvas.VertexMode.TRIANGLES, tileCount * FLOATS_PER_TILE,
+                vertices, 0, texCoords, 0, null, 0,
+                indices, 0, tileCount * INDICES_PER_TILE, paint);
+        canvas.restore();
+        return true;
+    }
+
+    /**
+     * Drops the tileset reference. Call before the tileset is recycled.
+     */
+    void release() {
+        paint.setShader(null);
+        level = null;
+        tileset = null;
+        slotColumns = 0;
+    }
+
+    private boolean reset(@NonNull LevelModel level, int windowColumns, int startY, int endY) {
+        int columns = windowColumns + SLACK;
+        int top = Math.max(0, startY - SLACK);
+        int bottom = Math.min(level.getHeight(), endY + 1 + SLACK);
+        int tileCount = columns * (bottom - top);
+        if (tileCount > MAX_TILES) {
+            slotColumns = 0;
+            return false;
+        }
+        if (vertices.length < tileCount * FLOATS_PER_TILE) {
+            vertices = new float[tileCount * FLOATS_PER_TILE];
+            texCoords = new float[tileCount * FLOATS_PER_TILE];
+            indices = new short[tileCount * INDICES_PER_TILE];
+            for (int tile = 0; tile < tileCount; tile++) {
+                int i = tile * INDICES_PER_TILE;
+                short base = (short) (tile * 4);
+                indices[i] = base;
+                indices[i + 1] = (short) (base + 1);
+                indices[i + 2] = (short) (base + 2);
+                indices[i + 3] = base;
+                indices[i + 4] = (short) (base + 2);
+                indices[i + 5] = (short) (base + 3);
+            }
+        }
+        // All-zero quads are degenerate, so unwritten slots draw nothing.
+        Arrays.fill(vertices, 0f);
+        slotColumns = columns;
+        firstRow = top;
+        rows = bottom - top;
+        builtStartX = 0;
+        builtEndX = -1;
+        return true;
+    }
+
+    private void writeColumn(@NonNull LevelModel level, int x) {
+        int tileWidth = level.getTileWidth();
+        int tileHeight = level.getTileHeight();
+        LevelModel.TileLayer layer = level.getTileLayer();
+        int slot = x % slotColumns;
+        for (int row = 0; row < rows; row++) {
+            int y = firstRow + row;
+            int v = (slot * rows + row) * FLOATS_PER_TILE;
+            int gid = x < level.getWidth() ? layer.getTileId(x, y) : 0;
+            if (gid <= 0) {
+                Arrays.fill(vertices, v, v + FLOATS_PER_TILE, 0f);
+                continue;
+            }
+            float left = x * tileWidth;
+            float top = y * tileHeight;
+            float right = left + tileWidth;
+            float bottom = top + tileHeight;
+            setQuad(vertices, v, left, top, right, bottom);
+
+            int index = gid - 1;
+            float srcX = (index % tilesetColumns) * tileWidth;
+            float srcY = (index / tilesetColumns) * tileHeight;
+            setQuad(texCoords, v, srcX, srcY, srcX + tileWidth, srcY + tileHeight);
+        }
+    }
+
+    private static void setQuad(@NonNull float[] out, int offset,
+                                float left, float top, float right, float bottom) {
+        out[offset] = left;
+        out[offset + 1] = top;
+        out[offset + 2] = right;
+        out[offset + 3] = top;
+        out[offset + 4] = right;
+        out[offset + 5] = bottom;
+        out[offset + 6] = left;
+        out[offset + 7] = bottom;
+    }
+}
@@ -0,0 +1,67 @@
+// app/src/main/java/com/crobot/game/WorldBuffer.java
+package com.crobot.game;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Offscreen target for the world pass at a fraction of the view resolution. The world draws
+ * into it in view pixels through a scaled canvas and the result is stretched onto the real
+ * canvas in one blit, so fill cost drops with the square of the scale while the HUD drawn
+ * afterwards stays sharp. Render thread only.
+ */
+final class WorldBuffer {
+
+    private final Canvas canvas = new Canvas();
+    private final Paint blitPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final RectF dstRect = new RectF();
+
+    private Bitmap bitmap;
+    private int restoreCount;
+
+    /**
+     * Returns a canvas laid out in {@code width} x {@code height} view pixels that renders into
+     * a buffer {@code scale} times that size. The buffer is only reallocated when its size changes.
+     */
+    @NonNull
+    Canvas begin(int width, int height, float scale) {
+        int bufferWidth = Math.max(1, Math.round(width * scale));
+        int bufferHeight = Math.max(1, Math.round(height * scale));
+        if (bitmap == null || bitmap.getWidth() != bufferWidth || bitmap.getHeight() != bufferHeight) {
+            release();
+            bitmap = Bitmap.createBitmap(bufferWidth, bufferHeight, Bitmap.Config.ARGB_8888);
+            // The world pass starts with an opaque background, so the blit can skip blending.
+            bitmap.setHasAlpha(false);
+            canvas.setBitmap(bitmap);
+        }
+        restoreCount = canvas.save();
+        canvas.scale(bufferWidth / (float) width, bufferHeight / (float) height);
+        return canvas;
+    }
+
+    /**
+     * Stretches the buffer over (0, 0) to ({@code width}, {@code height}) of {@code target}.
+     */
+    void end(@NonNull Canvas target, int width, int height) {
+        canvas.restoreToCount(restoreCount);
+        dstRect.set(0f, 0f, width, height);
+        target.drawBitmap(bitmap, null, dstRect, blitPaint);
+    }
+
+    /** Bilinear when {@code true}, nearest-neighbour otherwise. */
+    void setFilterBitmap(boolean enabled) {
+        blitPaint.setFilterBitmap(enabled);
+    }
+
+    void release() {
+        if (bitmap != null) {
+            canvas.setBitmap(null);
+            bitmap.recycle();
+            bitmap = null;
+        }
+    }
+}
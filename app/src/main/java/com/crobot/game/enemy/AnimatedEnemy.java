@@ -3,7 +3,6 @@ package com.crobot.game.enemy;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
-import android.graphics.Rect;
 import android.graphics.RectF;
 
 import androidx.annotation.ColorInt;
@@ -11,22 +10,43 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 /**
- * Simple procedural sprite that provides a looping animation for enemies.
+ * Simple procedural sprite that provides a looping animation for enemies. One instance is shared
+ * by every enemy of a kind: the body is rasterized once per on-screen size and each enemy only
+ * supplies its own animation phase, which picks one of {@link #FRAME_COUNT} bob offsets. The body
+ * is normally rasterized ahead of time by {@link #warm}; a draw at another size (a growing enemy)
+ * rasterizes it on the spot.
  */
 public final class AnimatedEnemy {
 
+    /** Animation steps per loop; the bob moves less than a pixel between neighbouring frames. */
+    public static final int FRAME_COUNT = 64;
+
+    private static final float[] FRAME_WAVE = new float[FRAME_COUNT];
+    // Sizes within this many pixels reuse the rasterized body, so float noise never forces a rebuild.
+    private static final float SIZE_TOLERANCE = 0.5f;
+
+    static {
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            FRAME_WAVE[i] = (float) Math.sin(i * (Math.PI * 2.0) / FRAME_COUNT);
+        }
+    }
+
     private final Paint bodyPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint accentPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint blitPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    // Scratch for draw(), which only runs on the render thread.
+    private final RectF drawBounds = new RectF();
     @Nullable
     private final Bitmap bitmap;
-    @Nullable
-    private final Rect bitmapSrcRect;
     private final float bobAmplitude;
     private final float animationSpeed;
     private final float accentScale;
     private final boolean horizontalWave;
 
-    private float timer;
+    // Body rasterized at the size it was last warmed or drawn at. Replaced whole, never edited,
+    // so the render thread can draw one while another thread warms the next.
+    @Nullable
+    private volatile Frame frame;
 
     public AnimatedEnemy(@ColorInt int bodyColor,
                          @ColorInt int accentColor,
@@ -51,7 +71,6 @@ public final class AnimatedEnemy {
         this.accentScale = accentScale;
         this.horizontalWave = horizontalWave;
         this.bitmap = bitmap;
-        this.bitmapSrcRect = bitmap == null ? null : new Rect(0, 0, bitmap.getWidth(), bitmap.getHeight());
     }
 
     @NonNull
@@ -62,35 +81,101 @@ public final class AnimatedEnemy {
         return new AnimatedEnemy(0, 0, bobAmplitude, animationSpeed, 0f, horizontalWave, bitmap);
     }
 
-    public void update(float deltaSeconds) {
-        timer += deltaSeconds * animationSpeed;
+    /**
+     * Loops per second; an enemy advances its own phase by {@code deltaSeconds * speed}.
+     */
+    public float getAnimationSpeed() {
+        return animationSpeed;
     }
 
-    public void draw(@NonNull Canvas canvas, @NonNull RectF bounds) {
-        float wobble = (float) Math.sin(timer * 6.28318f) * bobAmplitude;
-        RectF animatedBounds = new RectF(bounds);
+    /**
+     * Draws the sprite at animation phase {@code phase}, measured in loops.
+     */
+    public void draw(@NonNull Canvas canvas, @NonNull RectF bounds, float phase) {
+        float loop = phase - (float) Math.floor(phase);
+        float wobble = FRAME_WAVE[(int) (loop * FRAME_COUNT) % FRAME_COUNT] * bobAmplitude;
+        RectF animatedBounds = drawBounds;
+        animatedBounds.set(bounds);
         if (horizontalWave) {
             animatedBounds.left += wobble;
             animatedBounds.right += wobble;
         } else {
             animatedBounds.offset(0f, wobble);
         }
-        if (bitmap != null && bitmapSrcRect != null) {
-            canvas.drawBitmap(bitmap, bitmapSrcRect, animatedBounds, null);
-            return;
+        Bitmap body = obtainFrame(bounds.width(), bounds.height());
+        if (body != null) {
+            canvas.drawBitmap(body, null, animatedBounds, blitPaint);
+        }
+    }
+
+    /**
+     * Rasterizes the body for an on-screen size of {@code width} x {@code height} unless it already
+     * is, so the render thread does not have to. Any thread. A replaced body is left to the GC, as
+     * the render thread may still be drawing it.
+     */
+    public void warm(float width, float height) {
+        obtainFrame(width, height);
+    }
+
+    /** Drops the rasterized body; the next draw rebuilds it. Only once nothing draws it. */
+    public void release() {
+        Frame current = frame;
+        frame = null;
+        if (current != null) {
+            current.bitmap.recycle();
+        }
+    }
+
+    @Nullable
+    private Bitmap obtainFrame(float width, float height) {
+        Frame current = frame;
+        if (current != null
+                && Math.abs(current.width - width) <= SIZE_TOLERANCE
+                && Math.abs(current.height - height) <= SIZE_TOLERANCE) {
+            return current.bitmap;
+        }
+        int targetWidth = (int) Math.ceil(width);
+        int targetHeight = (int) Math.ceil(height);
+        if (targetWidth <= 0 || targetHeight <= 0) {
+            return null;
         }
+        Bitmap body = rasterize(targetWidth, targetHeight);
+        frame = new Frame(body, width, height);
+        return body;
+    }
 
-        canvas.drawRoundRect(animatedBounds, animatedBounds.height() * 0.35f,
-                animatedBounds.height() * 0.35f, bodyPaint);
+    @NonNull
+    private Bitmap rasterize(int targetWidth, int targetHeight) {
+        Bitmap body = Bitmap.createBitmap(targetWidth, targetHeight, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(body);
+        if (bitmap != null) {
+            canvas.drawBitmap(bitmap, null, new RectF(0f, 0f, targetWidth, targetHeight), blitPaint);
+            return body;
+        }
+        canvas.drawRoundRect(0f, 0f, targetWidth, targetHeight, targetHeight * 0.35f,
+                targetHeight * 0.35f, bodyPaint);
 
-        float accentWidth = animatedBounds.width() * accentScale;
-        float accentHeight = animatedBounds.height() * accentScale * 0.6f;
-        float centerX = animatedBounds.centerX();
-        float centerY = animatedBounds.centerY();
-        RectF accent = new RectF(centerX - accentWidth / 2f,
+        float accentWidth = targetWidth * accentScale;
+        float accentHeight = targetHeight * accentScale * 0.6f;
+        float centerX = targetWidth / 2f;
+        float centerY = targetHeight / 2f;
+        canvas.drawRoundRect(centerX - accentWidth / 2f,
                 centerY - accentHeight / 2f,
                 centerX + accentWidth / 2f,
-                centerY + accentHeight / 2f);
-        canvas.drawRoundRect(accent, accentHeight * 0.45f, accentHeight * 0.45f, accentPaint);
+                centerY + accentHeight / 2f,
+                accentHeight * 0.45f, accentHeight * 0.45f, accentPaint);
+        return body;
+    }
+
+    private static final class Frame {
+        final Bitmap bitmap;
+        final float width;
+        final float height;
+
+        Frame(@NonNull Bitmap bitmap, float width, float height) {
+            this.bitmap = bitmap;
+            this.width = width;
+            this.height = height;
+        }
     }
 }
@@ -0,0 +1,122 @@
+// app/src/main/java/com/example/robotparkour/core/AllocationBudget.java
+package com.example.robotparkour.core;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.os.Debug;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Counts the objects one thread allocates per frame and logs an error for every frame over
+ * budget. The render pass and the simulation steps are meant to allocate nothing, so the budget
+ * is zero. Counts are per thread, so each thread gets its own instance. Counting is only switched
+ * on for debuggable builds; elsewhere every call is a no-op.
+ *
+ * <p>{@link Debug#startAllocCounting()} is process-wide, and both game views run budgets, so
+ * counting stays on while any instance is counting and stops with the last one.
+ */
+public final class AllocationBudget {
+
+    private static final String TAG = "AllocationBudget";
+    // Frames that allocate usually come in streaks; one log line per window is loud enough.
+    private static final long LOG_INTERVAL_NANOS = 1_000_000_000L;
+
+    private static final Object COUNTING_LOCK = new Object();
+    // Instances currently counting, across all threads and views.
+    private static int countingInstances;
+
+    private final boolean enabled;
+    private final String owner;
+    private final int budget;
+
+    private boolean counting;
+    private int lastFrameAllocations;
+    private long framesOverBudget;
+    private long lastLogNanos;
+
+    public AllocationBudget(@NonNull Context context, @NonNull String owner) {
+        this(context, owner, 0);
+    }
+
+    public AllocationBudget(@NonNull Context context, @NonNull String owner, int budget) {
+        ApplicationInfo info = context.getApplicationInfo();
+        this.enabled = info != null && (info.flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+        this.owner = owner;
+        this.budget = budget;
+    }
+
+    /**
+     * Counted thread, right before the frame's work.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        if (!counting) {
+            acquireCounting();
+            counting = true;
+        }
+        Debug.resetThreadAllocCount();
+    }
+
+    /**
+     * Counted thread, right after the frame's work.
+     */
+    public void endFrame() {
+        if (!counting) {
+            return;
+        }
+        lastFrameAllocations = Debug.getThreadAllocCount();
+        if (lastFrameAllocations <= budget) {
+            return;
+        }
+        framesOverBudget++;
+        long now = System.nanoTime();
+        if (lastLogNanos == 0L || now - lastLogNanos >= LOG_INTERVAL_NANOS) {
+            lastLogNanos = now;
+            Log.e(TAG, owner + " frame allocated " + lastFrameAllocations
+                    + " objects (budget " + budget + ", " + framesOverBudget + " frames over so far)");
+        }
+    }
+
+    /**
+     * Stops counting. Call once the counted thread has stopped.
+     */
+    public void stop() {
+        if (counting) {
+            releaseCounting();
+            counting = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Objects allocated by the last counted frame. */
+    public int getLastFrameAllocations() {
+        return lastFrameAllocations;
+    }
+
+    public long getFramesOverBudget() {
+        return framesOverBudget;
+    }
+
+    private static void acquireCounting() {
+        synchronized (COUNTING_LOCK) {
+            if (countingInstances++ == 0) {
+                Debug.startAllocCounting();
+            }
+        }
+    }
+
+    private static void releaseCounting() {
+        synchronized (COUNTING_LOCK) {
+            if (--countingInstances == 0) {
+                Debug.stopAllocCounting();
+            }
+        }
+    }
+}
@@ -0,0 +1,358 @@
+// app/src/main/java/com/example/robotparkour/core/DrawList.java
+package com.example.robotparkour.core;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Arrays;
+
+/**
+ * Records draw commands for one frame into primitive arrays and replays them with a private
+ * {@link Paint}, touching paint state only when it actually changes. Commands recorded between
+ * {@link #beginBatch()} and {@link #endBatch()} may be reordered: they are stable-sorted by paint
+ * state, so e.g. all button fills go out under one colour before all outlines. Each
+ * {@link #beginItem()} starts an object whose own commands keep their relative order. The paint
+ * is only created by the first replay onto a real canvas, so recording and measuring work
+ * without a graphics stack.
+ */
+public final class DrawList {
+
+    private static final int OP_RECT = 0;
+    private static final int OP_ROUND_RECT = 1;
+    private static final int OP_CIRCLE = 2;
+    private static final int OP_LINE = 3;
+    private static final int OP_ARC = 4;
+    private static final int OP_TEXT = 5;
+    private static final int OP_PATH = 6;
+
+    private static final int ARGS = 6;
+    private static final int FLAG_STROKE = 1;
+    private static final int ALIGN_SHIFT = 1;
+    private static final Paint.Align[] ALIGNS = Paint.Align.values();
+
+    @Nullable
+    private Paint paint;
+    private boolean antiAlias = true;
+
+    private int[] ops = new int[64];
+    private int[] colors = new int[64];
+    private int[] flags = new int[64];
+    private float[] strokeWidths = new float[64];
+    private float[] textSizes = new float[64];
+    // Position of a command within its batch item; commands of one item never swap.
+    private int[] depths = new int[64];
+    private float[] args = new float[64 * ARGS];
+    private Object[] refs = new Object[64];
+    private int[] order = new int[64];
+    private int[] scratch = new int[64];
+    private int count;
+    private Path[] paths = new Path[8];
+    private int pathCount;
+
+    private int color = 0xFF000000;
+    private int stateFlags;
+    private float strokeWidth;
+    private float textSize = 12f;
+
+    private int batchStart = -1;
+    private int itemDepth;
+
+    private int drawCalls;
+    private int stateChanges;
+
+    public DrawList setColor(int color) {
+        this.color = color;
+        return this;
+    }
+
+    public DrawList setStyle(@NonNull Paint.Style style) {
+        stateFlags = style == Paint.Style.STROKE ? stateFlags | FLAG_STROKE : stateFlags & ~FLAG_STROKE;
+        return this;
+    }
+
+    public DrawList setStrokeWidth(float strokeWidth) {
+        this.strokeWidth = strokeWidth;
+        return this;
+    }
+
+    public DrawList setTextSize(float textSize) {
+        this.textSize = textSize;
+        return this;
+    }
+
+    public DrawList setTextAlign(@NonNull Paint.Align align) {
+        stateFlags = (stateFlags & FLAG_STROKE) | (align.ordinal() << ALIGN_SHIFT);
+        return this;
+    }
+
+    public void setAntiAlias(boolean enabled) {
+        antiAlias = enabled;
+        if (paint != null) {
+            paint.setAntiAlias(enabled);
+        }
+    }
+
+    public void rect(float left, float top, float right, float bottom) {
+        add(OP_RECT, left, top, right, bottom, 0f, 0f, null);
+    }
+
+    public void roundRect(float left, float top, float right, float bottom, float rx, float ry) {
+        add(OP_ROUND_RECT, left, top, right, bottom, rx, ry, null);
+    }
+
+    public void circle(float cx, float cy, float radius) {
+        add(OP_CIRCLE, cx, cy, radius, 0f, 0f, 0f, null);
+    }
+
+    public void line(float startX, float startY, float stopX, float stopY) {
+        add(OP_LINE, startX, startY, stopX, stopY, 0f, 0f, null);
+    }
+
+    /** Arc of the oval in the given bounds, without the centre wedge. */
+    public void arc(float left, float top, float right, float bottom, float startAngle, float sweepAngle) {
+        add(OP_ARC, left, top, right, bottom, startAngle, sweepAngle, null);
+    }
+
+    public void text(@NonNull String text, float x, float y) {
+        add(OP_TEXT, x, y, 0f, 0f, 0f, 0f, text);
+    }
+
+    /** The path is replayed by reference and must not change before {@link #replay}. */
+    public void path(@NonNull Path path) {
+        add(OP_PATH, 0f, 0f, 0f, 0f, 0f, 0f, path);
+    }
+
+    /**
+     * An empty path owned by this list, valid until the next {@link #replay}. Paths are pooled
+     * across frames, so recording shapes does not allocate once the pool has grown.
+     */
+    @NonNull
+    public Path obtainPath() {
+        if (pathCount == paths.length) {
+            paths = Arrays.copyOf(paths, paths.length * 2);
+        }
+        Path path = paths[pathCount];
+        if (path == null) {
+            path = new Path();
+            paths[pathCount] = path;
+        } else {
+            path.reset();
+        }
+        pathCount++;
+        return path;
+    }
+
+    /**
+     * Starts a run of commands whose objects do not overlap, so they may be regrouped by state.
+     */
+    public void beginBatch() {
+        batchStart = count;
+        itemDepth = 0;
+    }
+
+    /** Starts the next object inside the current batch. */
+    public void beginItem() {
+        itemDepth = 0;
+    }
+
+    public void endBatch() {
+        if (batchStart >= 0 && count - batchStart > 1) {
+            sort(batchStart, count);
+        }
+        batchStart = -1;
+    }
+
+    /**
+     * Draws every recorded command and clears the list. With a {@code null} canvas nothing is
+     * drawn, but {@link #getDrawCalls()} and {@link #getStateChanges()} are still updated, so
+     * the batching can be measured without a surface.
+     */
+    public void replay(@Nullable Canvas canvas) {
+        endBatch();
+        Paint paint = canvas != null ? obtainPaint() : null;
+        drawCalls = 0;
+        stateChanges = 0;
+        boolean first = true;
+        int appliedColor = 0;
+        int appliedFlags = 0;
+        float appliedStroke = 0f;
+        float appliedTextSize = 0f;
+        for (int n = 0; n < count; n++) {
+            int i = order[n];
+            if (first || colors[i] != appliedColor || flags[i] != appliedFlags
+                    || strokeWidths[i] != appliedStroke || textSizes[i] != appliedTextSize) {
+                appliedColor = colors[i];
+                appliedFlags = flags[i];
+                appliedStroke = strokeWidths[i];
+                appliedTextSize = textSizes[i];
+                first = false;
+                stateChanges++;
+                if (paint != null) {
+                    paint.setColor(appliedColor);
+                    paint.setStyle((appliedFlags & FLAG_STROKE) != 0 ? Paint.Style.STROKE : Paint.Style.FILL);
+                    paint.setTextAlign(ALIGNS[appliedFlags >> ALIGN_SHIFT]);
+                    paint.setStrokeWidth(appliedStroke);
+                    paint.setTextSize(appliedTextSize);
+                }
+            }
+            drawCalls++;
+            if (paint != null) {
+                draw(canvas, paint, i);
+            }
+        }
+        Arrays.fill(refs, 0, count, null);
+        count = 0;
+        pathCount = 0;
+    }
+
+    /** Commands recorded so far in this frame. */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Recording index of the command that {@link #replay} will issue {@code n}-th. Ends an open
+     * batch, like replay does.
+     */
+    @VisibleForTesting
+    int getReplayIndex(int n) {
+        endBatch();
+        return order[n];
+    }
+
+    /** Draw calls issued by the last {@link #replay}. */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /** Paint state switches needed by the last {@link #replay}. */
+    public int getStateChanges() {
+        return stateChanges;
+    }
+
+    @NonNull
+    private Paint obtainPaint() {
+        if (paint == null) {
+            paint = new Paint(antiAlias ? Paint.ANTI_ALIAS_FLAG : 0);
+        }
+        return paint;
+    }
+
+    private void draw(@NonNull Canvas canvas, @NonNull Paint paint, int i) {
+        int a = i * ARGS;
+        switch (ops[i]) {
+            case OP_RECT:
+                canvas.drawRect(args[a], args[a + 1], args[a + 2], args[a + 3], paint);
+                break;
+            case OP_ROUND_RECT:
+                canvas.drawRoundRect(args[a], args[a + 1], args[a + 2], args[a + 3],
+                        args[a + 4], args[a + 5], paint);
+                break;
+            case OP_CIRCLE:
+                canvas.drawCircle(args[a], args[a + 1], args[a + 2], paint);
+                break;
+            case OP_LINE:
+                canvas.drawLine(args[a], args[a + 1], args[a + 2], args[a + 3], paint);
+                break;
+            case OP_ARC:
+                canvas.drawArc(args[a], args[a + 1], args[a + 2], args[a + 3],
+                        args[a + 4], args[a + 5], false, paint);
+                break;
+            case OP_TEXT:
+                canvas.drawText((String) refs[i], args[a], args[a + 1], paint);
+                break;
+            case OP_PATH:
+            default:
+                canvas.drawPath((Path) refs[i], paint);
+                break;
+        }
+    }
+
+    private void add(int op, float a0, float a1, float a2, float a3, float a4, float a5,
+                     @Nullable Object ref) {
+        if (count == ops.length) {
+            grow();
+        }
+        int i = count++;
+        ops[i] = op;
+        colors[i] = color;
+        flags[i] = stateFlags;
+        strokeWidths[i] = strokeWidth;
+        textSizes[i] = textSize;
+        depths[i] = batchStart >= 0 ? itemDepth++ : 0;
+        refs[i] = ref;
+        order[i] = i;
+        int a = i * ARGS;
+        args[a] = a0;
+        args[a + 1] = a1;
+        args[a + 2] = a2;
+        args[a + 3] = a3;
+        args[a + 4] = a4;
+        args[a + 5] = a5;
+    }
+
+    private void grow() {
+        int capacity = ops.length * 2;
+        ops = Arrays.copyOf(ops, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        strokeWidths = Arrays.copyOf(strokeWidths, capacity);
+        textSizes = Arrays.copyOf(textSizes, capacity);
+        depths = Arrays.copyOf(depths, capacity);
+        args = Arrays.copyOf(args, capacity * ARGS);
+        refs = Arrays.copyOf(refs, capacity);
+        order = Arrays.copyOf(order, capacity);
+        scratch = new int[capacity];
+    }
+
+    /** Stable bottom-up merge sort of {@code order[from, to)} by depth, then paint state. */
+    private void sort(int from, int to) {
+        int[] src = order;
+        int[] dst = scratch;
+        for (int width = 1; width < to - from; width *= 2) {
+            for (int left = from; left < to; left += width * 2) {
+                int mid = Math.min(left + width, to);
+                int right = Math.min(left + width * 2, to);
+                int i = left;
+                int j = mid;
+                int k = left;
+                while (i < mid && j < right) {
+                    dst[k++] = compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+                }
+                while (i < mid) {
+                    dst[k++] = src[i++];
+                }
+                while (j < right) {
+                    dst[k++] = src[j++];
+                }
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        if (src != order) {
+            System.arraycopy(src, from, order, from, to - from);
+        }
+    }
+
+    private int compare(int a, int b) {
+        if (depths[a] != depths[b]) {
+            return Integer.compare(depths[a], depths[b]);
+        }
+        if (flags[a] != flags[b]) {
+            return Integer.compare(flags[a], flags[b]);
+        }
+        if (colors[a] != colors[b]) {
+            return Integer.compare(colors[a], colors[b]);
+        }
+        if (strokeWidths[a] != strokeWidths[b]) {
+            return Float.compare(strokeWidths[a], strokeWidths[b]);
+        }
+        return Float.compare(textSizes[a], textSizes[b]);
+    }
+}
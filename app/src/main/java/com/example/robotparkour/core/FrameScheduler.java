@@ -0,0 +1,258 @@
+// app/src/main/java/com/example/robotparkour/core/FrameScheduler.java
+package com.example.robotparkour.core;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Paces a game loop thread to the display refresh. In {@link Mode#VSYNC} a small looper
+ * thread listens to {@link Choreographer} callbacks and wakes the loop on the first vsync
+ * that satisfies the selected {@link TargetRate}; {@link Mode#TIMED_SLEEP} simply sleeps
+ * until the next frame deadline. Either way the loop no longer spins on a core.
+ */
+public final class FrameScheduler implements Choreographer.FrameCallback {
+
+    /** Frame rates the scheduler can pace to. */
+    public enum TargetRate {
+        HZ_30(30),
+        HZ_60(60),
+        HZ_90(90),
+        HZ_120(120);
+
+        private final int hertz;
+
+        TargetRate(int hertz) {
+            this.hertz = hertz;
+        }
+
+        public int getHertz() {
+            return hertz;
+        }
+
+        long getPeriodNanos() {
+            return 1_000_000_000L / hertz;
+        }
+    }
+
+    /** How the scheduler waits between frames. */
+    public enum Mode {
+        VSYNC,
+        TIMED_SLEEP
+    }
+
+    /** Longest frame delta handed to the simulation, e.g. after a debugger pause. */
+    public static final double MAX_FRAME_SECONDS = 0.25;
+    /** Maximum number of fixed steps the accumulator may hold before old time is dropped. */
+    public static final int MAX_CATCH_UP_STEPS = 5;
+
+    // A vsync slightly early for its deadline still counts; keeps 60 Hz on 60 Hz panels stable.
+    private static final long VSYNC_TOLERANCE_NANOS = 4_000_000L;
+    // If no vsync arrives within this many periods, fall back to sleeping for the frame.
+    private static final int VSYNC_TIMEOUT_PERIODS = 4;
+
+    private final Object vsyncLock = new Object();
+
+    private volatile TargetRate targetRate;
+    private volatile Mode mode;
+    private volatile boolean active;
+    private volatile boolean paused;
+
+    private volatile HandlerThread vsyncThread;
+    private volatile Handler vsyncHandler;
+    private Choreographer choreographer;
+    private long latestVsyncNanos;
+    private long nextDeadlineNanos;
+    private long previousFrameNanos;
+
+    public FrameScheduler(@NonNull TargetRate targetRate, @NonNull Mode mode) {
+        this.targetRate = targetRate;
+        this.mode = mode;
+    }
+
+    public void setTargetRate(@NonNull TargetRate targetRate) {
+        this.targetRate = targetRate;
+    }
+
+    @NonNull
+    public TargetRate getTargetRate() {
+        return targetRate;
+    }
+
+    /**
+     * Switches between vsync and timed-sleep pacing. Takes effect on the next {@link #start()}.
+     */
+    public void setMode(@NonNull Mode mode) {
+        this.mode = mode;
+    }
+
+    @NonNull
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Called from the loop thread before its first frame.
+     */
+    public void start() {
+        long now = System.nanoTime();
+        previousFrameNanos = now;
+        nextDeadlineNanos = now;
+        synchronized (vsyncLock) {
+            latestVsyncNanos = 0L;
+        }
+        active = true;
+        paused = false;
+        if (mode == Mode.VSYNC) {
+            synchronized (this) {
+                if (vsyncThread == null) {
+                    HandlerThread thread = new HandlerThread("FrameSchedulerVsync");
+                    thread.start();
+                    Handler handler = new Handler(thread.getLooper());
+                    handler.post(() -> {
+                        choreographer = Choreographer.getInstance();
+                        if (active) {
+                            choreographer.postFrameCallback(this);
+                        }
+                    });
+                    vsyncHandler = handler;
+                    vsyncThread = thread;
+                }
+            }
+        }
+    }
+
+    /**
+     * Wakes a waiting loop and releases the vsync thread. Safe to call from any thread.
+     */
+    public void stop() {
+        active = false;
+        synchronized (vsyncLock) {
+            vsyncLock.notifyAll();
+        }
+        HandlerThread thread;
+        synchronized (this) {
+            thread = vsyncThread;
+            vsyncThread = null;
+            vsyncHandler = null;
+        }
+        if (thread != null) {
+            thread.quitSafely();
+        }
+    }
+
+    /**
+     * Stops listening to vsync while the loop idles, e.g. on a static scene. Call
+     * {@link #resume()} before the next {@link #awaitNextFrame()}.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Leaves {@link #pause()}: re-arms the vsync callback and restarts frame timing so the idle
+     * period is not handed to the simulation. Returns {@code true} if the scheduler was paused.
+     */
+    public boolean resume() {
+        if (!paused) {
+            return false;
+        }
+        paused = false;
+        long now = System.nanoTime();
+        previousFrameNanos = now;
+        nextDeadlineNanos = now;
+        Handler handler = vsyncHandler;
+        if (handler != null) {
+            handler.post(() -> {
+                if (active && choreographer != null) {
+                    // A callback still pending from before the pause must not be doubled up.
+                    choreographer.removeFrameCallback(this);
+                    choreographer.postFrameCallback(this);
+                }
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!active || paused) {
+            return;
+        }
+        synchronized (vsyncLock) {
+            latestVsyncNanos = frameTimeNanos;
+            vsyncLock.notifyAll();
+        }
+        choreographer.postFrameCallback(this);
+    }
+
+    /**
+     * Blocks until the next frame is due and returns the elapsed time since the previous
+     * frame in seconds, clamped to {@link #MAX_FRAME_SECONDS}.
+     */
+    public double awaitNextFrame() {
+        long period = targetRate.getPeriodNanos();
+        long deadline = nextDeadlineNanos + period;
+        boolean paced = mode == Mode.VSYNC && vsyncThread != null && awaitVsync(deadline, period);
+        if (!paced) {
+            sleepUntil(deadline);
+        }
+
+        long now = System.nanoTime();
+        // Resynchronise after long stalls instead of bursting frames to catch up.
+        nextDeadlineNanos = now - deadline > period ? now : deadline;
+        double frameSeconds = (now - previousFrameNanos) / 1_000_000_000.0;
+        previousFrameNanos = now;
+        return Math.min(frameSeconds, MAX_FRAME_SECONDS);
+    }
+
+    /**
+     * {@link System#nanoTime()} at which the most recent frame was released; the fixed-step
+     * accumulator is measured up to this instant.
+     */
+    public long getFrameTimeNanos() {
+        return previousFrameNanos;
+    }
+
+    /**
+     * Caps the fixed-step accumulator so a slow device drops time instead of spiralling
+     * into ever longer update batches.
+     */
+    public static double clampAccumulator(double accumulatorSeconds, double stepSeconds) {
+        return Math.min(accumulatorSeconds, stepSeconds * MAX_CATCH_UP_STEPS);
+    }
+
+    private boolean awaitVsync(long deadline, long period) {
+        long timeoutAt = System.nanoTime() + period * VSYNC_TIMEOUT_PERIODS;
+        synchronized (vsyncLock) {
+            while (active && latestVsyncNanos < deadline - VSYNC_TOLERANCE_NANOS) {
+                long remaining = timeoutAt - System.nanoTime();
+                if (remaining <= 0L) {
+                    return false;
+                }
+                try {
+                    vsyncLock.wait(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return active;
+    }
+
+    private void sleepUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0L || !active) {
+            return;
+        }
+        try {
+            Thread.sleep(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+        } catch (InterruptedException ex) {
+            // Restore interrupt so higher-level code can react if needed.
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,56 +3,78 @@ package com.example.robotparkour.core;
 
 import android.graphics.Canvas;
 import android.util.Log;
-import android.view.SurfaceHolder;
 
 /**
  * Dedicated render/update thread that drives the game at a fixed timestep (~60 FPS).
  * The implementation uses a standard accumulator loop so the simulation step remains
- * deterministic even when rendering hiccups occur.
+ * deterministic even when rendering hiccups occur. Frames are paced by a
+ * {@link FrameScheduler} instead of a hand-rolled sleep. While the active scene is static
+ * the loop idles until something asks for a redraw.
  */
 public class GameThread extends Thread {
 
     private static final String TAG = "GameThread";
     private static final double TARGET_FPS = 60.0;
     private static final double STEP_SECONDS = 1.0 / TARGET_FPS;
+    // Upper bound for one idle wait so a missed wake-up can never stall a static scene for long.
+    private static final long IDLE_WAIT_MILLIS = 500L;
 
-    private final SurfaceHolder surfaceHolder;
+    private final SurfacePresenter presenter;
     private final GameView gameView;
+    private final FrameScheduler frameScheduler;
 
     private volatile boolean running = false;
 
-    public GameThread(SurfaceHolder surfaceHolder, GameView gameView) {
-        this.surfaceHolder = surfaceHolder;
+    public GameThread(SurfacePresenter presenter, GameView gameView, FrameScheduler frameScheduler) {
+        this.presenter = presenter;
         this.gameView = gameView;
+        this.frameScheduler = frameScheduler;
     }
 
     public void setRunning(boolean running) {
         this.running = running;
+        if (!running) {
+            frameScheduler.stop();
+            // Wake an idle loop so it notices the flag.
+            gameView.requestRender();
+        }
     }
 
     @Override
     public void run() {
         double accumulator = 0.0;
-        long previousTime = System.nanoTime();
+        frameScheduler.start();
+        presenter.start();
 
         while (running) {
-            long currentTime = System.nanoTime();
-            double frameTime = (currentTime - previousTime) / 1_000_000_000.0;
-            if (frameTime > 0.25) {
-                // Clamp ridiculously long pauses (e.g., debugger attached) to keep the simulation stable.
-                frameTime = 0.25;
+            if (!gameView.needsContinuousRedraw() && !gameView.consumeRenderRequest()) {
+                frameScheduler.pause();
+                gameView.awaitRenderRequest(IDLE_WAIT_MILLIS);
+                continue;
+            }
+            if (frameScheduler.resume()) {
+                accumulator = 0.0;
+                gameView.getQualityGovernor().resetWindow();
             }
-            previousTime = currentTime;
-            accumulator += frameTime;
 
+            // The scheduler clamps long pauses (e.g., debugger attached) to keep the simulation stable.
+            double frameTime = frameScheduler.awaitNextFrame();
+            long workStartNanos = System.nanoTime();
+            accumulator = FrameScheduler.clampAccumulator(accumulator + frameTime, STEP_SECONDS);
+
+            long frameNanos = frameScheduler.getFrameTimeNanos();
             while (accumulator >= STEP_SECONDS) {
-                gameView.update((float) STEP_SECONDS);
                 accumulator -= STEP_SECONDS;
+                // Each step simulates up to the instant the leftover accumulator still lags behind.
+                gameView.setSimulationTimeNanos(frameNanos - (long) (accumulator * 1_000_000_000.0));
+                gameView.update((float) STEP_SECONDS);
             }
+            // Whatever is left in the accumulator tells the renderer how far it is into the next step.
+            gameView.setInterpolationAlpha((float) (accumulator / STEP_SECONDS));
 
             Canvas canvas = null;
             try {
-                canvas = surfaceHolder.lockCanvas();
+                canvas = presenter.lockCanvas();
                 if (canvas != null) {
                     gameView.render(canvas);
                 }
@@ -61,23 +83,18 @@ public class GameThread extends Thread {
             } finally {
                 if (canvas != null) {
                     try {
-                        surfaceHolder.unlockCanvasAndPost(canvas);
+                        presenter.unlockCanvasAndPost(canvas);
+                        long workNanos = System.nanoTime() - workStartNanos;
+                        presenter.recordFrameWork(workNanos);
                         gameView.onFramePresented();
+                        gameView.onFrameWorkMeasured(workNanos);
                     } catch (IllegalStateException unlockException) {
                         Log.w(TAG, "Failed to unlock canvas", unlockException);
                     }
                 }
             }
-
-            double sleepTime = STEP_SECONDS - accumulator;
-            if (sleepTime > 0.0) {
-                try {
-                    Thread.sleep((long) (sleepTime * 1000));
-                } catch (InterruptedException ignored) {
-                    // Restore interrupt so higher-level code can react if needed.
-                    interrupt();
-                }
-            }
         }
+        frameScheduler.stop();
+        presenter.stop();
     }
 }
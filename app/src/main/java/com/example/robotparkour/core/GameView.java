@@ -5,6 +5,7 @@ import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.os.PowerManager;
 import android.util.AttributeSet;
 import android.view.KeyEvent;
 import android.view.MotionEvent;
@@ -27,8 +28,22 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
     private final ScoreboardManager scoreboardManager;
     private final GameAudioManager audioManager;
     private final SceneManager sceneManager;
+    private final FrameScheduler frameScheduler =
+            new FrameScheduler(FrameScheduler.TargetRate.HZ_60, FrameScheduler.Mode.VSYNC);
+    private final Object renderRequestLock = new Object();
+    private final QualityGovernor qualityGovernor;
+    private final AllocationBudget allocationBudget;
+    private final SurfacePresenter presenter;
+
+    private boolean renderRequested = true;
+    // Scenes always lay out in view pixels; the buffer may be smaller when the governor
+    // lowers the resolution, in which case render() scales the canvas down to it.
+    private volatile int layoutWidth;
+    private volatile int layoutHeight;
 
     private GameThread gameThread;
+    private long simulationTimeNanos;
+    private float interpolationAlpha = 1f;
     private float fps;
     private long fpsWindowStartNanos;
     private int framesRendered;
@@ -45,10 +60,14 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
         super(context, attrs, defStyleAttr);
         clearPaint.setColor(Color.BLACK);
         getHolder().addCallback(this);
+        presenter = new SurfacePresenter(getHolder());
         setFocusable(true);
         setFocusableInTouchMode(true);
         requestFocus();
 
+        qualityGovernor = new QualityGovernor(
+                (PowerManager) context.getSystemService(Context.POWER_SERVICE));
+        allocationBudget = new AllocationBudget(context, "GameView");
         scoreboardManager = new ScoreboardManager(context.getApplicationContext());
         audioManager = new GameAudioManager(context.getApplicationContext());
         sceneManager = new SceneManager(context.getApplicationContext(), this, scoreboardManager, audioManager);
@@ -61,7 +80,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
 
     @Override
     public void surfaceChanged(@NonNull SurfaceHolder holder, int format, int width, int height) {
-        sceneManager.onSurfaceChanged(width, height);
+        layoutWidth = getWidth() > 0 ? getWidth() : width;
+        layoutHeight = getHeight() > 0 ? getHeight() : height;
+        sceneManager.onSurfaceChanged(layoutWidth, layoutHeight);
     }
 
     @Override
@@ -71,7 +92,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
 
     private void startThreadIfNeeded() {
         if (gameThread == null || !gameThread.isAlive()) {
-            gameThread = new GameThread(getHolder(), this);
+            // A fresh surface has no content yet, even for a static scene.
+            requestRender();
+            gameThread = new GameThread(presenter, this, frameScheduler);
             gameThread.setRunning(true);
             gameThread.start();
         }
@@ -91,6 +114,78 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
             }
             gameThread = null;
         }
+        allocationBudget.stop();
+    }
+
+    /**
+     * Called by {@link GameThread} before each step with the {@link System#nanoTime()} instant
+     * the step simulates up to.
+     */
+    void setSimulationTimeNanos(long simulationTimeNanos) {
+        this.simulationTimeNanos = simulationTimeNanos;
+    }
+
+    /**
+     * Simulated time of the step currently running, used to drain {@link InputEventQueue}s.
+     */
+    public long getSimulationTimeNanos() {
+        return simulationTimeNanos;
+    }
+
+    void setInterpolationAlpha(float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+    }
+
+    /**
+     * Fraction of a fixed step elapsed since the last update, for blending previous and current
+     * positions at draw time.
+     */
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    /**
+     * Asks for at least one more frame while a static scene is active. Safe from any thread.
+     */
+    public void requestRender() {
+        synchronized (renderRequestLock) {
+            renderRequested = true;
+            renderRequestLock.notifyAll();
+        }
+    }
+
+    /**
+     * Whether the loop must keep presenting frames without explicit {@link #requestRender()} calls.
+     */
+    boolean needsContinuousRedraw() {
+        return sceneManager.needsContinuousRedraw();
+    }
+
+    /**
+     * Clears and returns the pending render request.
+     */
+    boolean consumeRenderRequest() {
+        synchronized (renderRequestLock) {
+            boolean requested = renderRequested;
+            renderRequested = false;
+            return requested;
+        }
+    }
+
+    /**
+     * Blocks the loop thread until {@link #requestRender()} is called or the timeout passes.
+     */
+    void awaitRenderRequest(long timeoutMillis) {
+        synchronized (renderRequestLock) {
+            if (renderRequested) {
+                return;
+            }
+            try {
+                renderRequestLock.wait(timeoutMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     /**
@@ -104,8 +199,21 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
      * Called by {@link GameThread} whenever a new frame must be rendered.
      */
     public void render(Canvas canvas) {
-        canvas.drawRect(0, 0, canvas.getWidth(), canvas.getHeight(), clearPaint);
-        sceneManager.draw(canvas);
+        allocationBudget.beginFrame();
+        int bufferWidth = canvas.getWidth();
+        int bufferHeight = canvas.getHeight();
+        canvas.drawRect(0, 0, bufferWidth, bufferHeight, clearPaint);
+        int width = layoutWidth;
+        int height = layoutHeight;
+        if (width <= 0 || height <= 0 || (width == bufferWidth && height == bufferHeight)) {
+            sceneManager.draw(canvas);
+        } else {
+            canvas.save();
+            canvas.scale(bufferWidth / (float) width, bufferHeight / (float) height);
+            sceneManager.draw(canvas);
+            canvas.restore();
+        }
+        allocationBudget.endFrame();
     }
 
     /**
@@ -129,19 +237,74 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
         return fps;
     }
 
+    /**
+     * Called by {@link GameThread} with the time spent updating and drawing the last frame.
+     */
+    void onFrameWorkMeasured(long workNanos) {
+        qualityGovernor.setFrameBudgetNanos(frameScheduler.getTargetRate().getPeriodNanos());
+        if (qualityGovernor.onFrameRendered(workNanos)) {
+            float scale = qualityGovernor.getResolutionScale();
+            post(() -> QualityGovernor.applyResolutionScale(this, scale));
+        }
+    }
+
+    /**
+     * Detail tiers scenes should honour while drawing.
+     */
+    @NonNull
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    /**
+     * Selects the presentation rate; the simulation keeps its fixed 60 Hz step.
+     */
+    public void setTargetFrameRate(@NonNull FrameScheduler.TargetRate targetRate) {
+        frameScheduler.setTargetRate(targetRate);
+    }
+
+    /**
+     * Switches between vsync pacing and the timed-sleep fallback. Applied when the loop restarts.
+     */
+    public void setFrameSchedulerMode(@NonNull FrameScheduler.Mode mode) {
+        frameScheduler.setMode(mode);
+    }
+
+    /**
+     * Presents through the hardware canvas where supported (API 29+), with display lists for
+     * static layers, or through the software canvas. Applied when the loop restarts.
+     */
+    public void setHardwareCanvasEnabled(boolean enabled) {
+        presenter.setHardwareRequested(enabled);
+    }
+
+    /**
+     * Whether the running loop actually presents through the hardware canvas.
+     */
+    public boolean isHardwareCanvasActive() {
+        return presenter.isHardwareActive();
+    }
+
     @Override
     public boolean onTouchEvent(MotionEvent event) {
-        return sceneManager.onTouchEvent(event) || super.onTouchEvent(event);
+        boolean handled = sceneManager.onTouchEvent(event);
+        // Input may change what a static scene shows (pressed buttons, toggled settings).
+        requestRender();
+        return handled || super.onTouchEvent(event);
     }
 
     @Override
     public boolean onKeyDown(int keyCode, KeyEvent event) {
-        return sceneManager.onKeyDown(keyCode, event) || super.onKeyDown(keyCode, event);
+        boolean handled = sceneManager.onKeyDown(keyCode, event);
+        requestRender();
+        return handled || super.onKeyDown(keyCode, event);
     }
 
     @Override
     public boolean onKeyUp(int keyCode, KeyEvent event) {
-        return sceneManager.onKeyUp(keyCode, event) || super.onKeyUp(keyCode, event);
+        boolean handled = sceneManager.onKeyUp(keyCode, event);
+        requestRender();
+        return handled || super.onKeyUp(keyCode, event);
     }
 
     public void resumeGame() {
@@ -159,7 +322,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback {
     }
 
     public boolean handleBackPressed() {
-        return sceneManager.onBackPressed();
+        boolean handled = sceneManager.onBackPressed();
+        requestRender();
+        return handled;
     }
 
     public SceneManager getSceneManager() {
@@ -0,0 +1,94 @@
+// app/src/main/java/com/example/robotparkour/core/InputEventQueue.java
+package com.example.robotparkour.core;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer/single-consumer ring buffer of timestamped input events.
+ * The UI thread offers events as they arrive; the game loop drains, once per fixed step,
+ * only the events stamped at or before that step's simulated time. Taps shorter than a
+ * step are therefore never lost, and the drained sequence is a deterministic input stream.
+ */
+public final class InputEventQueue {
+
+    /** Receives drained events on the consumer thread. */
+    public interface Consumer {
+        void onInputEvent(int code, boolean pressed, long timestampNanos);
+    }
+
+    private final int mask;
+    private final long[] timestamps;
+    private final int[] codes;
+    private final boolean[] pressedStates;
+    // Next slot to read; only advanced by the consumer.
+    private final AtomicLong head = new AtomicLong();
+    // Next slot to write; only advanced by the producer.
+    private final AtomicLong tail = new AtomicLong();
+
+    public InputEventQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        timestamps = new long[size];
+        codes = new int[size];
+        pressedStates = new boolean[size];
+    }
+
+    /**
+     * Producer side. Returns {@code false} when the buffer is full, in which case the caller
+     * should keep its previous state so the change is offered again with the next event.
+     */
+    public boolean offer(int code, boolean pressed, long timestampNanos) {
+        long writeIndex = tail.get();
+        if (writeIndex - head.get() > mask) {
+            return false;
+        }
+        int slot = (int) (writeIndex & mask);
+        timestamps[slot] = timestampNanos;
+        codes[slot] = code;
+        pressedStates[slot] = pressed;
+        tail.lazySet(writeIndex + 1);
+        return true;
+    }
+
+    /**
+     * Consumer side. Delivers, in order, every queued event stamped at or before
+     * {@code simulationTimeNanos} and returns how many were delivered.
+     */
+    public int drainUntil(long simulationTimeNanos, @NonNull Consumer consumer) {
+        long readIndex = head.get();
+        long writeIndex = tail.get();
+        int drained = 0;
+        while (readIndex < writeIndex) {
+            int slot = (int) (readIndex & mask);
+            long timestamp = timestamps[slot];
+            if (timestamp > simulationTimeNanos) {
+                break;
+            }
+            consumer.onInputEvent(codes[slot], pressedStates[slot], timestamp);
+            readIndex++;
+            drained++;
+        }
+        head.lazySet(readIndex);
+        return drained;
+    }
+
+    /**
+     * Consumer side. Drops everything queued so far, e.g. after the loop was paused.
+     */
+    public void clear() {
+        head.lazySet(tail.get());
+    }
+
+    /**
+     * Converts a {@link android.view.MotionEvent}/{@link android.view.KeyEvent} time
+     * (uptime milliseconds) into the {@link System#nanoTime()} base used by the game loops.
+     */
+    public static long toNanoTime(long eventTimeMillis) {
+        long ageMillis = Math.max(0L, SystemClock.uptimeMillis() - eventTimeMillis);
+        return System.nanoTime() - ageMillis * 1_000_000L;
+    }
+}
@@ -0,0 +1,182 @@
+// app/src/main/java/com/example/robotparkour/core/QualityGovernor.java
+package com.example.robotparkour.core;
+
+import android.os.Build;
+import android.os.PowerManager;
+import android.view.SurfaceView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Watches how long recent frames took (and, on Android 11+, the thermal headroom) and steps
+ * visual detail down one {@link Tier} at a time when the frame budget is blown. Detail is only
+ * restored after a sustained stretch of spare time, so the tier does not flicker.
+ */
+public final class QualityGovernor {
+
+    /** Detail tiers, ordered from full quality to the cheapest fallback. */
+    public enum Tier {
+        FULL,
+        NO_SCANLINES,
+        NO_PARALLAX,
+        NO_ANTI_ALIAS,
+        REDUCED_RESOLUTION
+    }
+
+    /**
+     * Resolution scale used by {@link Tier#REDUCED_RESOLUTION}: of the whole surface in the
+     * robotparkour view, of the world pass only in the crobot view.
+     */
+    public static final float REDUCED_RESOLUTION_SCALE = 0.75f;
+
+    // Frames averaged before each decision.
+    private static final int WINDOW_FRAMES = 30;
+    // Step down when the average frame uses more than this share of the budget...
+    private static final float DOWNGRADE_LOAD = 0.9f;
+    // ...and only step up again after several windows below this share.
+    private static final float UPGRADE_LOAD = 0.55f;
+    private static final int UPGRADE_WINDOWS = 4;
+    // Minimum time between two tier changes, so one change can settle before the next is judged.
+    private static final long MIN_DWELL_NANOS = 1_500_000_000L;
+    // getThermalHeadroom() is rate limited by the platform; never ask more often than this.
+    private static final long THERMAL_POLL_NANOS = 2_000_000_000L;
+    private static final int THERMAL_FORECAST_SECONDS = 5;
+    // Headroom of 1.0 means the device is about to throttle.
+    private static final float THERMAL_DOWNGRADE_HEADROOM = 0.95f;
+    private static final float THERMAL_BLOCK_UPGRADE_HEADROOM = 0.8f;
+
+    @Nullable
+    private final PowerManager powerManager;
+
+    private volatile Tier tier = Tier.FULL;
+    private long frameBudgetNanos = 1_000_000_000L / 60;
+
+    private long windowTotalNanos;
+    private int windowFrames;
+    private int calmWindows;
+    private long lastChangeNanos;
+    private long lastThermalPollNanos;
+    private float thermalHeadroom = Float.NaN;
+
+    public QualityGovernor(@Nullable PowerManager powerManager) {
+        this.powerManager = powerManager;
+    }
+
+    /**
+     * Time one frame may take, normally the presentation period of the frame scheduler.
+     */
+    public void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = Math.max(1L, frameBudgetNanos);
+    }
+
+    /**
+     * Forgets the samples collected so far, e.g. after the loop was paused or a level loaded.
+     */
+    public void resetWindow() {
+        windowTotalNanos = 0L;
+        windowFrames = 0;
+        calmWindows = 0;
+    }
+
+    /**
+     * Called by the render loop with the time spent producing one frame. Returns {@code true}
+     * when the tier changed so the caller can reconfigure paints or the surface.
+     */
+    public boolean onFrameRendered(long frameWorkNanos) {
+        windowTotalNanos += Math.max(0L, frameWorkNanos);
+        windowFrames++;
+        if (windowFrames < WINDOW_FRAMES) {
+            return false;
+        }
+        float load = windowTotalNanos / (float) windowFrames / frameBudgetNanos;
+        windowTotalNanos = 0L;
+        windowFrames = 0;
+
+        long now = System.nanoTime();
+        pollThermalHeadroom(now);
+        boolean hot = thermalHeadroom >= THERMAL_DOWNGRADE_HEADROOM;
+        boolean warm = thermalHeadroom >= THERMAL_BLOCK_UPGRADE_HEADROOM;
+        if (load > DOWNGRADE_LOAD || hot) {
+            calmWindows = 0;
+        } else if (load < UPGRADE_LOAD && !warm) {
+            calmWindows++;
+        } else {
+            calmWindows = 0;
+        }
+        if (now - lastChangeNanos < MIN_DWELL_NANOS) {
+            return false;
+        }
+
+        Tier[] tiers = Tier.values();
+        int index = tier.ordinal();
+        if ((load > DOWNGRADE_LOAD || hot) && index < tiers.length - 1) {
+            return changeTier(tiers[index + 1], now);
+        }
+        if (calmWindows >= UPGRADE_WINDOWS && index > 0) {
+            return changeTier(tiers[index - 1], now);
+        }
+        return false;
+    }
+
+    @NonNull
+    public Tier getTier() {
+        return tier;
+    }
+
+    public boolean isScanlinesEnabled() {
+        return tier.ordinal() < Tier.NO_SCANLINES.ordinal();
+    }
+
+    public boolean isParallaxEnabled() {
+        return tier.ordinal() < Tier.NO_PARALLAX.ordinal();
+    }
+
+    public boolean isAntiAliasEnabled() {
+        return tier.ordinal() < Tier.NO_ANTI_ALIAS.ordinal();
+    }
+
+    /**
+     * Fraction of the view size the surface buffer should have.
+     */
+    public float getResolutionScale() {
+        return tier == Tier.REDUCED_RESOLUTION ? REDUCED_RESOLUTION_SCALE : 1f;
+    }
+
+    /**
+     * UI thread: resizes the surface buffer of {@code view} to {@code scale} of its layout size;
+     * the compositor stretches it back up. A scale of 1 returns to the layout size.
+     */
+    public static void applyResolutionScale(@NonNull SurfaceView view, float scale) {
+        int width = view.getWidth();
+        int height = view.getHeight();
+        if (scale >= 1f || width <= 0 || height <= 0) {
+            view.getHolder().setSizeFromLayout();
+            return;
+        }
+        view.getHolder().setFixedSize(Math.max(1, Math.round(width * scale)),
+                Math.max(1, Math.round(height * scale)));
+    }
+
+    private boolean changeTier(@NonNull Tier next, long now) {
+        tier = next;
+        lastChangeNanos = now;
+        calmWindows = 0;
+        return true;
+    }
+
+    private void pollThermalHeadroom(long now) {
+        if (powerManager == null || Build.VERSION.SDK_INT < Build.VERSION_CODES.R) {
+            return;
+        }
+        if (lastThermalPollNanos != 0L && now - lastThermalPollNanos < THERMAL_POLL_NANOS) {
+            return;
+        }
+        lastThermalPollNanos = now;
+        float headroom = powerManager.getThermalHeadroom(THERMAL_FORECAST_SECONDS);
+        // NaN means "not supported" or "asked too often"; keep the previous reading then.
+        if (!Float.isNaN(headroom)) {
+            thermalHeadroom = headroom;
+        }
+    }
+}
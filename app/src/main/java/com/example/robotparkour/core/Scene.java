@@ -35,6 +35,12 @@ public interface Scene {
      */
     void draw(Canvas canvas);
 
+    /**
+     * Return {@code false} for static screens; they are then only redrawn after input, a scene
+     * switch or {@link SceneManager#invalidate()}.
+     */
+    boolean needsContinuousRedraw();
+
     /**
      * Handles touch interaction. Return {@code true} if the event was used.
      */
@@ -113,6 +113,23 @@ public class SceneManager {
         }
         currentScene = nextScene;
         currentScene.onEnter();
+        invalidate();
+    }
+
+    /**
+     * Requests a redraw of the current scene; static scenes call this when their content changes
+     * outside of input handling.
+     */
+    public void invalidate() {
+        gameView.requestRender();
+    }
+
+    /**
+     * @return whether the active scene animates and must be drawn every frame.
+     */
+    public boolean needsContinuousRedraw() {
+        Scene scene = currentScene;
+        return scene == null || scene.needsContinuousRedraw();
     }
 
     public void startNewGame() {
@@ -191,6 +208,7 @@ public class SceneManager {
         for (Scene scene : scenes.values()) {
             scene.onSurfaceChanged(width, height);
         }
+        invalidate();
     }
 
     public boolean onBackPressed() {
@@ -0,0 +1,99 @@
+// app/src/main/java/com/example/robotparkour/core/StaticLayer.java
+package com.example.robotparkour.core;
+
+import android.graphics.Canvas;
+import android.graphics.RecordingCanvas;
+import android.graphics.RenderNode;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+
+/**
+ * Screen content that rarely changes, e.g. the touch controls. On a hardware canvas the content
+ * is recorded once into a {@link RenderNode} and replayed from the display list until its key or
+ * size changes; on a software canvas the recorder simply draws every frame.
+ */
+public final class StaticLayer {
+
+    /** Draws the layer content in the caller's coordinates. */
+    public interface Recorder {
+        void record(@NonNull Canvas canvas);
+    }
+
+    private final String name;
+    @Nullable
+    private Recording recording;
+    private boolean valid;
+    private long recordedKey;
+    private int recordedWidth;
+    private int recordedHeight;
+
+    public StaticLayer(@NonNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Draws the layer, re-recording it only if {@code key} or the size differs from the last
+     * recording. The key should change whenever anything the recorder draws changes.
+     */
+    public void draw(@NonNull Canvas canvas, int width, int height, long key, @NonNull Recorder recorder) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q || !canvas.isHardwareAccelerated()) {
+            recorder.record(canvas);
+            return;
+        }
+        if (recording == null) {
+            recording = new Recording(name);
+        }
+        if (!valid || key != recordedKey || width != recordedWidth || height != recordedHeight) {
+            recording.record(width, height, recorder);
+            valid = true;
+            recordedKey = key;
+            recordedWidth = width;
+            recordedHeight = height;
+        }
+        recording.draw(canvas);
+    }
+
+    /** Forces the next hardware draw to record again. */
+    public void invalidate() {
+        valid = false;
+    }
+
+    public void release() {
+        if (recording != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            recording.discard();
+        }
+        recording = null;
+        valid = false;
+    }
+
+    @RequiresApi(Build.VERSION_CODES.Q)
+    private static final class Recording {
+
+        private final RenderNode node;
+
+        Recording(@NonNull String name) {
+            node = new RenderNode(name);
+        }
+
+        void record(int width, int height, @NonNull Recorder recorder) {
+            node.setPosition(0, 0, width, height);
+            RecordingCanvas canvas = node.beginRecording(width, height);
+            try {
+                recorder.record(canvas);
+            } finally {
+                node.endRecording();
+            }
+        }
+
+        void draw(@NonNull Canvas canvas) {
+            canvas.drawRenderNode(node);
+        }
+
+        void discard() {
+            node.discardDisplayList();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+// app/src/main/java/com/example/robotparkour/core/SurfacePresenter.java
+package com.example.robotparkour.core;
+
+import android.graphics.Canvas;
+import android.os.Build;
+import android.util.Log;
+import android.view.SurfaceHolder;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Locks the surface for each frame, either with the software canvas or, when requested and
+ * supported, with {@link SurfaceHolder#lockHardwareCanvas()}. A surface cannot switch between
+ * the two while connected, so the choice is latched in {@link #start()} when the loop (re)starts.
+ * If the hardware canvas cannot be locked the presenter falls back to software for good. Frame
+ * work is averaged per run and logged on {@link #stop()} so the two paths can be compared.
+ */
+public final class SurfacePresenter {
+
+    private static final String TAG = "SurfacePresenter";
+
+    private final SurfaceHolder holder;
+
+    private volatile boolean hardwareRequested;
+    private volatile boolean hardwareFailed;
+    private volatile boolean hardwareActive;
+
+    private long workNanos;
+    private long frames;
+
+    public SurfacePresenter(@NonNull SurfaceHolder holder) {
+        this.holder = holder;
+    }
+
+    /**
+     * The hardware path needs API 29: below it the hardware canvas silently drops
+     * {@code drawVertices}, which the tile mesh relies on.
+     */
+    public static boolean isHardwareSupported() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q;
+    }
+
+    /**
+     * Asks for the hardware canvas. Applied when the loop restarts.
+     */
+    public void setHardwareRequested(boolean requested) {
+        hardwareRequested = requested;
+    }
+
+    public boolean isHardwareRequested() {
+        return hardwareRequested;
+    }
+
+    /** Whether the running loop presents through the hardware canvas. */
+    public boolean isHardwareActive() {
+        return hardwareActive;
+    }
+
+    /**
+     * Loop thread, before the first frame.
+     */
+    public void start() {
+        hardwareActive = hardwareRequested && !hardwareFailed && isHardwareSupported();
+        workNanos = 0L;
+        frames = 0L;
+    }
+
+    /**
+     * Loop thread, after the last frame.
+     */
+    public void stop() {
+        if (frames > 0L) {
+            Log.i(TAG, String.format(Locale.US, "%s canvas: %.2f ms average frame work over %d frames",
+                    hardwareActive ? "hardware" : "software", workNanos / 1_000_000.0 / frames, frames));
+        }
+    }
+
+    @Nullable
+    public Canvas lockCanvas() {
+        if (hardwareActive) {
+            try {
+                return holder.lockHardwareCanvas();
+            } catch (IllegalStateException | IllegalArgumentException ex) {
+                Log.w(TAG, "Hardware canvas unavailable, falling back to software", ex);
+                hardwareFailed = true;
+                hardwareActive = false;
+            }
+        }
+        return holder.lockCanvas();
+    }
+
+    public void unlockCanvasAndPost(@NonNull Canvas canvas) {
+        holder.unlockCanvasAndPost(canvas);
+    }
+
+    /**
+     * Adds the time spent producing one presented frame to the running average.
+     */
+    public void recordFrameWork(long frameWorkNanos) {
+        workNanos += Math.max(0L, frameWorkNanos);
+        frames++;
+    }
+}
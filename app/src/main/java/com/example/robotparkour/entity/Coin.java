@@ -2,9 +2,7 @@
 package com.example.robotparkour.entity;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.RectF;
 
 /**
  * Collectible coin shaped like a golden pair of curly braces.
@@ -37,6 +35,13 @@ public class Coin extends GameObject {
         animationTimer = 0f;
     }
 
+    /**
+     * Vertical bob of the coin at the current animation time.
+     */
+    public float getWobbleOffset() {
+        return (float) Math.sin(animationTimer * 6.0f) * 2f;
+    }
+
     @Override
     public void draw(Canvas canvas, Paint paint) {
         if (collected) {
@@ -46,19 +51,20 @@ public class Coin extends GameObject {
         int originalColor = paint.getColor();
         float originalStroke = paint.getStrokeWidth();
 
-        float wobble = (float) Math.sin(animationTimer * 6.0f) * 2f;
+        float wobble = getWobbleOffset();
         float top = bounds.top + wobble;
         float bottom = bounds.bottom + wobble;
 
         paint.setStyle(Paint.Style.STROKE);
         paint.setStrokeWidth(5f);
-        paint.setColor(Color.parseColor("#FFD166"));
+        paint.setColor(0xFFFFD166);
         float braceHeight = bottom - top;
         float braceWidth = braceHeight * 0.4f;
-        RectF leftArc = new RectF(bounds.centerX() - braceWidth * 1.5f, top, bounds.centerX() - braceWidth * 0.5f, bottom);
-        RectF rightArc = new RectF(bounds.centerX() + braceWidth * 0.5f, top, bounds.centerX() + braceWidth * 1.5f, bottom);
-        canvas.drawArc(leftArc, 110, 140, false, paint);
-        canvas.drawArc(rightArc, -70, 140, false, paint);
+        float centerX = bounds.centerX();
+        canvas.drawArc(centerX - braceWidth * 1.5f, top, centerX - braceWidth * 0.5f, bottom,
+                110, 140, false, paint);
+        canvas.drawArc(centerX + braceWidth * 0.5f, top, centerX + braceWidth * 1.5f, bottom,
+                -70, 140, false, paint);
 
         paint.setStyle(originalStyle);
         paint.setColor(originalColor);
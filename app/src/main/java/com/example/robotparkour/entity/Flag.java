@@ -37,7 +37,7 @@ public class Flag extends GameObject {
 
         paint.setStyle(Paint.Style.FILL);
         paint.setColor(activated ? Color.parseColor("#6FCF97") : Color.parseColor("#27AE60"));
-        canvas.drawRoundRect(bounds, 8f, 8f, paint);
+        canvas.drawRoundRect(bounds.left, bounds.top, bounds.right, bounds.bottom, 8f, 8f, paint);
 
         trianglePath.reset();
         trianglePath.moveTo(bounds.left + bounds.width() * 0.4f, bounds.top + bounds.height() * 0.3f);
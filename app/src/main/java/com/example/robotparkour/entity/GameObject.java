@@ -3,32 +3,57 @@ package com.example.robotparkour.entity;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
-import android.graphics.RectF;
+
+import com.crobot.game.physics.Aabb;
 
 /**
- * Lightweight base class for any object that participates in the world.
+ * Lightweight base class for any object that participates in the world. Bounds are an engine
+ * {@link Aabb}, so collision code never touches {@code RectF}.
  */
 public abstract class GameObject {
 
     protected float x;
     protected float y;
+    protected float previousX;
+    protected float previousY;
     protected final float width;
     protected final float height;
-    protected final RectF bounds = new RectF();
+    protected final Aabb bounds = new Aabb();
 
     protected GameObject(float x, float y, float width, float height) {
         this.x = x;
         this.y = y;
         this.width = width;
         this.height = height;
+        previousX = x;
+        previousY = y;
         updateBounds();
     }
 
+    /**
+     * Remembers the current position as the start of the next simulation step.
+     */
+    public void storePreviousPosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Position blended between the previous and current step, {@code alpha} in [0, 1].
+     */
+    public float getInterpolatedX(float alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    public float getInterpolatedY(float alpha) {
+        return previousY + (y - previousY) * alpha;
+    }
+
     protected void updateBounds() {
         bounds.set(x, y, x + width, y + height);
     }
 
-    public RectF getBounds() {
+    public Aabb getBounds() {
         return bounds;
     }
 
@@ -0,0 +1,156 @@
+// app/src/main/java/com/example/robotparkour/entity/SpriteAtlas.java
+package com.example.robotparkour.entity;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+
+import com.crobot.game.physics.Aabb;
+import com.example.robotparkour.level.TileType;
+
+/**
+ * Rasterizes every tile type and the static looks of coins, spikes and the flag once per tile
+ * size into one bitmap, using the objects' own {@code draw} code. The world pass then blits one
+ * atlas cell per visible object instead of replaying paths, round rects and text.
+ */
+public final class SpriteAtlas {
+
+    private enum Sprite {
+        EDITOR_BLOCK,
+        TERMINAL_BLOCK,
+        DEBUG_BLOCK,
+        COIN,
+        SPIKE,
+        FLAG,
+        FLAG_ACTIVATED
+    }
+
+    // Level places coins at 60% of the tile size.
+    private static final float COIN_SIZE_RATIO = 0.6f;
+    // Room around each sprite for strokes and text that spill past the object bounds.
+    private static final float PADDING_RATIO = 0.25f;
+
+    private final Paint blitPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final Rect srcRect = new Rect();
+    private final RectF dstRect = new RectF();
+
+    private Bitmap bitmap;
+    private float tileSize;
+    private int padding;
+    private int cellSize;
+
+    /**
+     * Rebuilds the atlas if {@code tileSize} differs from the size it was rasterized for.
+     */
+    public void ensureTileSize(float tileSize) {
+        if (bitmap != null && this.tileSize == tileSize) {
+            return;
+        }
+        release();
+        this.tileSize = tileSize;
+        padding = (int) Math.ceil(tileSize * PADDING_RATIO);
+        cellSize = (int) Math.ceil(tileSize) + padding * 2;
+        bitmap = Bitmap.createBitmap(cellSize * Sprite.values().length, cellSize, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        for (Sprite sprite : Sprite.values()) {
+            float left = sprite.ordinal() * cellSize + padding;
+            float top = padding;
+            canvas.save();
+            canvas.clipRect(left - padding, 0f, left - padding + cellSize, cellSize);
+            createSample(sprite, left, top).draw(canvas, paint);
+            canvas.restore();
+        }
+    }
+
+    /**
+     * Scales bitmap sampling with the anti-alias setting of the world paint.
+     */
+    public void setFilterBitmap(boolean enabled) {
+        blitPaint.setFilterBitmap(enabled);
+    }
+
+    public void drawTile(@NonNull Canvas canvas, @NonNull Tile tile) {
+        switch (tile.getTileType()) {
+            case EDITOR_BLOCK:
+                drawSprite(canvas, Sprite.EDITOR_BLOCK, tile.getBounds(), 0f);
+                break;
+            case TERMINAL_BLOCK:
+                drawSprite(canvas, Sprite.TERMINAL_BLOCK, tile.getBounds(), 0f);
+                break;
+            case DEBUG_BLOCK:
+                drawSprite(canvas, Sprite.DEBUG_BLOCK, tile.getBounds(), 0f);
+                break;
+            case EMPTY:
+            default:
+                break;
+        }
+    }
+
+    public void drawCoin(@NonNull Canvas canvas, @NonNull Coin coin) {
+        if (!coin.isCollected()) {
+            drawSprite(canvas, Sprite.COIN, coin.getBounds(), coin.getWobbleOffset());
+        }
+    }
+
+    public void drawSpike(@NonNull Canvas canvas, @NonNull Spike spike) {
+        drawSprite(canvas, Sprite.SPIKE, spike.getBounds(), 0f);
+    }
+
+    public void drawFlag(@NonNull Canvas canvas, @NonNull Flag flag) {
+        drawSprite(canvas, flag.isActivated() ? Sprite.FLAG_ACTIVATED : Sprite.FLAG, flag.getBounds(), 0f);
+    }
+
+    public void release() {
+        if (bitmap != null) {
+            bitmap.recycle();
+            bitmap = null;
+        }
+    }
+
+    private void drawSprite(@NonNull Canvas canvas, @NonNull Sprite sprite,
+                            @NonNull Aabb bounds, float offsetY) {
+        if (bitmap == null) {
+            return;
+        }
+        // Objects normally match the baked size exactly; anything else is scaled to fit.
+        float scale = bounds.width() / getBakedSize(sprite);
+        int cellLeft = sprite.ordinal() * cellSize;
+        srcRect.set(cellLeft, 0, cellLeft + cellSize, cellSize);
+        float left = bounds.left - padding * scale;
+        float top = bounds.top - padding * scale + offsetY;
+        dstRect.set(left, top, left + cellSize * scale, top + cellSize * scale);
+        canvas.drawBitmap(bitmap, srcRect, dstRect, blitPaint);
+    }
+
+    private float getBakedSize(@NonNull Sprite sprite) {
+        return sprite == Sprite.COIN ? tileSize * COIN_SIZE_RATIO : tileSize;
+    }
+
+    @NonNull
+    private GameObject createSample(@NonNull Sprite sprite, float left, float top) {
+        switch (sprite) {
+            case EDITOR_BLOCK:
+                return new Tile(left, top, tileSize, TileType.EDITOR_BLOCK);
+            case TERMINAL_BLOCK:
+                return new Tile(left, top, tileSize, TileType.TERMINAL_BLOCK);
+            case DEBUG_BLOCK:
+                return new Tile(left, top, tileSize, TileType.DEBUG_BLOCK);
+            case COIN:
+                return new Coin(left, top, tileSize * COIN_SIZE_RATIO);
+            case SPIKE:
+                return new Spike(left, top, tileSize);
+            case FLAG_ACTIVATED:
+                Flag activated = new Flag(left, top, tileSize);
+                activated.activate();
+                return activated;
+            case FLAG:
+            default:
+                return new Flag(left, top, tileSize);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// app/src/main/java/com/example/robotparkour/entity/SpriteFrameCache.java
+package com.example.robotparkour.entity;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A small set of pre-rendered poses of one sprite, e.g. a character facing left or right. Each
+ * frame is rasterized the first time it is drawn and again only when the on-screen size changes
+ * or {@link #invalidate()} is called, so a steady frame is a single bitmap blit per sprite.
+ */
+public final class SpriteFrameCache {
+
+    /** Paints {@code frame} with the sprite bounds spanning (0, 0) to (width, height). */
+    public interface Painter {
+        void paint(@NonNull Canvas canvas, @NonNull Paint paint, int frame, float width, float height);
+    }
+
+    // Sizes within this many pixels reuse the baked frame, so float noise never forces a rebuild.
+    private static final float SIZE_TOLERANCE = 0.5f;
+
+    private final Painter painter;
+    private final float paddingRatio;
+    private final Bitmap[] frames;
+    private final float[] bakedWidth;
+    private final float[] bakedHeight;
+    private final int[] bakedPadding;
+    private final Paint bakePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint blitPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final RectF dstRect = new RectF();
+
+    /**
+     * @param paddingRatio room on every side for parts that reach past the bounds, as a fraction
+     *                     of the larger bounds dimension
+     */
+    public SpriteFrameCache(int frameCount, float paddingRatio, @NonNull Painter painter) {
+        this.painter = painter;
+        this.paddingRatio = paddingRatio;
+        frames = new Bitmap[frameCount];
+        bakedWidth = new float[frameCount];
+        bakedHeight = new float[frameCount];
+        bakedPadding = new int[frameCount];
+    }
+
+    /**
+     * Scales bitmap sampling with the anti-alias setting of the calling renderer.
+     */
+    public void setFilterBitmap(boolean enabled) {
+        blitPaint.setFilterBitmap(enabled);
+    }
+
+    public void draw(@NonNull Canvas canvas, int frame, float left, float top, float right, float bottom) {
+        float width = right - left;
+        float height = bottom - top;
+        if (width <= 0f || height <= 0f) {
+            return;
+        }
+        Bitmap bitmap = obtainFrame(frame, width, height);
+        float scaleX = width / bakedWidth[frame];
+        float scaleY = height / bakedHeight[frame];
+        float dstLeft = left - bakedPadding[frame] * scaleX;
+        float dstTop = top - bakedPadding[frame] * scaleY;
+        dstRect.set(dstLeft, dstTop,
+                dstLeft + bitmap.getWidth() * scaleX, dstTop + bitmap.getHeight() * scaleY);
+        canvas.drawBitmap(bitmap, null, dstRect, blitPaint);
+    }
+
+    /** Drops every frame, e.g. after the sprite's look changed. */
+    public void invalidate() {
+        release();
+    }
+
+    public void release() {
+        for (int i = 0; i < frames.length; i++) {
+            if (frames[i] != null) {
+                frames[i].recycle();
+                frames[i] = null;
+            }
+        }
+    }
+
+    @NonNull
+    private Bitmap obtainFrame(int frame, float width, float height) {
+        Bitmap bitmap = frames[frame];
+        if (bitmap != null
+                && Math.abs(bakedWidth[frame] - width) <= SIZE_TOLERANCE
+                && Math.abs(bakedHeight[frame] - height) <= SIZE_TOLERANCE) {
+            return bitmap;
+        }
+        if (bitmap != null) {
+            bitmap.recycle();
+        }
+        int padding = (int) Math.ceil(Math.max(width, height) * paddingRatio);
+        bitmap = Bitmap.createBitmap((int) Math.ceil(width) + padding * 2,
+                (int) Math.ceil(height) + padding * 2, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        canvas.translate(padding, padding);
+        bakePaint.reset();
+        bakePaint.setAntiAlias(true);
+        painter.paint(canvas, bakePaint, frame, width, height);
+        frames[frame] = bitmap;
+        bakedWidth[frame] = width;
+        bakedHeight[frame] = height;
+        bakedPadding[frame] = padding;
+        return bitmap;
+    }
+}
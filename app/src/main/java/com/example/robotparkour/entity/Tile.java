@@ -5,7 +5,6 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
-import android.graphics.RectF;
 
 import com.example.robotparkour.level.TileType;
 
@@ -40,7 +39,8 @@ public class Tile extends GameObject {
 
         paint.setStyle(Paint.Style.FILL);
         paint.setColor(tileType.getColor());
-        canvas.drawRoundRect(bounds, CORNER_RADIUS, CORNER_RADIUS, paint);
+        canvas.drawRoundRect(bounds.left, bounds.top, bounds.right, bounds.bottom,
+                CORNER_RADIUS, CORNER_RADIUS, paint);
 
         switch (tileType) {
             case EDITOR_BLOCK:
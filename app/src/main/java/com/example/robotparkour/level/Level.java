@@ -1,8 +1,8 @@
 // app/src/main/java/com/example/robotparkour/level/Level.java
 package com.example.robotparkour.level;
 
-import android.graphics.RectF;
-
+import com.crobot.game.physics.Aabb;
+import com.crobot.game.physics.SolidGrid;
 import com.example.robotparkour.entity.Coin;
 import com.example.robotparkour.entity.Flag;
 import com.example.robotparkour.entity.Spike;
@@ -13,12 +13,13 @@ import java.util.List;
 
 /**
  * Immutable description of a single tile-based level, including all entities
- * that should spawn in it.
+ * that should spawn in it. The map itself is parsed into an engine {@link LevelLayout}.
  */
 public class Level {
 
     public static final float TILE_SIZE = 32f;
 
+    private final LevelLayout layout;
     private final int width;
     private final int height;
     private final float tileSize;
@@ -28,90 +29,64 @@ public class Level {
     private final List<Coin> coins;
     private final List<Spike> spikes;
     private final Flag flag;
-    private final float spawnX;
-    private final float spawnY;
 
-    private Level(int width,
-                  int height,
-                  float tileSize,
+    private Level(LevelLayout layout,
                   Tile[][] tileGrid,
                   List<Tile> tiles,
                   List<Coin> coins,
                   List<Spike> spikes,
-                  Flag flag,
-                  float spawnX,
-                  float spawnY) {
-        this.width = width;
-        this.height = height;
-        this.tileSize = tileSize;
+                  Flag flag) {
+        this.layout = layout;
+        this.width = layout.getWidth();
+        this.height = layout.getHeight();
+        this.tileSize = layout.getTileSize();
         this.tileGrid = tileGrid;
         this.tiles = tiles;
         this.coins = coins;
         this.spikes = spikes;
         this.flag = flag;
-        this.spawnX = spawnX;
-        this.spawnY = spawnY;
     }
 
     public static Level fromStringMap(String[] rows, float tileSize) {
-        if (rows == null || rows.length == 0) {
-            throw new IllegalArgumentException("Level requires at least one row");
-        }
-        int height = rows.length;
-        int width = 0;
-        for (String row : rows) {
-            if (row != null) {
-                width = Math.max(width, row.length());
-            }
-        }
-        if (width == 0) {
-            throw new IllegalArgumentException("Level rows must contain at least one column");
-        }
+        LevelLayout layout = LevelLayout.fromStringMap(rows, tileSize);
+        int width = layout.getWidth();
+        int height = layout.getHeight();
         Tile[][] grid = new Tile[height][width];
         List<Tile> tiles = new ArrayList<>();
         List<Coin> coins = new ArrayList<>();
         List<Spike> spikes = new ArrayList<>();
         Flag flag = null;
-        float spawnX = tileSize;
-        float spawnY = tileSize;
 
         for (int row = 0; row < height; row++) {
-            String line = rows[row] == null ? "" : rows[row];
             for (int col = 0; col < width; col++) {
-                char code = col < line.length() ? line.charAt(col) : '.';
+                char code = layout.getCode(col, row);
                 float x = col * tileSize;
                 float y = row * tileSize;
                 switch (code) {
-                    case 'G':
-                    case 'B':
-                    case 'Q':
-                        TileType type = TileType.fromCode(code);
-                        Tile tile = new Tile(x, y, tileSize, type);
+                    case LevelLayout.EDITOR_BLOCK:
+                    case LevelLayout.TERMINAL_BLOCK:
+                    case LevelLayout.DEBUG_BLOCK:
+                        Tile tile = new Tile(x, y, tileSize, TileType.fromCode(code));
                         grid[row][col] = tile;
                         tiles.add(tile);
                         break;
-                    case 'C':
+                    case LevelLayout.COIN:
                         Coin coin = new Coin(x + tileSize * 0.2f, y + tileSize * 0.15f, tileSize * 0.6f);
                         coins.add(coin);
                         break;
-                    case 'S':
+                    case LevelLayout.SPIKE:
                         Spike spike = new Spike(x, y, tileSize);
                         spikes.add(spike);
                         break;
-                    case 'F':
+                    case LevelLayout.FLAG:
                         flag = new Flag(x, y, tileSize);
                         break;
-                    case 'R':
-                        spawnX = x;
-                        spawnY = y;
-                        break;
-                    case '.':
                     default:
                         break;
                 }
             }
         }
-        return new Level(width, height, tileSize, grid, tiles, coins, spikes, flag, spawnX, spawnY);
+        return new Level(layout, grid, tiles, coins, spikes, flag);
     }
 
     public int getWidth() {
@@ -151,11 +126,11 @@ public class Level {
     }
 
     public float getSpawnX() {
-        return spawnX;
+        return layout.getSpawnX();
     }
 
     public float getSpawnY() {
-        return spawnY;
+        return layout.getSpawnY();
     }
 
     public Tile getTile(int gridX, int gridY) {
@@ -165,10 +140,17 @@ public class Level {
         return tileGrid[gridY][gridX];
     }
 
+    /**
+     * Solidity of the tile grid, shared with the engine's collision code.
+     */
+    public SolidGrid getSolidGrid() {
+        return layout.getSolidGrid();
+    }
+
     /**
      * Populates {@code result} with every solid tile intersecting the given rectangle.
      */
-    public void querySolidTiles(RectF area, List<Tile> result) {
+    public void querySolidTiles(Aabb area, List<Tile> result) {
         result.clear();
         int startX = Math.max(0, (int) Math.floor(area.left / tileSize));
         int endX = Math.min(width - 1, (int) Math.floor(area.right / tileSize));
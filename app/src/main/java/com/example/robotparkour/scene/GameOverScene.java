@@ -20,6 +20,9 @@ import com.example.robotparkour.util.TimeFormatter;
  */
 public class GameOverScene implements Scene {
 
+    private static final int BACKGROUND_COLOR = Color.parseColor("#1B2735");
+    private static final int BUTTON_COLOR = Color.parseColor("#4A90E2");
+
     private final SceneManager sceneManager;
     private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final RectF retryButton = new RectF();
@@ -58,10 +61,15 @@ public class GameOverScene implements Scene {
         // Static screen.
     }
 
+    @Override
+    public boolean needsContinuousRedraw() {
+        return false;
+    }
+
     @Override
     public void draw(Canvas canvas) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#1B2735"));
+        paint.setColor(BACKGROUND_COLOR);
         canvas.drawRect(0, 0, surfaceWidth, surfaceHeight, paint);
 
         paint.setColor(Color.WHITE);
@@ -85,7 +93,7 @@ public class GameOverScene implements Scene {
 
     private void drawButton(Canvas canvas, RectF bounds, String text) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#4A90E2"));
+        paint.setColor(BUTTON_COLOR);
         canvas.drawRoundRect(bounds, 24f, 24f, paint);
         paint.setColor(Color.WHITE);
         paint.setTextAlign(Paint.Align.CENTER);
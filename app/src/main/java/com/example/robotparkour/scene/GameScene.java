@@ -10,24 +10,34 @@ import android.graphics.RectF;
 import android.view.KeyEvent;
 import android.view.MotionEvent;
 
+import com.crobot.game.physics.Aabb;
 import com.example.robotparkour.audio.GameAudioManager;
 import com.example.robotparkour.audio.WorldMusicLibrary;
+import com.example.robotparkour.core.DrawList;
+import com.example.robotparkour.core.InputEventQueue;
+import com.example.robotparkour.core.QualityGovernor;
 import com.example.robotparkour.core.Scene;
 import com.example.robotparkour.core.SceneManager;
 import com.example.robotparkour.core.SceneType;
+import com.example.robotparkour.core.StaticLayer;
 import com.example.robotparkour.core.WorldInfo;
 import com.example.robotparkour.entity.Coin;
 import com.example.robotparkour.entity.Flag;
 import com.example.robotparkour.entity.Robot;
 import com.example.robotparkour.entity.Spike;
+import com.example.robotparkour.entity.SpriteAtlas;
+import com.example.robotparkour.entity.SpriteFrameCache;
 import com.example.robotparkour.entity.Tile;
 import com.example.robotparkour.level.Level;
 import com.example.robotparkour.level.LevelLibrary;
 import com.example.robotparkour.ui.Camera2D;
 import com.example.robotparkour.ui.HudOverlay;
+import com.example.robotparkour.ui.ParallaxLayer;
+import com.example.robotparkour.ui.ScreenOverlays;
 import com.example.robotparkour.ui.VirtualButton;
 import com.example.robotparkour.util.GameResult;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -37,20 +47,38 @@ import java.util.List;
 public class GameScene implements Scene {
 
     private static final int INITIAL_LIVES = 3;
+    private static final int INPUT_LEFT_BUTTON = 0;
+    private static final int INPUT_RIGHT_BUTTON = 1;
+    private static final int INPUT_JUMP_BUTTON = 2;
+    private static final int INPUT_LEFT_KEY = 3;
+    private static final int INPUT_RIGHT_KEY = 4;
+    private static final int INPUT_JUMP_KEY = 5;
 
     private final SceneManager sceneManager;
     private final GameAudioManager audioManager;
     private final Paint worldPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint uiPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    // Reused by the draw helpers so a frame allocates no geometry.
+    private final RectF scratchRect = new RectF();
+    private final Path scratchPath = new Path();
     private final HudOverlay hud = new HudOverlay();
+    private final ScreenOverlays screenOverlays = new ScreenOverlays(SAFE_TOP_PX, SAFE_BOTTOM_PX);
+    private final SpriteAtlas spriteAtlas = new SpriteAtlas();
+    // Player poses, frame 0 facing left and 1 facing right.
+    private final SpriteFrameCache robotFrames = new SpriteFrameCache(2, 0.45f,
+            (canvas, paint, frame, width, height) -> Robot.drawSprite(canvas, paint, width, height, frame == 1));
+    private final DrawList controlList = new DrawList();
+    private final StaticLayer controlsLayer = new StaticLayer("controls");
+    private final StaticLayer.Recorder controlsRecorder = this::recordControls;
     private final Camera2D camera = new Camera2D();
     private final VirtualButton leftButton = new VirtualButton("←");
     private final VirtualButton rightButton = new VirtualButton("→");
     private final VirtualButton jumpButton = new VirtualButton("⤒");
+    private final InputEventQueue inputQueue = new InputEventQueue(64);
+    private final InputEventQueue.Consumer inputConsumer = this::applyInputEvent;
 
     private Level level;
     private Robot robot;
-    private List<Tile> tiles = Collections.emptyList();
     private List<Coin> coins = Collections.emptyList();
     private List<Spike> spikes = Collections.emptyList();
     private Flag flag;
@@ -65,15 +93,30 @@ public class GameScene implements Scene {
     private boolean rightKeyDown;
     private boolean jumpKeyDown;
     private boolean jumpQueued;
-    private boolean jumpButtonPreviouslyPressed;
+
+    // Button states last offered to inputQueue; only touched on the UI thread.
+    private boolean leftTouchOffered;
+    private boolean rightTouchOffered;
+    private boolean jumpTouchOffered;
 
     private int surfaceWidth;
     private int surfaceHeight;
     private float parallaxTimer;
+    private boolean antiAliasEnabled = true;
+
+    // Scrolling bands of the current world, baked for the current surface size.
+    private final List<ParallaxLayer> backdropLayers = new ArrayList<>();
+    private final Paint layerPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private String backdropWorld;
+    private int backdropWidth;
+    private int backdropHeight;
+    private int nextBackdropLayer;
 
     private static final int SAFE_TOP_PX = 64;
     private static final int SAFE_BOTTOM_PX = 48;
     private static final float BASE_SCROLL_SPEED = 120f;
+    // Polyline resolution of one baked hill period.
+    private static final int HILL_SEGMENTS = 16;
 
     public GameScene(Context context, SceneManager sceneManager) {
         this.sceneManager = sceneManager;
@@ -98,7 +141,14 @@ public class GameScene implements Scene {
         leftKeyDown = false;
         rightKeyDown = false;
         jumpKeyDown = false;
-        jumpButtonPreviouslyPressed = false;
+        // Runs while another scene is active, so nothing is draining the queue concurrently.
+        inputQueue.clear();
+        leftTouchOffered = false;
+        rightTouchOffered = false;
+        jumpTouchOffered = false;
+        leftButton.setPressed(false);
+        rightButton.setPressed(false);
+        jumpButton.setPressed(false);
         if (robot != null) {
             robot.setLives(INITIAL_LIVES);
             robot.setSpawn(level.getSpawnX(), level.getSpawnY() - (robot.getBounds().height() - Level.TILE_SIZE));
@@ -127,7 +177,6 @@ public class GameScene implements Scene {
         activeWorldName = worldName;
         String[] layout = LevelLibrary.getLevelData(selectedWorld);
         level = Level.fromStringMap(layout, Level.TILE_SIZE);
-        tiles = level.getTiles();
         coins = level.getCoins();
         spikes = level.getSpikes();
         flag = level.getFlag();
@@ -161,6 +210,7 @@ public class GameScene implements Scene {
 
     @Override
     public void update(float deltaSeconds) {
+        inputQueue.drainUntil(sceneManager.getGameView().getSimulationTimeNanos(), inputConsumer);
         parallaxTimer += deltaSeconds;
         if (!running) {
             return;
@@ -169,14 +219,11 @@ public class GameScene implements Scene {
             return;
         }
         elapsedSeconds += deltaSeconds;
+        robot.storePreviousPosition();
+        camera.storePreviousPosition();
 
         boolean moveLeft = leftKeyDown || leftButton.isPressed();
         boolean moveRight = rightKeyDown || rightButton.isPressed();
-        boolean jumpFromButton = jumpButton.isPressed();
-        if (jumpFromButton && !jumpButtonPreviouslyPressed) {
-            jumpQueued = true;
-        }
-        jumpButtonPreviouslyPressed = jumpFromButton;
 
         boolean jumpRequest = jumpQueued;
         jumpQueued = false;
@@ -189,7 +236,7 @@ public class GameScene implements Scene {
 
         for (Coin coin : coins) {
             coin.update(deltaSeconds);
-            if (!coin.isCollected() && RectF.intersects(robot.getBounds(), coin.getBounds())) {
+            if (!coin.isCollected() && robot.getBounds().intersects(coin.getBounds())) {
                 coin.collect();
                 collectedCoins++;
                 audioManager.playCoin();
@@ -197,13 +244,13 @@ public class GameScene implements Scene {
         }
 
         for (Spike spike : spikes) {
-            if (RectF.intersects(robot.getBounds(), spike.getBounds())) {
+            if (robot.getBounds().intersects(spike.getBounds())) {
                 handlePlayerHitHazard();
                 break;
             }
         }
 
-        if (flag != null && !flag.isActivated() && RectF.intersects(robot.getBounds(), flag.getBounds())) {
+        if (flag != null && !flag.isActivated() && robot.getBounds().intersects(flag.getBounds())) {
             flag.activate();
             finishRun(true);
         }
@@ -215,6 +262,37 @@ public class GameScene implements Scene {
         camera.follow(robot);
     }
 
+    private void applyInputEvent(int code, boolean pressed, long timestampNanos) {
+        switch (code) {
+            case INPUT_LEFT_BUTTON:
+                leftButton.setPressed(pressed);
+                break;
+            case INPUT_RIGHT_BUTTON:
+                rightButton.setPressed(pressed);
+                break;
+            case INPUT_JUMP_BUTTON:
+                if (pressed && !jumpButton.isPressed()) {
+                    jumpQueued = true;
+                }
+                jumpButton.setPressed(pressed);
+                break;
+            case INPUT_LEFT_KEY:
+                leftKeyDown = pressed;
+                break;
+            case INPUT_RIGHT_KEY:
+                rightKeyDown = pressed;
+                break;
+            case INPUT_JUMP_KEY:
+                if (pressed && !jumpKeyDown) {
+                    jumpQueued = true;
+                }
+                jumpKeyDown = pressed;
+                break;
+            default:
+                break;
+        }
+    }
+
     private void handlePlayerHitHazard() {
         audioManager.playError();
         robot.loseLife();
@@ -233,24 +311,52 @@ public class GameScene implements Scene {
         sceneManager.showGameOver(result);
     }
 
+    @Override
+    public boolean needsContinuousRedraw() {
+        return true;
+    }
+
     @Override
     public void draw(Canvas canvas) {
-        drawParallaxBackground(canvas);
+        float alpha = sceneManager.getGameView().getInterpolationAlpha();
+        QualityGovernor quality = sceneManager.getGameView().getQualityGovernor();
+        applyAntiAlias(quality.isAntiAliasEnabled());
+        drawParallaxBackground(canvas, quality);
         canvas.save();
-        canvas.translate(-camera.getX(), -camera.getY());
-        drawLevel(canvas);
+        canvas.translate(-camera.getInterpolatedX(alpha), -camera.getInterpolatedY(alpha));
+        drawLevel(canvas, alpha);
         canvas.restore();
 
         drawControls(canvas);
         hud.draw(canvas, collectedCoins, coins.size(), lives, elapsedSeconds, sceneManager.getGameView().getFps());
     }
 
-    private void drawParallaxBackground(Canvas canvas) {
+    private void applyAntiAlias(boolean enabled) {
+        if (antiAliasEnabled == enabled) {
+            return;
+        }
+        antiAliasEnabled = enabled;
+        worldPaint.setAntiAlias(enabled);
+        uiPaint.setAntiAlias(enabled);
+        spriteAtlas.setFilterBitmap(enabled);
+        robotFrames.setFilterBitmap(enabled);
+        controlList.setAntiAlias(enabled);
+    }
+
+    private void drawParallaxBackground(Canvas canvas, QualityGovernor quality) {
         if (surfaceWidth <= 0 || surfaceHeight <= 0) {
             return;
         }
         WorldInfo world = sceneManager.getSelectedWorld();
         String worldName = world != null ? world.getName() : "";
+        if (!quality.isParallaxEnabled()) {
+            // Reduced detail: keep each world's base colour but skip the animated layers.
+            paintSolidBackground(canvas, getBaseBackgroundColor(worldName));
+            drawStatusBar(canvas);
+            return;
+        }
+        ensureBackdrop(worldName);
+        nextBackdropLayer = 0;
         canvas.save();
         switch (worldName) {
             case "Template Temple":
@@ -284,65 +390,60 @@ public class GameScene implements Scene {
         }
         canvas.restore();
         drawStatusBar(canvas);
-        drawScanlineOverlay(canvas);
+        if (quality.isScanlinesEnabled()) {
+            drawScanlineOverlay(canvas);
+        }
+    }
+
+    private static int getBaseBackgroundColor(String worldName) {
+        switch (worldName) {
+            case "Namespace Nebula":
+                return 0xFF202431;
+            case "Exception Volcano":
+                return 0xFF1B1B1B;
+            case "Heap Caverns":
+                return 0xFF161616;
+            case "Lambda Gardens":
+                return 0xFF1E231B;
+            case "Multithread Foundry":
+                return 0xFF2A2A2A;
+            case "NullPointer-Nexus":
+                return 0xFF141414;
+            case "Template Temple":
+            case "STL City":
+            case "Pointer Plains":
+            default:
+                return 0xFF1E1E1E;
+        }
     }
 
     private void drawPointerPlainsBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#1E1E1E"));
+        paintSolidBackground(canvas, 0xFF1E1E1E);
 
         // Tabs as drifting code-cloud banners.
-        float tabPeriod = Math.max(width / 4f, 320f);
-        float tabOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, tabPeriod);
-        for (float x = -tabPeriod; x < width + tabPeriod; x += tabPeriod) {
-            float left = x - tabOffset;
-            RectF outer = new RectF(left + tabPeriod * 0.08f, 12f,
-                    left + tabPeriod * 0.72f, SAFE_TOP_PX - 12f);
-            uiPaint.setColor(Color.parseColor("#252526"));
-            canvas.drawRoundRect(outer, 26f, 26f, uiPaint);
-            uiPaint.setColor(Color.parseColor("#2D2D2D"));
-            canvas.drawRoundRect(new RectF(outer.left + 12f, outer.top + 8f,
-                    outer.right - 12f, outer.bottom - 8f), 20f, 20f, uiPaint);
-        }
-        uiPaint.setColor(Color.parseColor("#1F1F1F"));
-        RectF active = new RectF(width * 0.34f, 8f, width * 0.58f, SAFE_TOP_PX - 10f);
+        drawNextLayer(canvas, time);
+        uiPaint.setColor(0xFF1F1F1F);
+        RectF active = scratchRect;
+        active.set(width * 0.34f, 8f, width * 0.58f, SAFE_TOP_PX - 10f);
         canvas.drawRoundRect(active, 28f, 28f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#252526"));
-        canvas.drawRoundRect(new RectF(active.left + 12f, active.top + 10f,
-                active.right - 12f, active.bottom - 14f), 22f, 22f, uiPaint);
+        uiPaint.setColor(0xFF252526);
+        canvas.drawRoundRect(active.left + 12f, active.top + 10f,
+                active.right - 12f, active.bottom - 14f, 22f, 22f, uiPaint);
 
         // Gently undulating editor "hills" inspired by indent guides.
-        float farPeriod = Math.max(width / 3f, 280f);
-        drawHillBand(canvas, height * 0.58f, height,
-                farPeriod, computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, farPeriod),
-                height * 0.12f, Color.parseColor("#1B2C33"));
-        drawHillBand(canvas, height * 0.68f, height,
-                farPeriod * 0.8f, computeLoopOffset(time, BASE_SCROLL_SPEED * 0.35f, farPeriod * 0.8f),
-                height * 0.16f, Color.parseColor("#15252B"));
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
 
         // Explorer shrubs with folder edges.
-        float bushPeriod = Math.max(width / 2.6f, 260f);
-        float bushOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, bushPeriod);
-        for (float x = -bushPeriod; x < width + bushPeriod; x += bushPeriod) {
-            float left = x - bushOffset + width * 0.05f;
-            RectF bush = new RectF(left, height * 0.62f,
-                    left + bushPeriod * 0.64f, height * 0.82f);
-            uiPaint.setColor(Color.parseColor("#1F241F"));
-            canvas.drawRoundRect(bush, 40f, 40f, uiPaint);
-            uiPaint.setColor(Color.parseColor("#2A3A29"));
-            canvas.drawRoundRect(new RectF(bush.left + 14f, bush.top + 14f,
-                    bush.right - 14f, bush.bottom - 14f), 34f, 34f, uiPaint);
-        }
+        drawNextLayer(canvas, time);
 
         // Indent guide ridges.
-        drawIndentGuides(canvas, width * 0.22f, SAFE_TOP_PX + 16f,
-                height - SAFE_BOTTOM_PX - 36f, width * 0.05f,
-                Color.parseColor("#283238"),
-                computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, width * 0.05f));
+        drawNextLayer(canvas, time);
 
         // Semicolon blossoms.
-        uiPaint.setColor(Color.parseColor("#CE9178"));
+        uiPaint.setColor(0xFFCE9178);
         uiPaint.setTextAlign(Paint.Align.CENTER);
         uiPaint.setTextSize(height * 0.045f);
         for (int i = 0; i < 7; i++) {
@@ -352,107 +453,164 @@ public class GameScene implements Scene {
         }
 
         // Warm sunlight glints.
-        uiPaint.setColor(Color.parseColor("#DCDCAA"));
-        uiPaint.setAlpha(120);
-        float glintOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, width * 0.18f);
-        for (float x = -width * 0.18f; x < width + width * 0.18f; x += width * 0.18f) {
-            float left = x - glintOffset;
-            canvas.drawRect(left, SAFE_TOP_PX + height * 0.14f,
-                    left + width * 0.04f, SAFE_TOP_PX + height * 0.38f, uiPaint);
-        }
-        uiPaint.setAlpha(255);
+        drawNextLayer(canvas, time);
 
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#141414"),
-                Color.parseColor("#F14C4C"), time, 0.8f, 0.32f);
-        drawMinimapColumn(canvas, Color.parseColor("#1B3443"),
-                Color.parseColor("#2E4F60"), Color.parseColor("#4FC1FF"), time, 0.5f);
+        drawGutterRail(canvas, width * 0.05f, 0xFF141414,
+                0xFFF14C4C, time, 0.8f, 0.32f);
+        drawMinimapColumn(canvas, 0xFF1B3443,
+                0xFF2E4F60, 0xFF4FC1FF, time, 0.5f);
+    }
+
+    private void addPointerPlainsLayers(float width, float height) {
+        addTabLayer(Math.max(width / 4f, 320f), 0.2f, (canvas, left, period) -> {
+            RectF outer = scratchRect;
+            outer.set(left + period * 0.08f, 12f,
+                    left + period * 0.72f, SAFE_TOP_PX - 12f);
+            uiPaint.setColor(0xFF252526);
+            canvas.drawRoundRect(outer, 26f, 26f, uiPaint);
+            uiPaint.setColor(0xFF2D2D2D);
+            canvas.drawRoundRect(outer.left + 12f, outer.top + 8f,
+                    outer.right - 12f, outer.bottom - 8f, 20f, 20f, uiPaint);
+        });
+
+        float farPeriod = Math.max(width / 3f, 280f);
+        addHillLayer(farPeriod, height * 0.58f, height, height * 0.12f,
+                BASE_SCROLL_SPEED * 0.2f, 0xFF1B2C33);
+        addHillLayer(farPeriod * 0.8f, height * 0.68f, height, height * 0.16f,
+                BASE_SCROLL_SPEED * 0.35f, 0xFF15252B);
+
+        float bushPeriod = Math.max(width / 2.6f, 260f);
+        float bushShift = width * 0.05f;
+        addLayer(bushPeriod, height * 0.62f, height * 0.82f, BASE_SCROLL_SPEED * 0.5f, (canvas, left) -> {
+            RectF bush = scratchRect;
+            bush.set(left + bushShift, height * 0.62f,
+                    left + bushShift + bushPeriod * 0.64f, height * 0.82f);
+            uiPaint.setColor(0xFF1F241F);
+            canvas.drawRoundRect(bush, 40f, 40f, uiPaint);
+            uiPaint.setColor(0xFF2A3A29);
+            canvas.drawRoundRect(bush.left + 14f, bush.top + 14f,
+                    bush.right - 14f, bush.bottom - 14f, 34f, 34f, uiPaint);
+        });
+
+        int guideSpacing = Math.max(1, Math.round(width * 0.05f));
+        float guideStart = width * 0.22f;
+        float guidePhase = guideStart % guideSpacing;
+        addLayer(guideSpacing, SAFE_TOP_PX + 16f, height - SAFE_BOTTOM_PX - 36f,
+                BASE_SCROLL_SPEED * 0.2f, guideStart - guideSpacing, (canvas, left) -> {
+                    uiPaint.setStyle(Paint.Style.STROKE);
+                    uiPaint.setStrokeWidth(2f);
+                    uiPaint.setColor(0xFF283238);
+                    canvas.drawLine(left + guidePhase, SAFE_TOP_PX + 16f,
+                            left + guidePhase, height - SAFE_BOTTOM_PX - 36f, uiPaint);
+                    uiPaint.setStyle(Paint.Style.FILL);
+                });
+
+        float glintPeriod = width * 0.18f;
+        addLayer(glintPeriod, SAFE_TOP_PX + height * 0.14f, SAFE_TOP_PX + height * 0.38f,
+                BASE_SCROLL_SPEED * 0.5f, (canvas, left) -> {
+                    uiPaint.setColor(0xFFDCDCAA);
+                    uiPaint.setAlpha(120);
+                    canvas.drawRect(left, SAFE_TOP_PX + height * 0.14f,
+                            left + width * 0.04f, SAFE_TOP_PX + height * 0.38f, uiPaint);
+                    uiPaint.setAlpha(255);
+                });
     }
 
     private void drawTemplateTempleBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#1E1E1E"));
+        paintSolidBackground(canvas, 0xFF1E1E1E);
 
-        drawTabArchRow(canvas, time, Color.parseColor("#2D2D2D"), Color.parseColor("#1F1F1F"));
+        drawNextLayer(canvas, time);
+        uiPaint.setColor(0xFFC586C0);
+        uiPaint.setTextAlign(Paint.Align.CENTER);
+        uiPaint.setTextSize(SAFE_TOP_PX * 0.36f);
+        canvas.drawText("<>", width * 0.5f, SAFE_TOP_PX * 0.7f, uiPaint);
 
-        float columnSpacing = Math.max(width * 0.08f, 90f);
-        float columnOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, columnSpacing);
-        uiPaint.setStyle(Paint.Style.STROKE);
-        uiPaint.setStrokeWidth(6f);
-        uiPaint.setColor(Color.parseColor("#303236"));
-        for (float x = -columnSpacing; x < width + columnSpacing; x += columnSpacing) {
-            float cx = x - columnOffset;
-            canvas.drawLine(cx, SAFE_TOP_PX, cx, height - SAFE_BOTTOM_PX, uiPaint);
-        }
-        uiPaint.setStyle(Paint.Style.FILL);
-
-        float archSpacing = Math.max(width * 0.28f, 320f);
-        float archOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, archSpacing);
-        for (float x = -archSpacing; x < width + archSpacing; x += archSpacing) {
-            float left = x - archOffset;
-            drawGenericArch(canvas, left, SAFE_TOP_PX + height * 0.08f,
-                    archSpacing * 0.82f, height * 0.34f,
-                    Color.parseColor("#2A2D30"), Color.parseColor("#1D1F22"));
-        }
+        // Columns, then arches.
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
 
+        uiPaint.setStyle(Paint.Style.FILL);
         uiPaint.setColor(Color.argb(46, 197, 134, 192));
         for (int i = 0; i < 4; i++) {
             float cx = width * (0.22f + i * 0.18f);
-            canvas.drawRoundRect(new RectF(cx - 34f, height * 0.36f - height * 0.22f,
-                    cx + 34f, height * 0.36f + height * 0.22f), 30f, 30f, uiPaint);
+            canvas.drawRoundRect(cx - 34f, height * 0.36f - height * 0.22f,
+                    cx + 34f, height * 0.36f + height * 0.22f, 30f, 30f, uiPaint);
         }
 
-        uiPaint.setColor(Color.parseColor("#2AA198"));
-        float bannerSpacing = Math.max(width * 0.18f, 220f);
-        float bannerOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, bannerSpacing);
-        for (float x = -bannerSpacing; x < width + bannerSpacing; x += bannerSpacing) {
-            float left = x - bannerOffset;
-            drawFoldTriangle(canvas, left + 26f, height * 0.42f,
-                    bannerSpacing * 0.3f, height * 0.08f);
-        }
+        // Banners, then pane dividers.
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
+        drawPaneDivider(canvas, 0xFF2F2F2F);
+
+        drawGutterRail(canvas, width * 0.05f, 0xFF1A1A1A,
+                0xFFC586C0, time, 0.72f, 0.44f);
+        drawMinimapColumn(canvas, 0xFF23262C,
+                0xFF31353D, 0xFF2AA198, time, 0.36f);
+    }
+
+    private void addTemplateTempleLayers(float width, float height) {
+        addTabLayer(Math.max(width / 4f, 320f), 0.18f, (canvas, left, period) -> {
+            RectF outer = scratchRect;
+            outer.set(left + period * 0.1f, 10f,
+                    left + period * 0.74f, SAFE_TOP_PX - 12f);
+            uiPaint.setColor(0xFF2D2D2D);
+            canvas.drawRoundRect(outer, 22f, 22f, uiPaint);
+            uiPaint.setColor(0xFF1F1F1F);
+            canvas.drawRoundRect(outer.left + 12f, outer.top + 10f,
+                    outer.right - 12f, outer.bottom - 10f, 18f, 18f, uiPaint);
+        });
+
+        float columnSpacing = Math.max(width * 0.08f, 90f);
+        addLayer(columnSpacing, SAFE_TOP_PX, height - SAFE_BOTTOM_PX, BASE_SCROLL_SPEED * 0.2f,
+                (canvas, left) -> {
+                    uiPaint.setStyle(Paint.Style.STROKE);
+                    uiPaint.setStrokeWidth(6f);
+                    uiPaint.setColor(0xFF303236);
+                    canvas.drawLine(left, SAFE_TOP_PX, left, height - SAFE_BOTTOM_PX, uiPaint);
+                    uiPaint.setStyle(Paint.Style.FILL);
+                });
 
-        drawPaneForeground(canvas, Color.parseColor("#1C1C1C"), Color.parseColor("#2F2F2F"), time);
+        float archSpacing = Math.max(width * 0.28f, 320f);
+        float archTop = SAFE_TOP_PX + height * 0.08f;
+        addLayer(archSpacing, archTop, archTop + height * 0.34f, BASE_SCROLL_SPEED * 0.2f,
+                (canvas, left) -> drawGenericArch(canvas, left, archTop,
+                        archSpacing * 0.82f, height * 0.34f,
+                        0xFF2A2D30, 0xFF1D1F22));
 
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#1A1A1A"),
-                Color.parseColor("#C586C0"), time, 0.72f, 0.44f);
-        drawMinimapColumn(canvas, Color.parseColor("#23262C"),
-                Color.parseColor("#31353D"), Color.parseColor("#2AA198"), time, 0.36f);
+        float bannerSpacing = Math.max(width * 0.18f, 220f);
+        addLayer(bannerSpacing, height * 0.42f, height * 0.5f, BASE_SCROLL_SPEED * 0.5f,
+                (canvas, left) -> {
+                    uiPaint.setColor(0xFF2AA198);
+                    drawFoldTriangle(canvas, left + 26f, height * 0.42f,
+                            bannerSpacing * 0.3f, height * 0.08f);
+                });
+
+        // The dividers used to start at -width; keep that phase within one tile.
+        int paneSpacing = Math.max(1, Math.round(width * 0.42f));
+        float panePhase = ((-width % paneSpacing) + paneSpacing) % paneSpacing;
+        addLayer(paneSpacing, SAFE_TOP_PX, height - SAFE_BOTTOM_PX, BASE_SCROLL_SPEED * 0.72f,
+                (canvas, left) -> {
+                    uiPaint.setStyle(Paint.Style.STROKE);
+                    uiPaint.setStrokeWidth(6f);
+                    uiPaint.setColor(0xFF1C1C1C);
+                    canvas.drawLine(left + panePhase, SAFE_TOP_PX,
+                            left + panePhase, height - SAFE_BOTTOM_PX, uiPaint);
+                    uiPaint.setStyle(Paint.Style.FILL);
+                });
     }
 
     private void drawNamespaceNebulaBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#202431"));
+        paintSolidBackground(canvas, 0xFF202431);
 
         // Starfield referencing the minimap pixels.
-        float starSpacing = Math.max(width * 0.06f, 80f);
-        float starOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, starSpacing);
-        uiPaint.setColor(Color.parseColor("#4FC1FF"));
-        for (float x = -starSpacing; x < width + starSpacing; x += starSpacing) {
-            for (int i = 0; i < 5; i++) {
-                float sx = x - starOffset + (i * 0.18f * starSpacing);
-                float sy = SAFE_TOP_PX + height * 0.08f + i * 36f;
-                uiPaint.setAlpha(170 - i * 24);
-                canvas.drawCircle(sx, sy, 3f + i, uiPaint);
-            }
-        }
-        uiPaint.setAlpha(255);
+        drawNextLayer(canvas, time);
 
         // Tabs as glowing satellite rectangles.
-        float satelliteSpacing = Math.max(width * 0.34f, 360f);
-        float satelliteOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, satelliteSpacing);
-        for (float x = -satelliteSpacing; x < width + satelliteSpacing; x += satelliteSpacing) {
-            float cx = x - satelliteOffset;
-            RectF body = new RectF(cx, 12f, cx + satelliteSpacing * 0.52f, SAFE_TOP_PX - 12f);
-            uiPaint.setColor(Color.parseColor("#1F2230"));
-            canvas.drawRoundRect(body, 18f, 18f, uiPaint);
-            uiPaint.setStyle(Paint.Style.STROKE);
-            uiPaint.setStrokeWidth(4f);
-            uiPaint.setColor(Color.parseColor("#4FC1FF"));
-            canvas.drawRoundRect(new RectF(body.left + 6f, body.top + 6f,
-                    body.right - 6f, body.bottom - 6f), 16f, 16f, uiPaint);
-            uiPaint.setStyle(Paint.Style.FILL);
-        }
+        drawNextLayer(canvas, time);
 
         // Floating namespace banners.
         float ribbonSpacing = Math.max(width * 0.38f, 380f);
@@ -464,7 +622,7 @@ public class GameScene implements Scene {
         }
 
         // Bracket constellations.
-        uiPaint.setColor(Color.parseColor("#C586C0"));
+        uiPaint.setColor(0xFFC586C0);
         uiPaint.setAlpha(140);
         float braceSpacing = Math.max(width * 0.22f, 260f);
         float braceOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.3f, braceSpacing);
@@ -482,32 +640,56 @@ public class GameScene implements Scene {
         for (float x = -ringSpacing; x < width + ringSpacing; x += ringSpacing) {
             float cx = x - ringOffset + ringSpacing * 0.5f;
             float cy = height * 0.68f + (float) Math.sin(time + x) * 18f;
-            canvas.drawOval(new RectF(cx - 90f, cy - 32f, cx + 90f, cy + 32f), uiPaint);
+            canvas.drawOval(cx - 90f, cy - 32f, cx + 90f, cy + 32f, uiPaint);
         }
 
         // Cursor meteor streaks.
-        drawCursorMeteors(canvas, time, Color.parseColor("#4FC1FF"));
+        drawCursorMeteors(canvas, time, 0xFF4FC1FF);
+
+        drawGutterRail(canvas, width * 0.05f, 0xFF181B28,
+                0xFF4FC1FF, time, 0.78f, 0.38f);
+        drawMinimapColumn(canvas, 0xFF1A2034,
+                0xFF283154, 0xFF4FC1FF, time, 0.46f);
+    }
 
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#181B28"),
-                Color.parseColor("#4FC1FF"), time, 0.78f, 0.38f);
-        drawMinimapColumn(canvas, Color.parseColor("#1A2034"),
-                Color.parseColor("#283154"), Color.parseColor("#4FC1FF"), time, 0.46f);
+    private void addNamespaceNebulaLayers(float width, float height) {
+        float starSpacing = Math.max(width * 0.06f, 80f);
+        float starTop = SAFE_TOP_PX + height * 0.08f;
+        addLayer(starSpacing, starTop - 4f, starTop + 4 * 36f + 8f, BASE_SCROLL_SPEED * 0.2f,
+                (canvas, left) -> {
+                    uiPaint.setColor(0xFF4FC1FF);
+                    for (int i = 0; i < 5; i++) {
+                        float sx = left + (i * 0.18f * starSpacing);
+                        float sy = starTop + i * 36f;
+                        uiPaint.setAlpha(170 - i * 24);
+                        canvas.drawCircle(sx, sy, 3f + i, uiPaint);
+                    }
+                    uiPaint.setAlpha(255);
+                });
+
+        float satelliteSpacing = Math.max(width * 0.34f, 360f);
+        addLayer(satelliteSpacing, 0f, SAFE_TOP_PX, BASE_SCROLL_SPEED * 0.2f, (canvas, left) -> {
+            RectF body = scratchRect;
+            body.set(left, 12f, left + satelliteSpacing * 0.52f, SAFE_TOP_PX - 12f);
+            uiPaint.setColor(0xFF1F2230);
+            canvas.drawRoundRect(body, 18f, 18f, uiPaint);
+            uiPaint.setStyle(Paint.Style.STROKE);
+            uiPaint.setStrokeWidth(4f);
+            uiPaint.setColor(0xFF4FC1FF);
+            canvas.drawRoundRect(body.left + 6f, body.top + 6f,
+                    body.right - 6f, body.bottom - 6f, 16f, 16f, uiPaint);
+            uiPaint.setStyle(Paint.Style.FILL);
+        });
     }
 
     private void drawExceptionVolcanoBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#1B1B1B"));
+        paintSolidBackground(canvas, 0xFF1B1B1B);
 
-        drawTabAshClouds(canvas, time);
-
-        float squiggleSpacing = Math.max(width * 0.22f, 260f);
-        float squiggleOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.3f, squiggleSpacing);
-        for (float x = -squiggleSpacing; x < width + squiggleSpacing; x += squiggleSpacing) {
-            float left = x - squiggleOffset;
-            drawSquiggleFlow(canvas, left, SAFE_TOP_PX + 40f, height * 0.72f,
-                    Color.parseColor("#F14C4C"));
-        }
+        // Ash-cloud tabs, then lava squiggles.
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
 
         float chimneySpacing = Math.max(width * 0.3f, 340f);
         float chimneyOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, chimneySpacing);
@@ -519,102 +701,181 @@ public class GameScene implements Scene {
         drawTerminalPlate(canvas, time);
         drawHeatDistortion(canvas, time);
 
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#141414"),
-                Color.parseColor("#CCA700"), time, 0.84f, 0.5f);
-        drawMinimapColumn(canvas, Color.parseColor("#381818"),
-                Color.parseColor("#552222"), Color.parseColor("#F14C4C"), time, 0.56f);
+        drawGutterRail(canvas, width * 0.05f, 0xFF141414,
+                0xFFCCA700, time, 0.84f, 0.5f);
+        drawMinimapColumn(canvas, 0xFF381818,
+                0xFF552222, 0xFFF14C4C, time, 0.56f);
+    }
+
+    private void addExceptionVolcanoLayers(float width, float height) {
+        addTabLayer(Math.max(width / 3.6f, 260f), 0.22f, (canvas, left, period) -> {
+            RectF cloud = scratchRect;
+            cloud.set(left + period * 0.05f, 12f,
+                    left + period * 0.8f, SAFE_TOP_PX - 8f);
+            uiPaint.setColor(0xFF2B2B2B);
+            canvas.drawRoundRect(cloud, 28f, 28f, uiPaint);
+            uiPaint.setColor(0xFF3A1F1F);
+            canvas.drawRoundRect(cloud.left + 10f, cloud.top + 6f,
+                    cloud.right - 10f, cloud.bottom - 12f, 24f, 24f, uiPaint);
+        });
+
+        float squiggleSpacing = Math.max(width * 0.22f, 260f);
+        float squiggleTop = SAFE_TOP_PX + 40f;
+        float squiggleHeight = height * 0.72f;
+        float squiggleSwing = squiggleHeight * 0.12f + 4f;
+        addLayer(squiggleSpacing, squiggleTop - squiggleSwing, squiggleTop + squiggleHeight + squiggleSwing,
+                BASE_SCROLL_SPEED * 0.3f, (canvas, left) -> drawSquiggleFlow(canvas, left,
+                        squiggleTop, squiggleHeight, 0xFFF14C4C));
     }
 
     private void drawStlCityBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#1E1E1E"));
+        paintSolidBackground(canvas, 0xFF1E1E1E);
 
-        drawBillboardTabs(canvas, time);
+        // Billboard tabs.
+        drawNextLayer(canvas, time);
 
-        float skylineSpacing = Math.max(width * 0.24f, 280f);
-        float skylineOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.3f, skylineSpacing);
+        // Skyline blocks are baked; their lit windows keep scrolling on their own.
+        ParallaxLayer skyline = drawNextLayer(canvas, time);
+        float skylineSpacing = skyline.getPeriod();
+        float skylineOffset = skyline.getOffset(time);
         for (float x = -skylineSpacing; x < width + skylineSpacing; x += skylineSpacing) {
-            float left = x - skylineOffset;
-            drawExplorerSkyline(canvas, left, SAFE_TOP_PX + height * 0.12f,
+            drawSkylineWindows(canvas, x - skylineOffset, SAFE_TOP_PX + height * 0.12f,
                     skylineSpacing * 0.84f, height * 0.42f, time);
         }
 
-        float tooltipSpacing = Math.max(width * 0.32f, 360f);
-        float tooltipOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, tooltipSpacing);
+        ParallaxLayer tooltips = drawNextLayer(canvas, time);
+        float tooltipSpacing = tooltips.getPeriod();
+        float tooltipOffset = tooltips.getOffset(time);
         for (float x = -tooltipSpacing; x < width + tooltipSpacing; x += tooltipSpacing) {
             float left = x - tooltipOffset;
-            drawTooltipBillboard(canvas, left + width * 0.1f, height * 0.46f,
-                    tooltipSpacing * 0.6f, height * 0.16f, time);
+            drawTooltipText(canvas, left + width * 0.1f, height * 0.46f, height * 0.16f, time);
         }
 
-        drawTransitForeground(canvas, time);
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#141414"),
-                Color.parseColor("#DCDCAA"), time, 0.82f, 0.34f);
-        drawMinimapColumn(canvas, Color.parseColor("#1C2A36"),
-                Color.parseColor("#27506A"), Color.parseColor("#007ACC"), time, 0.4f);
+        // Transit rail, then its moving segments and lights.
+        uiPaint.setStyle(Paint.Style.FILL);
+        uiPaint.setColor(0xFF202020);
+        canvas.drawRect(0f, height * 0.74f, width, height * 0.74f + 18f, uiPaint);
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
+
+        drawGutterRail(canvas, width * 0.05f, 0xFF141414,
+                0xFFDCDCAA, time, 0.82f, 0.34f);
+        drawMinimapColumn(canvas, 0xFF1C2A36,
+                0xFF27506A, 0xFF007ACC, time, 0.4f);
+    }
+
+    private void addStlCityLayers(float width, float height) {
+        addTabLayer(Math.max(width / 4f, 320f), 0.22f, (canvas, left, period) -> {
+            RectF tab = scratchRect;
+            tab.set(left + period * 0.08f, 12f,
+                    left + period * 0.75f, SAFE_TOP_PX - 10f);
+            uiPaint.setColor(0xFF1F1F1F);
+            canvas.drawRoundRect(tab, 20f, 20f, uiPaint);
+            uiPaint.setColor(0xFF007ACC);
+            canvas.drawRect(tab.left + 14f, tab.bottom - 16f, tab.right - 14f, tab.bottom - 8f, uiPaint);
+        });
+
+        float skylineSpacing = Math.max(width * 0.24f, 280f);
+        float skylineTop = SAFE_TOP_PX + height * 0.12f;
+        addLayer(skylineSpacing, skylineTop, skylineTop + height * 0.42f, BASE_SCROLL_SPEED * 0.3f,
+                (canvas, left) -> drawSkylineBuildings(canvas, left, skylineTop,
+                        skylineSpacing * 0.84f, height * 0.42f));
+
+        float tooltipSpacing = Math.max(width * 0.32f, 360f);
+        float tooltipShift = width * 0.1f;
+        addLayer(tooltipSpacing, height * 0.38f, height * 0.54f, BASE_SCROLL_SPEED * 0.5f,
+                (canvas, left) -> drawTooltipBody(canvas, left + tooltipShift, height * 0.46f,
+                        tooltipSpacing * 0.6f, height * 0.16f));
+
+        // Segments used to start at -segmentWidth, i.e. half a period in.
+        float segmentWidth = 48f;
+        float railTop = height * 0.74f;
+        addLayer(segmentWidth * 2f, railTop, railTop + 18f, BASE_SCROLL_SPEED * 1.2f, (canvas, left) -> {
+            uiPaint.setColor(0xFF007ACC);
+            canvas.drawRect(left + segmentWidth, railTop, left + segmentWidth * 2f, railTop + 18f, uiPaint);
+        });
+        addLayer(72f, height * 0.7f - 7f, height * 0.7f + 7f, BASE_SCROLL_SPEED * 0.6f, (canvas, left) -> {
+            uiPaint.setColor(Color.argb(160, 220, 220, 220));
+            canvas.drawCircle(left, height * 0.7f, 6f, uiPaint);
+        });
     }
 
     private void drawHeapCavernsBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#161616"));
+        paintSolidBackground(canvas, 0xFF161616);
 
-        drawTabStalactites(canvas, time);
+        // Stalactite tabs, pillars and memory nooks.
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
 
-        float stalSpacing = Math.max(width * 0.12f, 120f);
-        float stalOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.25f, stalSpacing);
-        uiPaint.setColor(Color.parseColor("#1E1E1E"));
-        for (float x = -stalSpacing; x < width + stalSpacing; x += stalSpacing) {
-            float cx = x - stalOffset;
-            canvas.drawRect(cx, SAFE_TOP_PX, cx + 6f, height * 0.62f, uiPaint);
-        }
-
-        float nookSpacing = Math.max(width * 0.3f, 300f);
-        float nookOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.4f, nookSpacing);
-        uiPaint.setStyle(Paint.Style.STROKE);
-        uiPaint.setStrokeWidth(4f);
-        uiPaint.setColor(Color.argb(60, 106, 153, 85));
-        for (float x = -nookSpacing; x < width + nookSpacing; x += nookSpacing) {
-            float left = x - nookOffset;
-            RectF rect = new RectF(left + 40f, height * 0.44f,
-                    left + nookSpacing * 0.8f, height * 0.68f);
-            canvas.drawRoundRect(rect, 18f, 18f, uiPaint);
-        }
-        uiPaint.setStyle(Paint.Style.FILL);
-
-        float chunkSpacing = Math.max(width * 0.22f, 240f);
-        float chunkOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, chunkSpacing);
+        // Garbage chunks are baked; their status lights still blink.
+        ParallaxLayer chunks = drawNextLayer(canvas, time);
+        float chunkSpacing = chunks.getPeriod();
+        float chunkOffset = chunks.getOffset(time);
         for (float x = -chunkSpacing; x < width + chunkSpacing; x += chunkSpacing) {
-            float left = x - chunkOffset;
-            drawGarbageChunk(canvas, left, height * 0.6f,
+            drawGarbageChunkLight(canvas, x - chunkOffset, height * 0.6f,
                     chunkSpacing * 0.48f, height * 0.16f, time);
         }
 
         drawCavernFog(canvas, time);
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#0F0F0F"),
-                Color.parseColor("#4FC1FF"), time, 0.7f, 0.26f);
-        drawMinimapColumn(canvas, Color.parseColor("#102027"),
-                Color.parseColor("#1B323A"), Color.parseColor("#4FC1FF"), time, 0.34f);
+        drawGutterRail(canvas, width * 0.05f, 0xFF0F0F0F,
+                0xFF4FC1FF, time, 0.7f, 0.26f);
+        drawMinimapColumn(canvas, 0xFF102027,
+                0xFF1B323A, 0xFF4FC1FF, time, 0.34f);
+    }
+
+    private void addHeapCavernsLayers(float width, float height) {
+        addTabLayer(Math.max(width / 4.5f, 240f), 0.18f, (canvas, left, period) -> {
+            Path path = scratchPath;
+            path.reset();
+            path.moveTo(left + period * 0.1f, 12f);
+            path.lineTo(left + period * 0.4f, SAFE_TOP_PX - 18f);
+            path.lineTo(left + period * 0.7f, 12f);
+            path.close();
+            uiPaint.setColor(0xFF202020);
+            canvas.drawPath(path, uiPaint);
+        });
+
+        float stalSpacing = Math.max(width * 0.12f, 120f);
+        addLayer(stalSpacing, SAFE_TOP_PX, height * 0.62f, BASE_SCROLL_SPEED * 0.25f, (canvas, left) -> {
+            uiPaint.setColor(0xFF1E1E1E);
+            canvas.drawRect(left, SAFE_TOP_PX, left + 6f, height * 0.62f, uiPaint);
+        });
+
+        float nookSpacing = Math.max(width * 0.3f, 300f);
+        addLayer(nookSpacing, height * 0.44f - 3f, height * 0.68f + 3f, BASE_SCROLL_SPEED * 0.4f,
+                (canvas, left) -> {
+                    uiPaint.setStyle(Paint.Style.STROKE);
+                    uiPaint.setStrokeWidth(4f);
+                    uiPaint.setColor(Color.argb(60, 106, 153, 85));
+                    canvas.drawRoundRect(left + 40f, height * 0.44f,
+                            left + nookSpacing * 0.8f, height * 0.68f, 18f, 18f, uiPaint);
+                    uiPaint.setStyle(Paint.Style.FILL);
+                });
+
+        float chunkSpacing = Math.max(width * 0.22f, 240f);
+        float chunkHeight = height * 0.16f;
+        addLayer(chunkSpacing, height * 0.6f - chunkHeight * 0.6f, height * 0.6f + chunkHeight * 0.4f,
+                BASE_SCROLL_SPEED * 0.5f, (canvas, left) -> drawGarbageChunkBody(canvas, left,
+                        height * 0.6f, chunkSpacing * 0.48f, chunkHeight));
     }
 
     private void drawLambdaGardensBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#1E231B"));
+        paintSolidBackground(canvas, 0xFF1E231B);
 
-        drawBannerTabs(canvas, time, Color.parseColor("#1F261C"), Color.parseColor("#253420"));
-
-        float treeSpacing = Math.max(width * 0.28f, 320f);
-        float treeOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.24f, treeSpacing);
-        for (float x = -treeSpacing; x < width + treeSpacing; x += treeSpacing) {
-            float baseX = x - treeOffset + treeSpacing * 0.4f;
-            drawCurlyTree(canvas, baseX, height * 0.6f, treeSpacing * 0.3f, height * 0.32f);
-        }
+        // Banner tabs, then curly-brace trees.
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
 
         float blossomSpacing = Math.max(width * 0.18f, 200f);
         float blossomOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, blossomSpacing);
-        uiPaint.setColor(Color.parseColor("#CE9178"));
+        uiPaint.setColor(0xFFCE9178);
         uiPaint.setTextAlign(Paint.Align.CENTER);
         uiPaint.setTextSize(height * 0.05f);
         for (float x = -blossomSpacing; x < width + blossomSpacing; x += blossomSpacing) {
@@ -623,36 +884,54 @@ public class GameScene implements Scene {
             canvas.drawText("()", px, py, uiPaint);
         }
 
-        float vineSpacing = Math.max(width * 0.1f, 90f);
-        float vineOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, vineSpacing);
-        uiPaint.setColor(Color.parseColor("#35503A"));
-        for (float x = -vineSpacing; x < width + vineSpacing; x += vineSpacing) {
-            float vx = x - vineOffset;
-            canvas.drawLine(vx, SAFE_TOP_PX + 60f, vx, height - SAFE_BOTTOM_PX - 90f, uiPaint);
-        }
+        // Hanging vines.
+        drawNextLayer(canvas, time);
 
         drawButterflies(canvas, time);
         drawGrassForeground(canvas, time);
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#162016"),
-                Color.parseColor("#DCDCAA"), time, 0.68f, 0.3f);
-        drawMinimapColumn(canvas, Color.parseColor("#1F3026"),
-                Color.parseColor("#2F4A36"), Color.parseColor("#DCDCAA"), time, 0.42f);
+        drawGutterRail(canvas, width * 0.05f, 0xFF162016,
+                0xFFDCDCAA, time, 0.68f, 0.3f);
+        drawMinimapColumn(canvas, 0xFF1F3026,
+                0xFF2F4A36, 0xFFDCDCAA, time, 0.42f);
+    }
+
+    private void addLambdaGardensLayers(float width, float height) {
+        addTabLayer(Math.max(width / 4f, 300f), 0.18f, (canvas, left, period) -> {
+            RectF banner = scratchRect;
+            banner.set(left + period * 0.08f, 14f,
+                    left + period * 0.7f, SAFE_TOP_PX - 8f);
+            uiPaint.setColor(0xFF1F261C);
+            canvas.drawRoundRect(banner, 20f, 20f, uiPaint);
+            uiPaint.setColor(0xFF253420);
+            canvas.drawRoundRect(banner.left + 14f, banner.top + 10f,
+                    banner.right - 14f, banner.bottom - 12f, 16f, 16f, uiPaint);
+        });
+
+        float treeSpacing = Math.max(width * 0.28f, 320f);
+        float treeWidth = treeSpacing * 0.3f;
+        float treeHeight = height * 0.32f;
+        float treeBase = height * 0.6f;
+        addLayer(treeSpacing, treeBase - treeHeight - treeWidth * 0.3f - 4f, treeBase + 4f,
+                BASE_SCROLL_SPEED * 0.24f, (canvas, left) -> drawCurlyTree(canvas,
+                        left + treeSpacing * 0.4f, treeBase, treeWidth, treeHeight));
+
+        float vineSpacing = Math.max(width * 0.1f, 90f);
+        addLayer(vineSpacing, SAFE_TOP_PX + 60f, height - SAFE_BOTTOM_PX - 90f, BASE_SCROLL_SPEED * 0.5f,
+                (canvas, left) -> {
+                    uiPaint.setStrokeWidth(8f);
+                    uiPaint.setColor(0xFF35503A);
+                    canvas.drawLine(left, SAFE_TOP_PX + 60f, left, height - SAFE_BOTTOM_PX - 90f, uiPaint);
+                });
     }
 
     private void drawMultithreadFoundryBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#2A2A2A"));
-
-        drawIndustrialTabs(canvas, time);
+        paintSolidBackground(canvas, 0xFF2A2A2A);
 
-        float frameSpacing = Math.max(width * 0.18f, 200f);
-        float frameOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.22f, frameSpacing);
-        uiPaint.setColor(Color.parseColor("#1F1F1F"));
-        for (float x = -frameSpacing; x < width + frameSpacing; x += frameSpacing) {
-            float left = x - frameOffset;
-            canvas.drawRect(left, SAFE_TOP_PX, left + 12f, height - SAFE_BOTTOM_PX, uiPaint);
-        }
+        // Riveted tabs, then girder frames.
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
 
         float gearSpacing = Math.max(width * 0.28f, 320f);
         float gearOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, gearSpacing);
@@ -661,50 +940,212 @@ public class GameScene implements Scene {
             drawGearRosette(canvas, cx, height * 0.46f, gearSpacing * 0.24f, time);
         }
 
-        drawConveyor(canvas, time);
+        // Conveyor band and its moving segments.
+        uiPaint.setColor(0xFF1F3A43);
+        canvas.drawRect(0f, height * 0.78f, width, height * 0.78f + 28f, uiPaint);
+        drawNextLayer(canvas, time);
+
         drawServoArms(canvas, time);
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#1A1A1A"),
-                Color.parseColor("#2BB9A0"), time, 0.78f, 0.44f);
-        drawMinimapColumn(canvas, Color.parseColor("#1C2F2C"),
-                Color.parseColor("#28514E"), Color.parseColor("#2BB9A0"), time, 0.48f);
+        drawGutterRail(canvas, width * 0.05f, 0xFF1A1A1A,
+                0xFF2BB9A0, time, 0.78f, 0.44f);
+        drawMinimapColumn(canvas, 0xFF1C2F2C,
+                0xFF28514E, 0xFF2BB9A0, time, 0.48f);
+    }
+
+    private void addMultithreadFoundryLayers(float width, float height) {
+        addTabLayer(Math.max(width / 4f, 320f), 0.2f, (canvas, left, period) -> {
+            RectF plate = scratchRect;
+            plate.set(left + period * 0.08f, 12f,
+                    left + period * 0.7f, SAFE_TOP_PX - 10f);
+            uiPaint.setColor(0xFF333333);
+            canvas.drawRoundRect(plate, 18f, 18f, uiPaint);
+            uiPaint.setColor(0xFF2BB9A0);
+            canvas.drawCircle(plate.left + 20f, plate.centerY(), 6f, uiPaint);
+            canvas.drawCircle(plate.right - 20f, plate.centerY(), 6f, uiPaint);
+        });
+
+        float frameSpacing = Math.max(width * 0.18f, 200f);
+        addLayer(frameSpacing, SAFE_TOP_PX, height - SAFE_BOTTOM_PX, BASE_SCROLL_SPEED * 0.22f,
+                (canvas, left) -> {
+                    uiPaint.setColor(0xFF1F1F1F);
+                    canvas.drawRect(left, SAFE_TOP_PX, left + 12f, height - SAFE_BOTTOM_PX, uiPaint);
+                });
+
+        // Segments used to start at -segment, i.e. half a period in.
+        float segment = 64f;
+        float bandTop = height * 0.78f;
+        addLayer(segment * 2f, bandTop, bandTop + 28f, BASE_SCROLL_SPEED * 1.1f, (canvas, left) -> {
+            uiPaint.setColor(0xFF2BB9A0);
+            canvas.drawRect(left + segment, bandTop, left + segment * 2f, bandTop + 28f, uiPaint);
+        });
     }
 
     private void drawNullPointerNexusBackground(Canvas canvas, float time) {
         float width = surfaceWidth;
         float height = surfaceHeight;
-        paintSolidBackground(canvas, Color.parseColor("#141414"));
+        paintSolidBackground(canvas, 0xFF141414);
 
-        drawBrokenPanelTabs(canvas, time);
-
-        float panelSpacing = Math.max(width * 0.32f, 360f);
-        float panelOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.26f, panelSpacing);
-        for (float x = -panelSpacing; x < width + panelSpacing; x += panelSpacing) {
-            float left = x - panelOffset;
-            drawBsodShard(canvas, left, SAFE_TOP_PX + height * 0.12f,
-                    panelSpacing * 0.8f, height * 0.32f);
-        }
+        // Broken panel tabs, then blue-screen shards.
+        drawNextLayer(canvas, time);
+        drawNextLayer(canvas, time);
 
         uiPaint.setStyle(Paint.Style.STROKE);
-        uiPaint.setColor(Color.parseColor("#F14C4C"));
+        uiPaint.setColor(0xFFF14C4C);
         uiPaint.setStrokeWidth(6f);
         float radius = Math.min(width, height) * 0.36f;
         canvas.drawCircle(width * 0.5f, height * 0.54f,
                 radius + (float) Math.sin(time * 0.7f) * 12f, uiPaint);
         uiPaint.setStyle(Paint.Style.FILL);
 
-        float totemSpacing = Math.max(width * 0.24f, 280f);
-        float totemOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, totemSpacing);
+        // Totem bodies are baked; their eyes still pulse.
+        ParallaxLayer totems = drawNextLayer(canvas, time);
+        float totemSpacing = totems.getPeriod();
+        float totemOffset = totems.getOffset(time);
         for (float x = -totemSpacing; x < width + totemSpacing; x += totemSpacing) {
             float cx = x - totemOffset + totemSpacing * 0.5f;
-            drawBossTotem(canvas, cx, height * 0.56f, height * 0.28f, time);
+            drawBossTotemGlow(canvas, cx, height * 0.56f, height * 0.28f, time);
         }
 
         drawTryCatchShield(canvas, time);
         drawArenaAnchors(canvas, time);
-        drawGutterRail(canvas, width * 0.05f, Color.parseColor("#0E0E0E"),
-                Color.parseColor("#4FC1FF"), time, 0.82f, 0.52f);
-        drawMinimapColumn(canvas, Color.parseColor("#202F3A"),
-                Color.parseColor("#30505F"), Color.parseColor("#4FC1FF"), time, 0.58f);
+        drawGutterRail(canvas, width * 0.05f, 0xFF0E0E0E,
+                0xFF4FC1FF, time, 0.82f, 0.52f);
+        drawMinimapColumn(canvas, 0xFF202F3A,
+                0xFF30505F, 0xFF4FC1FF, time, 0.58f);
+    }
+
+    private void addNullPointerNexusLayers(float width, float height) {
+        addTabLayer(Math.max(width / 4f, 320f), 0.24f, (canvas, left, period) -> {
+            RectF panel = scratchRect;
+            panel.set(left + period * 0.08f, 10f,
+                    left + period * 0.74f, SAFE_TOP_PX - 12f);
+            uiPaint.setColor(0xFF1F1F1F);
+            canvas.drawRoundRect(panel, 18f, 18f, uiPaint);
+            uiPaint.setColor(0xFF2C2C2C);
+            canvas.drawRect(panel.left + 12f, panel.top + 10f,
+                    panel.right - 32f, panel.bottom - 10f, uiPaint);
+            uiPaint.setColor(0xFFF14C4C);
+            canvas.drawRect(panel.right - 28f, panel.top + 10f,
+                    panel.right - 12f, panel.bottom - 10f, uiPaint);
+        });
+
+        float panelSpacing = Math.max(width * 0.32f, 360f);
+        float shardTop = SAFE_TOP_PX + height * 0.12f;
+        addLayer(panelSpacing, shardTop - 2f, shardTop + height * 0.32f + 2f, BASE_SCROLL_SPEED * 0.26f,
+                (canvas, left) -> {
+                    uiPaint.setStrokeWidth(3f);
+                    drawBsodShard(canvas, left, shardTop, panelSpacing * 0.8f, height * 0.32f);
+                });
+
+        float totemSpacing = Math.max(width * 0.24f, 280f);
+        float totemHeight = height * 0.28f;
+        addLayer(totemSpacing, height * 0.56f - totemHeight * 0.5f, height * 0.56f + totemHeight * 0.5f,
+                BASE_SCROLL_SPEED * 0.5f, (canvas, left) -> drawBossTotemBody(canvas,
+                        left + totemSpacing * 0.5f, height * 0.56f, totemHeight));
+    }
+
+    /** Paints one repeat of a tab row; {@code period} is the whole-pixel tile width. */
+    private interface TabPainter {
+        void paint(Canvas canvas, float left, float period);
+    }
+
+    private void addTabLayer(float period, float speedFactor, TabPainter painter) {
+        int tile = Math.max(1, Math.round(period));
+        addLayer(tile, 0f, SAFE_TOP_PX, BASE_SCROLL_SPEED * speedFactor,
+                (canvas, left) -> painter.paint(canvas, left, tile));
+    }
+
+    private void addHillLayer(float period, float baseY, float bottom, float amplitude,
+                              float speed, int color) {
+        // One full sine cycle per tile, so the baked band repeats without a seam.
+        int tile = Math.max(1, Math.round(period));
+        addLayer(tile, baseY - amplitude, bottom, speed, (canvas, left) -> {
+            Path path = scratchPath;
+            path.reset();
+            path.moveTo(left, bottom);
+            for (int i = 0; i <= HILL_SEGMENTS; i++) {
+                float t = i / (float) HILL_SEGMENTS;
+                path.lineTo(left + t * tile, baseY + (float) Math.sin(t * Math.PI * 2f) * amplitude);
+            }
+            path.lineTo(left + tile, bottom);
+            path.close();
+            uiPaint.setStyle(Paint.Style.FILL);
+            uiPaint.setColor(color);
+            canvas.drawPath(path, uiPaint);
+        });
+    }
+
+    private void addLayer(float period, float top, float bottom, float speed,
+                          ParallaxLayer.Painter painter) {
+        backdropLayers.add(ParallaxLayer.rasterize(period, top, bottom, speed, painter));
+    }
+
+    private void addLayer(float period, float top, float bottom, float speed, float minX,
+                          ParallaxLayer.Painter painter) {
+        backdropLayers.add(ParallaxLayer.rasterize(period, top, bottom, speed, minX, painter));
+    }
+
+    /**
+     * Draws the next baked layer of the current world; world draw methods consume the layers in
+     * the order their add*Layers counterpart created them.
+     */
+    private ParallaxLayer drawNextLayer(Canvas canvas, float time) {
+        ParallaxLayer layer = backdropLayers.get(nextBackdropLayer++);
+        layer.draw(canvas, time, surfaceWidth, layerPaint);
+        return layer;
+    }
+
+    /**
+     * Rasterizes the scrolling bands of {@code worldName} for the current surface size. Runs on
+     * the draw thread, which owns {@link #uiPaint}, and only when the world or size changed.
+     */
+    private void ensureBackdrop(String worldName) {
+        if (worldName.equals(backdropWorld)
+                && backdropWidth == surfaceWidth && backdropHeight == surfaceHeight) {
+            return;
+        }
+        for (ParallaxLayer layer : backdropLayers) {
+            layer.recycle();
+        }
+        backdropLayers.clear();
+        backdropWorld = worldName;
+        backdropWidth = surfaceWidth;
+        backdropHeight = surfaceHeight;
+        float width = surfaceWidth;
+        float height = surfaceHeight;
+        uiPaint.setStyle(Paint.Style.FILL);
+        switch (worldName) {
+            case "Template Temple":
+                addTemplateTempleLayers(width, height);
+                break;
+            case "Namespace Nebula":
+                addNamespaceNebulaLayers(width, height);
+                break;
+            case "Exception Volcano":
+                addExceptionVolcanoLayers(width, height);
+                break;
+            case "STL City":
+                addStlCityLayers(width, height);
+                break;
+            case "Heap Caverns":
+                addHeapCavernsLayers(width, height);
+                break;
+            case "Lambda Gardens":
+                addLambdaGardensLayers(width, height);
+                break;
+            case "Multithread Foundry":
+                addMultithreadFoundryLayers(width, height);
+                break;
+            case "NullPointer-Nexus":
+                addNullPointerNexusLayers(width, height);
+                break;
+            case "Pointer Plains":
+            default:
+                addPointerPlainsLayers(width, height);
+                break;
+        }
+        uiPaint.setStyle(Paint.Style.FILL);
+        uiPaint.setAlpha(255);
     }
 
     private void paintSolidBackground(Canvas canvas, int color) {
@@ -715,16 +1156,12 @@ public class GameScene implements Scene {
 
     private void drawStatusBar(Canvas canvas) {
         uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.parseColor("#007ACC"));
+        uiPaint.setColor(0xFF007ACC);
         canvas.drawRect(0f, surfaceHeight - SAFE_BOTTOM_PX, surfaceWidth, surfaceHeight, uiPaint);
     }
 
     private void drawScanlineOverlay(Canvas canvas) {
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.argb(18, 255, 255, 255));
-        for (float y = SAFE_TOP_PX; y < surfaceHeight - SAFE_BOTTOM_PX; y += 4f) {
-            canvas.drawRect(0f, y, surfaceWidth, y + 1f, uiPaint);
-        }
+        screenOverlays.drawScanlines(canvas, surfaceWidth, surfaceHeight);
     }
 
     private float computeLoopOffset(float time, float speed, float period) {
@@ -738,122 +1175,34 @@ public class GameScene implements Scene {
         return shift;
     }
 
-    private void drawIndentGuides(Canvas canvas, float startX, float top, float bottom,
-                                  float spacing, int color, float offset) {
-        uiPaint.setStyle(Paint.Style.STROKE);
-        uiPaint.setStrokeWidth(2f);
-        uiPaint.setColor(color);
-        for (float x = startX - spacing; x < surfaceWidth + spacing; x += spacing) {
-            float cx = x - offset;
-            canvas.drawLine(cx, top, cx, bottom, uiPaint);
-        }
-        uiPaint.setStyle(Paint.Style.FILL);
-    }
-
-    private void drawHillBand(Canvas canvas, float baseY, float bottom, float period,
-                              float offset, float amplitude, int color) {
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(color);
-        Path path = new Path();
-        path.moveTo(-surfaceWidth, bottom);
-        for (float x = -period; x <= surfaceWidth + period; x += period / 2f) {
-            float px = x - offset;
-            float py = baseY + (float) Math.sin((px / period) * Math.PI * 2f) * amplitude;
-            path.lineTo(px, py);
-        }
-        path.lineTo(surfaceWidth * 2f, bottom);
-        path.close();
-        canvas.drawPath(path, uiPaint);
-    }
-
     private void drawGutterRail(Canvas canvas, float width, int baseColor, int lightColor,
                                  float time, float speedFactor, float glowStrength) {
-        float bottom = surfaceHeight - SAFE_BOTTOM_PX;
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(baseColor);
-        canvas.drawRect(0f, SAFE_TOP_PX, width, bottom, uiPaint);
-
-        uiPaint.setColor(Color.parseColor("#252526"));
-        float verticalOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * speedFactor, width * 0.6f);
-        canvas.drawRect(verticalOffset - width * 0.25f, SAFE_TOP_PX,
-                verticalOffset - width * 0.25f + 3f, bottom, uiPaint);
-
-        float blink = (float) ((Math.sin(time * Math.PI / 1.5f) + 1f) * 0.5f);
-        int alpha = (int) (80 + 120 * blink * glowStrength);
-        uiPaint.setColor(Color.argb(alpha, Color.red(lightColor), Color.green(lightColor), Color.blue(lightColor)));
-        float spacing = 68f;
-        for (float y = SAFE_TOP_PX + 48f; y < bottom - 24f; y += spacing) {
-            float wobble = (float) Math.sin(time * 3f + y * 0.05f) * 2f;
-            canvas.drawCircle(width * 0.55f + wobble, y, width * 0.26f, uiPaint);
-        }
+        screenOverlays.drawGutterRail(canvas, surfaceHeight, width, baseColor, lightColor,
+                0xFF252526, time, BASE_SCROLL_SPEED * speedFactor, glowStrength);
     }
 
     private void drawMinimapColumn(Canvas canvas, int baseColor, int accentColor,
                                    int glowColor, float time, float shimmerSpeed) {
-        float width = surfaceWidth;
-        float height = surfaceHeight;
-        float minimapWidth = Math.max(18f, width * 0.028f);
-        float left = width - minimapWidth - width * 0.02f;
-        RectF column = new RectF(left, SAFE_TOP_PX + 16f,
-                left + minimapWidth, height - SAFE_BOTTOM_PX - 16f);
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(baseColor);
-        canvas.drawRoundRect(column, 18f, 18f, uiPaint);
-
-        uiPaint.setStyle(Paint.Style.STROKE);
-        uiPaint.setStrokeWidth(3f);
-        uiPaint.setColor(accentColor);
-        canvas.drawRoundRect(new RectF(column.left + 4f, column.top + 6f,
-                column.right - 4f, column.bottom - 6f), 16f, 16f, uiPaint);
-
-        uiPaint.setStyle(Paint.Style.FILL);
-        float bandHeight = 22f;
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * shimmerSpeed, bandHeight * 2f);
-        uiPaint.setColor(glowColor);
-        uiPaint.setAlpha(160);
-        for (float y = column.top - bandHeight; y < column.bottom + bandHeight; y += bandHeight * 2f) {
-            float top = y - offset;
-            canvas.drawRect(column.left + 6f, top,
-                    column.right - 6f, top + bandHeight * 0.6f, uiPaint);
-        }
-        uiPaint.setAlpha(255);
-    }
-
-    private void drawTabArchRow(Canvas canvas, float time, int baseColor, int accentColor) {
-        float width = surfaceWidth;
-        float period = Math.max(width / 4f, 320f);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.18f, period);
-        for (float x = -period; x < width + period; x += period) {
-            float left = x - offset;
-            RectF outer = new RectF(left + period * 0.1f, 10f,
-                    left + period * 0.74f, SAFE_TOP_PX - 12f);
-            uiPaint.setColor(baseColor);
-            canvas.drawRoundRect(outer, 22f, 22f, uiPaint);
-            uiPaint.setColor(accentColor);
-            canvas.drawRoundRect(new RectF(outer.left + 12f, outer.top + 10f,
-                    outer.right - 12f, outer.bottom - 10f), 18f, 18f, uiPaint);
-        }
-        uiPaint.setColor(Color.parseColor("#C586C0"));
-        uiPaint.setTextAlign(Paint.Align.CENTER);
-        uiPaint.setTextSize(SAFE_TOP_PX * 0.36f);
-        canvas.drawText("<>", width * 0.5f, SAFE_TOP_PX * 0.7f, uiPaint);
+        screenOverlays.drawMinimapColumn(canvas, surfaceWidth, surfaceHeight, baseColor,
+                accentColor, glowColor, time, BASE_SCROLL_SPEED * shimmerSpeed);
     }
 
     private void drawGenericArch(Canvas canvas, float left, float top, float width,
                                  float height, int outerColor, int innerColor) {
-        RectF rect = new RectF(left, top, left + width, top + height);
+        RectF rect = scratchRect;
+        rect.set(left, top, left + width, top + height);
         uiPaint.setStyle(Paint.Style.FILL);
         uiPaint.setColor(outerColor);
         canvas.drawRoundRect(rect, width * 0.42f, width * 0.42f, uiPaint);
         uiPaint.setColor(innerColor);
-        RectF inner = new RectF(rect.left + width * 0.08f, rect.top + width * 0.08f,
-                rect.right - width * 0.08f, rect.bottom);
-        canvas.drawRoundRect(inner, width * 0.38f, width * 0.38f, uiPaint);
+        canvas.drawRoundRect(rect.left + width * 0.08f, rect.top + width * 0.08f,
+                rect.right - width * 0.08f, rect.bottom, width * 0.38f, width * 0.38f, uiPaint);
     }
 
     private void drawFoldTriangle(Canvas canvas, float left, float top,
                                   float width, float height) {
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         path.moveTo(left, top);
         path.lineTo(left + width, top);
         path.lineTo(left + width * 0.5f, top + height);
@@ -861,25 +1210,18 @@ public class GameScene implements Scene {
         canvas.drawPath(path, uiPaint);
     }
 
-    private void drawPaneForeground(Canvas canvas, int darkColor, int lightColor, float time) {
-        float width = surfaceWidth;
-        float height = surfaceHeight;
+    private void drawPaneDivider(Canvas canvas, int lightColor) {
         uiPaint.setStyle(Paint.Style.STROKE);
         uiPaint.setStrokeWidth(6f);
-        uiPaint.setColor(darkColor);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.72f, width * 0.42f);
-        for (float x = -width; x < width + width; x += width * 0.42f) {
-            float cx = x - offset;
-            canvas.drawLine(cx, SAFE_TOP_PX, cx, height - SAFE_BOTTOM_PX, uiPaint);
-        }
         uiPaint.setColor(lightColor);
-        canvas.drawLine(0f, height * 0.52f, width, height * 0.52f, uiPaint);
+        canvas.drawLine(0f, surfaceHeight * 0.52f, surfaceWidth, surfaceHeight * 0.52f, uiPaint);
         uiPaint.setStyle(Paint.Style.FILL);
     }
 
     private void drawNamespaceRibbon(Canvas canvas, float left, float centerY,
                                      float width, float height, float time) {
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         float wave = (float) Math.sin(time + left * 0.01f) * height * 0.28f;
         path.moveTo(left, centerY - height * 0.5f);
         path.quadTo(left + width * 0.33f, centerY - height * 0.5f + wave,
@@ -892,7 +1234,7 @@ public class GameScene implements Scene {
         path.quadTo(left + width * 0.33f, centerY - height * 0.5f + wave + 14f,
                 left, centerY - height * 0.5f + 14f);
         path.close();
-        uiPaint.setColor(Color.parseColor("#C586C0"));
+        uiPaint.setColor(0xFFC586C0);
         uiPaint.setAlpha(180);
         canvas.drawPath(path, uiPaint);
         uiPaint.setAlpha(255);
@@ -911,24 +1253,9 @@ public class GameScene implements Scene {
         uiPaint.setStyle(Paint.Style.FILL);
     }
 
-    private void drawTabAshClouds(Canvas canvas, float time) {
-        float width = surfaceWidth;
-        float period = Math.max(width / 3.6f, 260f);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.22f, period);
-        for (float x = -period; x < width + period; x += period) {
-            float left = x - offset;
-            RectF cloud = new RectF(left + period * 0.05f, 12f,
-                    left + period * 0.8f, SAFE_TOP_PX - 8f);
-            uiPaint.setColor(Color.parseColor("#2B2B2B"));
-            canvas.drawRoundRect(cloud, 28f, 28f, uiPaint);
-            uiPaint.setColor(Color.parseColor("#3A1F1F"));
-            canvas.drawRoundRect(new RectF(cloud.left + 10f, cloud.top + 6f,
-                    cloud.right - 10f, cloud.bottom - 12f), 24f, 24f, uiPaint);
-        }
-    }
-
     private void drawSquiggleFlow(Canvas canvas, float left, float top, float height, int color) {
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         path.moveTo(left, top);
         float amplitude = height * 0.12f;
         int segments = 12;
@@ -950,8 +1277,9 @@ public class GameScene implements Scene {
     private void drawBreakpointChimney(Canvas canvas, float centerX, float centerY,
                                        float height, float time) {
         uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.parseColor("#2B1A1A"));
-        RectF base = new RectF(centerX - 28f, centerY - height * 0.5f,
+        uiPaint.setColor(0xFF2B1A1A);
+        RectF base = scratchRect;
+        base.set(centerX - 28f, centerY - height * 0.5f,
                 centerX + 28f, centerY + height * 0.5f);
         canvas.drawRoundRect(base, 22f, 22f, uiPaint);
         float glow = (float) ((Math.sin(time * 1.5f + centerX * 0.01f) + 1f) * 0.5f);
@@ -965,10 +1293,11 @@ public class GameScene implements Scene {
         float width = surfaceWidth;
         float height = surfaceHeight;
         uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.parseColor("#242424"));
+        uiPaint.setColor(0xFF242424);
         canvas.drawRect(width * 0.18f, height * 0.78f,
                 width * 0.92f, height - SAFE_BOTTOM_PX - 12f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#333333"));
+        uiPaint.setStrokeWidth(6f);
+        uiPaint.setColor(0xFF333333);
         float gridSpacing = 36f;
         float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.6f, gridSpacing);
         for (float x = width * 0.18f; x < width * 0.92f; x += gridSpacing) {
@@ -987,109 +1316,75 @@ public class GameScene implements Scene {
         }
     }
 
-    private void drawBillboardTabs(Canvas canvas, float time) {
-        float width = surfaceWidth;
-        float period = Math.max(width / 4f, 320f);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.22f, period);
-        for (float x = -period; x < width + period; x += period) {
-            float left = x - offset;
-            RectF tab = new RectF(left + period * 0.08f, 12f,
-                    left + period * 0.75f, SAFE_TOP_PX - 10f);
-            uiPaint.setColor(Color.parseColor("#1F1F1F"));
-            canvas.drawRoundRect(tab, 20f, 20f, uiPaint);
-            uiPaint.setColor(Color.parseColor("#007ACC"));
-            canvas.drawRect(tab.left + 14f, tab.bottom - 16f, tab.right - 14f, tab.bottom - 8f, uiPaint);
+    private void drawSkylineBuildings(Canvas canvas, float left, float top, float width,
+                                      float height) {
+        uiPaint.setStyle(Paint.Style.FILL);
+        uiPaint.setColor(0xFF252526);
+        float buildingWidth = width / 6f;
+        for (int i = 0; i < 6; i++) {
+            float bx = left + i * buildingWidth;
+            float buildingHeight = height * (0.4f + (i % 3) * 0.18f);
+            canvas.drawRect(bx, top + height - buildingHeight,
+                    bx + buildingWidth * 0.72f, top + height, uiPaint);
         }
     }
 
-    private void drawExplorerSkyline(Canvas canvas, float left, float top, float width,
-                                     float height, float time) {
+    private void drawSkylineWindows(Canvas canvas, float left, float top, float width,
+                                    float height, float time) {
         uiPaint.setStyle(Paint.Style.FILL);
+        uiPaint.setColor(0xFF333333);
         float buildingWidth = width / 6f;
+        float windowHeight = 14f;
+        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, windowHeight * 3f);
         for (int i = 0; i < 6; i++) {
             float bx = left + i * buildingWidth;
-            float hFactor = 0.4f + (i % 3) * 0.18f;
-            float buildingHeight = height * hFactor;
-            RectF building = new RectF(bx, top + height - buildingHeight,
-                    bx + buildingWidth * 0.72f, top + height);
-            uiPaint.setColor(Color.parseColor("#252526"));
-            canvas.drawRect(building, uiPaint);
-            uiPaint.setColor(Color.parseColor("#333333"));
-            float windowHeight = 14f;
-            float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.5f, windowHeight * 3f);
-            for (float y = building.top + 18f; y < building.bottom - 12f; y += windowHeight * 3f) {
+            float buildingTop = top + height - height * (0.4f + (i % 3) * 0.18f);
+            float buildingBottom = top + height;
+            for (float y = buildingTop + 18f; y < buildingBottom - 12f; y += windowHeight * 3f) {
                 float wy = y - offset;
-                canvas.drawRect(building.left + 12f, wy,
-                        building.right - 12f, wy + windowHeight, uiPaint);
+                canvas.drawRect(bx + 12f, wy, bx + buildingWidth * 0.72f - 12f, wy + windowHeight, uiPaint);
             }
         }
     }
 
-    private void drawTooltipBillboard(Canvas canvas, float left, float centerY,
-                                      float width, float height, float time) {
-        RectF rect = new RectF(left, centerY - height * 0.5f, left + width, centerY + height * 0.5f);
+    private void drawTooltipBody(Canvas canvas, float left, float centerY,
+                                 float width, float height) {
+        RectF rect = scratchRect;
+        rect.set(left, centerY - height * 0.5f, left + width, centerY + height * 0.5f);
         uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.parseColor("#2A2D33"));
+        uiPaint.setColor(0xFF2A2D33);
         canvas.drawRoundRect(rect, 18f, 18f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#3A3D44"));
-        canvas.drawRoundRect(new RectF(rect.left + 10f, rect.top + 10f,
-                rect.right - 10f, rect.bottom - 10f), 16f, 16f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#DCDCAA"));
-        uiPaint.setTextAlign(Paint.Align.LEFT);
-        uiPaint.setTextSize(height * 0.28f);
-        canvas.drawText("intellisense", rect.left + 18f,
-                rect.centerY() + (float) Math.sin(time + left) * 6f, uiPaint);
+        uiPaint.setColor(0xFF3A3D44);
+        canvas.drawRoundRect(rect.left + 10f, rect.top + 10f,
+                rect.right - 10f, rect.bottom - 10f, 16f, 16f, uiPaint);
     }
 
-    private void drawTransitForeground(Canvas canvas, float time) {
-        float height = surfaceHeight;
+    private void drawTooltipText(Canvas canvas, float left, float centerY, float height, float time) {
         uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.parseColor("#202020"));
-        canvas.drawRect(0f, height * 0.74f, surfaceWidth, height * 0.74f + 18f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#007ACC"));
-        float segmentWidth = 48f;
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 1.2f, segmentWidth * 2f);
-        for (float x = -segmentWidth; x < surfaceWidth + segmentWidth; x += segmentWidth * 2f) {
-            float left = x - offset;
-            canvas.drawRect(left, height * 0.74f, left + segmentWidth, height * 0.74f + 18f, uiPaint);
-        }
-        uiPaint.setColor(Color.argb(160, 220, 220, 220));
-        float lightSpacing = 72f;
-        float lightOffset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.6f, lightSpacing);
-        for (float x = -lightSpacing; x < surfaceWidth + lightSpacing; x += lightSpacing) {
-            float cx = x - lightOffset;
-            canvas.drawCircle(cx, height * 0.7f, 6f, uiPaint);
-        }
-    }
-
-    private void drawTabStalactites(Canvas canvas, float time) {
-        float width = surfaceWidth;
-        float period = Math.max(width / 4.5f, 240f);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.18f, period);
-        for (float x = -period; x < width + period; x += period) {
-            float left = x - offset;
-            Path path = new Path();
-            path.moveTo(left + period * 0.1f, 12f);
-            path.lineTo(left + period * 0.4f, SAFE_TOP_PX - 18f);
-            path.lineTo(left + period * 0.7f, 12f);
-            path.close();
-            uiPaint.setColor(Color.parseColor("#202020"));
-            canvas.drawPath(path, uiPaint);
-        }
+        uiPaint.setColor(0xFFDCDCAA);
+        uiPaint.setTextAlign(Paint.Align.LEFT);
+        uiPaint.setTextSize(height * 0.28f);
+        canvas.drawText("intellisense", left + 18f,
+                centerY + (float) Math.sin(time + left) * 6f, uiPaint);
     }
 
-    private void drawGarbageChunk(Canvas canvas, float left, float baseline,
-                                  float width, float height, float time) {
-        RectF rect = new RectF(left, baseline - height * 0.6f,
+    private void drawGarbageChunkBody(Canvas canvas, float left, float baseline,
+                                      float width, float height) {
+        RectF rect = scratchRect;
+        rect.set(left, baseline - height * 0.6f,
                 left + width, baseline + height * 0.4f);
-        uiPaint.setColor(Color.parseColor("#202020"));
+        uiPaint.setColor(0xFF202020);
         canvas.drawRoundRect(rect, 12f, 12f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#2A2A2A"));
-        canvas.drawRoundRect(new RectF(rect.left + 8f, rect.top + 8f,
-                rect.right - 8f, rect.bottom - 8f), 10f, 10f, uiPaint);
+        uiPaint.setColor(0xFF2A2A2A);
+        canvas.drawRoundRect(rect.left + 8f, rect.top + 8f,
+                rect.right - 8f, rect.bottom - 8f, 10f, 10f, uiPaint);
+    }
+
+    private void drawGarbageChunkLight(Canvas canvas, float left, float baseline,
+                                       float width, float height, float time) {
         uiPaint.setColor(Color.argb(140, 79, 193, 255));
         float blink = (float) ((Math.sin(time * 2f + left * 0.01f) + 1f) * 0.5f);
-        canvas.drawCircle(rect.centerX(), rect.top + height * 0.1f, 6f + blink * 4f, uiPaint);
+        canvas.drawCircle(left + width * 0.5f, baseline - height * 0.5f, 6f + blink * 4f, uiPaint);
     }
 
     private void drawCavernFog(Canvas canvas, float time) {
@@ -1102,42 +1397,27 @@ public class GameScene implements Scene {
         }
     }
 
-    private void drawBannerTabs(Canvas canvas, float time, int baseColor, int accentColor) {
-        float width = surfaceWidth;
-        float period = Math.max(width / 4f, 300f);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.18f, period);
-        for (float x = -period; x < width + period; x += period) {
-            float left = x - offset;
-            RectF banner = new RectF(left + period * 0.08f, 14f,
-                    left + period * 0.7f, SAFE_TOP_PX - 8f);
-            uiPaint.setColor(baseColor);
-            canvas.drawRoundRect(banner, 20f, 20f, uiPaint);
-            uiPaint.setColor(accentColor);
-            canvas.drawRoundRect(new RectF(banner.left + 14f, banner.top + 10f,
-                    banner.right - 14f, banner.bottom - 12f), 16f, 16f, uiPaint);
-        }
-    }
-
     private void drawCurlyTree(Canvas canvas, float centerX, float baseY,
                                 float width, float height) {
         uiPaint.setStyle(Paint.Style.STROKE);
-        uiPaint.setColor(Color.parseColor("#2F422E"));
+        uiPaint.setColor(0xFF2F422E);
         uiPaint.setStrokeWidth(8f);
-        Path trunk = new Path();
+        Path trunk = scratchPath;
+        trunk.reset();
         trunk.moveTo(centerX, baseY);
         trunk.cubicTo(centerX - width * 0.2f, baseY - height * 0.2f,
                 centerX + width * 0.2f, baseY - height * 0.6f,
                 centerX, baseY - height);
         canvas.drawPath(trunk, uiPaint);
         uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.parseColor("#6A9955"));
+        uiPaint.setColor(0xFF6A9955);
         canvas.drawCircle(centerX - width * 0.2f, baseY - height * 0.6f, width * 0.28f, uiPaint);
         canvas.drawCircle(centerX + width * 0.2f, baseY - height * 0.7f, width * 0.24f, uiPaint);
         canvas.drawCircle(centerX, baseY - height * 0.85f, width * 0.3f, uiPaint);
     }
 
     private void drawButterflies(Canvas canvas, float time) {
-        uiPaint.setColor(Color.parseColor("#DCDCAA"));
+        uiPaint.setColor(0xFFDCDCAA);
         uiPaint.setStyle(Paint.Style.FILL);
         for (int i = 0; i < 6; i++) {
             float progress = (time * 0.3f + i * 0.15f) % 1f;
@@ -1149,7 +1429,8 @@ public class GameScene implements Scene {
     }
 
     private void drawGrassForeground(Canvas canvas, float time) {
-        uiPaint.setColor(Color.parseColor("#2F4A36"));
+        uiPaint.setStrokeWidth(8f);
+        uiPaint.setColor(0xFF2F4A36);
         for (int i = 0; i < 40; i++) {
             float x = i / 39f * surfaceWidth;
             float sway = (float) Math.sin(time * 1.2f + i * 0.4f) * 6f;
@@ -1158,26 +1439,10 @@ public class GameScene implements Scene {
         }
     }
 
-    private void drawIndustrialTabs(Canvas canvas, float time) {
-        float width = surfaceWidth;
-        float period = Math.max(width / 4f, 320f);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.2f, period);
-        for (float x = -period; x < width + period; x += period) {
-            float left = x - offset;
-            RectF plate = new RectF(left + period * 0.08f, 12f,
-                    left + period * 0.7f, SAFE_TOP_PX - 10f);
-            uiPaint.setColor(Color.parseColor("#333333"));
-            canvas.drawRoundRect(plate, 18f, 18f, uiPaint);
-            uiPaint.setColor(Color.parseColor("#2BB9A0"));
-            canvas.drawCircle(plate.left + 20f, plate.centerY(), 6f, uiPaint);
-            canvas.drawCircle(plate.right - 20f, plate.centerY(), 6f, uiPaint);
-        }
-    }
-
     private void drawGearRosette(Canvas canvas, float cx, float cy, float radius, float time) {
         uiPaint.setStyle(Paint.Style.STROKE);
         uiPaint.setStrokeWidth(6f);
-        uiPaint.setColor(Color.parseColor("#2BB9A0"));
+        uiPaint.setColor(0xFF2BB9A0);
         for (int i = 0; i < 6; i++) {
             float angle = (float) (i * Math.PI / 3f + time * 0.6f);
             float x = cx + (float) Math.cos(angle) * radius;
@@ -1185,28 +1450,14 @@ public class GameScene implements Scene {
             canvas.drawLine(cx, cy, x, y, uiPaint);
         }
         uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.parseColor("#1F1F1F"));
+        uiPaint.setColor(0xFF1F1F1F);
         canvas.drawCircle(cx, cy, radius * 0.4f, uiPaint);
     }
 
-    private void drawConveyor(Canvas canvas, float time) {
-        float height = surfaceHeight;
-        uiPaint.setColor(Color.parseColor("#1F3A43"));
-        float bandTop = height * 0.78f;
-        canvas.drawRect(0f, bandTop, surfaceWidth, bandTop + 28f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#2BB9A0"));
-        float segment = 64f;
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 1.1f, segment * 2f);
-        for (float x = -segment; x < surfaceWidth + segment; x += segment * 2f) {
-            float left = x - offset;
-            canvas.drawRect(left, bandTop, left + segment, bandTop + 28f, uiPaint);
-        }
-    }
-
     private void drawServoArms(Canvas canvas, float time) {
         uiPaint.setStyle(Paint.Style.STROKE);
         uiPaint.setStrokeWidth(6f);
-        uiPaint.setColor(Color.parseColor("#CCA700"));
+        uiPaint.setColor(0xFFCCA700);
         for (int i = 0; i < 4; i++) {
             float baseX = surfaceWidth * (0.2f + i * 0.2f);
             float baseY = SAFE_TOP_PX + surfaceHeight * 0.2f;
@@ -1216,49 +1467,33 @@ public class GameScene implements Scene {
         uiPaint.setStyle(Paint.Style.FILL);
     }
 
-    private void drawBrokenPanelTabs(Canvas canvas, float time) {
-        float width = surfaceWidth;
-        float period = Math.max(width / 4f, 320f);
-        float offset = computeLoopOffset(time, BASE_SCROLL_SPEED * 0.24f, period);
-        for (float x = -period; x < width + period; x += period) {
-            float left = x - offset;
-            RectF panel = new RectF(left + period * 0.08f, 10f,
-                    left + period * 0.74f, SAFE_TOP_PX - 12f);
-            uiPaint.setColor(Color.parseColor("#1F1F1F"));
-            canvas.drawRoundRect(panel, 18f, 18f, uiPaint);
-            uiPaint.setColor(Color.parseColor("#2C2C2C"));
-            canvas.drawRect(panel.left + 12f, panel.top + 10f,
-                    panel.right - 32f, panel.bottom - 10f, uiPaint);
-            uiPaint.setColor(Color.parseColor("#F14C4C"));
-            canvas.drawRect(panel.right - 28f, panel.top + 10f,
-                    panel.right - 12f, panel.bottom - 10f, uiPaint);
-        }
-    }
-
     private void drawBsodShard(Canvas canvas, float left, float top,
                                 float width, float height) {
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         path.moveTo(left, top + height * 0.1f);
         path.lineTo(left + width * 0.4f, top);
         path.lineTo(left + width, top + height * 0.4f);
         path.lineTo(left + width * 0.6f, top + height);
         path.close();
-        uiPaint.setColor(Color.parseColor("#1F2F44"));
+        uiPaint.setColor(0xFF1F2F44);
         canvas.drawPath(path, uiPaint);
-        uiPaint.setColor(Color.parseColor("#274B6B"));
+        uiPaint.setColor(0xFF274B6B);
         canvas.drawLine(left, top + height * 0.1f, left + width * 0.6f, top + height, uiPaint);
     }
 
-    private void drawBossTotem(Canvas canvas, float cx, float cy, float height, float time) {
-        uiPaint.setColor(Color.parseColor("#1E1E1E"));
-        RectF body = new RectF(cx - 20f, cy - height * 0.5f,
-                cx + 20f, cy + height * 0.5f);
-        canvas.drawRoundRect(body, 14f, 14f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#F14C4C"));
+    private void drawBossTotemBody(Canvas canvas, float cx, float cy, float height) {
+        uiPaint.setColor(0xFF1E1E1E);
+        canvas.drawRoundRect(cx - 20f, cy - height * 0.5f,
+                cx + 20f, cy + height * 0.5f, 14f, 14f, uiPaint);
+    }
+
+    private void drawBossTotemGlow(Canvas canvas, float cx, float cy, float height, float time) {
         float glow = (float) ((Math.sin(time * 2f + cx * 0.02f) + 1f) * 0.5f);
-        canvas.drawCircle(cx, body.top + height * 0.2f, 14f + glow * 6f, uiPaint);
-        uiPaint.setColor(Color.parseColor("#4FC1FF"));
-        canvas.drawCircle(cx, body.bottom - height * 0.2f, 10f + glow * 4f, uiPaint);
+        uiPaint.setColor(0xFFF14C4C);
+        canvas.drawCircle(cx, cy - height * 0.3f, 14f + glow * 6f, uiPaint);
+        uiPaint.setColor(0xFF4FC1FF);
+        canvas.drawCircle(cx, cy + height * 0.3f, 10f + glow * 4f, uiPaint);
     }
 
     private void drawTryCatchShield(Canvas canvas, float time) {
@@ -1270,7 +1505,7 @@ public class GameScene implements Scene {
             float angle = time * 0.6f + i * 0.9f;
             float cx = surfaceWidth * 0.5f + (float) Math.cos(angle) * 24f;
             float cy = surfaceHeight * 0.58f + (float) Math.sin(angle) * 14f;
-            canvas.drawArc(new RectF(cx - radius, cy - radius, cx + radius, cy + radius),
+            canvas.drawArc(cx - radius, cy - radius, cx + radius, cy + radius,
                     200f, 140f, false, uiPaint);
         }
         uiPaint.setStyle(Paint.Style.FILL);
@@ -1279,48 +1514,87 @@ public class GameScene implements Scene {
     private void drawArenaAnchors(Canvas canvas, float time) {
         uiPaint.setStyle(Paint.Style.FILL);
         uiPaint.setColor(Color.argb(180, 79, 193, 255));
-        float[] anchors = new float[] {40f, surfaceWidth - 40f};
-        for (float x : anchors) {
+        for (int i = 0; i < 2; i++) {
+            float x = i == 0 ? 40f : surfaceWidth - 40f;
             canvas.drawRect(x - 8f, SAFE_TOP_PX + 10f, x + 8f, SAFE_TOP_PX + 50f, uiPaint);
             canvas.drawRect(x - 8f, surfaceHeight - SAFE_BOTTOM_PX - 50f,
                     x + 8f, surfaceHeight - SAFE_BOTTOM_PX - 10f, uiPaint);
         }
-        uiPaint.setColor(Color.parseColor("#CCA700"));
+        uiPaint.setColor(0xFFCCA700);
         float pulse = (float) ((Math.sin(time * 1.5f) + 1f) * 0.5f);
         canvas.drawCircle(surfaceWidth * 0.5f, SAFE_TOP_PX + 30f, 8f + pulse * 4f, uiPaint);
         canvas.drawCircle(surfaceWidth * 0.5f, surfaceHeight - SAFE_BOTTOM_PX - 30f, 8f + pulse * 4f, uiPaint);
     }
 
-    private void drawLevel(Canvas canvas) {
+    private void drawLevel(Canvas canvas, float alpha) {
         if (robot == null) {
             return;
         }
-        for (Tile tile : tiles) {
-            tile.draw(canvas, worldPaint);
+        float tileSize = level.getTileSize();
+        spriteAtlas.ensureTileSize(tileSize);
+        // Cull to the camera, with a tile of slack for sprites that spill past their bounds.
+        float viewLeft = camera.getInterpolatedX(alpha) - tileSize;
+        float viewTop = camera.getInterpolatedY(alpha) - tileSize;
+        float viewRight = viewLeft + camera.getViewportWidth() + tileSize * 2f;
+        float viewBottom = viewTop + camera.getViewportHeight() + tileSize * 2f;
+        int startX = Math.max(0, (int) Math.floor(viewLeft / tileSize));
+        int endX = Math.min(level.getWidth() - 1, (int) Math.floor(viewRight / tileSize));
+        int startY = Math.max(0, (int) Math.floor(viewTop / tileSize));
+        int endY = Math.min(level.getHeight() - 1, (int) Math.floor(viewBottom / tileSize));
+        for (int y = startY; y <= endY; y++) {
+            for (int x = startX; x <= endX; x++) {
+                Tile tile = level.getTile(x, y);
+                if (tile != null) {
+                    spriteAtlas.drawTile(canvas, tile);
+                }
+            }
         }
-        for (Coin coin : coins) {
-            coin.draw(canvas, worldPaint);
+        for (int i = 0; i < coins.size(); i++) {
+            Coin coin = coins.get(i);
+            if (coin.getBounds().intersects(viewLeft, viewTop, viewRight, viewBottom)) {
+                spriteAtlas.drawCoin(canvas, coin);
+            }
         }
-        for (Spike spike : spikes) {
-            spike.draw(canvas, worldPaint);
+        for (int i = 0; i < spikes.size(); i++) {
+            Spike spike = spikes.get(i);
+            if (spike.getBounds().intersects(viewLeft, viewTop, viewRight, viewBottom)) {
+                spriteAtlas.drawSpike(canvas, spike);
+            }
         }
-        if (flag != null) {
-            flag.draw(canvas, worldPaint);
+        if (flag != null && flag.getBounds().intersects(viewLeft, viewTop, viewRight, viewBottom)) {
+            spriteAtlas.drawFlag(canvas, flag);
         }
-        robot.draw(canvas, worldPaint);
+        float robotLeft = robot.getInterpolatedX(alpha);
+        float robotTop = robot.getInterpolatedY(alpha);
+        Aabb robotBounds = robot.getBounds();
+        robotFrames.draw(canvas, robot.isFacingRight() ? 1 : 0, robotLeft, robotTop,
+                robotLeft + robotBounds.width(), robotTop + robotBounds.height());
     }
 
     private void drawControls(Canvas canvas) {
-        uiPaint.setStyle(Paint.Style.FILL);
-        uiPaint.setColor(Color.argb(200, 30, 30, 30));
-        canvas.drawRect(0, surfaceHeight * 0.7f, surfaceWidth, surfaceHeight, uiPaint);
+        // Only a button press or a quality change alters the controls; hardware canvases replay
+        // the recorded display list in between.
+        long key = (leftButton.isPressed() ? 1 : 0)
+                | (rightButton.isPressed() ? 2 : 0)
+                | (jumpButton.isPressed() ? 4 : 0)
+                | (antiAliasEnabled ? 8 : 0);
+        controlsLayer.draw(canvas, surfaceWidth, surfaceHeight, key, controlsRecorder);
+    }
 
-        uiPaint.setColor(Color.argb(220, 0, 122, 204));
-        canvas.drawRect(0, surfaceHeight * 0.7f, surfaceWidth, surfaceHeight * 0.7f + 4f, uiPaint);
+    private void recordControls(Canvas canvas) {
+        controlList.setStyle(Paint.Style.FILL).setColor(Color.argb(200, 30, 30, 30));
+        controlList.rect(0, surfaceHeight * 0.7f, surfaceWidth, surfaceHeight);
 
-        leftButton.draw(canvas, uiPaint);
-        rightButton.draw(canvas, uiPaint);
-        jumpButton.draw(canvas, uiPaint);
+        controlList.setColor(Color.argb(220, 0, 122, 204));
+        controlList.rect(0, surfaceHeight * 0.7f, surfaceWidth, surfaceHeight * 0.7f + 4f);
+
+        // The buttons never overlap, so their fills, outlines and labels can go out grouped.
+        controlList.beginBatch();
+        leftButton.record(controlList);
+        rightButton.record(controlList);
+        jumpButton.record(controlList);
+        controlList.endBatch();
+        controlList.replay(canvas);
     }
 
     @Override
@@ -1341,37 +1615,52 @@ public class GameScene implements Scene {
     }
 
     private void updateVirtualButtons(MotionEvent event) {
-        leftButton.setPressed(false);
-        rightButton.setPressed(false);
-        jumpButton.setPressed(false);
-        for (int i = 0; i < event.getPointerCount(); i++) {
-            float x = event.getX(i);
-            float y = event.getY(i);
-            if (leftButton.contains(x, y)) {
-                leftButton.setPressed(true);
-            }
-            if (rightButton.contains(x, y)) {
-                rightButton.setPressed(true);
-            }
-            if (jumpButton.contains(x, y)) {
-                jumpButton.setPressed(true);
+        boolean left = false;
+        boolean right = false;
+        boolean jump = false;
+        int action = event.getActionMasked();
+        int liftedPointer = action == MotionEvent.ACTION_POINTER_UP ? event.getActionIndex() : -1;
+        if (action != MotionEvent.ACTION_UP && action != MotionEvent.ACTION_CANCEL) {
+            for (int i = 0; i < event.getPointerCount(); i++) {
+                if (i == liftedPointer) {
+                    continue;
+                }
+                float x = event.getX(i);
+                float y = event.getY(i);
+                left |= leftButton.contains(x, y);
+                right |= rightButton.contains(x, y);
+                jump |= jumpButton.contains(x, y);
             }
         }
+        // Only state changes are queued; the button objects are updated when the step drains them.
+        long timestamp = InputEventQueue.toNanoTime(event.getEventTime());
+        if (left != leftTouchOffered && inputQueue.offer(INPUT_LEFT_BUTTON, left, timestamp)) {
+            leftTouchOffered = left;
+        }
+        if (right != rightTouchOffered && inputQueue.offer(INPUT_RIGHT_BUTTON, right, timestamp)) {
+            rightTouchOffered = right;
+        }
+        if (jump != jumpTouchOffered && inputQueue.offer(INPUT_JUMP_BUTTON, jump, timestamp)) {
+            jumpTouchOffered = jump;
+        }
     }
 
     @Override
     public boolean onKeyDown(int keyCode, KeyEvent event) {
+        if (event.getRepeatCount() > 0) {
+            // Auto-repeat of a held key is not a state change; queuing it would only fill the queue.
+            return keyCode == KeyEvent.KEYCODE_DPAD_LEFT
+                    || keyCode == KeyEvent.KEYCODE_DPAD_RIGHT
+                    || keyCode == KeyEvent.KEYCODE_SPACE;
+        }
         if (keyCode == KeyEvent.KEYCODE_DPAD_LEFT) {
-            leftKeyDown = true;
+            inputQueue.offer(INPUT_LEFT_KEY, true, InputEventQueue.toNanoTime(event.getEventTime()));
             return true;
         } else if (keyCode == KeyEvent.KEYCODE_DPAD_RIGHT) {
-            rightKeyDown = true;
+            inputQueue.offer(INPUT_RIGHT_KEY, true, InputEventQueue.toNanoTime(event.getEventTime()));
             return true;
         } else if (keyCode == KeyEvent.KEYCODE_SPACE) {
-            if (!jumpKeyDown) {
-                jumpQueued = true;
-            }
-            jumpKeyDown = true;
+            inputQueue.offer(INPUT_JUMP_KEY, true, InputEventQueue.toNanoTime(event.getEventTime()));
             return true;
         }
         return false;
@@ -1380,13 +1669,13 @@ public class GameScene implements Scene {
     @Override
     public boolean onKeyUp(int keyCode, KeyEvent event) {
         if (keyCode == KeyEvent.KEYCODE_DPAD_LEFT) {
-            leftKeyDown = false;
+            inputQueue.offer(INPUT_LEFT_KEY, false, InputEventQueue.toNanoTime(event.getEventTime()));
             return true;
         } else if (keyCode == KeyEvent.KEYCODE_DPAD_RIGHT) {
-            rightKeyDown = false;
+            inputQueue.offer(INPUT_RIGHT_KEY, false, InputEventQueue.toNanoTime(event.getEventTime()));
             return true;
         } else if (keyCode == KeyEvent.KEYCODE_SPACE) {
-            jumpKeyDown = false;
+            inputQueue.offer(INPUT_JUMP_KEY, false, InputEventQueue.toNanoTime(event.getEventTime()));
             return true;
         }
         return false;
@@ -1396,6 +1685,7 @@ public class GameScene implements Scene {
     public void onSurfaceChanged(int width, int height) {
         surfaceWidth = width;
         surfaceHeight = height;
+        hud.setViewport(width, height);
         camera.setViewport(width, height);
         ensureLevelForSelectedWorld();
         if (level != null) {
@@ -48,11 +48,21 @@ public class MenuScene implements Scene {
 
     private static final float PANEL_CORNER = 28f;
 
+    private static final String[] CITY_ALERT_LINES = {"NullPointer greift", "Pixelstadt an!"};
+    private static final String[] MISSION_BRIEF_LINES = {"ALARM! Clara++", "ist entführt!"};
+    private static final String[] PARKOUR_RUN_LINES = {"Code-Parkour durch", "Bugfallen!"};
+    private static final String[] BOSS_FIGHT_LINES = {"Try/Catch gegen", "NullPointer!"};
+    private static final String[] REUNION_LINES = {"Clara++ ist frei,", "Refactor-Zeit!"};
+
     private final SceneManager sceneManager;
     private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final RectF playButton = new RectF();
     private final RectF scoreboardButton = new RectF();
     private final RectF settingsButton = new RectF();
+    // Reused every frame by the story panel.
+    private final RectF panelRect = new RectF();
+    private final RectF bubbleRect = new RectF();
+    private final Path scratchPath = new Path();
 
     private float animationTimer;
     private int surfaceWidth;
@@ -94,6 +104,11 @@ public class MenuScene implements Scene {
         }
     }
 
+    @Override
+    public boolean needsContinuousRedraw() {
+        return true;
+    }
+
     @Override
     public void draw(Canvas canvas) {
         if (surfaceWidth == 0 || surfaceHeight == 0) {
@@ -101,13 +116,13 @@ public class MenuScene implements Scene {
         }
         // Background inspired by a dimmed IDE workspace.
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#1E1E1E"));
+        paint.setColor(0xFF1E1E1E);
         canvas.drawRect(0, 0, surfaceWidth, surfaceHeight, paint);
-        paint.setColor(Color.parseColor("#252526"));
+        paint.setColor(0xFF252526);
         canvas.drawRect(0, 0, surfaceWidth, surfaceHeight * 0.08f, paint);
 
         // Animated backdrop lines.
-        paint.setColor(Color.parseColor("#264F78"));
+        paint.setColor(0xFF264F78);
         float lineSpacing = 34f;
         float offset = (float) Math.sin(animationTimer * 0.8f) * 12f;
         for (int i = 0; i < 10; i++) {
@@ -125,7 +140,7 @@ public class MenuScene implements Scene {
 
     private void drawButton(Canvas canvas, RectF bounds, String text) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#007ACC"));
+        paint.setColor(0xFF007ACC);
         canvas.drawRoundRect(bounds, 28f, 28f, paint);
         paint.setColor(Color.WHITE);
         paint.setTextAlign(Paint.Align.CENTER);
@@ -195,7 +210,7 @@ public class MenuScene implements Scene {
         float titleY = surfaceHeight * 0.18f;
         canvas.drawText("Robot IDE Parkour", titleX, titleY, paint);
 
-        paint.setColor(Color.parseColor("#94C8FF"));
+        paint.setColor(0xFF94C8FF);
         paint.setTextSize(surfaceWidth * 0.032f);
         canvas.drawText("Run. Debug. Deploy.", titleX, titleY + surfaceHeight * 0.05f, paint);
     }
@@ -205,7 +220,8 @@ public class MenuScene implements Scene {
         float panelLeft = (surfaceWidth - panelWidth) / 2f;
         float panelTop = surfaceHeight * 0.28f;
         float panelHeight = surfaceHeight * 0.36f;
-        RectF panel = new RectF(panelLeft, panelTop, panelLeft + panelWidth, panelTop + panelHeight);
+        RectF panel = panelRect;
+        panel.set(panelLeft, panelTop, panelLeft + panelWidth, panelTop + panelHeight);
 
         paint.setStyle(Paint.Style.FILL);
         paint.setColor(Color.argb(220, 18, 18, 24));
@@ -213,7 +229,7 @@ public class MenuScene implements Scene {
 
         paint.setStyle(Paint.Style.STROKE);
         paint.setStrokeWidth(2f);
-        paint.setColor(Color.parseColor("#007ACC"));
+        paint.setColor(0xFF007ACC);
         canvas.drawRoundRect(panel, PANEL_CORNER, PANEL_CORNER, paint);
 
         if (STORY_SEQUENCE.length == 0) {
@@ -267,7 +283,8 @@ public class MenuScene implements Scene {
         float margin = panel.width() * 0.04f;
         float bubbleWidth = panel.width() * 0.38f;
         float bubbleHeight = panel.height() * 0.28f;
-        RectF bubble = new RectF(
+        RectF bubble = bubbleRect;
+        bubble.set(
                 panel.right - bubbleWidth - margin,
                 panel.top + margin,
                 panel.right - margin,
@@ -286,7 +303,8 @@ public class MenuScene implements Scene {
         // Tail pointing towards the panel center
         paint.setStyle(Paint.Style.FILL);
         paint.setColor(Color.argb((int) (alpha * 0.92f), 25, 34, 52));
-        Path tail = new Path();
+        Path tail = scratchPath;
+        tail.reset();
         float tailBaseX = bubble.left + bubble.width() * 0.3f;
         float tailBaseY = bubble.bottom;
         tail.moveTo(tailBaseX, tailBaseY);
@@ -318,15 +336,15 @@ public class MenuScene implements Scene {
     private String[] getBubbleLines(StoryScene scene) {
         switch (scene) {
             case CITY_ALERT:
-                return new String[] {"NullPointer greift", "Pixelstadt an!"};
+                return CITY_ALERT_LINES;
             case MISSION_BRIEF:
-                return new String[] {"ALARM! Clara++", "ist entführt!"};
+                return MISSION_BRIEF_LINES;
             case PARKOUR_RUN:
-                return new String[] {"Code-Parkour durch", "Bugfallen!"};
+                return PARKOUR_RUN_LINES;
             case BOSS_FIGHT:
-                return new String[] {"Try/Catch gegen", "NullPointer!"};
+                return BOSS_FIGHT_LINES;
             case REUNION:
-                return new String[] {"Clara++ ist frei,", "Refactor-Zeit!"};
+                return REUNION_LINES;
             default:
                 return null;
         }
@@ -334,11 +352,11 @@ public class MenuScene implements Scene {
 
     private void drawCityAlert(Canvas canvas, RectF panel, float pixel, float progress) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#111421"));
+        paint.setColor(0xFF111421);
         canvas.drawRoundRect(panel.left + pixel, panel.top + pixel, panel.right - pixel, panel.bottom - pixel, 16f, 16f, paint);
 
         // Night sky with twinkling bits
-        paint.setColor(Color.parseColor("#1F2A44"));
+        paint.setColor(0xFF1F2A44);
         for (int i = 0; i < 40; i++) {
             float flicker = (float) Math.abs(Math.sin(animationTimer * 2.0f + i));
             if (flicker > 0.7f) {
@@ -354,9 +372,9 @@ public class MenuScene implements Scene {
             float right = left + pixel * 4;
             float bottom = panel.bottom - pixel * 6;
             float top = bottom - pixel * buildingHeights[i];
-            paint.setColor(Color.parseColor(i % 2 == 0 ? "#1B1E30" : "#16192A"));
+            paint.setColor(i % 2 == 0 ? 0xFF1B1E30 : 0xFF16192A);
             canvas.drawRect(left, top, right, bottom, paint);
-            paint.setColor(Color.parseColor("#232840"));
+            paint.setColor(0xFF232840);
             for (int w = 0; w < buildingHeights[i] / 2; w++) {
                 float wy = bottom - pixel * (w * 2 + 1.5f);
                 canvas.drawRect(left + pixel, wy, left + pixel * 1.8f, wy + pixel * 0.8f, paint);
@@ -440,7 +458,8 @@ public class MenuScene implements Scene {
         float waveTop = epicTop + pixel * 5f;
         float waveHeight = pixel * 4.5f;
         float waveWidth = epicRight - epicLeft - pixel * 5f;
-        Path waveform = new Path();
+        Path waveform = scratchPath;
+        waveform.reset();
         waveform.moveTo(waveLeft, waveTop + waveHeight / 2f);
         int samples = 32;
         for (int i = 0; i <= samples; i++) {
@@ -464,7 +483,7 @@ public class MenuScene implements Scene {
         float exY = epicTop + pixel * 3f;
         float pulse = 0.8f + 0.2f * (float) Math.sin(animationTimer * 6f);
         canvas.drawRoundRect(exX, exY, exX + exWidth * pulse, exY + exHeight * pulse, pixel * 0.8f, pixel * 0.8f, paint);
-        paint.setColor(Color.parseColor("#111C2B"));
+        paint.setColor(0xFF111C2B);
         canvas.drawRoundRect(exX + pixel * 0.8f, exY + pixel * 1.4f, exX + exWidth * pulse - pixel * 0.8f,
                 exY + exHeight * pulse - pixel * 2.6f, pixel * 0.5f, pixel * 0.5f, paint);
         canvas.drawRoundRect(exX + pixel * 1.2f, exY + exHeight * pulse - pixel * 1.8f,
@@ -473,11 +492,11 @@ public class MenuScene implements Scene {
 
     private void drawParkourRun(Canvas canvas, RectF panel, float pixel, float progress) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#101424"));
+        paint.setColor(0xFF101424);
         canvas.drawRect(panel.left + pixel, panel.top + pixel, panel.right - pixel, panel.bottom - pixel, paint);
 
         // Platforms
-        paint.setColor(Color.parseColor("#2D2D30"));
+        paint.setColor(0xFF2D2D30);
         for (int i = 0; i < 5; i++) {
             float platWidth = pixel * (10 + i * 2);
             float platLeft = panel.left + pixel * (4 + i * 10);
@@ -557,7 +576,7 @@ public class MenuScene implements Scene {
         drawRobotSprite(canvas, robotX, robotY, pixel * 0.92f, false, lean);
 
         // Spinning coins
-        paint.setColor(Color.parseColor("#FDD835"));
+        paint.setColor(0xFFFDD835);
         for (int i = 0; i < 4; i++) {
             float coinX = panel.left + pixel * (12 + i * 12);
             float coinY = panel.bottom - pixel * (20 + (i % 2) * 4);
@@ -567,7 +586,7 @@ public class MenuScene implements Scene {
         }
 
         // Spike hazards
-        paint.setColor(Color.parseColor("#C7515A"));
+        paint.setColor(0xFFC7515A);
         float spikeBaseY = panel.bottom - pixel * 6f;
         for (int i = 0; i < 6; i++) {
             float sx = panel.left + pixel * (8 + i * 6);
@@ -577,11 +596,11 @@ public class MenuScene implements Scene {
 
     private void drawBossFight(Canvas canvas, RectF panel, float pixel, float progress) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#1A0F1F"));
+        paint.setColor(0xFF1A0F1F);
         canvas.drawRect(panel.left + pixel, panel.top + pixel, panel.right - pixel, panel.bottom - pixel, paint);
 
         float lavaTop = panel.bottom - pixel * 6f;
-        paint.setColor(Color.parseColor("#7A1633"));
+        paint.setColor(0xFF7A1633);
         canvas.drawRect(panel.left + pixel, lavaTop, panel.right - pixel, panel.bottom - pixel, paint);
 
         float dodgePhase = (progress * 1.2f + animationTimer * 0.8f) % 1f;
@@ -611,7 +630,7 @@ public class MenuScene implements Scene {
             robotLean = 12f * (1f - finalPhase);
         }
         drawRobotSprite(canvas, robotX, robotY, pixel, false, robotLean);
-        paint.setColor(Color.parseColor("#5B1224"));
+        paint.setColor(0xFF5B1224);
         canvas.drawRect(bossLeft, bossTop, bossLeft + bossSize, bossTop + bossSize, paint);
         int coreAlpha = (int) (255 - finalPhase * 120f);
         paint.setColor(Color.argb(coreAlpha, 244, 71, 71));
@@ -667,7 +686,7 @@ public class MenuScene implements Scene {
         } else {
             // Boss projectile volley
             paint.setStyle(Paint.Style.FILL);
-            paint.setColor(Color.parseColor("#FDD835"));
+            paint.setColor(0xFFFDD835);
             for (int i = 0; i < 3; i++) {
                 float t = ((progress * 2f + i * 0.33f + animationTimer * 0.6f) % 1f);
                 float startX = bossLeft - pixel * (1.2f + i * 0.4f);
@@ -682,7 +701,7 @@ public class MenuScene implements Scene {
         // Shield effect
         paint.setStyle(Paint.Style.STROKE);
         paint.setStrokeWidth(pixel * 0.8f);
-        paint.setColor(Color.parseColor("#79C0FF"));
+        paint.setColor(0xFF79C0FF);
         float shieldRadius = pixel * 5f + (float) Math.sin(animationTimer * 3f) * pixel;
         canvas.drawCircle(robotX, robotY - pixel * 2.6f, shieldRadius, paint);
 
@@ -728,7 +747,7 @@ public class MenuScene implements Scene {
 
     private void drawReunion(Canvas canvas, RectF panel, float pixel, float progress) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#101B2A"));
+        paint.setColor(0xFF101B2A);
         canvas.drawRect(panel.left + pixel, panel.top + pixel, panel.right - pixel, panel.bottom - pixel, paint);
 
         float centerY = panel.bottom - pixel * 8f;
@@ -742,14 +761,14 @@ public class MenuScene implements Scene {
         // Connection beam
         paint.setStyle(Paint.Style.STROKE);
         paint.setStrokeWidth(pixel * 0.9f);
-        paint.setColor(Color.parseColor("#94C8FF"));
+        paint.setColor(0xFF94C8FF);
         float beamStart = lerp(robotX + pixel * 2f, (robotX + computerX) / 2f, handshakeProgress);
         float beamEnd = lerp(computerX - pixel * 2f, (robotX + computerX) / 2f, handshakeProgress);
         canvas.drawLine(beamStart, centerY - pixel * 2f, beamEnd, centerY - pixel * 2f, paint);
 
         // Hearts rising
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#F26BAA"));
+        paint.setColor(0xFFF26BAA);
         for (int i = 0; i < 4; i++) {
             float t = (progress * 2f + i * 0.2f + animationTimer * 0.5f) % 1f;
             float hx = (robotX + computerX) / 2f + (float) Math.sin(t * Math.PI * 2f + i) * pixel * 4f;
@@ -758,7 +777,7 @@ public class MenuScene implements Scene {
         }
 
         // Hello World banner
-        paint.setColor(Color.parseColor("#0E639C"));
+        paint.setColor(0xFF0E639C);
         float bannerLeft = panel.left + panel.width() * 0.3f;
         float bannerTop = panel.top + pixel * 4f;
         float bannerRight = panel.right - panel.width() * 0.3f;
@@ -817,7 +836,7 @@ public class MenuScene implements Scene {
 
         // Legs with joints
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#2B3B55"));
+        paint.setColor(0xFF2B3B55);
         float legWidth = pixel * 1.4f;
         float legHeight = pixel * 2.4f;
         float legGap = pixel * 1.1f;
@@ -825,27 +844,27 @@ public class MenuScene implements Scene {
         canvas.drawRoundRect(centerX - legGap - legWidth, legTop, centerX - legGap, legTop + legHeight, pixel * 0.6f, pixel * 0.6f, paint);
         canvas.drawRoundRect(centerX + legGap, legTop, centerX + legGap + legWidth, legTop + legHeight, pixel * 0.6f, pixel * 0.6f, paint);
 
-        paint.setColor(Color.parseColor("#94C8FF"));
+        paint.setColor(0xFF94C8FF);
         canvas.drawCircle(centerX - legGap - legWidth / 2f, legTop + pixel * 0.6f, pixel * 0.6f, paint);
         canvas.drawCircle(centerX + legGap + legWidth / 2f, legTop + pixel * 0.6f, pixel * 0.6f, paint);
 
         // Torso plating
-        paint.setColor(Color.parseColor("#9FB8D1"));
+        paint.setColor(0xFF9FB8D1);
         canvas.drawRoundRect(torsoLeft, torsoTop, torsoLeft + torsoWidth, torsoTop + torsoHeight, pixel * 1.4f, pixel * 1.4f, paint);
 
-        paint.setColor(Color.parseColor("#6284A8"));
+        paint.setColor(0xFF6284A8);
         canvas.drawRoundRect(torsoLeft + pixel * 0.5f, torsoTop + pixel * 0.8f,
                 torsoLeft + torsoWidth - pixel * 0.5f, torsoTop + torsoHeight - pixel * 0.8f,
                 pixel * 1.2f, pixel * 1.2f, paint);
 
         // Chest panel
-        paint.setColor(Color.parseColor("#0E639C"));
+        paint.setColor(0xFF0E639C);
         float panelTop = torsoTop + pixel * 2f;
         float panelBottom = panelTop + pixel * 1.8f;
         canvas.drawRoundRect(centerX - pixel * 2.4f, panelTop, centerX + pixel * 2.4f, panelBottom, pixel, pixel, paint);
-        paint.setColor(Color.parseColor("#94C8FF"));
+        paint.setColor(0xFF94C8FF);
         canvas.drawRect(centerX - pixel * 1.6f, panelTop + pixel * 0.4f, centerX - pixel * 0.6f, panelBottom - pixel * 0.4f, paint);
-        paint.setColor(Color.parseColor("#FDD835"));
+        paint.setColor(0xFFFDD835);
         canvas.drawRect(centerX + pixel * 0.6f, panelTop + pixel * 0.4f, centerX + pixel * 1.6f, panelBottom - pixel * 0.4f, paint);
 
         // Head
@@ -853,26 +872,26 @@ public class MenuScene implements Scene {
         float headWidth = pixel * 4.4f;
         float headBottom = torsoTop - pixel * 0.4f;
         float headTop = headBottom - headHeight;
-        paint.setColor(Color.parseColor("#D9E4FF"));
+        paint.setColor(0xFFD9E4FF);
         canvas.drawRoundRect(centerX - headWidth / 2f, headTop, centerX + headWidth / 2f, headBottom, pixel * 1.2f, pixel * 1.2f, paint);
 
         // Eyes and mouth
-        paint.setColor(Color.parseColor("#1F2937"));
+        paint.setColor(0xFF1F2937);
         canvas.drawRoundRect(centerX - pixel * 1.8f, headTop + pixel * 1.2f,
                 centerX - pixel * 0.8f, headTop + pixel * 2.2f, pixel * 0.4f, pixel * 0.4f, paint);
         canvas.drawRoundRect(centerX + pixel * 0.8f, headTop + pixel * 1.2f,
                 centerX + pixel * 1.8f, headTop + pixel * 2.2f, pixel * 0.4f, pixel * 0.4f, paint);
-        paint.setColor(Color.parseColor("#4ADEDE"));
+        paint.setColor(0xFF4ADEDE);
         canvas.drawCircle(centerX - pixel * 1.3f, headTop + pixel * 1.7f, pixel * 0.4f, paint);
         canvas.drawCircle(centerX + pixel * 1.3f, headTop + pixel * 1.7f, pixel * 0.4f, paint);
 
-        paint.setColor(Color.parseColor("#2B3B55"));
+        paint.setColor(0xFF2B3B55);
         canvas.drawRoundRect(centerX - pixel, headTop + pixel * 2.4f, centerX + pixel, headTop + pixel * 2.8f, pixel * 0.4f, pixel * 0.4f, paint);
 
         // Antenna with light
-        paint.setColor(Color.parseColor("#2B3B55"));
+        paint.setColor(0xFF2B3B55);
         canvas.drawRect(centerX - pixel * 0.3f, headTop - pixel * 1.6f, centerX + pixel * 0.3f, headTop, paint);
-        paint.setColor(Color.parseColor("#FDD835"));
+        paint.setColor(0xFFFDD835);
         canvas.drawCircle(centerX, headTop - pixel * 1.8f, pixel * 0.8f, paint);
 
         // Arms with joints
@@ -880,22 +899,22 @@ public class MenuScene implements Scene {
         float armLength = pixel * 3.6f;
         float armWidth = pixel * 1.1f;
         float swing = (float) Math.sin(animationTimer * 4.2f) * pixel * 0.8f;
-        paint.setColor(Color.parseColor("#9FB8D1"));
+        paint.setColor(0xFF9FB8D1);
         canvas.drawRoundRect(torsoLeft - armWidth, shoulderY + swing, torsoLeft, shoulderY + armLength + swing, pixel * 0.6f, pixel * 0.6f, paint);
         canvas.drawRoundRect(torsoLeft + torsoWidth, shoulderY - swing, torsoLeft + torsoWidth + armWidth, shoulderY + armLength - swing, pixel * 0.6f, pixel * 0.6f, paint);
 
-        paint.setColor(Color.parseColor("#2B3B55"));
+        paint.setColor(0xFF2B3B55);
         canvas.drawCircle(torsoLeft - armWidth / 2f, shoulderY + swing + armLength * 0.35f, pixel * 0.6f, paint);
         canvas.drawCircle(torsoLeft + torsoWidth + armWidth / 2f, shoulderY - swing + armLength * 0.35f, pixel * 0.6f, paint);
 
-        paint.setColor(Color.parseColor("#FDD835"));
+        paint.setColor(0xFFFDD835);
         canvas.drawCircle(torsoLeft - armWidth / 2f, shoulderY + swing + armLength + pixel * 0.1f, pixel * 0.5f, paint);
         canvas.drawCircle(torsoLeft + torsoWidth + armWidth / 2f, shoulderY - swing + armLength + pixel * 0.1f, pixel * 0.5f, paint);
 
         // Outline
         paint.setStyle(Paint.Style.STROKE);
         paint.setStrokeWidth(pixel * 0.6f);
-        paint.setColor(Color.parseColor("#1F2937"));
+        paint.setColor(0xFF1F2937);
         canvas.drawRoundRect(torsoLeft, torsoTop, torsoLeft + torsoWidth, torsoTop + torsoHeight, pixel * 1.4f, pixel * 1.4f, paint);
 
         canvas.restore();
@@ -909,16 +928,17 @@ public class MenuScene implements Scene {
         float frameTop = baseY - frameHeight;
 
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#2B2F3A"));
+        paint.setColor(0xFF2B2F3A);
         canvas.drawRoundRect(frameLeft, frameTop, frameLeft + frameWidth, frameTop + frameHeight, pixel * 1.2f, pixel * 1.2f, paint);
 
         // Hair (blonde)
-        paint.setColor(Color.parseColor("#F7D774"));
+        paint.setColor(0xFFF7D774);
         float hairHeight = pixel * 1.6f;
         canvas.drawRoundRect(frameLeft + pixel * 0.6f, frameTop - hairHeight,
                 frameLeft + frameWidth - pixel * 0.6f, frameTop + pixel * 0.2f,
                 pixel * 1.2f, pixel * 1.2f, paint);
-        Path hairFringe = new Path();
+        Path hairFringe = scratchPath;
+        hairFringe.reset();
         hairFringe.moveTo(frameLeft + pixel * 1.0f, frameTop);
         hairFringe.lineTo(frameLeft + pixel * 2.6f, frameTop + pixel * 1.2f);
         hairFringe.lineTo(frameLeft + pixel * 4.2f, frameTop);
@@ -928,7 +948,7 @@ public class MenuScene implements Scene {
         canvas.drawPath(hairFringe, paint);
 
         // Screen area
-        paint.setColor(Color.parseColor("#0E639C"));
+        paint.setColor(0xFF0E639C);
         float screenLeft = frameLeft + pixel * 1.0f;
         float screenTop = frameTop + pixel * 0.9f;
         float screenRight = frameLeft + frameWidth - pixel * 1.0f;
@@ -941,7 +961,7 @@ public class MenuScene implements Scene {
         paint.setTextSize(pixel * 2.6f);
         canvas.drawText("C++", (screenLeft + screenRight) / 2f, screenTop + pixel * 2.8f, paint);
 
-        paint.setColor(Color.parseColor("#94C8FF"));
+        paint.setColor(0xFF94C8FF);
         canvas.drawCircle(screenLeft + pixel * 2.0f, screenTop + pixel * 4.0f, pixel * 0.7f, paint);
         canvas.drawCircle(screenRight - pixel * 2.0f, screenTop + pixel * 4.0f, pixel * 0.7f, paint);
         paint.setColor(Color.WHITE);
@@ -954,12 +974,12 @@ public class MenuScene implements Scene {
         // Frame outline
         paint.setStyle(Paint.Style.STROKE);
         paint.setStrokeWidth(pixel * 0.6f);
-        paint.setColor(Color.parseColor("#16191F"));
+        paint.setColor(0xFF16191F);
         canvas.drawRoundRect(frameLeft, frameTop, frameLeft + frameWidth, frameTop + frameHeight, pixel * 1.2f, pixel * 1.2f, paint);
         paint.setStyle(Paint.Style.FILL);
 
         // Stand
-        paint.setColor(Color.parseColor("#1E1E1E"));
+        paint.setColor(0xFF1E1E1E);
         float standTop = frameTop + frameHeight - pixel * 0.6f;
         float standBottom = standTop + pixel * 2.8f;
         float standWidth = frameWidth * 0.4f;
@@ -968,7 +988,7 @@ public class MenuScene implements Scene {
                 centerX + standWidth / 1.6f, standBottom + pixel * 0.8f, pixel * 0.6f, pixel * 0.6f, paint);
 
         // Status LED
-        paint.setColor(Color.parseColor("#FDD835"));
+        paint.setColor(0xFFFDD835);
         canvas.drawCircle(screenRight - pixel * 1.2f, screenTop + pixel * 1.4f, pixel * 0.4f, paint);
     }
 
@@ -979,7 +999,8 @@ public class MenuScene implements Scene {
         canvas.drawCircle(centerX + half * 0.6f, centerY - half * 0.2f, half * 0.6f, paint);
         float bottom = centerY + half * 0.8f;
         canvas.drawRect(centerX - half, centerY - half * 0.2f, centerX + half, bottom, paint);
-        Path path = new Path();
+        Path path = scratchPath;
+        path.reset();
         path.moveTo(centerX - half, centerY + half * 0.2f);
         path.lineTo(centerX + half, centerY + half * 0.2f);
         path.lineTo(centerX, bottom + half * 0.6f);
@@ -16,6 +16,7 @@ import com.example.robotparkour.core.Scene;
 import com.example.robotparkour.core.SceneManager;
 import com.example.robotparkour.core.SceneType;
 import com.example.robotparkour.storage.ScoreboardManager;
+import com.example.robotparkour.ui.GlyphAtlas;
 import com.example.robotparkour.util.TimeFormatter;
 
 import java.util.ArrayList;
@@ -29,16 +30,26 @@ import java.util.Map;
  */
 public class ScoreboardScene implements Scene {
 
+    private static final int BACKGROUND_COLOR = Color.parseColor("#12263F");
+    private static final int BUTTON_COLOR = Color.parseColor("#4A90E2");
+
     private final SceneManager sceneManager;
     private final ScoreboardManager scoreboardManager;
     private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final RectF backButton = new RectF();
     private final float touchSlop;
+    // Text is blitted from baked glyphs, one atlas per text size.
+    private final GlyphAtlas headingGlyphs;
+    private final GlyphAtlas rowGlyphs;
+    private final GlyphAtlas buttonGlyphs;
 
     private int surfaceWidth;
     private int surfaceHeight;
     private final List<LevelDescriptor> descriptors = new ArrayList<>();
     private Map<Integer, Float> bestTimes = new HashMap<>();
+    // Row texts, formatted once per visit instead of per frame.
+    private final List<String> rowTitles = new ArrayList<>();
+    private final List<String> rowTimes = new ArrayList<>();
     private float scrollOffset;
     private float maxScroll;
     private boolean dragging;
@@ -49,6 +60,11 @@ public class ScoreboardScene implements Scene {
         this.sceneManager = sceneManager;
         this.scoreboardManager = sceneManager.getScoreboardManager();
         this.touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+        Paint textStyle = new Paint(Paint.ANTI_ALIAS_FLAG);
+        textStyle.setColor(Color.WHITE);
+        headingGlyphs = new GlyphAtlas(textStyle, GlyphAtlas.DEFAULT_CHARSET);
+        rowGlyphs = new GlyphAtlas(textStyle, GlyphAtlas.DEFAULT_CHARSET);
+        buttonGlyphs = new GlyphAtlas(textStyle, GlyphAtlas.DEFAULT_CHARSET);
     }
 
     @Override
@@ -61,6 +77,14 @@ public class ScoreboardScene implements Scene {
         descriptors.clear();
         descriptors.addAll(LevelCatalog.getInstance(sceneManager.getContext()).getDescriptors());
         bestTimes = scoreboardManager.getAllBestTimes();
+        rowTitles.clear();
+        rowTimes.clear();
+        for (LevelDescriptor descriptor : descriptors) {
+            rowTitles.add(String.format(Locale.getDefault(), "%d. %s",
+                    descriptor.getWorldNumber(), descriptor.getWorldInfo().getName()));
+            Float best = bestTimes != null ? bestTimes.get(descriptor.getWorldNumber()) : null;
+            rowTimes.add(best != null ? TimeFormatter.format(best) : "—");
+        }
         scrollOffset = 0f;
         dragging = false;
         accumulatedDrag = 0f;
@@ -76,23 +100,25 @@ public class ScoreboardScene implements Scene {
         // Static screen.
     }
 
+    @Override
+    public boolean needsContinuousRedraw() {
+        return false;
+    }
+
     @Override
     public void draw(Canvas canvas) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#12263F"));
+        paint.setColor(BACKGROUND_COLOR);
         canvas.drawRect(0, 0, surfaceWidth, surfaceHeight, paint);
 
-        paint.setColor(Color.WHITE);
-        paint.setTextAlign(Paint.Align.CENTER);
-        paint.setTextSize(surfaceWidth * 0.07f);
-        canvas.drawText("Bestzeiten", surfaceWidth / 2f, surfaceHeight * 0.18f, paint);
+        headingGlyphs.setTextSize(surfaceWidth * 0.07f);
+        headingGlyphs.drawCentered(canvas, "Bestzeiten", surfaceWidth / 2f, surfaceHeight * 0.18f);
 
         float startY = surfaceHeight * 0.3f;
-        paint.setTextSize(surfaceWidth * 0.042f);
-        float lineHeight = paint.getTextSize() * 1.6f;
+        rowGlyphs.setTextSize(surfaceWidth * 0.042f);
+        float lineHeight = rowGlyphs.getTextSize() * 1.6f;
         float leftX = surfaceWidth * 0.16f;
         float rightX = surfaceWidth * 0.84f;
-        paint.setTextAlign(Paint.Align.LEFT);
 
         float listBottom = backButton.top - surfaceHeight * 0.06f;
         float availableHeight = Math.max(0f, listBottom - startY);
@@ -102,25 +128,17 @@ public class ScoreboardScene implements Scene {
         float drawY = startY - scrollOffset;
 
         if (descriptors.isEmpty()) {
-            paint.setTextAlign(Paint.Align.CENTER);
-            canvas.drawText("Keine Welten gefunden.", surfaceWidth / 2f, drawY, paint);
-            paint.setTextAlign(Paint.Align.LEFT);
+            rowGlyphs.drawCentered(canvas, "Keine Welten gefunden.", surfaceWidth / 2f, drawY);
         } else {
-            for (int i = 0; i < descriptors.size(); i++) {
-                LevelDescriptor descriptor = descriptors.get(i);
-                String title = String.format(Locale.getDefault(), "%d. %s", descriptor.getWorldNumber(), descriptor.getWorldInfo().getName());
+            for (int i = 0; i < rowTitles.size(); i++) {
                 float y = drawY + i * lineHeight;
                 if (y < startY - lineHeight || y > listBottom + lineHeight) {
                     continue;
                 }
-                paint.setTextAlign(Paint.Align.LEFT);
-                canvas.drawText(title, leftX, y, paint);
-                paint.setTextAlign(Paint.Align.RIGHT);
-                Float best = bestTimes != null ? bestTimes.get(descriptor.getWorldNumber()) : null;
-                String timeText = best != null ? TimeFormatter.format(best) : "—";
-                canvas.drawText(timeText, rightX, y, paint);
+                rowGlyphs.draw(canvas, rowTitles.get(i), leftX, y);
+                String timeText = rowTimes.get(i);
+                rowGlyphs.draw(canvas, timeText, rightX - rowGlyphs.measure(timeText), y);
             }
-            paint.setTextAlign(Paint.Align.LEFT);
         }
 
         drawButton(canvas, backButton, "Back");
@@ -128,12 +146,11 @@ public class ScoreboardScene implements Scene {
 
     private void drawButton(Canvas canvas, RectF bounds, String text) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#4A90E2"));
+        paint.setColor(BUTTON_COLOR);
         canvas.drawRoundRect(bounds, 24f, 24f, paint);
-        paint.setColor(Color.WHITE);
-        paint.setTextAlign(Paint.Align.CENTER);
-        paint.setTextSize(bounds.height() * 0.55f);
-        canvas.drawText(text, bounds.centerX(), bounds.centerY() + paint.getTextSize() * 0.3f, paint);
+        buttonGlyphs.setTextSize(bounds.height() * 0.55f);
+        buttonGlyphs.drawCentered(canvas, text, bounds.centerX(),
+                bounds.centerY() + buttonGlyphs.getTextSize() * 0.3f);
     }
 
     @Override
@@ -19,6 +19,12 @@ import com.example.robotparkour.core.SceneType;
  */
 public class SettingsScene implements Scene {
 
+    private static final int BACKGROUND_COLOR = Color.parseColor("#102542");
+    private static final int TOGGLE_COLOR = Color.parseColor("#1F3B73");
+    private static final int TOGGLE_ON_COLOR = Color.parseColor("#27AE60");
+    private static final int TOGGLE_OFF_COLOR = Color.parseColor("#BDBDBD");
+    private static final int BUTTON_COLOR = Color.parseColor("#4A90E2");
+
     private final SceneManager sceneManager;
     private final GameAudioManager audioManager;
     private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -54,10 +60,15 @@ public class SettingsScene implements Scene {
         // Static screen.
     }
 
+    @Override
+    public boolean needsContinuousRedraw() {
+        return false;
+    }
+
     @Override
     public void draw(Canvas canvas) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#102542"));
+        paint.setColor(BACKGROUND_COLOR);
         canvas.drawRect(0, 0, surfaceWidth, surfaceHeight, paint);
 
         paint.setColor(Color.WHITE);
@@ -72,7 +83,7 @@ public class SettingsScene implements Scene {
 
     private void drawToggle(Canvas canvas, RectF bounds, String label, boolean enabled) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#1F3B73"));
+        paint.setColor(TOGGLE_COLOR);
         canvas.drawRoundRect(bounds, 20f, 20f, paint);
 
         paint.setColor(Color.WHITE);
@@ -82,13 +93,13 @@ public class SettingsScene implements Scene {
 
         float indicatorSize = bounds.height() * 0.5f;
         float indicatorLeft = bounds.right - indicatorSize - 24f;
-        paint.setColor(enabled ? Color.parseColor("#27AE60") : Color.parseColor("#BDBDBD"));
+        paint.setColor(enabled ? TOGGLE_ON_COLOR : TOGGLE_OFF_COLOR);
         canvas.drawRoundRect(indicatorLeft, bounds.centerY() - indicatorSize / 2f, indicatorLeft + indicatorSize, bounds.centerY() + indicatorSize / 2f, 12f, 12f, paint);
     }
 
     private void drawButton(Canvas canvas, RectF bounds, String text) {
         paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#4A90E2"));
+        paint.setColor(BUTTON_COLOR);
         canvas.drawRoundRect(bounds, 24f, 24f, paint);
         paint.setColor(Color.WHITE);
         paint.setTextAlign(Paint.Align.CENTER);
@@ -119,6 +119,11 @@ public class WorldSelectScene implements Scene {
         // Static overlay; no simulation updates required.
     }
 
+    @Override
+    public boolean needsContinuousRedraw() {
+        return false;
+    }
+
     @Override
     public void draw(Canvas canvas) {
         canvas.drawColor(Color.argb(160, 6, 20, 36));
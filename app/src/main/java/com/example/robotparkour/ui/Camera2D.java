@@ -16,6 +16,8 @@ public class Camera2D {
 
     private float x;
     private float y;
+    private float previousX;
+    private float previousY;
 
     private float horizontalDeadZone;
     private float verticalDeadZone;
@@ -37,6 +39,15 @@ public class Camera2D {
         x = newX;
         y = newY;
         clampToWorld();
+        storePreviousPosition();
+    }
+
+    /**
+     * Remembers the current position as the start of the next simulation step.
+     */
+    public void storePreviousPosition() {
+        previousX = x;
+        previousY = y;
     }
 
     public void follow(Robot robot) {
@@ -88,6 +99,14 @@ public class Camera2D {
         return y;
     }
 
+    public float getInterpolatedX(float alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    public float getInterpolatedY(float alpha) {
+        return previousY + (y - previousY) * alpha;
+    }
+
     public float getViewportWidth() {
         return viewportWidth;
     }
@@ -0,0 +1,230 @@
+// app/src/main/java/com/example/robotparkour/ui/GlyphAtlas.java
+package com.example.robotparkour.ui;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Bitmap font: every glyph of a character set is rasterized once, shadow included, with the
+ * style of a template {@link Paint}. Strings are then drawn as one bitmap blit per glyph, which
+ * is far cheaper than shaping text and blurring its shadow layer every frame. Glyphs are placed
+ * by their individual advances, so there is no kerning; that is fine for HUD labels and numbers.
+ * Characters outside the set fall back to drawing through the template paint.
+ */
+public final class GlyphAtlas {
+
+    /** Printable ASCII plus the German letters and dash used in labels and names. */
+    public static final String DEFAULT_CHARSET;
+
+    static {
+        StringBuilder builder = new StringBuilder();
+        for (char c = ' '; c <= '~'; c++) {
+            builder.append(c);
+        }
+        builder.append("ÄÖÜäöüß—");
+        DEFAULT_CHARSET = builder.toString();
+    }
+
+    // Rows wrap at this width so the atlas stays within common texture limits.
+    private static final int MAX_ROW_WIDTH = 1024;
+
+    private final Paint paint;
+    private final char[] codes;
+    private final float shadowRadius;
+    private final float shadowDx;
+    private final float shadowDy;
+    private final Paint blitPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final Rect srcRect = new Rect();
+    private final RectF dstRect = new RectF();
+    private final char[] fallbackChar = new char[1];
+
+    private final int[] cellLeft;
+    private final int[] cellTop;
+    private final int[] cellWidth;
+    private final float[] advances;
+
+    private Bitmap bitmap;
+    private float textSize;
+    private int padding;
+    private int cellHeight;
+    private float ascent;
+
+    /**
+     * @param style typeface and colour of the glyphs; the text size is set per
+     *              {@link #setTextSize(float)}. The paint is copied, later changes are ignored.
+     */
+    public GlyphAtlas(@NonNull Paint style,
+                      @NonNull String charset,
+                      float shadowRadius,
+                      float shadowDx,
+                      float shadowDy,
+                      int shadowColor) {
+        paint = new Paint(style);
+        paint.setTextAlign(Paint.Align.LEFT);
+        if (shadowRadius > 0f) {
+            paint.setShadowLayer(shadowRadius, shadowDx, shadowDy, shadowColor);
+        } else {
+            paint.clearShadowLayer();
+        }
+        codes = charset.toCharArray();
+        Arrays.sort(codes);
+        this.shadowRadius = shadowRadius;
+        this.shadowDx = shadowDx;
+        this.shadowDy = shadowDy;
+        cellLeft = new int[codes.length];
+        cellTop = new int[codes.length];
+        cellWidth = new int[codes.length];
+        advances = new float[codes.length];
+    }
+
+    public GlyphAtlas(@NonNull Paint style, @NonNull String charset) {
+        this(style, charset, 0f, 0f, 0f, 0);
+    }
+
+    /**
+     * Sets the size strings are drawn at. The glyphs are re-rasterized only when it changes.
+     */
+    public void setTextSize(float textSize) {
+        if (bitmap != null && this.textSize == textSize) {
+            return;
+        }
+        this.textSize = textSize;
+        bake();
+    }
+
+    public float getTextSize() {
+        return textSize;
+    }
+
+    /** Multiplies the alpha of every glyph, e.g. to fade a banner. */
+    public void setAlpha(int alpha) {
+        blitPaint.setAlpha(alpha);
+        paint.setAlpha(alpha);
+    }
+
+    public float measure(@NonNull String text) {
+        float width = 0f;
+        for (int i = 0; i < text.length(); i++) {
+            width += advance(text.charAt(i));
+        }
+        return width;
+    }
+
+    public float measure(@NonNull char[] text, int start, int count) {
+        float width = 0f;
+        for (int i = start; i < start + count; i++) {
+            width += advance(text[i]);
+        }
+        return width;
+    }
+
+    /** Draws {@code text} with its left edge at {@code x} and its baseline at {@code y}. */
+    public void draw(@NonNull Canvas canvas, @NonNull String text, float x, float y) {
+        for (int i = 0; i < text.length(); i++) {
+            int glyph = Arrays.binarySearch(codes, text.charAt(i));
+            if (glyph < 0) {
+                canvas.drawText(text, i, i + 1, x, y, paint);
+                x += paint.measureText(text, i, i + 1);
+            } else {
+                x += blit(canvas, glyph, x, y);
+            }
+        }
+    }
+
+    public void draw(@NonNull Canvas canvas, @NonNull char[] text, int start, int count, float x, float y) {
+        for (int i = start; i < start + count; i++) {
+            int glyph = Arrays.binarySearch(codes, text[i]);
+            if (glyph < 0) {
+                canvas.drawText(text, i, 1, x, y, paint);
+                x += paint.measureText(text, i, 1);
+            } else {
+                x += blit(canvas, glyph, x, y);
+            }
+        }
+    }
+
+    /** Draws {@code text} horizontally centred on {@code centerX}. */
+    public void drawCentered(@NonNull Canvas canvas, @NonNull String text, float centerX, float y) {
+        draw(canvas, text, centerX - measure(text) / 2f, y);
+    }
+
+    public void release() {
+        if (bitmap != null) {
+            bitmap.recycle();
+            bitmap = null;
+        }
+    }
+
+    private float advance(char c) {
+        int glyph = Arrays.binarySearch(codes, c);
+        if (glyph >= 0) {
+            return advances[glyph];
+        }
+        fallbackChar[0] = c;
+        return paint.measureText(fallbackChar, 0, 1);
+    }
+
+    private float blit(@NonNull Canvas canvas, int glyph, float x, float y) {
+        int width = cellWidth[glyph];
+        if (width > 0) {
+            srcRect.set(cellLeft[glyph], cellTop[glyph], cellLeft[glyph] + width, cellTop[glyph] + cellHeight);
+            float left = x - padding;
+            float top = y + ascent - padding;
+            dstRect.set(left, top, left + width, top + cellHeight);
+            canvas.drawBitmap(bitmap, srcRect, dstRect, blitPaint);
+        }
+        return advances[glyph];
+    }
+
+    private void bake() {
+        release();
+        int alpha = paint.getAlpha();
+        paint.setAlpha(255);
+        paint.setTextSize(textSize);
+        Paint.FontMetrics metrics = paint.getFontMetrics();
+        ascent = metrics.ascent;
+        // Room for the blurred shadow on every side of the glyph box.
+        padding = (int) Math.ceil(shadowRadius + Math.max(Math.abs(shadowDx), Math.abs(shadowDy))) + 1;
+        cellHeight = (int) Math.ceil(metrics.descent - metrics.ascent) + padding * 2;
+
+        int rowLeft = 0;
+        int rowTop = 0;
+        int atlasWidth = 1;
+        char[] single = fallbackChar;
+        for (int i = 0; i < codes.length; i++) {
+            single[0] = codes[i];
+            advances[i] = paint.measureText(single, 0, 1);
+            int width = Character.isWhitespace(codes[i]) ? 0 : (int) Math.ceil(advances[i]) + padding * 2;
+            if (rowLeft + width > MAX_ROW_WIDTH && rowLeft > 0) {
+                rowLeft = 0;
+                rowTop += cellHeight;
+            }
+            cellLeft[i] = rowLeft;
+            cellTop[i] = rowTop;
+            cellWidth[i] = width;
+            rowLeft += width;
+            atlasWidth = Math.max(atlasWidth, rowLeft);
+        }
+
+        bitmap = Bitmap.createBitmap(atlasWidth, rowTop + cellHeight, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        for (int i = 0; i < codes.length; i++) {
+            if (cellWidth[i] == 0) {
+                continue;
+            }
+            single[0] = codes[i];
+            canvas.save();
+            canvas.clipRect(cellLeft[i], cellTop[i], cellLeft[i] + cellWidth[i], cellTop[i] + cellHeight);
+            canvas.drawText(single, 0, 1, cellLeft[i] + padding, cellTop[i] + padding - ascent, paint);
+            canvas.restore();
+        }
+        paint.setAlpha(alpha);
+    }
+}
@@ -2,18 +2,82 @@
 package com.example.robotparkour.ui;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.Paint;
 
+import com.example.robotparkour.core.StaticLayer;
+import com.example.robotparkour.util.TextBuffer;
 import com.example.robotparkour.util.TimeFormatter;
 
 /**
- * Heads-up display rendered on top of gameplay to show player state.
+ * Heads-up display rendered on top of gameplay to show player state. Segment texts live in
+ * reusable buffers and are only re-formatted, re-measured and re-laid out when the value they
+ * show changes, so a steady frame draws without allocating. Text is blitted from a
+ * {@link GlyphAtlas}; the bar behind it is a {@link StaticLayer}.
  */
 public class HudOverlay {
 
+    private static final String TITLE_TEXT = "CRobot.java";
+    private static final String COINS_LABEL = "COINS ";
+    private static final String TIME_LABEL = "TIME ";
+    private static final String LIVES_TEXT = "LIVES";
+    private static final String FPS_LABEL = "FPS ";
+
     private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint iconPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final GlyphAtlas glyphs;
+    private int viewportWidth;
+    private int viewportHeight;
+
+    private final TextBuffer coinsText = new TextBuffer(16);
+    private final TextBuffer timeText = new TextBuffer(16);
+    private final TextBuffer fpsText = new TextBuffer(8);
+
+    // Values the buffers and widths below were built for.
+    private float layoutScale = -1f;
+    private int shownCollected = -1;
+    private int shownTotal = -1;
+    private int shownMillis = -1;
+    private int shownFps = -1;
+
+    private float titleWidth;
+    private float livesWidth;
+    private float coinsWidth;
+    private float timeWidth;
+    private float fpsWidth;
+
+    // Segment positions, recomputed whenever a width above changes.
+    private boolean layoutDirty = true;
+    private float coinsX;
+    private float timeX;
+    private float livesX;
+    private float firstSplitterX;
+    private float secondSplitterX;
+    private float thirdSplitterX;
+    // Bumped by every layout so the recorded chrome knows its splitters moved.
+    private int layoutStamp;
+
+    private final StaticLayer chromeLayer = new StaticLayer("hud-chrome");
+    private final StaticLayer.Recorder chromeRecorder = this::recordChrome;
+    // Inputs of recordChrome(), captured by draw().
+    private int chromeWidth;
+    private int chromeHeight;
+    private float chromeScale;
+    private int chromeLives;
+
+    public HudOverlay() {
+        textPaint.setColor(0xFFF8F8F8);
+        textPaint.setStyle(Paint.Style.FILL);
+        textPaint.setTextAlign(Paint.Align.LEFT);
+        glyphs = new GlyphAtlas(textPaint, GlyphAtlas.DEFAULT_CHARSET);
+    }
+
+    /**
+     * Layout size to draw against; the canvas may be a scaled-down buffer of it.
+     */
+    public void setViewport(int width, int height) {
+        viewportWidth = width;
+        viewportHeight = height;
+    }
 
     public void draw(Canvas canvas,
                      int collectedCoins,
@@ -21,68 +85,123 @@ public class HudOverlay {
                      int lives,
                      float elapsedSeconds,
                      float fps) {
-        float scale = canvas.getWidth() / 1080f;
+        int width = viewportWidth > 0 ? viewportWidth : canvas.getWidth();
+        int height = viewportHeight > 0 ? viewportHeight : canvas.getHeight();
+        float scale = width / 1080f;
         float clampedScale = Math.max(0.6f, scale);
         float barHeight = 64f * clampedScale;
-        float barTop = canvas.getHeight() - barHeight;
+        float barTop = height - barHeight;
 
-        iconPaint.setStyle(Paint.Style.FILL);
-        iconPaint.setColor(Color.parseColor("#0E639C"));
-        canvas.drawRect(0, barTop, canvas.getWidth(), canvas.getHeight(), iconPaint);
-
-        iconPaint.setColor(Color.parseColor("#1B4F72"));
-        canvas.drawRect(0, barTop - 4f, canvas.getWidth(), barTop, iconPaint);
+        updateText(clampedScale, collectedCoins, totalCoins, elapsedSeconds, fps);
+        if (layoutDirty) {
+            layout(clampedScale);
+        }
 
-        textPaint.setColor(Color.parseColor("#F8F8F8"));
-        float textSize = 28f * clampedScale;
-        textPaint.setTextSize(textSize);
-        textPaint.setStyle(Paint.Style.FILL);
-        textPaint.setTextAlign(Paint.Align.LEFT);
+        chromeWidth = width;
+        chromeHeight = height;
+        chromeScale = clampedScale;
+        chromeLives = lives;
+        long chromeKey = ((long) layoutStamp << 32) | (lives & 0xFFFFFFFFL);
+        chromeLayer.draw(canvas, width, height, chromeKey, chromeRecorder);
 
         float baseline = barTop + barHeight * 0.62f;
-        float x = 32f * clampedScale;
+        glyphs.draw(canvas, TITLE_TEXT, 32f * clampedScale, baseline);
+        glyphs.draw(canvas, coinsText.getChars(), 0, coinsText.length(), coinsX, baseline);
+        glyphs.draw(canvas, timeText.getChars(), 0, timeText.length(), timeX, baseline);
+        glyphs.draw(canvas, LIVES_TEXT, livesX, baseline);
+
+        glyphs.draw(canvas, fpsText.getChars(), 0, fpsText.length(),
+                width - 32f * clampedScale - fpsWidth, baseline);
+    }
 
-        x = drawSegment(canvas, "CRobot.java", x, baseline, clampedScale);
-        x = drawSplitter(canvas, x, barTop, barHeight * 0.6f, clampedScale);
+    private void updateText(float scale, int collectedCoins, int totalCoins, float elapsedSeconds, float fps) {
+        if (scale != layoutScale) {
+            layoutScale = scale;
+            glyphs.setTextSize(28f * scale);
+            titleWidth = glyphs.measure(TITLE_TEXT);
+            livesWidth = glyphs.measure(LIVES_TEXT);
+            // Every width changes with the text size.
+            shownCollected = -1;
+            shownMillis = -1;
+            shownFps = -1;
+            layoutDirty = true;
+        }
+        if (collectedCoins != shownCollected || totalCoins != shownTotal) {
+            shownCollected = collectedCoins;
+            shownTotal = totalCoins;
+            coinsText.clear().append(COINS_LABEL).append(collectedCoins).append('/').append(totalCoins);
+            coinsWidth = measure(coinsText);
+            layoutDirty = true;
+        }
+        int millis = TimeFormatter.toMillis(elapsedSeconds);
+        if (millis != shownMillis) {
+            shownMillis = millis;
+            TimeFormatter.appendMillis(timeText.clear().append(TIME_LABEL), millis);
+            timeWidth = measure(timeText);
+            layoutDirty = true;
+        }
+        int roundedFps = Math.round(fps);
+        if (roundedFps != shownFps) {
+            shownFps = roundedFps;
+            fpsText.clear().append(FPS_LABEL).append(roundedFps);
+            fpsWidth = measure(fpsText);
+        }
+    }
 
-        String coinsText = "COINS " + collectedCoins + "/" + totalCoins;
-        x = drawSegment(canvas, coinsText, x, baseline, clampedScale);
-        x = drawSplitter(canvas, x, barTop, barHeight * 0.6f, clampedScale);
+    /**
+     * Places the segments left to right, each followed by a gap and a splitter.
+     */
+    private void layout(float scale) {
+        float gap = 32f * scale;
+        float x = 32f * scale + titleWidth + gap;
+        firstSplitterX = x + 8f * scale;
+        coinsX = firstSplitterX + 18f * scale;
+        x = coinsX + coinsWidth + gap;
+        secondSplitterX = x + 8f * scale;
+        timeX = secondSplitterX + 18f * scale;
+        x = timeX + timeWidth + gap;
+        thirdSplitterX = x + 8f * scale;
+        livesX = thirdSplitterX + 18f * scale;
+        layoutDirty = false;
+        layoutStamp++;
+    }
 
-        String timeText = "TIME " + TimeFormatter.format(elapsedSeconds);
-        x = drawSegment(canvas, timeText, x, baseline, clampedScale);
-        x = drawSplitter(canvas, x, barTop, barHeight * 0.6f, clampedScale);
+    /**
+     * Bar, splitters and life icons: everything but the text, which changes far more often.
+     */
+    private void recordChrome(Canvas canvas) {
+        float scale = chromeScale;
+        float barHeight = 64f * scale;
+        float barTop = chromeHeight - barHeight;
+        iconPaint.setStyle(Paint.Style.FILL);
+        iconPaint.setColor(0xFF0E639C);
+        canvas.drawRect(0, barTop, chromeWidth, chromeHeight, iconPaint);
 
-        String livesText = "LIVES";
-        x = drawSegment(canvas, livesText, x, baseline, clampedScale);
+        iconPaint.setColor(0xFF1B4F72);
+        canvas.drawRect(0, barTop - 4f, chromeWidth, barTop, iconPaint);
 
-        float iconSize = 18f * clampedScale;
-        float iconSpacing = 8f * clampedScale;
-        float iconX = x + iconSpacing;
+        float splitterHeight = barHeight * 0.6f;
+        iconPaint.setColor(0xFFF8F8F8);
+        drawSplitter(canvas, firstSplitterX, barTop, splitterHeight, scale);
+        drawSplitter(canvas, secondSplitterX, barTop, splitterHeight, scale);
+        drawSplitter(canvas, thirdSplitterX, barTop, splitterHeight, scale);
+
+        float baseline = barTop + barHeight * 0.62f;
+        float iconSize = 18f * scale;
+        float iconSpacing = 8f * scale;
+        float iconX = livesX + livesWidth + 32f * scale + iconSpacing;
         float iconY = baseline - iconSize * 0.8f;
-        for (int i = 0; i < Math.max(lives, 1); i++) {
-            iconPaint.setColor(i < lives ? Color.parseColor("#F48771") : Color.parseColor("#144B6C"));
+        for (int i = 0; i < Math.max(chromeLives, 1); i++) {
+            iconPaint.setColor(i < chromeLives ? 0xFFF48771 : 0xFF144B6C);
             canvas.drawCircle(iconX + i * (iconSize + iconSpacing), iconY, iconSize * 0.5f, iconPaint);
         }
-
-        textPaint.setTextAlign(Paint.Align.RIGHT);
-        String fpsText = String.format("FPS %.0f", fps);
-        canvas.drawText(fpsText, canvas.getWidth() - 32f * clampedScale, baseline, textPaint);
-
-        textPaint.setTextAlign(Paint.Align.LEFT);
     }
 
-    private float drawSegment(Canvas canvas, String text, float startX, float baseline, float scale) {
-        float width = textPaint.measureText(text);
-        canvas.drawText(text, startX, baseline, textPaint);
-        return startX + width + 32f * scale;
+    private float measure(TextBuffer text) {
+        return glyphs.measure(text.getChars(), 0, text.length());
     }
 
-    private float drawSplitter(Canvas canvas, float x, float barTop, float height, float scale) {
-        iconPaint.setStyle(Paint.Style.FILL);
-        iconPaint.setColor(Color.parseColor("#F8F8F8"));
-        float center = x + 8f * scale;
+    private void drawSplitter(Canvas canvas, float center, float barTop, float height, float scale) {
         canvas.drawRect(center, barTop + 12f * scale, center + 2f, barTop + 12f * scale + height, iconPaint);
-        return center + 18f * scale;
     }
 }
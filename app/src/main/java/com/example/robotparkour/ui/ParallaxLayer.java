@@ -0,0 +1,101 @@
+// app/src/main/java/com/example/robotparkour/ui/ParallaxLayer.java
+package com.example.robotparkour.ui;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import androidx.annotation.NonNull;
+
+/**
+ * One horizontally repeating background band, rasterized once into a bitmap exactly one period
+ * wide so it tiles seamlessly. Drawing it per frame is a few bitmap blits at the scroll offset.
+ */
+public final class ParallaxLayer {
+
+    /** Paints one repeat of the band with its left edge at {@code left}. */
+    public interface Painter {
+        void paint(@NonNull Canvas canvas, float left);
+    }
+
+    private final Bitmap bitmap;
+    private final int period;
+    private final float top;
+    private final float speed;
+    private final float minX;
+
+    private ParallaxLayer(@NonNull Bitmap bitmap, int period, float top, float speed, float minX) {
+        this.bitmap = bitmap;
+        this.period = period;
+        this.top = top;
+        this.speed = speed;
+        this.minX = minX;
+    }
+
+    /**
+     * Renders the band between {@code top} and {@code bottom}. The period is rounded to whole
+     * pixels so neighbouring tiles meet without a seam; {@link #getPeriod()} reports the result.
+     */
+    @NonNull
+    public static ParallaxLayer rasterize(float period, float top, float bottom, float speed,
+                                          @NonNull Painter painter) {
+        return rasterize(period, top, bottom, speed, Float.NEGATIVE_INFINITY, painter);
+    }
+
+    /**
+     * Like {@link #rasterize(float, float, float, float, Painter)}, but the band is only drawn
+     * right of {@code minX}.
+     */
+    @NonNull
+    public static ParallaxLayer rasterize(float period, float top, float bottom, float speed,
+                                          float minX, @NonNull Painter painter) {
+        int tileWidth = Math.max(1, Math.round(period));
+        int tileHeight = Math.max(1, (int) Math.ceil(bottom - top));
+        Bitmap bitmap = Bitmap.createBitmap(tileWidth, tileHeight, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        canvas.translate(0f, -top);
+        // Neighbouring repeats spill into this tile; painting them too makes the wrap seamless.
+        for (int repeat = -2; repeat <= 1; repeat++) {
+            painter.paint(canvas, repeat * (float) tileWidth);
+        }
+        return new ParallaxLayer(bitmap, tileWidth, top, speed, minX);
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * Scroll offset in {@code [0, period)} after {@code time} seconds, matching where the
+     * baked tiles are drawn so procedural details can follow them.
+     */
+    public float getOffset(float time) {
+        float shift = (time * speed) % period;
+        if (shift < 0f) {
+            shift += period;
+        }
+        return shift;
+    }
+
+    public void draw(@NonNull Canvas canvas, float time, float viewWidth, @NonNull Paint paint) {
+        float offset = getOffset(time);
+        boolean clipped = minX > Float.NEGATIVE_INFINITY;
+        if (clipped) {
+            canvas.save();
+            canvas.clipRect(minX, top, viewWidth, top + bitmap.getHeight());
+        }
+        for (float x = -offset; x < viewWidth; x += period) {
+            if (x + period <= minX) {
+                continue;
+            }
+            canvas.drawBitmap(bitmap, x, top, paint);
+        }
+        if (clipped) {
+            canvas.restore();
+        }
+    }
+
+    public void recycle() {
+        bitmap.recycle();
+    }
+}
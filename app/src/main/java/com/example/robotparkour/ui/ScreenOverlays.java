@@ -0,0 +1,231 @@
+// app/src/main/java/com/example/robotparkour/ui/ScreenOverlays.java
+package com.example.robotparkour.ui;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Shader;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Screen-space editor chrome drawn over the background: scanlines, the gutter rail and the
+ * minimap column. Each repeating pattern is rasterized once per surface size and colour set into
+ * a small tile and filled through a {@link BitmapShader}, so an overlay costs one or two draw
+ * calls instead of one primitive per line, lamp or band. Animation moves the shader matrix.
+ */
+public final class ScreenOverlays {
+
+    private static final int SCANLINE_PERIOD = 4;
+    private static final int SCANLINE_COLOR = Color.argb(18, 255, 255, 255);
+    private static final float LAMP_SPACING = 68f;
+    // Transparent margin around the lamp so the clamped shader edge stays empty while it wobbles.
+    private static final int LAMP_MARGIN = 4;
+    private static final float BAND_HEIGHT = 22f;
+    private static final int BAND_ALPHA = 160;
+
+    private final float safeTop;
+    private final float safeBottom;
+    private final Paint fillPaint = new Paint();
+    private final Paint shaderPaint = new Paint();
+    private final Paint bakePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Matrix shaderMatrix = new Matrix();
+    private final RectF column = new RectF();
+
+    private BitmapShader scanlineShader;
+
+    private Bitmap lampTile;
+    private BitmapShader lampShader;
+    private int lampWidth;
+    private int lampColor;
+
+    private Bitmap minimapFrame;
+    private int minimapWidth;
+    private int minimapHeight;
+    private int minimapBaseColor;
+    private int minimapAccentColor;
+
+    private Bitmap bandTile;
+    private BitmapShader bandShader;
+    private int bandWidth;
+    private int bandColor;
+
+    public ScreenOverlays(float safeTop, float safeBottom) {
+        this.safeTop = safeTop;
+        this.safeBottom = safeBottom;
+        fillPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /** One-pixel lines every four pixels across the play area. */
+    public void drawScanlines(@NonNull Canvas canvas, int width, int height) {
+        if (scanlineShader == null) {
+            Bitmap tile = Bitmap.createBitmap(1, SCANLINE_PERIOD, Bitmap.Config.ARGB_8888);
+            tile.setPixel(0, 0, SCANLINE_COLOR);
+            scanlineShader = new BitmapShader(tile, Shader.TileMode.REPEAT, Shader.TileMode.REPEAT);
+        }
+        shaderMatrix.setTranslate(0f, safeTop);
+        scanlineShader.setLocalMatrix(shaderMatrix);
+        shaderPaint.setShader(scanlineShader);
+        shaderPaint.setAlpha(255);
+        canvas.drawRect(0f, safeTop, width, height - safeBottom, shaderPaint);
+        shaderPaint.setShader(null);
+    }
+
+    /**
+     * Left gutter: a base strip, a scrolling track line and a column of blinking lamps. The lamps
+     * wobble together rather than each with its own phase, so they can share one shader.
+     */
+    public void drawGutterRail(@NonNull Canvas canvas,
+                               int height,
+                               float railWidth,
+                               int baseColor,
+                               int lightColor,
+                               int trackColor,
+                               float time,
+                               float trackSpeed,
+                               float glowStrength) {
+        float bottom = height - safeBottom;
+        fillPaint.setColor(baseColor);
+        canvas.drawRect(0f, safeTop, railWidth, bottom, fillPaint);
+
+        fillPaint.setColor(trackColor);
+        float trackX = loopOffset(time, trackSpeed, railWidth * 0.6f) - railWidth * 0.25f;
+        canvas.drawRect(trackX, safeTop, trackX + 3f, bottom, fillPaint);
+
+        float firstLamp = safeTop + 48f;
+        int lamps = (int) Math.ceil((bottom - 24f - firstLamp) / LAMP_SPACING);
+        if (lamps <= 0) {
+            return;
+        }
+        ensureLampTile(railWidth, lightColor);
+        float blink = (float) ((Math.sin(time * Math.PI / 1.5f) + 1f) * 0.5f);
+        float wobble = (float) Math.sin(time * 3f) * 2f;
+        float top = firstLamp - LAMP_SPACING / 2f;
+        shaderMatrix.setTranslate(wobble - LAMP_MARGIN, top);
+        lampShader.setLocalMatrix(shaderMatrix);
+        shaderPaint.setShader(lampShader);
+        shaderPaint.setAlpha((int) (80 + 120 * blink * glowStrength));
+        canvas.drawRect(0f, top, railWidth, top + lamps * LAMP_SPACING, shaderPaint);
+        shaderPaint.setShader(null);
+    }
+
+    /** Right-hand minimap: a cached rounded frame with shimmer bands scrolling up through it. */
+    public void drawMinimapColumn(@NonNull Canvas canvas,
+                                  int width,
+                                  int height,
+                                  int baseColor,
+                                  int accentColor,
+                                  int glowColor,
+                                  float time,
+                                  float shimmerSpeed) {
+        float columnWidth = Math.max(18f, width * 0.028f);
+        float left = width - columnWidth - width * 0.02f;
+        column.set(left, safeTop + 16f, left + columnWidth, height - safeBottom - 16f);
+        if (column.height() <= 0f) {
+            return;
+        }
+        ensureMinimapFrame(column.width(), column.height(), baseColor, accentColor);
+        canvas.drawBitmap(minimapFrame, column.left, column.top, null);
+
+        ensureBandTile(columnWidth - 12f, glowColor);
+        float period = BAND_HEIGHT * 2f;
+        float start = column.top - BAND_HEIGHT;
+        int bands = (int) Math.ceil((column.bottom + BAND_HEIGHT - start) / period);
+        float top = start - loopOffset(time, shimmerSpeed, period);
+        shaderMatrix.setTranslate(column.left + 6f, top);
+        bandShader.setLocalMatrix(shaderMatrix);
+        shaderPaint.setShader(bandShader);
+        shaderPaint.setAlpha(255);
+        canvas.drawRect(column.left + 6f, top, column.right - 6f, top + bands * period, shaderPaint);
+        shaderPaint.setShader(null);
+    }
+
+    public void release() {
+        scanlineShader = null;
+        lampShader = null;
+        bandShader = null;
+        lampTile = recycle(lampTile);
+        minimapFrame = recycle(minimapFrame);
+        bandTile = recycle(bandTile);
+    }
+
+    private void ensureLampTile(float railWidth, int color) {
+        int tileWidth = (int) Math.ceil(railWidth) + LAMP_MARGIN * 2;
+        if (lampTile != null && lampWidth == tileWidth && lampColor == color) {
+            return;
+        }
+        recycle(lampTile);
+        lampWidth = tileWidth;
+        lampColor = color;
+        lampTile = Bitmap.createBitmap(tileWidth, (int) LAMP_SPACING, Bitmap.Config.ARGB_8888);
+        bakePaint.setStyle(Paint.Style.FILL);
+        bakePaint.setColor(color | 0xFF000000);
+        new Canvas(lampTile).drawCircle(LAMP_MARGIN + railWidth * 0.55f, LAMP_SPACING / 2f,
+                railWidth * 0.26f, bakePaint);
+        lampShader = new BitmapShader(lampTile, Shader.TileMode.CLAMP, Shader.TileMode.REPEAT);
+    }
+
+    private void ensureMinimapFrame(float frameWidth, float frameHeight, int baseColor, int accentColor) {
+        int bitmapWidth = (int) Math.ceil(frameWidth);
+        int bitmapHeight = (int) Math.ceil(frameHeight);
+        if (minimapFrame != null && minimapWidth == bitmapWidth && minimapHeight == bitmapHeight
+                && minimapBaseColor == baseColor && minimapAccentColor == accentColor) {
+            return;
+        }
+        recycle(minimapFrame);
+        minimapWidth = bitmapWidth;
+        minimapHeight = bitmapHeight;
+        minimapBaseColor = baseColor;
+        minimapAccentColor = accentColor;
+        minimapFrame = Bitmap.createBitmap(bitmapWidth, bitmapHeight, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(minimapFrame);
+        bakePaint.setStyle(Paint.Style.FILL);
+        bakePaint.setColor(baseColor);
+        canvas.drawRoundRect(0f, 0f, frameWidth, frameHeight, 18f, 18f, bakePaint);
+        bakePaint.setStyle(Paint.Style.STROKE);
+        bakePaint.setStrokeWidth(3f);
+        bakePaint.setColor(accentColor);
+        canvas.drawRoundRect(4f, 6f, frameWidth - 4f, frameHeight - 6f, 16f, 16f, bakePaint);
+        bakePaint.setStyle(Paint.Style.FILL);
+    }
+
+    private void ensureBandTile(float width, int color) {
+        int tileWidth = Math.max(1, (int) Math.ceil(width));
+        if (bandTile != null && bandWidth == tileWidth && bandColor == color) {
+            return;
+        }
+        recycle(bandTile);
+        bandWidth = tileWidth;
+        bandColor = color;
+        bandTile = Bitmap.createBitmap(tileWidth, (int) (BAND_HEIGHT * 2f), Bitmap.Config.ARGB_8888);
+        Paint paint = new Paint();
+        paint.setColor(color);
+        paint.setAlpha(BAND_ALPHA);
+        new Canvas(bandTile).drawRect(0f, 0f, tileWidth, BAND_HEIGHT * 0.6f, paint);
+        bandShader = new BitmapShader(bandTile, Shader.TileMode.CLAMP, Shader.TileMode.REPEAT);
+    }
+
+    @Nullable
+    private static Bitmap recycle(@Nullable Bitmap bitmap) {
+        if (bitmap != null) {
+            bitmap.recycle();
+        }
+        return null;
+    }
+
+    private static float loopOffset(float time, float speed, float period) {
+        if (period <= 0f) {
+            return 0f;
+        }
+        float shift = (time * speed) % period;
+        if (shift < 0f) {
+            shift += period;
+        }
+        return shift;
+    }
+}
@@ -1,16 +1,22 @@
 // app/src/main/java/com/example/robotparkour/ui/VirtualButton.java
 package com.example.robotparkour.ui;
 
-import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.RectF;
 
+import com.example.robotparkour.core.DrawList;
+
 /**
  * Basic on-screen button used for touch controls.
  */
 public class VirtualButton {
 
+    private static final int IDLE_COLOR = Color.parseColor("#333333");
+    private static final int PRESSED_COLOR = Color.parseColor("#094771");
+    private static final int OUTLINE_COLOR = Color.parseColor("#007ACC");
+    private static final int LABEL_COLOR = Color.parseColor("#F3F3F3");
+
     private final RectF bounds = new RectF();
     private final String label;
 
@@ -40,32 +46,20 @@ public class VirtualButton {
         return pressed;
     }
 
-    public void draw(Canvas canvas, Paint paint) {
-        int originalColor = paint.getColor();
-        Paint.Style originalStyle = paint.getStyle();
-        float originalTextSize = paint.getTextSize();
-        Paint.Align originalAlign = paint.getTextAlign();
-        float originalStrokeWidth = paint.getStrokeWidth();
-
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(pressed ? Color.parseColor("#094771") : Color.parseColor("#333333"));
-        canvas.drawRoundRect(bounds, 24f, 24f, paint);
-
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(3f);
-        paint.setColor(Color.parseColor("#007ACC"));
-        canvas.drawRoundRect(bounds, 24f, 24f, paint);
+    /**
+     * Records the button as one item of a {@link DrawList} batch.
+     */
+    public void record(DrawList list) {
+        list.beginItem();
+        list.setStyle(Paint.Style.FILL).setColor(pressed ? PRESSED_COLOR : IDLE_COLOR);
+        list.roundRect(bounds.left, bounds.top, bounds.right, bounds.bottom, 24f, 24f);
 
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.parseColor("#F3F3F3"));
-        paint.setTextAlign(Paint.Align.CENTER);
-        paint.setTextSize(bounds.height() * 0.5f);
-        canvas.drawText(label, bounds.centerX(), bounds.centerY() + paint.getTextSize() * 0.32f, paint);
+        list.setStyle(Paint.Style.STROKE).setStrokeWidth(3f).setColor(OUTLINE_COLOR);
+        list.roundRect(bounds.left, bounds.top, bounds.right, bounds.bottom, 24f, 24f);
 
-        paint.setColor(originalColor);
-        paint.setStyle(originalStyle);
-        paint.setTextSize(originalTextSize);
-        paint.setTextAlign(originalAlign);
-        paint.setStrokeWidth(originalStrokeWidth);
+        float textSize = bounds.height() * 0.5f;
+        list.setStyle(Paint.Style.FILL).setColor(LABEL_COLOR)
+                .setTextAlign(Paint.Align.CENTER).setTextSize(textSize);
+        list.text(label, bounds.centerX(), bounds.centerY() + textSize * 0.32f);
     }
 }
@@ -0,0 +1,94 @@
+// app/src/main/java/com/example/robotparkour/util/TextBuffer.java
+package com.example.robotparkour.util;
+
+import java.util.Arrays;
+
+/**
+ * Reusable character buffer for text that is rebuilt every frame, e.g. HUD counters. Appending
+ * never allocates once the buffer is large enough; draw it with
+ * {@code Canvas.drawText(getChars(), 0, length(), ...)}.
+ */
+public final class TextBuffer {
+
+    private static final int MAX_INT_DIGITS = 10;
+
+    private char[] chars;
+    private int length;
+
+    public TextBuffer(int capacity) {
+        chars = new char[Math.max(1, capacity)];
+    }
+
+    public TextBuffer clear() {
+        length = 0;
+        return this;
+    }
+
+    public TextBuffer append(char c) {
+        ensureCapacity(length + 1);
+        chars[length++] = c;
+        return this;
+    }
+
+    public TextBuffer append(String text) {
+        int count = text.length();
+        ensureCapacity(length + count);
+        text.getChars(0, count, chars, length);
+        length += count;
+        return this;
+    }
+
+    public TextBuffer append(int value) {
+        return append(value, 1);
+    }
+
+    /**
+     * Appends {@code value} in decimal, left-padded with zeros to at least {@code minDigits}.
+     */
+    public TextBuffer append(int value, int minDigits) {
+        if (value < 0) {
+            append('-');
+            if (value == Integer.MIN_VALUE) {
+                // Not representable as a positive int; the top digit is always 2.
+                append('2');
+                value = -(value + 2_000_000_000);
+                minDigits = Math.max(minDigits - 1, 9);
+            } else {
+                value = -value;
+            }
+        }
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int count = Math.max(digits, Math.min(minDigits, MAX_INT_DIGITS));
+        ensureCapacity(length + count);
+        int end = length + count;
+        for (int i = end - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        length = end;
+        return this;
+    }
+
+    /** Backing array; only the first {@link #length()} characters are valid. */
+    public char[] getChars() {
+        return chars;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+}
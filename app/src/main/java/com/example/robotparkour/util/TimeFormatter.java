@@ -1,8 +1,6 @@
 // app/src/main/java/com/example/robotparkour/util/TimeFormatter.java
 package com.example.robotparkour.util;
 
-import java.util.Locale;
-
 /**
  * Formats floating-point seconds into mm:ss.mmm strings for the HUD and scoreboard.
  */
@@ -13,14 +11,27 @@ public final class TimeFormatter {
     }
 
     public static String format(float seconds) {
-        if (seconds < 0f) {
-            seconds = 0f;
-        }
-        int totalMillis = Math.round(seconds * 1000f);
+        return appendMillis(new TextBuffer(9), toMillis(seconds)).toString();
+    }
+
+    /**
+     * Whole milliseconds shown for {@code seconds}; two times that format alike map to the same
+     * value, so callers can skip re-formatting when it has not changed.
+     */
+    public static int toMillis(float seconds) {
+        return seconds < 0f ? 0 : Math.round(seconds * 1000f);
+    }
+
+    /**
+     * Appends {@code totalMillis} as mm:ss.mmm without allocating.
+     */
+    public static TextBuffer appendMillis(TextBuffer out, int totalMillis) {
         int minutes = totalMillis / 60000;
         int remaining = totalMillis % 60000;
-        int secs = remaining / 1000;
-        int millis = remaining % 1000;
-        return String.format(Locale.US, "%02d:%02d.%03d", minutes, secs, millis);
+        return out.append(minutes, 2)
+                .append(':')
+                .append(remaining / 1000, 2)
+                .append('.')
+                .append(remaining % 1000, 3);
     }
 }
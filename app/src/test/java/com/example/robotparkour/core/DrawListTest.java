@@ -0,0 +1,105 @@
+// app/src/test/java/com/example/robotparkour/core/DrawListTest.java
+package com.example.robotparkour.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Paint;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class DrawListTest {
+
+    private static final int FILL = 0xFF3366CC;
+    private static final int OUTLINE = 0xFF112233;
+
+    @Test
+    public void batchingGroupsCommandsByPaintState() {
+        DrawList unbatched = new DrawList();
+        recordButtons(unbatched, 10);
+        unbatched.replay(null);
+
+        DrawList batched = new DrawList();
+        batched.beginBatch();
+        recordButtons(batched, 10);
+        batched.endBatch();
+        batched.replay(null);
+
+        assertEquals(20, unbatched.getStateChanges());
+        assertEquals(2, batched.getStateChanges());
+        assertEquals(unbatched.getDrawCalls(), batched.getDrawCalls());
+        assertEquals(0, batched.size());
+    }
+
+    @Test
+    public void commandsOfOneItemKeepTheirOrder() {
+        DrawList list = new DrawList();
+        list.beginBatch();
+        // Fills sort before outlines, so only the item depth keeps each outline ahead of its fill.
+        for (int i = 0; i < 5; i++) {
+            list.beginItem();
+            list.setColor(OUTLINE).setStyle(Paint.Style.STROKE);
+            list.rect(i * 10f, 0f, i * 10f + 8f, 8f);
+            list.setColor(FILL).setStyle(Paint.Style.FILL);
+            list.rect(i * 10f + 1f, 1f, i * 10f + 7f, 7f);
+        }
+        for (int n = 0; n < 10; n++) {
+            int index = list.getReplayIndex(n);
+            assertEquals("command " + n, n < 5 ? 0 : 1, index % 2);
+        }
+        for (int n = 1; n < 5; n++) {
+            assertTrue(list.getReplayIndex(n - 1) < list.getReplayIndex(n));
+        }
+    }
+
+    @Test
+    public void batchSortIsStableAcrossGrowth() {
+        Random random = new Random(42);
+        int[] palette = { 0xFF000000, 0xFF00FF00, 0xFFFF0000, 0xFF0000FF };
+        DrawList list = new DrawList();
+        List<int[]> recorded = new ArrayList<>();
+        list.rect(0f, 0f, 1f, 1f);
+        recorded.add(new int[] { 0, 0, 0, 0 });
+        list.beginBatch();
+        // Well past the initial capacity of 64 so the arrays grow while the batch is open.
+        for (int item = 0; item < 60; item++) {
+            list.beginItem();
+            int commands = 1 + random.nextInt(4);
+            for (int depth = 0; depth < commands; depth++) {
+                int color = palette[random.nextInt(palette.length)];
+                boolean stroke = random.nextBoolean();
+                list.setColor(color).setStyle(stroke ? Paint.Style.STROKE : Paint.Style.FILL);
+                list.rect(item, depth, item + 1f, depth + 1f);
+                recorded.add(new int[] { recorded.size(), depth, stroke ? 1 : 0, color });
+            }
+        }
+        list.endBatch();
+
+        List<int[]> expected = new ArrayList<>(recorded.subList(1, recorded.size()));
+        // List.sort is a stable merge sort.
+        expected.sort(Comparator.<int[]>comparingInt(c -> c[1])
+                .thenComparingInt(c -> c[2])
+                .thenComparingInt(c -> c[3]));
+        assertEquals(0, list.getReplayIndex(0));
+        for (int n = 0; n < expected.size(); n++) {
+            assertEquals("command " + (n + 1), expected.get(n)[0], list.getReplayIndex(n + 1));
+        }
+        list.replay(null);
+        assertEquals(recorded.size(), list.getDrawCalls());
+    }
+
+    private static void recordButtons(DrawList list, int count) {
+        for (int i = 0; i < count; i++) {
+            list.beginItem();
+            list.setColor(FILL).setStyle(Paint.Style.FILL);
+            list.roundRect(i * 10f, 0f, i * 10f + 8f, 8f, 2f, 2f);
+            list.setColor(OUTLINE).setStyle(Paint.Style.STROKE);
+            list.roundRect(i * 10f, 0f, i * 10f + 8f, 8f, 2f, 2f);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+plugins {
+    `java-library`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    // Annotations only; the module must stay free of the Android framework so it runs on a plain JVM.
+    api(libs.androidx.annotation)
+
+    testImplementation(libs.junit)
+}
@@ -1,9 +1,12 @@
-// app/src/main/java/com/crobot/game/level/LevelModel.java
+// engine/src/main/java/com/crobot/game/level/LevelModel.java
 package com.crobot.game.level;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.crobot.game.physics.SolidGrid;
+import com.crobot.game.physics.SweptAabb;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -11,10 +14,15 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * Immutable representation of a decoded level.
+ * Immutable representation of a decoded level. Tile solidity is precomputed into a
+ * {@link SolidGrid}, so collision probes and range scans cost a few word operations instead of a
+ * tile lookup plus a flag lookup per tile.
  */
 public final class LevelModel {
 
+    /** Returned by the solid-tile scans when the range holds no solid tile. */
+    public static final int NO_TILE = SolidGrid.NO_TILE;
+
     private final int width;
     private final int height;
     private final int tileWidth;
@@ -27,6 +35,8 @@ public final class LevelModel {
     private final CollisionMap collisionMap;
     @NonNull
     private final String tilesetAssetPath;
+    @NonNull
+    private final SolidGrid solidGrid;
 
     public LevelModel(int width,
                       int height,
@@ -44,6 +54,17 @@ public final class LevelModel {
         this.entities = Collections.unmodifiableList(new ArrayList<>(entities));
         this.collisionMap = collisionMap;
         this.tilesetAssetPath = tilesetAssetPath;
+
+        // Probes outside the map read GID 0, exactly like TileLayer.getTileId().
+        solidGrid = new SolidGrid(tileLayer.getWidth(), tileLayer.getHeight(),
+                tileWidth, tileHeight, collisionMap.isSolid(0));
+        for (int y = 0; y < tileLayer.getHeight(); y++) {
+            for (int x = 0; x < tileLayer.getWidth(); x++) {
+                if (collisionMap.isSolid(tileLayer.getTileId(x, y))) {
+                    solidGrid.setSolid(x, y);
+                }
+            }
+        }
     }
 
     public int getWidth() {
@@ -90,6 +111,56 @@ public final class LevelModel {
         return height * tileHeight;
     }
 
+    /**
+     * Solidity run tables of the tile layer, shared with the physics code.
+     */
+    @NonNull
+    public SolidGrid getSolidGrid() {
+        return solidGrid;
+    }
+
+    /**
+     * Whether the tile at ({@code x}, {@code y}) blocks movement.
+     */
+    public boolean isSolid(int x, int y) {
+        return solidGrid.isSolid(x, y);
+    }
+
+    /** See {@link SolidGrid#firstSolidInRow}. */
+    public int firstSolidInRow(int y, int x0, int x1) {
+        return solidGrid.firstSolidInRow(y, x0, x1);
+    }
+
+    /** See {@link SolidGrid#lastSolidInRow}. */
+    public int lastSolidInRow(int y, int x0, int x1) {
+        return solidGrid.lastSolidInRow(y, x0, x1);
+    }
+
+    /** See {@link SolidGrid#firstSolidInColumn}. */
+    public int firstSolidInColumn(int x, int y0, int y1) {
+        return solidGrid.firstSolidInColumn(x, y0, y1);
+    }
+
+    /** See {@link SolidGrid#lastSolidInColumn}. */
+    public int lastSolidInColumn(int x, int y0, int y1) {
+        return solidGrid.lastSolidInColumn(x, y0, y1);
+    }
+
+    /**
+     * Whether any tile in the inclusive tile rectangle is solid.
+     */
+    public boolean anySolid(int x0, int y0, int x1, int y1) {
+        return solidGrid.anySolid(x0, y0, x1, y1);
+    }
+
+    /**
+     * Sweeps a box in level pixels against the solid tiles; see {@link SolidGrid#sweep}.
+     */
+    public boolean sweep(float left, float top, float right, float bottom, float dx, float dy,
+                         @NonNull SweptAabb result) {
+        return solidGrid.sweep(left, top, right, bottom, dx, dy, result);
+    }
+
     /**
      * Represents a single tile layer with CSV encoded data.
      */
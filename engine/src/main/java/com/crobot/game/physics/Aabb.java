@@ -0,0 +1,69 @@
+// engine/src/main/java/com/crobot/game/physics/Aabb.java
+package com.crobot.game.physics;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Mutable float axis-aligned box in level pixels, y pointing down. The engine's stand-in for
+ * {@code android.graphics.RectF}: edges are open, so boxes that only touch do not intersect.
+ */
+public final class Aabb {
+
+    public float left;
+    public float top;
+    public float right;
+    public float bottom;
+
+    public Aabb() {
+    }
+
+    public Aabb(float left, float top, float right, float bottom) {
+        set(left, top, right, bottom);
+    }
+
+    public void set(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public void set(@NonNull Aabb other) {
+        set(other.left, other.top, other.right, other.bottom);
+    }
+
+    public void offset(float dx, float dy) {
+        left += dx;
+        right += dx;
+        top += dy;
+        bottom += dy;
+    }
+
+    public float width() {
+        return right - left;
+    }
+
+    public float height() {
+        return bottom - top;
+    }
+
+    public float centerX() {
+        return (left + right) * 0.5f;
+    }
+
+    public float centerY() {
+        return (top + bottom) * 0.5f;
+    }
+
+    public boolean intersects(float otherLeft, float otherTop, float otherRight, float otherBottom) {
+        return left < otherRight && otherLeft < right && top < otherBottom && otherTop < bottom;
+    }
+
+    public boolean intersects(@NonNull Aabb other) {
+        return intersects(other.left, other.top, other.right, other.bottom);
+    }
+
+    public boolean contains(float x, float y) {
+        return x >= left && x < right && y >= top && y < bottom;
+    }
+}
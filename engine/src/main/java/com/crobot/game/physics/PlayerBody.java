@@ -0,0 +1,112 @@
+// engine/src/main/java/com/crobot/game/physics/PlayerBody.java
+package com.crobot.game.physics;
+
+import androidx.annotation.NonNull;
+
+import com.crobot.game.level.LevelModel;
+
+/**
+ * Tile-colliding body anchored at its feet: {@link #x} is the horizontal centre and {@link #y}
+ * the bottom edge. Movement is swept against the level's {@link SolidGrid} so a step can never
+ * pass through a wall, and long steps are split into {@link SolidGrid#subSteps sub-steps}. Not
+ * thread-safe; owned by the simulation thread.
+ */
+public class PlayerBody {
+
+    public float x;
+    public float y;
+    public float vx;
+    public float vy;
+    public float width;
+    public float height;
+    public boolean onGround;
+
+    private final SweptAabb sweep = new SweptAabb();
+    private final Aabb box = new Aabb();
+
+    /**
+     * Applies {@code gravity} and moves the body by its velocity for {@code deltaSeconds},
+     * horizontally first, then vertically.
+     */
+    public void integrate(float deltaSeconds, float gravity, @NonNull LevelModel level) {
+        float peakFallSpeed = Math.abs(vy) + gravity * deltaSeconds;
+        float travel = Math.max(Math.abs(vx), peakFallSpeed) * deltaSeconds;
+        int steps = level.getSolidGrid().subSteps(travel, width, height);
+        float stepSeconds = deltaSeconds / steps;
+        for (int i = 0; i < steps; i++) {
+            vy += gravity * stepSeconds;
+            moveHorizontally(vx * stepSeconds, level);
+            moveVertically(vy * stepSeconds, level);
+        }
+    }
+
+    /**
+     * Whether the body could grow to {@code targetHeight} without its head entering a solid tile.
+     */
+    public boolean canStand(float targetHeight, @NonNull LevelModel level) {
+        float halfWidth = width / 2f;
+        int leftTile = (int) Math.floor((x - halfWidth) / level.getTileWidth());
+        int rightTile = (int) Math.floor((x + halfWidth - 1f) / level.getTileWidth());
+        int topTile = (int) Math.floor((y - targetHeight) / level.getTileHeight());
+        int bottomTile = (int) Math.floor((y - 1f) / level.getTileHeight());
+        return !level.anySolid(leftTile, topTile, rightTile, bottomTile);
+    }
+
+    public void getBounds(@NonNull Aabb out) {
+        float halfWidth = width / 2f;
+        out.set(x - halfWidth, y - height, x + halfWidth, y);
+    }
+
+    private void moveHorizontally(float delta, @NonNull LevelModel level) {
+        if (delta == 0f) {
+            return;
+        }
+        float halfWidth = width / 2f;
+        float newX = x + delta;
+        getBounds(box);
+        if (level.getSolidGrid().sweep(box, delta, 0f, sweep)) {
+            // Snap to the tile edge that was hit rather than trusting the interpolated time.
+            newX = level.getSolidGrid().contactLeft(sweep, width) + halfWidth;
+            vx = 0f;
+        }
+        float minX = halfWidth;
+        float maxX = Math.max(minX, level.getPixelWidth() - halfWidth);
+        if (newX < minX) {
+            newX = minX;
+            vx = 0f;
+        } else if (newX > maxX) {
+            newX = maxX;
+            vx = 0f;
+        }
+        x = newX;
+    }
+
+    private void moveVertically(float delta, @NonNull LevelModel level) {
+        if (delta == 0f) {
+            return;
+        }
+        float newY = y + delta;
+        getBounds(box);
+        if (level.getSolidGrid().sweep(box, 0f, delta, sweep)) {
+            newY = level.getSolidGrid().contactTop(sweep, height) + height;
+            if (sweep.getNormalY() < 0) {
+                onGround = true;
+            }
+            vy = 0f;
+        }
+        float minY = height;
+        float maxY = level.getPixelHeight();
+        if (newY < minY) {
+            newY = minY;
+            vy = 0f;
+        } else if (newY > maxY) {
+            newY = maxY;
+            vy = 0f;
+            onGround = true;
+        }
+        y = newY;
+        if (delta < 0 && vy < 0f) {
+            onGround = false;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+// engine/src/main/java/com/crobot/game/physics/SolidGrid.java
+package com.crobot.game.physics;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Which cells of a tile map block movement, held as per-row and per-column run tables: for every
+ * cell, the nearest solid cell at or after it and at or before it along its row and its column.
+ * A range scan is then one table read whatever the range length. Both
+ * games collide through it: {@link #sweep} resolves moves and {@link #subSteps} sizes the
+ * sub-steps of a body's integration. Filled once with {@link #setSolid}, then read-only.
+ */
+public final class SolidGrid {
+
+    /** Returned by the solid-cell scans when the range holds no solid cell. */
+    public static final int NO_TILE = Integer.MIN_VALUE;
+
+    private static final int MAX_SUB_STEPS = 8;
+
+    private final int columns;
+    private final int rows;
+    private final float cellWidth;
+    private final float cellHeight;
+    // Cell (x, y) is rowNext[y * columns + x]: the first solid column >= x in row y, or columns
+    // if none; rowPrev holds the last solid column <= x, or -1. The column tables are the same
+    // along columns, indexed x * rows + y.
+    private final int[] rowNext;
+    private final int[] rowPrev;
+    private final int[] columnNext;
+    private final int[] columnPrev;
+    private final boolean outsideSolid;
+
+    /**
+     * An empty grid of {@code columns} x {@code rows} cells; cells outside it read as
+     * {@code outsideSolid}.
+     */
+    public SolidGrid(int columns, int rows, float cellWidth, float cellHeight, boolean outsideSolid) {
+        this.columns = Math.max(0, columns);
+        this.rows = Math.max(0, rows);
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.outsideSolid = outsideSolid;
+        int cells = this.columns * this.rows;
+        rowNext = new int[cells];
+        rowPrev = new int[cells];
+        columnNext = new int[cells];
+        columnPrev = new int[cells];
+        for (int y = 0; y < this.rows; y++) {
+            Arrays.fill(rowNext, y * this.columns, (y + 1) * this.columns, this.columns);
+            Arrays.fill(rowPrev, y * this.columns, (y + 1) * this.columns, -1);
+        }
+        for (int x = 0; x < this.columns; x++) {
+            Arrays.fill(columnNext, x * this.rows, (x + 1) * this.rows, this.rows);
+            Arrays.fill(columnPrev, x * this.rows, (x + 1) * this.rows, -1);
+        }
+    }
+
+    public void setSolid(int x, int y) {
+        if (x < 0 || x >= columns || y < 0 || y >= rows) {
+            return;
+        }
+        markRun(rowNext, rowPrev, y * columns, columns, x);
+        markRun(columnNext, columnPrev, x * rows, rows, y);
+    }
+
+    public float getCellWidth() {
+        return cellWidth;
+    }
+
+    public float getCellHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Sub-steps a body of {@code width} x {@code height} needs so that a move of {@code travel}
+     * pixels never advances more than half a cell or half the body per sub-step; then gravity
+     * and contacts behave the same at 30 Hz, or across a hitch, as at 60 Hz.
+     */
+    public int subSteps(float travel, float width, float height) {
+        float maxStep = 0.5f * Math.min(Math.min(cellWidth, cellHeight), Math.min(width, height));
+        return SweptAabb.subSteps(travel, maxStep, MAX_SUB_STEPS);
+    }
+
+    /**
+     * Left edge of a box of {@code width} resting against the cell that {@code hit} found on a
+     * horizontal move. Snapping to the edge keeps float drift out of resting contact.
+     */
+    public float contactLeft(@NonNull SweptAabb hit, float width) {
+        return hit.getNormalX() < 0
+                ? hit.getTileX() * cellWidth - width
+                : (hit.getTileX() + 1) * cellWidth;
+    }
+
+    /**
+     * Top edge of a box of {@code height} resting against the cell that {@code hit} found on a
+     * vertical move.
+     */
+    public float contactTop(@NonNull SweptAabb hit, float height) {
+        return hit.getNormalY() < 0
+                ? hit.getTileY() * cellHeight - height
+                : (hit.getTileY() + 1) * cellHeight;
+    }
+
+    /**
+     * Whether the tile at ({@code x}, {@code y}) blocks movement.
+     */
+    public boolean isSolid(int x, int y) {
+        if (x < 0 || x >= columns || y < 0 || y >= rows) {
+            return outsideSolid;
+        }
+        return rowNext[y * columns + x] == x;
+    }
+
+    /**
+     * First solid tile column in row {@code y} between {@code x0} and {@code x1} inclusive,
+     * scanning up from {@code x0}; {@link #NO_TILE} if there is none.
+     */
+    public int firstSolidInRow(int y, int x0, int x1) {
+        if (y < 0 || y >= rows) {
+            return outsideSolid && x0 <= x1 ? x0 : NO_TILE;
+        }
+        return firstSolid(rowNext, y * columns, columns, x0, x1);
+    }
+
+    /**
+     * Last solid tile column in row {@code y} between {@code x0} and {@code x1} inclusive,
+     * scanning down from {@code x1}; {@link #NO_TILE} if there is none.
+     */
+    public int lastSolidInRow(int y, int x0, int x1) {
+        if (y < 0 || y >= rows) {
+            return outsideSolid && x0 <= x1 ? x1 : NO_TILE;
+        }
+        return lastSolid(rowPrev, y * columns, columns, x0, x1);
+    }
+
+    /**
+     * First solid tile row in column {@code x} between {@code y0} and {@code y1} inclusive,
+     * scanning down the level from {@code y0}; {@link #NO_TILE} if there is none.
+     */
+    public int firstSolidInColumn(int x, int y0, int y1) {
+        if (x < 0 || x >= columns) {
+            return outsideSolid && y0 <= y1 ? y0 : NO_TILE;
+        }
+        return firstSolid(columnNext, x * rows, rows, y0, y1);
+    }
+
+    /**
+     * Last solid tile row in column {@code x} between {@code y0} and {@code y1} inclusive,
+     * scanning up the level from {@code y1}; {@link #NO_TILE} if there is none.
+     */
+    public int lastSolidInColumn(int x, int y0, int y1) {
+        if (x < 0 || x >= columns) {
+            return outsideSolid && y0 <= y1 ? y1 : NO_TILE;
+        }
+        return lastSolid(columnPrev, x * rows, rows, y0, y1);
+    }
+
+    /**
+     * Whether any tile in the inclusive tile rectangle is solid; one run lookup per line along
+     * the rectangle's shorter side.
+     */
+    public boolean anySolid(int x0, int y0, int x1, int y1) {
+        if (x1 - x0 < y1 - y0) {
+            for (int x = x0; x <= x1; x++) {
+                if (firstSolidInColumn(x, y0, y1) != NO_TILE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int y = y0; y <= y1; y++) {
+            if (firstSolidInRow(y, x0, x1) != NO_TILE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sweeps the box ({@code left}, {@code top}, {@code right}, {@code bottom}) in pixels by
+     * ({@code dx}, {@code dy}) against every solid tile it passes. The earliest contact is left in
+     * {@code result}, which is reset first; returns whether anything was hit.
+     */
+    public boolean sweep(float left, float top, float right, float bottom, float dx, float dy,
+                         @NonNull SweptAabb result) {
+        result.reset();
+        if (dx == 0f && dy == 0f || cellWidth <= 0f || cellHeight <= 0f) {
+            return false;
+        }
+        int x0 = (int) Math.floor(Math.min(left, left + dx) / cellWidth);
+        int x1 = (int) Math.floor(Math.max(right, right + dx) / cellWidth);
+        int y0 = (int) Math.floor(Math.min(top, top + dy) / cellHeight);
+        int y1 = (int) Math.floor(Math.max(bottom, bottom + dy) / cellHeight);
+        if (dy == 0f) {
+            // Walk each row from the leading edge; the first cell the box reaches is that row's hit.
+            for (int y = y0; y <= y1; y++) {
+                int x = dx > 0f ? firstSolidInRow(y, x0, x1) : lastSolidInRow(y, x0, x1);
+                while (x != NO_TILE && !testCell(left, top, right, bottom, dx, dy, x, y, result)) {
+                    x = dx > 0f
+                            ? (x < x1 ? firstSolidInRow(y, x + 1, x1) : NO_TILE)
+                            : (x > x0 ? lastSolidInRow(y, x0, x - 1) : NO_TILE);
+                }
+            }
+        } else if (dx == 0f) {
+            for (int x = x0; x <= x1; x++) {
+                int y = dy > 0f ? firstSolidInColumn(x, y0, y1) : lastSolidInColumn(x, y0, y1);
+                while (y != NO_TILE && !testCell(left, top, right, bottom, dx, dy, x, y, result)) {
+                    y = dy > 0f
+                            ? (y < y1 ? firstSolidInColumn(x, y + 1, y1) : NO_TILE)
+                            : (y > y0 ? lastSolidInColumn(x, y0, y - 1) : NO_TILE);
+                }
+            }
+        } else {
+            // Diagonal moves have no single leading edge; visit every solid cell in range.
+            for (int y = y0; y <= y1; y++) {
+                for (int x = firstSolidInRow(y, x0, x1); x != NO_TILE;
+                        x = x < x1 ? firstSolidInRow(y, x + 1, x1) : NO_TILE) {
+                    testCell(left, top, right, bottom, dx, dy, x, y, result);
+                }
+            }
+        }
+        return result.hasHit();
+    }
+
+    /**
+     * {@link #sweep(float, float, float, float, float, float, SweptAabb)} for a box held in an
+     * {@link Aabb}.
+     */
+    public boolean sweep(@NonNull Aabb box, float dx, float dy, @NonNull SweptAabb result) {
+        return sweep(box.left, box.top, box.right, box.bottom, dx, dy, result);
+    }
+
+    private boolean testCell(float left, float top, float right, float bottom, float dx, float dy,
+                             int x, int y, @NonNull SweptAabb result) {
+        float cellLeft = x * cellWidth;
+        float cellTop = y * cellHeight;
+        return result.test(left, top, right, bottom, dx, dy,
+                cellLeft, cellTop, cellLeft + cellWidth, cellTop + cellHeight, x, y);
+    }
+
+    /**
+     * Records a solid cell at {@code index} of the line starting at {@code offset}: cells back to
+     * the previous solid one now run forward to it, cells up to the next solid one run back to it.
+     */
+    private static void markRun(@NonNull int[] next, @NonNull int[] prev, int offset, int length,
+                                int index) {
+        for (int i = index; i >= 0 && next[offset + i] > index; i--) {
+            next[offset + i] = index;
+        }
+        for (int i = index; i < length && prev[offset + i] < index; i++) {
+            prev[offset + i] = index;
+        }
+    }
+
+    private int firstSolid(@NonNull int[] next, int offset, int length, int from, int to) {
+        if (from > to) {
+            return NO_TILE;
+        }
+        if (from < 0) {
+            if (outsideSolid) {
+                return from;
+            }
+            from = 0;
+        }
+        if (from < length) {
+            int found = next[offset + from];
+            if (found <= to && found < length) {
+                return found;
+            }
+        }
+        return to >= length && outsideSolid ? Math.max(from, length) : NO_TILE;
+    }
+
+    private int lastSolid(@NonNull int[] prev, int offset, int length, int from, int to) {
+        if (from > to) {
+            return NO_TILE;
+        }
+        if (to >= length) {
+            if (outsideSolid) {
+                return to;
+            }
+            to = length - 1;
+        }
+        if (to >= 0) {
+            int found = prev[offset + to];
+            if (found >= from && found >= 0) {
+                return found;
+            }
+        }
+        return from < 0 && outsideSolid ? Math.min(to, -1) : NO_TILE;
+    }
+}
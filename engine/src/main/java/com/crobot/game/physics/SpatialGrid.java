@@ -0,0 +1,207 @@
+// engine/src/main/java/com/crobot/game/physics/SpatialGrid.java
+package com.crobot.game.physics;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid broadphase over a tile level. Cells are square blocks of {@code cellTiles} tiles,
+ * each item is linked into every cell its box covers, and queries only visit the cells they
+ * touch. The grid is meant to be cleared and refilled once per step. Queries return candidates
+ * whose boxes touch the query shape, in insertion order; callers run their exact test on those.
+ * Storage only grows, so a warmed-up grid allocates nothing. Not thread-safe.
+ */
+public final class SpatialGrid<T> {
+
+    private final int cellTiles;
+    private float cellWidth = 1f;
+    private float cellHeight = 1f;
+    private int columns = 1;
+    private int rows = 1;
+    // Head entry per cell, -1 when empty; entries chain through entryNext.
+    private int[] cellHeads = { -1 };
+    private int[] entryItem = new int[64];
+    private int[] entryNext = new int[64];
+    private int entryCount;
+
+    private Object[] items = new Object[32];
+    // left, top, right, bottom per item.
+    private float[] boxes = new float[32 * 4];
+    private int[] itemStamps = new int[32];
+    private int itemCount;
+    private int stamp;
+
+    private int[] results = new int[32];
+    private int resultCount;
+
+    public SpatialGrid(int cellTiles) {
+        this.cellTiles = Math.max(1, cellTiles);
+    }
+
+    /**
+     * Sizes the grid for a level of {@code widthTiles} x {@code heightTiles} tiles and empties it.
+     * Items outside the level are kept in the border cells.
+     */
+    public void reset(int tileWidth, int tileHeight, int widthTiles, int heightTiles) {
+        cellWidth = Math.max(1, tileWidth) * (float) cellTiles;
+        cellHeight = Math.max(1, tileHeight) * (float) cellTiles;
+        columns = Math.max(1, (widthTiles + cellTiles - 1) / cellTiles);
+        rows = Math.max(1, (heightTiles + cellTiles - 1) / cellTiles);
+        if (cellHeads.length < columns * rows) {
+            cellHeads = new int[columns * rows];
+        }
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(cellHeads, 0, columns * rows, -1);
+        Arrays.fill(items, 0, itemCount, null);
+        itemCount = 0;
+        entryCount = 0;
+        resultCount = 0;
+    }
+
+    public void insert(@NonNull T item, float left, float top, float right, float bottom) {
+        if (itemCount == items.length) {
+            int capacity = itemCount * 2;
+            items = Arrays.copyOf(items, capacity);
+            boxes = Arrays.copyOf(boxes, capacity * 4);
+            itemStamps = Arrays.copyOf(itemStamps, capacity);
+        }
+        int id = itemCount++;
+        items[id] = item;
+        boxes[id * 4] = left;
+        boxes[id * 4 + 1] = top;
+        boxes[id * 4 + 2] = right;
+        boxes[id * 4 + 3] = bottom;
+        itemStamps[id] = stamp;
+
+        int column0 = column(left);
+        int column1 = column(right);
+        int row0 = row(top);
+        int row1 = row(bottom);
+        int needed = entryCount + (column1 - column0 + 1) * (row1 - row0 + 1);
+        if (needed > entryItem.length) {
+            int capacity = Math.max(needed, entryItem.length * 2);
+            entryItem = Arrays.copyOf(entryItem, capacity);
+            entryNext = Arrays.copyOf(entryNext, capacity);
+        }
+        for (int row = row0; row <= row1; row++) {
+            for (int column = column0; column <= column1; column++) {
+                int cell = row * columns + column;
+                int entry = entryCount++;
+                entryItem[entry] = id;
+                entryNext[entry] = cellHeads[cell];
+                cellHeads[cell] = entry;
+            }
+        }
+    }
+
+    /**
+     * Collects the items whose boxes touch the rectangle. Returns the number of results.
+     */
+    public int queryRegion(float left, float top, float right, float bottom) {
+        beginQuery();
+        int column0 = column(left);
+        int column1 = column(right);
+        int row0 = row(top);
+        int row1 = row(bottom);
+        for (int row = row0; row <= row1; row++) {
+            for (int column = column0; column <= column1; column++) {
+                for (int entry = cellHeads[row * columns + column]; entry >= 0; entry = entryNext[entry]) {
+                    int id = entryItem[entry];
+                    if (itemStamps[id] == stamp) {
+                        continue;
+                    }
+                    itemStamps[id] = stamp;
+                    int box = id * 4;
+                    if (boxes[box] <= right && left <= boxes[box + 2]
+                            && boxes[box + 1] <= bottom && top <= boxes[box + 3]) {
+                        addResult(id);
+                    }
+                }
+            }
+        }
+        return finishQuery();
+    }
+
+    /**
+     * Collects the items whose boxes touch the circle. Returns the number of results.
+     */
+    public int queryRadius(float centerX, float centerY, float radius) {
+        beginQuery();
+        int column0 = column(centerX - radius);
+        int column1 = column(centerX + radius);
+        int row0 = row(centerY - radius);
+        int row1 = row(centerY + radius);
+        float radiusSquared = radius * radius;
+        for (int row = row0; row <= row1; row++) {
+            for (int column = column0; column <= column1; column++) {
+                for (int entry = cellHeads[row * columns + column]; entry >= 0; entry = entryNext[entry]) {
+                    int id = entryItem[entry];
+                    if (itemStamps[id] == stamp) {
+                        continue;
+                    }
+                    itemStamps[id] = stamp;
+                    int box = id * 4;
+                    float dx = centerX - Math.max(boxes[box], Math.min(centerX, boxes[box + 2]));
+                    float dy = centerY - Math.max(boxes[box + 1], Math.min(centerY, boxes[box + 3]));
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        addResult(id);
+                    }
+                }
+            }
+        }
+        return finishQuery();
+    }
+
+    /**
+     * Result {@code index} of the last query. Only valid until the next query or clear.
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public T getResult(int index) {
+        return (T) items[results[index]];
+    }
+
+    private void beginQuery() {
+        resultCount = 0;
+        if (++stamp == 0) {
+            // Wrapped around: forget every mark so none can collide with the new stamp.
+            Arrays.fill(itemStamps, 0);
+            stamp = 1;
+        }
+    }
+
+    private void addResult(int id) {
+        if (resultCount == results.length) {
+            results = Arrays.copyOf(results, resultCount * 2);
+        }
+        results[resultCount++] = id;
+    }
+
+    private int finishQuery() {
+        // Cells are walked newest-first; restore insertion order so callers stay deterministic.
+        for (int i = 1; i < resultCount; i++) {
+            int id = results[i];
+            int j = i - 1;
+            while (j >= 0 && results[j] > id) {
+                results[j + 1] = results[j];
+                j--;
+            }
+            results[j + 1] = id;
+        }
+        return resultCount;
+    }
+
+    private int column(float x) {
+        int column = (int) Math.floor(x / cellWidth);
+        return column < 0 ? 0 : Math.min(columns - 1, column);
+    }
+
+    private int row(float y) {
+        int row = (int) Math.floor(y / cellHeight);
+        return row < 0 ? 0 : Math.min(rows - 1, row);
+    }
+}
@@ -0,0 +1,135 @@
+// engine/src/main/java/com/crobot/game/physics/SweptAabb.java
+package com.crobot.game.physics;
+
+/**
+ * Swept axis-aligned box test against tile cells. A level feeds every solid cell in the swept
+ * range to {@link #test}; the earliest time of impact and its contact normal are kept, so a move
+ * can never skip over a wall no matter how far it travels in one step. Cells the box already
+ * overlaps at {@code t = 0} are ignored so an embedded body can still move out. Reused per call
+ * site, no allocation.
+ */
+public final class SweptAabb {
+
+    // Absorbs float drift after snapping to a tile edge, so resting contact does not read as overlap.
+    public static final float CONTACT_EPSILON = 1e-3f;
+
+    private float time;
+    private int normalX;
+    private int normalY;
+    private int tileX;
+    private int tileY;
+    private boolean hit;
+
+    public SweptAabb() {
+        reset();
+    }
+
+    /**
+     * Sub-steps needed so that no sub-step moves further than {@code maxStep}.
+     */
+    public static int subSteps(float distance, float maxStep, int maxSubSteps) {
+        if (!(distance > maxStep) || maxStep <= 0f) {
+            return 1;
+        }
+        return Math.min(maxSubSteps, (int) Math.ceil(distance / maxStep));
+    }
+
+    public void reset() {
+        time = 1f;
+        normalX = 0;
+        normalY = 0;
+        tileX = 0;
+        tileY = 0;
+        hit = false;
+    }
+
+    /**
+     * Tests the box moving by ({@code dx}, {@code dy}) against one cell and keeps it if it is hit
+     * earlier than anything tested since {@link #reset()}. Returns whether the move reaches the
+     * cell at all, kept or not, so callers walking cells in the direction of motion can stop.
+     */
+    public boolean test(float left, float top, float right, float bottom, float dx, float dy,
+                     float cellLeft, float cellTop, float cellRight, float cellBottom,
+                     int cellX, int cellY) {
+        if (dx == 0f && dy == 0f) {
+            return false;
+        }
+        float entryX;
+        float exitX;
+        if (dx > 0f) {
+            entryX = (cellLeft - right) / dx;
+            exitX = (cellRight - left) / dx;
+        } else if (dx < 0f) {
+            entryX = (cellRight - left) / dx;
+            exitX = (cellLeft - right) / dx;
+        } else if (right > cellLeft + CONTACT_EPSILON && left < cellRight - CONTACT_EPSILON) {
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+        float entryY;
+        float exitY;
+        if (dy > 0f) {
+            entryY = (cellTop - bottom) / dy;
+            exitY = (cellBottom - top) / dy;
+        } else if (dy < 0f) {
+            entryY = (cellBottom - top) / dy;
+            exitY = (cellTop - bottom) / dy;
+        } else if (bottom > cellTop + CONTACT_EPSILON && top < cellBottom - CONTACT_EPSILON) {
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        // Starting a hair inside the cell still counts as touching it; deeper overlap does not.
+        float slack = CONTACT_EPSILON / Math.max(Math.abs(dx), Math.abs(dy));
+        if (entry >= exit || entry < -slack || entry >= 1f) {
+            return false;
+        }
+        if (hit && entry >= time) {
+            return true;
+        }
+        time = Math.max(0f, entry);
+        if (entryX > entryY) {
+            normalX = dx > 0f ? -1 : 1;
+            normalY = 0;
+        } else {
+            normalX = 0;
+            normalY = dy > 0f ? -1 : 1;
+        }
+        tileX = cellX;
+        tileY = cellY;
+        hit = true;
+        return true;
+    }
+
+    public boolean hasHit() {
+        return hit;
+    }
+
+    /** Fraction of the move, 0..1, completed before contact; 1 when nothing was hit. */
+    public float getTime() {
+        return time;
+    }
+
+    /** -1 when the box hit a cell on its right, 1 on its left, 0 for a vertical contact. */
+    public int getNormalX() {
+        return normalX;
+    }
+
+    /** -1 when the box landed on a cell below it, 1 when it hit a ceiling, 0 otherwise. */
+    public int getNormalY() {
+        return normalY;
+    }
+
+    public int getTileX() {
+        return tileX;
+    }
+
+    public int getTileY() {
+        return tileY;
+    }
+}
@@ -0,0 +1,34 @@
+// engine/src/main/java/com/crobot/game/sim/DebugPlatform.java
+package com.crobot.game.sim;
+
+import androidx.annotation.NonNull;
+
+import com.crobot.game.physics.Aabb;
+
+/**
+ * Temporary platform left behind by patch golems and driver modules. Pooled like
+ * {@link Projectile}.
+ */
+public final class DebugPlatform {
+    final Aabb bounds = new Aabb();
+    float lifetime;
+
+    DebugPlatform() {
+    }
+
+    void set(float centerX, float baseY, float width, float height, float lifetime) {
+        bounds.set(centerX - width / 2f, baseY - height, centerX + width / 2f, baseY);
+        this.lifetime = lifetime;
+    }
+
+    /** Owned by the platform; do not modify. */
+    @NonNull
+    public Aabb getBounds() {
+        return bounds;
+    }
+
+    /** Seconds until the platform disappears. */
+    public float getLifetime() {
+        return lifetime;
+    }
+}
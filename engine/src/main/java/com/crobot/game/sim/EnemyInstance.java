@@ -0,0 +1,150 @@
+// engine/src/main/java/com/crobot/game/sim/EnemyInstance.java
+package com.crobot.game.sim;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.crobot.game.physics.Aabb;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One enemy of the bound level. Behaviour state is only touched by {@link CrobotSimulation};
+ * the getters are what a renderer needs.
+ */
+public final class EnemyInstance {
+    EnemyKind kind;
+    final float tileWidth;
+    final float tileHeight;
+    float width;
+    float height;
+    float x;
+    float y;
+    float baseX;
+    float baseY;
+    float previousX;
+    float previousY;
+    float vx;
+    float vy;
+    float timer;
+    float state;
+    float stateTimer;
+    int direction = 1;
+    boolean active = true;
+    boolean deactivated;
+    boolean onGround;
+    boolean visible = true;
+    boolean platformCarrier;
+    String swarmId;
+    String leaderId;
+    EnemyInstance leader;
+    String channel;
+    String trigger;
+    Map<String, String> extras;
+    // Extras that parse as numbers, parsed once so behaviour lookups stay allocation-free.
+    final Map<String, Float> numericExtras = new HashMap<>();
+    // Drawn with the sprite shared by every enemy of its kind rather than a placeholder.
+    boolean hasSprite = true;
+    // Animation position in loops of the shared sprite.
+    float spritePhase;
+    private final FootBounds bounds = new FootBounds();
+
+    EnemyInstance(@NonNull EnemyKind kind,
+                  float pixelX,
+                  float pixelY,
+                  float tileWidth,
+                  float tileHeight,
+                  @Nullable Map<String, String> extras) {
+        this.kind = kind;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.width = tileWidth * kind.widthScale;
+        this.height = tileHeight * kind.heightScale;
+        this.x = pixelX;
+        this.y = pixelY;
+        this.baseX = pixelX;
+        this.baseY = pixelY;
+        this.previousX = pixelX;
+        this.previousY = pixelY;
+        this.vx = 0f;
+        this.vy = 0f;
+        this.timer = 0f;
+        this.state = 0f;
+        this.stateTimer = 0f;
+        this.direction = 1;
+        if (extras == null || extras.isEmpty()) {
+            this.extras = Collections.emptyMap();
+        } else {
+            this.extras = Collections.unmodifiableMap(new HashMap<>(extras));
+        }
+        this.swarmId = this.extras.get("swarm");
+        this.leaderId = this.extras.get("leader");
+        this.channel = this.extras.get("channel");
+        this.trigger = this.extras.get("trigger");
+        for (Map.Entry<String, String> entry : this.extras.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            try {
+                numericExtras.put(entry.getKey(), Float.parseFloat(entry.getValue()));
+            } catch (NumberFormatException ex) {
+                // Not a number; only read through extras.
+            }
+        }
+    }
+
+    @NonNull
+    public EnemyKind getKind() {
+        return kind;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public float getPreviousX() {
+        return previousX;
+    }
+
+    public float getPreviousY() {
+        return previousY;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public boolean hasSprite() {
+        return hasSprite;
+    }
+
+    public float getSpritePhase() {
+        return spritePhase;
+    }
+
+    /**
+     * Current bounds. The box is owned by the enemy and updated in place by the next call.
+     */
+    @NonNull
+    public Aabb getBounds() {
+        return bounds.get(x, y, width, height);
+    }
+}
@@ -0,0 +1,94 @@
+// engine/src/main/java/com/crobot/game/sim/EnemyKind.java
+package com.crobot.game.sim;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Enemy types, keyed by their level entity type, with their size in tiles.
+ */
+public enum EnemyKind {
+    BUGBLOB("bugblob", 0.9f, 1.0f),
+    KEYLOGGER_BEETLE("keylogger_beetle", 0.9f, 0.9f),
+    COOKIE_CRUMBLER("cookie_crumbler", 1.0f, 0.9f),
+    BIT_BAT("bit_bat", 0.8f, 0.8f),
+    PHISH_CARP("phish_carp", 0.9f, 1.0f),
+    SPAM_DRONE("spam_drone", 0.9f, 0.9f),
+    CLOUD_LEECH("cloud_leech", 1.0f, 1.0f),
+    TROJAN_TURRET("trojan_turret", 1.2f, 1.2f),
+    RANSOM_KNIGHT("ransom_knight", 1.1f, 1.4f),
+    ROOTKIT_RAIDER("rootkit_raider", 1.0f, 1.0f),
+    FIREWALL_GUARDIAN("firewall_guardian", 1.2f, 1.6f),
+    POPUP_PIRANHA("popup_piranha", 0.9f, 1.2f),
+    LAG_BUBBLE("lag_bubble", 1.4f, 1.4f),
+    MEMORY_LEAK_SLIME("memory_leak_slime", 1.0f, 1.0f),
+    CAPTCHA_GARGOYLE("captcha_gargoyle", 1.1f, 1.6f),
+    PACKET_HOUND("packet_hound", 1.0f, 0.9f),
+    BSOD_BLOCK("bsod_block", 1.4f, 1.0f),
+    PATCH_GOLEM("patch_golem", 1.6f, 1.0f),
+    GLITCH_SAW("glitch_saw", 1.2f, 1.2f),
+    ADWARE_BALLOON("adware_balloon", 1.0f, 1.0f),
+    BOTNET_BEE_LEADER("botnet_bee_leader", 0.8f, 0.8f),
+    BOTNET_BEE_MINION("botnet_bee_minion", 0.6f, 0.6f),
+    WURM_WEASEL("wurm_weasel", 0.9f, 0.9f),
+    TREIBER_DRONE("treiber_drone", 1.0f, 1.0f),
+    DRIVER_MODULE("driver_module", 0.9f, 0.9f),
+    PORT_PLANT("port_plant", 1.0f, 1.4f),
+    COMPILE_CRUSHER("compile_crusher", 1.6f, 1.8f),
+    GARBAGE_COLLECTOR("garbage_collector", 1.8f, 1.6f),
+    KERNEL_KOBOLD("kernel_kobold", 1.0f, 1.2f),
+    VPN_VAMPYRE("vpn_vampire", 1.0f, 1.4f),
+    UPDATE_OGRE("update_ogre", 1.6f, 1.8f),
+    TWOFA_GUARDIAN_JUMP("twofa_guardian_jump", 1.4f, 2.2f),
+    TWOFA_GUARDIAN_DASH("twofa_guardian_dash", 1.4f, 2.2f),
+    CHECKSUM_CRAB("checksum_crab", 1.1f, 1.0f),
+    PHISHING_SIREN("phishing_siren", 1.2f, 1.4f);
+
+    final String typeName;
+    final float widthScale;
+    final float heightScale;
+
+    EnemyKind(@NonNull String typeName, float widthScale, float heightScale) {
+        this.typeName = typeName;
+        this.widthScale = widthScale;
+        this.heightScale = heightScale;
+    }
+
+    @NonNull
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /** Width of an enemy of this kind, in tiles. */
+    public float getWidthScale() {
+        return widthScale;
+    }
+
+    /** Height of an enemy of this kind, in tiles. */
+    public float getHeightScale() {
+        return heightScale;
+    }
+
+    /**
+     * Kind for a level entity type, or null if the type is not an enemy.
+     */
+    @Nullable
+    public static EnemyKind fromType(@NonNull String type) {
+        String key = type.toLowerCase(Locale.US);
+        return LOOKUP.get(key);
+    }
+
+    private static Map<String, EnemyKind> createLookup() {
+        Map<String, EnemyKind> map = new HashMap<>();
+        for (EnemyKind kind : values()) {
+            map.put(kind.typeName, kind);
+        }
+        return map;
+    }
+
+    private static final Map<String, EnemyKind> LOOKUP = createLookup();
+}
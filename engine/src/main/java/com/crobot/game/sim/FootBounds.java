@@ -0,0 +1,31 @@
+// engine/src/main/java/com/crobot/game/sim/FootBounds.java
+package com.crobot.game.sim;
+
+import androidx.annotation.NonNull;
+
+import com.crobot.game.physics.Aabb;
+
+/**
+ * Bounds of a box anchored at its feet, rebuilt only when the position or size it was built
+ * from has changed since the last call.
+ */
+final class FootBounds {
+    private final Aabb rect = new Aabb();
+    private float x = Float.NaN;
+    private float y;
+    private float width;
+    private float height;
+
+    @NonNull
+    Aabb get(float x, float y, float width, float height) {
+        if (x != this.x || y != this.y || width != this.width || height != this.height) {
+            float halfWidth = width / 2f;
+            rect.set(x - halfWidth, y - height, x + halfWidth, y);
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+        return rect;
+    }
+}
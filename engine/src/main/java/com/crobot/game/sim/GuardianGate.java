@@ -0,0 +1,14 @@
+// engine/src/main/java/com/crobot/game/sim/GuardianGate.java
+package com.crobot.game.sim;
+
+/**
+ * Shared state of the two-factor guardians on one channel; opens once both were satisfied.
+ */
+final class GuardianGate {
+    boolean jumpSatisfied;
+    boolean duckSatisfied;
+
+    boolean isOpen() {
+        return jumpSatisfied && duckSatisfied;
+    }
+}
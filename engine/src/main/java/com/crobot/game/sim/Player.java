@@ -0,0 +1,70 @@
+// engine/src/main/java/com/crobot/game/sim/Player.java
+package com.crobot.game.sim;
+
+import androidx.annotation.NonNull;
+
+import com.crobot.game.physics.Aabb;
+import com.crobot.game.physics.PlayerBody;
+
+/**
+ * The crobot: a {@link PlayerBody} with crouching, spawn point and the status effects enemies
+ * inflict on it.
+ */
+public final class Player extends PlayerBody {
+    float previousX;
+    float previousY;
+    float standingHeight;
+    float crouchHeight;
+    float jumpVelocity;
+    float spawnX;
+    float spawnY;
+    float stickyTimer;
+    float slipTimer;
+    float jumpCooldownTimer;
+    float timeSlowTimer;
+    boolean touchedDebugSymbol;
+    boolean facingRight = true;
+    boolean crouching;
+    private final FootBounds bounds = new FootBounds();
+
+    Player() {
+    }
+
+    public float getPreviousX() {
+        return previousX;
+    }
+
+    public float getPreviousY() {
+        return previousY;
+    }
+
+    public boolean isFacingRight() {
+        return facingRight;
+    }
+
+    public boolean isCrouching() {
+        return crouching;
+    }
+
+    /**
+     * Current bounds. The box is owned by the player and updated in place by the next call.
+     */
+    @NonNull
+    public Aabb getBounds() {
+        return bounds.get(x, y, width, height);
+    }
+
+    void respawn() {
+        x = spawnX;
+        y = spawnY;
+        vx = 0f;
+        vy = 0f;
+        onGround = false;
+        crouching = false;
+        height = standingHeight;
+        stickyTimer = 0f;
+        slipTimer = 0f;
+        jumpCooldownTimer = 0f;
+        timeSlowTimer = 0f;
+    }
+}
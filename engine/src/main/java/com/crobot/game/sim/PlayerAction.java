@@ -0,0 +1,13 @@
+// engine/src/main/java/com/crobot/game/sim/PlayerAction.java
+package com.crobot.game.sim;
+
+/**
+ * What the player did in the last step; several enemies mirror or react to it.
+ */
+enum PlayerAction {
+    IDLE,
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    JUMP,
+    CROUCH
+}
@@ -0,0 +1,41 @@
+// engine/src/main/java/com/crobot/game/sim/Projectile.java
+package com.crobot.game.sim;
+
+/**
+ * Enemy shot. Instances are pooled by {@link CrobotSimulation} and reused after they expire.
+ */
+public final class Projectile {
+    float x;
+    float y;
+    float previousX;
+    float previousY;
+    float vx;
+    float vy;
+    float radius;
+    float lifetime;
+    boolean gravity;
+    EnemyKind source;
+
+    Projectile() {
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getPreviousX() {
+        return previousX;
+    }
+
+    public float getPreviousY() {
+        return previousY;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+}
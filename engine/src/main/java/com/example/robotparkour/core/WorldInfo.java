@@ -1,4 +1,4 @@
-// app/src/main/java/com/example/robotparkour/core/WorldInfo.java
+// engine/src/main/java/com/example/robotparkour/core/WorldInfo.java
 package com.example.robotparkour.core;
 
 import androidx.annotation.NonNull;
@@ -0,0 +1,150 @@
+// engine/src/main/java/com/example/robotparkour/entity/RobotBody.java
+package com.example.robotparkour.entity;
+
+import androidx.annotation.NonNull;
+
+import com.crobot.game.physics.Aabb;
+import com.crobot.game.physics.SolidGrid;
+import com.crobot.game.physics.SweptAabb;
+
+/**
+ * Platforming physics of the robotparkour robot: run acceleration, friction, gravity and jumps,
+ * moving a box anchored at its top-left corner. Movement is swept against a {@link SolidGrid} in
+ * {@link SolidGrid#subSteps sub-steps}, vertically first. Not thread-safe; owned by the game loop.
+ */
+public final class RobotBody {
+
+    private static final float MOVE_ACCEL = 780f;
+    private static final float MAX_MOVE_SPEED = 260f;
+    private static final float GROUND_FRICTION = 680f;
+    private static final float AIR_FRICTION = 240f;
+    private static final float GRAVITY = 2000f;
+    private static final float MAX_FALL_SPEED = 720f;
+    private static final float JUMP_VELOCITY = -690f;
+
+    private final SweptAabb sweep = new SweptAabb();
+    private final float width;
+    private final float height;
+
+    private float velocityX;
+    private float velocityY;
+    private boolean grounded;
+    private boolean facingRight = true;
+
+    /**
+     * A body whose box is {@code width} x {@code height}; the box is rebuilt from its top-left
+     * corner after every move so its size never drifts.
+     */
+    public RobotBody(float width, float height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Drops all velocity and ground contact, as after a teleport.
+     */
+    public void stop() {
+        velocityX = 0f;
+        velocityY = 0f;
+        grounded = false;
+    }
+
+    public boolean isGrounded() {
+        return grounded;
+    }
+
+    public boolean isFacingRight() {
+        return facingRight;
+    }
+
+    public float getVelocityX() {
+        return velocityX;
+    }
+
+    public float getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Applies the controls for {@code deltaSeconds} and moves {@code box}, the body's current
+     * bounds, in place.
+     */
+    public void update(@NonNull Aabb box,
+                       @NonNull SolidGrid grid,
+                       float deltaSeconds,
+                       boolean movingLeft,
+                       boolean movingRight,
+                       boolean jumpRequested) {
+        float accelerationX = 0f;
+        if (movingLeft) {
+            accelerationX -= MOVE_ACCEL;
+            facingRight = false;
+        }
+        if (movingRight) {
+            accelerationX += MOVE_ACCEL;
+            facingRight = true;
+        }
+        velocityX += accelerationX * deltaSeconds;
+
+        float friction = grounded ? GROUND_FRICTION : AIR_FRICTION;
+        if (!movingLeft && !movingRight) {
+            if (velocityX > 0f) {
+                velocityX = Math.max(0f, velocityX - friction * deltaSeconds);
+            } else if (velocityX < 0f) {
+                velocityX = Math.min(0f, velocityX + friction * deltaSeconds);
+            }
+        }
+
+        if (velocityX > MAX_MOVE_SPEED) {
+            velocityX = MAX_MOVE_SPEED;
+        } else if (velocityX < -MAX_MOVE_SPEED) {
+            velocityX = -MAX_MOVE_SPEED;
+        }
+
+        if (jumpRequested && grounded) {
+            velocityY = JUMP_VELOCITY;
+            grounded = false;
+        }
+
+        // Integrate in sub-steps so a long step (30 Hz, hitches) lands and slides the same way
+        // short ones do.
+        float peakFallSpeed = Math.min(MAX_FALL_SPEED, Math.abs(velocityY) + GRAVITY * deltaSeconds);
+        float travel = Math.max(Math.abs(velocityX), peakFallSpeed) * deltaSeconds;
+        int steps = grid.subSteps(travel, width, height);
+        float stepSeconds = deltaSeconds / steps;
+        for (int i = 0; i < steps; i++) {
+            velocityY += GRAVITY * stepSeconds;
+            if (velocityY > MAX_FALL_SPEED) {
+                velocityY = MAX_FALL_SPEED;
+            }
+            moveAlongAxis(box, grid, 0f, velocityY * stepSeconds);
+            moveAlongAxis(box, grid, velocityX * stepSeconds, 0f);
+        }
+    }
+
+    private void moveAlongAxis(@NonNull Aabb box, @NonNull SolidGrid grid, float dx, float dy) {
+        if (dx == 0f && dy == 0f) {
+            return;
+        }
+        if (dy != 0f) {
+            grounded = false;
+        }
+        if (!grid.sweep(box, dx, dy, sweep)) {
+            moveTo(box, box.left + dx, box.top + dy);
+            return;
+        }
+        // Snap to the edge of the tile that was hit rather than trusting the interpolated time.
+        if (sweep.getNormalY() != 0) {
+            moveTo(box, box.left, grid.contactTop(sweep, height));
+            velocityY = 0f;
+            grounded = sweep.getNormalY() < 0;
+        } else {
+            moveTo(box, grid.contactLeft(sweep, width), box.top);
+            velocityX = 0f;
+        }
+    }
+
+    private void moveTo(@NonNull Aabb box, float left, float top) {
+        box.set(left, top, left + width, top + height);
+    }
+}
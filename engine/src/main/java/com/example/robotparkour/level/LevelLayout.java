@@ -0,0 +1,131 @@
+// engine/src/main/java/com/example/robotparkour/level/LevelLayout.java
+package com.example.robotparkour.level;
+
+import androidx.annotation.NonNull;
+
+import com.crobot.game.physics.SolidGrid;
+
+/**
+ * Parsed form of a robotparkour string map: the cell codes, the solid cells as a
+ * {@link SolidGrid} and the robot's spawn point. Immutable once parsed; the app's {@code Level}
+ * builds its drawable entities from it.
+ */
+public final class LevelLayout {
+
+    public static final char EMPTY = '.';
+    public static final char EDITOR_BLOCK = 'G';
+    public static final char TERMINAL_BLOCK = 'B';
+    public static final char DEBUG_BLOCK = 'Q';
+    public static final char COIN = 'C';
+    public static final char SPIKE = 'S';
+    public static final char FLAG = 'F';
+    public static final char SPAWN = 'R';
+
+    private final int width;
+    private final int height;
+    private final float tileSize;
+    // Row-major, one code per cell; short rows are padded with EMPTY.
+    private final char[] codes;
+    private final SolidGrid solidGrid;
+    private final float spawnX;
+    private final float spawnY;
+
+    private LevelLayout(int width, int height, float tileSize, @NonNull char[] codes,
+                        @NonNull SolidGrid solidGrid, float spawnX, float spawnY) {
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.codes = codes;
+        this.solidGrid = solidGrid;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+    }
+
+    @NonNull
+    public static LevelLayout fromStringMap(String[] rows, float tileSize) {
+        if (rows == null || rows.length == 0) {
+            throw new IllegalArgumentException("Level requires at least one row");
+        }
+        int height = rows.length;
+        int width = 0;
+        for (String row : rows) {
+            if (row != null) {
+                width = Math.max(width, row.length());
+            }
+        }
+        if (width == 0) {
+            throw new IllegalArgumentException("Level rows must contain at least one column");
+        }
+        char[] codes = new char[width * height];
+        SolidGrid solidGrid = new SolidGrid(width, height, tileSize, tileSize, false);
+        float spawnX = tileSize;
+        float spawnY = tileSize;
+        for (int row = 0; row < height; row++) {
+            String line = rows[row] == null ? "" : rows[row];
+            for (int col = 0; col < width; col++) {
+                char code = col < line.length() ? line.charAt(col) : EMPTY;
+                codes[row * width + col] = code;
+                if (isSolid(code)) {
+                    solidGrid.setSolid(col, row);
+                } else if (code == SPAWN) {
+                    spawnX = col * tileSize;
+                    spawnY = row * tileSize;
+                }
+            }
+        }
+        return new LevelLayout(width, height, tileSize, codes, solidGrid, spawnX, spawnY);
+    }
+
+    /**
+     * Whether cells with {@code code} block movement.
+     */
+    public static boolean isSolid(char code) {
+        return code == EDITOR_BLOCK || code == TERMINAL_BLOCK || code == DEBUG_BLOCK;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getTileSize() {
+        return tileSize;
+    }
+
+    public float getPixelWidth() {
+        return width * tileSize;
+    }
+
+    public float getPixelHeight() {
+        return height * tileSize;
+    }
+
+    /**
+     * Code of the cell at ({@code col}, {@code row}); {@link #EMPTY} outside the map.
+     */
+    public char getCode(int col, int row) {
+        if (col < 0 || col >= width || row < 0 || row >= height) {
+            return EMPTY;
+        }
+        return codes[row * width + col];
+    }
+
+    /**
+     * Solidity of the tile grid, shared with the engine's collision code.
+     */
+    @NonNull
+    public SolidGrid getSolidGrid() {
+        return solidGrid;
+    }
+
+    public float getSpawnX() {
+        return spawnX;
+    }
+
+    public float getSpawnY() {
+        return spawnY;
+    }
+}
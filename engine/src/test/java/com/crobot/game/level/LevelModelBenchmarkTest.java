@@ -0,0 +1,151 @@
+// engine/src/test/java/com/crobot/game/level/LevelModelBenchmarkTest.java
+package com.crobot.game.level;
+
+import static org.junit.Assert.assertEquals;
+
+import com.crobot.game.physics.SweptAabb;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Microbenchmarks of the run-table sweep and scans against per-tile loops over the same inputs.
+ * They print nanoseconds per call rather than asserting a speed-up, so a busy build machine cannot
+ * fail them; they only check that both sides agree.
+ */
+public class LevelModelBenchmarkTest {
+
+    private static final int MOVES = 4096;
+    private static final int WARM_UP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 100;
+
+    @Test
+    public void runTableSweepAgainstPerTileSweep() {
+        Random random = new Random(3);
+        LevelModel level = LevelModelTest.randomLevel(random, 240, 64, 0.35f, false);
+        float[] moves = new float[MOVES * 6];
+        for (int i = 0; i < MOVES; i++) {
+            // Player-sized boxes moving along one axis, as PlayerBody does.
+            float left = random.nextFloat() * level.getPixelWidth();
+            float top = random.nextFloat() * level.getPixelHeight();
+            boolean horizontal = random.nextBoolean();
+            float distance = (random.nextFloat() * 2f - 1f) * 24f;
+            moves[i * 6] = left;
+            moves[i * 6 + 1] = top;
+            moves[i * 6 + 2] = left + 13f;
+            moves[i * 6 + 3] = top + 30f;
+            moves[i * 6 + 4] = horizontal ? distance : 0f;
+            moves[i * 6 + 5] = horizontal ? 0f : distance;
+        }
+        SweptAabb result = new SweptAabb();
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            runRunTable(level, moves, result);
+            runPerTile(level, moves, result);
+        }
+        long runTableNanos = 0L;
+        long perTileNanos = 0L;
+        int runTableHits = 0;
+        int perTileHits = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            runTableHits += runRunTable(level, moves, result);
+            runTableNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            perTileHits += runPerTile(level, moves, result);
+            perTileNanos += System.nanoTime() - start;
+        }
+        assertEquals(perTileHits, runTableHits);
+        double sweeps = (double) MOVES * MEASURED_ROUNDS;
+        System.out.printf("LevelModel.sweep: run tables %.1f ns, per tile %.1f ns per sweep%n",
+                runTableNanos / sweeps, perTileNanos / sweeps);
+    }
+
+    @Test
+    public void runTableScansAgainstPerTileScans() {
+        Random random = new Random(5);
+        LevelModel level = LevelModelTest.randomLevel(random, 240, 64, 0.05f, false);
+        int[] ranges = new int[MOVES * 3];
+        for (int i = 0; i < MOVES; i++) {
+            // Screen-wide row probes, as the camera and ground checks make on sparse levels.
+            ranges[i * 3] = random.nextInt(64);
+            ranges[i * 3 + 1] = random.nextInt(240);
+            ranges[i * 3 + 2] = ranges[i * 3 + 1] + 20 + random.nextInt(40);
+        }
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            scanRunTable(level, ranges);
+            scanPerTile(level, ranges);
+        }
+        long runTableNanos = 0L;
+        long perTileNanos = 0L;
+        long runTableSum = 0L;
+        long perTileSum = 0L;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            runTableSum += scanRunTable(level, ranges);
+            runTableNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            perTileSum += scanPerTile(level, ranges);
+            perTileNanos += System.nanoTime() - start;
+        }
+        assertEquals(perTileSum, runTableSum);
+        double scans = (double) MOVES * MEASURED_ROUNDS * 2;
+        System.out.printf("LevelModel scans: run tables %.1f ns, per tile %.1f ns per scan%n",
+                runTableNanos / scans, perTileNanos / scans);
+    }
+
+    private static int runRunTable(LevelModel level, float[] moves, SweptAabb result) {
+        int hits = 0;
+        for (int i = 0; i < moves.length; i += 6) {
+            if (level.sweep(moves[i], moves[i + 1], moves[i + 2], moves[i + 3],
+                    moves[i + 4], moves[i + 5], result)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static int runPerTile(LevelModel level, float[] moves, SweptAabb result) {
+        int hits = 0;
+        for (int i = 0; i < moves.length; i += 6) {
+            if (LevelModelTest.naiveSweep(level, moves[i], moves[i + 1], moves[i + 2], moves[i + 3],
+                    moves[i + 4], moves[i + 5], result)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static long scanRunTable(LevelModel level, int[] ranges) {
+        long sum = 0L;
+        for (int i = 0; i < ranges.length; i += 3) {
+            sum += level.firstSolidInRow(ranges[i], ranges[i + 1], ranges[i + 2]);
+            sum += level.lastSolidInRow(ranges[i], ranges[i + 1], ranges[i + 2]);
+        }
+        return sum;
+    }
+
+    private static long scanPerTile(LevelModel level, int[] ranges) {
+        long sum = 0L;
+        for (int i = 0; i < ranges.length; i += 3) {
+            int y = ranges[i];
+            int first = LevelModel.NO_TILE;
+            for (int x = ranges[i + 1]; x <= ranges[i + 2]; x++) {
+                if (LevelModelTest.naiveSolid(level, x, y)) {
+                    first = x;
+                    break;
+                }
+            }
+            int last = LevelModel.NO_TILE;
+            for (int x = ranges[i + 2]; x >= ranges[i + 1]; x--) {
+                if (LevelModelTest.naiveSolid(level, x, y)) {
+                    last = x;
+                    break;
+                }
+            }
+            sum += first;
+            sum += last;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,175 @@
+// engine/src/test/java/com/crobot/game/level/LevelModelTest.java
+package com.crobot.game.level;
+
+import static org.junit.Assert.assertEquals;
+
+import com.crobot.game.physics.SweptAabb;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * Checks the solidity run tables against plain per-tile lookups on random levels.
+ */
+public class LevelModelTest {
+
+    private static final int TILE = 16;
+
+    @Test
+    public void scansMatchPerTileLookups() {
+        Random random = new Random(7);
+        for (int round = 0; round < 40; round++) {
+            LevelModel level = randomLevel(random, round % 2 == 1);
+            int width = level.getTileLayer().getWidth();
+            int height = level.getTileLayer().getHeight();
+            for (int probe = 0; probe < 400; probe++) {
+                int x = random.nextInt(width + 8) - 4;
+                int y = random.nextInt(height + 8) - 4;
+                assertEquals(naiveSolid(level, x, y), level.isSolid(x, y));
+
+                int a = random.nextInt(width + 140) - 70;
+                int b = a + random.nextInt(140) - 10;
+                assertEquals(naiveFirstInRow(level, y, a, b), level.firstSolidInRow(y, a, b));
+                assertEquals(naiveLastInRow(level, y, a, b), level.lastSolidInRow(y, a, b));
+                int c = random.nextInt(height + 140) - 70;
+                int d = c + random.nextInt(140) - 10;
+                assertEquals(naiveFirstInColumn(level, x, c, d), level.firstSolidInColumn(x, c, d));
+                assertEquals(naiveLastInColumn(level, x, c, d), level.lastSolidInColumn(x, c, d));
+                assertEquals(naiveAny(level, a, c, b, d), level.anySolid(a, c, b, d));
+            }
+        }
+    }
+
+    @Test
+    public void sweepMatchesBruteForce() {
+        Random random = new Random(11);
+        SweptAabb fast = new SweptAabb();
+        SweptAabb slow = new SweptAabb();
+        for (int round = 0; round < 40; round++) {
+            LevelModel level = randomLevel(random, round % 2 == 1);
+            for (int probe = 0; probe < 2000; probe++) {
+                float left = random.nextFloat() * (level.getPixelWidth() + 64) - 32;
+                float top = random.nextFloat() * (level.getPixelHeight() + 64) - 32;
+                if (random.nextInt(4) == 0) {
+                    // Resting exactly on a tile edge is the common case in play.
+                    left = Math.round(left / TILE) * TILE;
+                    top = Math.round(top / TILE) * TILE;
+                }
+                float right = left + 4 + random.nextFloat() * 30;
+                float bottom = top + 4 + random.nextFloat() * 40;
+                float dx = 0f;
+                float dy = 0f;
+                int axis = random.nextInt(3);
+                if (axis != 1) {
+                    dx = (random.nextFloat() * 2f - 1f) * 70f;
+                }
+                if (axis != 0) {
+                    dy = (random.nextFloat() * 2f - 1f) * 70f;
+                }
+                boolean hit = level.sweep(left, top, right, bottom, dx, dy, fast);
+                boolean expected = naiveSweep(level, left, top, right, bottom, dx, dy, slow);
+                String where = "round " + round + " probe " + probe;
+                assertEquals(where, expected, hit);
+                assertEquals(where, slow.getTime(), fast.getTime(), 0f);
+                assertEquals(where, slow.getNormalX(), fast.getNormalX());
+                assertEquals(where, slow.getNormalY(), fast.getNormalY());
+                assertEquals(where, slow.getTileX(), fast.getTileX());
+                assertEquals(where, slow.getTileY(), fast.getTileY());
+            }
+        }
+    }
+
+    private static LevelModel randomLevel(Random random, boolean outsideSolid) {
+        // Sizes include single-cell rows and columns, whose runs are a single entry.
+        return randomLevel(random, 1 + random.nextInt(150), 1 + random.nextInt(90),
+                random.nextFloat() * 0.6f, outsideSolid);
+    }
+
+    static LevelModel randomLevel(Random random, int width, int height, float density,
+                                  boolean outsideSolid) {
+        int[] data = new int[width * height];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextFloat() < density ? 1 + random.nextInt(3) : 0;
+        }
+        // GID 1 and 3 are solid, 2 is decoration; GID 0 (and so the outside) is solid on request.
+        int[] flags = { outsideSolid ? 1 : 0, 1, 0, 1 };
+        return new LevelModel(width, height, TILE, TILE,
+                new LevelModel.TileLayer("ground", width, height, data),
+                Collections.<LevelModel.Entity>emptyList(),
+                new LevelModel.CollisionMap(flags), "tiles.png");
+    }
+
+    static boolean naiveSolid(LevelModel level, int x, int y) {
+        return level.getCollisionMap().isSolid(level.getTileLayer().getTileId(x, y));
+    }
+
+    private static int naiveFirstInRow(LevelModel level, int y, int x0, int x1) {
+        for (int x = x0; x <= x1; x++) {
+            if (naiveSolid(level, x, y)) {
+                return x;
+            }
+        }
+        return LevelModel.NO_TILE;
+    }
+
+    private static int naiveLastInRow(LevelModel level, int y, int x0, int x1) {
+        for (int x = x1; x >= x0; x--) {
+            if (naiveSolid(level, x, y)) {
+                return x;
+            }
+        }
+        return LevelModel.NO_TILE;
+    }
+
+    private static int naiveFirstInColumn(LevelModel level, int x, int y0, int y1) {
+        for (int y = y0; y <= y1; y++) {
+            if (naiveSolid(level, x, y)) {
+                return y;
+            }
+        }
+        return LevelModel.NO_TILE;
+    }
+
+    private static int naiveLastInColumn(LevelModel level, int x, int y0, int y1) {
+        for (int y = y1; y >= y0; y--) {
+            if (naiveSolid(level, x, y)) {
+                return y;
+            }
+        }
+        return LevelModel.NO_TILE;
+    }
+
+    private static boolean naiveAny(LevelModel level, int x0, int y0, int x1, int y1) {
+        for (int y = y0; y <= y1; y++) {
+            if (naiveFirstInRow(level, y, x0, x1) != LevelModel.NO_TILE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean naiveSweep(LevelModel level, float left, float top, float right, float bottom,
+                              float dx, float dy, SweptAabb result) {
+        result.reset();
+        if (dx == 0f && dy == 0f) {
+            return false;
+        }
+        int x0 = (int) Math.floor(Math.min(left, left + dx) / TILE);
+        int x1 = (int) Math.floor(Math.max(right, right + dx) / TILE);
+        int y0 = (int) Math.floor(Math.min(top, top + dy) / TILE);
+        int y1 = (int) Math.floor(Math.max(bottom, bottom + dy) / TILE);
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) {
+                if (naiveSolid(level, x, y)) {
+                    float cellLeft = x * (float) TILE;
+                    float cellTop = y * (float) TILE;
+                    result.test(left, top, right, bottom, dx, dy,
+                            cellLeft, cellTop, cellLeft + TILE, cellTop + TILE, x, y);
+                }
+            }
+        }
+        return result.hasHit();
+    }
+}
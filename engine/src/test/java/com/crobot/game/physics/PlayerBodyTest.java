@@ -0,0 +1,138 @@
+// engine/src/test/java/com/crobot/game/physics/PlayerBodyTest.java
+package com.crobot.game.physics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.crobot.game.level.LevelModel;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class PlayerBodyTest {
+
+    private static final int TILE = 32;
+    private static final float GRAVITY = 1400f;
+
+    // '#' is solid; the map is 20 x 12 tiles with a floor and a wall at column 10.
+    private static final String[] ROOM = {
+            "....................",
+            "....................",
+            "....................",
+            "....................",
+            "....................",
+            "....................",
+            "..........#.........",
+            "..........#.........",
+            "###.......#.........",
+            "..........#.........",
+            "..........#.........",
+            "####################",
+    };
+
+    @Test
+    public void landsOnTheFloorAndSnapsToItsTop() {
+        LevelModel level = level(ROOM);
+        PlayerBody body = body(200f, 200f);
+        for (int i = 0; i < 120; i++) {
+            body.integrate(1f / 60f, GRAVITY, level);
+        }
+        assertTrue(body.onGround);
+        assertEquals(11 * TILE, body.y, 0f);
+        assertEquals(0f, body.vy, 0f);
+    }
+
+    @Test
+    public void aFastBodyStopsAtTheWall() {
+        LevelModel level = level(ROOM);
+        PlayerBody body = body(100f, 11 * TILE);
+        body.vx = 3000f;
+        for (int i = 0; i < 30; i++) {
+            body.integrate(1f / 30f, GRAVITY, level);
+        }
+        assertEquals(10 * TILE - body.width / 2f, body.x, 0f);
+        assertEquals(11 * TILE, body.y, 0f);
+    }
+
+    @Test
+    public void aFastFallCannotPassThroughAThinLedge() {
+        LevelModel level = level(ROOM);
+        PlayerBody body = body(48f, 40f);
+        body.vy = 5000f;
+        body.integrate(1f / 30f, GRAVITY, level);
+        body.integrate(1f / 30f, GRAVITY, level);
+        assertTrue(body.onGround);
+        assertEquals(8 * TILE, body.y, 0f);
+    }
+
+    @Test
+    public void landsAtTheSameHeightAtThirtyAndSixtyHertz() {
+        LevelModel level = level(ROOM);
+        PlayerBody slow = body(300f, 64f);
+        PlayerBody fast = body(300f, 64f);
+        for (int i = 0; i < 60; i++) {
+            slow.integrate(1f / 30f, GRAVITY, level);
+            fast.integrate(1f / 60f, GRAVITY, level);
+            fast.integrate(1f / 60f, GRAVITY, level);
+        }
+        assertTrue(slow.onGround);
+        assertTrue(fast.onGround);
+        assertEquals(fast.y, slow.y, 0f);
+    }
+
+    @Test
+    public void staysInsideTheLevel() {
+        LevelModel level = level(ROOM);
+        PlayerBody body = body(20f, 11 * TILE);
+        body.vx = -800f;
+        body.integrate(1f / 60f, GRAVITY, level);
+        assertEquals(body.width / 2f, body.x, 0f);
+        assertEquals(0f, body.vx, 0f);
+    }
+
+    @Test
+    public void canStandChecksTheHeadroom() {
+        LevelModel level = level(ROOM);
+        // Under the ledge at row 8 the gap above the floor is two tiles tall.
+        PlayerBody body = body(48f, 11 * TILE);
+        assertTrue(body.canStand(TILE * 1.9f, level));
+        assertFalse(body.canStand(TILE * 3.5f, level));
+    }
+
+    @Test
+    public void boundsAreAnchoredAtTheFeet() {
+        PlayerBody body = body(100f, 200f);
+        Aabb bounds = new Aabb();
+        body.getBounds(bounds);
+        assertEquals(100f - body.width / 2f, bounds.left, 0f);
+        assertEquals(200f - body.height, bounds.top, 0f);
+        assertEquals(100f + body.width / 2f, bounds.right, 0f);
+        assertEquals(200f, bounds.bottom, 0f);
+    }
+
+    private static PlayerBody body(float x, float y) {
+        PlayerBody body = new PlayerBody();
+        body.x = x;
+        body.y = y;
+        body.width = TILE * 0.82f;
+        body.height = TILE * 1.9f;
+        return body;
+    }
+
+    static LevelModel level(String[] rows) {
+        int width = rows[0].length();
+        int height = rows.length;
+        int[] data = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                data[y * width + x] = rows[y].charAt(x) == '#' ? 1 : 0;
+            }
+        }
+        return new LevelModel(width, height, TILE, TILE,
+                new LevelModel.TileLayer("ground", width, height, data),
+                Collections.<LevelModel.Entity>emptyList(),
+                new LevelModel.CollisionMap(new int[] { 0, 1 }), "tiles.png");
+    }
+}
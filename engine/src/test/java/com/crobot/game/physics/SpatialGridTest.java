@@ -0,0 +1,136 @@
+// engine/src/test/java/com/crobot/game/physics/SpatialGridTest.java
+package com.crobot.game.physics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SpatialGridTest {
+
+    private static final int TILE = 32;
+    private static final int WIDTH_TILES = 60;
+    private static final int HEIGHT_TILES = 20;
+
+    @Test
+    public void regionQueriesMatchBruteForce() {
+        Random random = new Random(11);
+        SpatialGrid<Aabb> grid = new SpatialGrid<>(4);
+        grid.reset(TILE, TILE, WIDTH_TILES, HEIGHT_TILES);
+        for (int round = 0; round < 20; round++) {
+            List<Aabb> boxes = fill(grid, random, 50 + random.nextInt(400));
+            for (int query = 0; query < 200; query++) {
+                Aabb area = randomBox(random);
+                int count = grid.queryRegion(area.left, area.top, area.right, area.bottom);
+                List<Aabb> expected = new ArrayList<>();
+                for (Aabb box : boxes) {
+                    if (box.left <= area.right && area.left <= box.right
+                            && box.top <= area.bottom && area.top <= box.bottom) {
+                        expected.add(box);
+                    }
+                }
+                assertResults(grid, expected, count);
+            }
+        }
+    }
+
+    @Test
+    public void radiusQueriesMatchBruteForce() {
+        Random random = new Random(12);
+        SpatialGrid<Aabb> grid = new SpatialGrid<>(4);
+        grid.reset(TILE, TILE, WIDTH_TILES, HEIGHT_TILES);
+        for (int round = 0; round < 20; round++) {
+            List<Aabb> boxes = fill(grid, random, 50 + random.nextInt(400));
+            for (int query = 0; query < 200; query++) {
+                float x = coordinate(random, WIDTH_TILES);
+                float y = coordinate(random, HEIGHT_TILES);
+                float radius = random.nextFloat() * TILE * 8f;
+                int count = grid.queryRadius(x, y, radius);
+                List<Aabb> expected = new ArrayList<>();
+                for (Aabb box : boxes) {
+                    float dx = x - Math.max(box.left, Math.min(x, box.right));
+                    float dy = y - Math.max(box.top, Math.min(y, box.bottom));
+                    if (dx * dx + dy * dy <= radius * radius) {
+                        expected.add(box);
+                    }
+                }
+                assertResults(grid, expected, count);
+            }
+        }
+    }
+
+    @Test
+    public void anItemSpanningManyCellsIsReportedOnce() {
+        SpatialGrid<Aabb> grid = new SpatialGrid<>(1);
+        grid.reset(TILE, TILE, WIDTH_TILES, HEIGHT_TILES);
+        Aabb wide = new Aabb(0f, 0f, WIDTH_TILES * TILE, HEIGHT_TILES * TILE);
+        grid.insert(wide, wide.left, wide.top, wide.right, wide.bottom);
+        assertEquals(1, grid.queryRegion(0f, 0f, WIDTH_TILES * TILE, HEIGHT_TILES * TILE));
+        assertSame(wide, grid.getResult(0));
+        assertEquals(1, grid.queryRadius(100f, 100f, 1000f));
+    }
+
+    @Test
+    public void itemsOutsideTheLevelStayInTheBorderCells() {
+        SpatialGrid<Aabb> grid = new SpatialGrid<>(4);
+        grid.reset(TILE, TILE, WIDTH_TILES, HEIGHT_TILES);
+        Aabb above = new Aabb(100f, -400f, 120f, -380f);
+        Aabb right = new Aabb(WIDTH_TILES * TILE + 300f, 50f, WIDTH_TILES * TILE + 320f, 70f);
+        grid.insert(above, above.left, above.top, above.right, above.bottom);
+        grid.insert(right, right.left, right.top, right.right, right.bottom);
+        assertEquals(1, grid.queryRegion(90f, -410f, 130f, -370f));
+        assertSame(above, grid.getResult(0));
+        assertEquals(1, grid.queryRadius(right.centerX(), right.centerY(), 5f));
+        assertSame(right, grid.getResult(0));
+    }
+
+    @Test
+    public void clearAndResetEmptyTheGrid() {
+        Random random = new Random(13);
+        SpatialGrid<Aabb> grid = new SpatialGrid<>(4);
+        grid.reset(TILE, TILE, WIDTH_TILES, HEIGHT_TILES);
+        fill(grid, random, 100);
+        grid.clear();
+        assertEquals(0, grid.queryRegion(-1000f, -1000f, 10000f, 10000f));
+        fill(grid, random, 100);
+        // A larger level must not see items of the old layout.
+        grid.reset(TILE, TILE, WIDTH_TILES * 3, HEIGHT_TILES * 2);
+        assertEquals(0, grid.queryRegion(-1000f, -1000f, 10000f, 10000f));
+    }
+
+    private static List<Aabb> fill(SpatialGrid<Aabb> grid, Random random, int count) {
+        grid.clear();
+        List<Aabb> boxes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Aabb box = randomBox(random);
+            grid.insert(box, box.left, box.top, box.right, box.bottom);
+            boxes.add(box);
+        }
+        return boxes;
+    }
+
+    private static Aabb randomBox(Random random) {
+        float left = coordinate(random, WIDTH_TILES);
+        float top = coordinate(random, HEIGHT_TILES);
+        // Mostly enemy-sized, sometimes several cells wide.
+        float scale = random.nextInt(8) == 0 ? TILE * 12f : TILE * 2f;
+        return new Aabb(left, top, left + random.nextFloat() * scale, top + random.nextFloat() * scale);
+    }
+
+    /** A coordinate across the level, with some margin outside it on both sides. */
+    private static float coordinate(Random random, int tiles) {
+        return (random.nextFloat() * 1.2f - 0.1f) * tiles * TILE;
+    }
+
+    private static void assertResults(SpatialGrid<Aabb> grid, List<Aabb> expected, int count) {
+        assertEquals(expected.size(), count);
+        for (int i = 0; i < count; i++) {
+            // Both lists are in insertion order.
+            assertSame(expected.get(i), grid.getResult(i));
+        }
+    }
+}
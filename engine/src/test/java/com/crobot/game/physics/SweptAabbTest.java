@@ -0,0 +1,98 @@
+// engine/src/test/java/com/crobot/game/physics/SweptAabbTest.java
+package com.crobot.game.physics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SweptAabbTest {
+
+    @Test
+    public void movingRightHitsTheLeftFaceOfACell() {
+        SweptAabb sweep = new SweptAabb();
+        assertTrue(sweep.test(0f, 0f, 10f, 10f, 20f, 0f, 20f, 0f, 30f, 10f, 2, 0));
+        assertTrue(sweep.hasHit());
+        assertEquals(0.5f, sweep.getTime(), 1e-6f);
+        assertEquals(-1, sweep.getNormalX());
+        assertEquals(0, sweep.getNormalY());
+        assertEquals(2, sweep.getTileX());
+    }
+
+    @Test
+    public void fallingLandsOnTheTopFace() {
+        SweptAabb sweep = new SweptAabb();
+        sweep.test(0f, 0f, 10f, 10f, 0f, 40f, 0f, 30f, 10f, 40f, 0, 3);
+        assertEquals(0.5f, sweep.getTime(), 1e-6f);
+        assertEquals(0, sweep.getNormalX());
+        assertEquals(-1, sweep.getNormalY());
+        assertEquals(3, sweep.getTileY());
+    }
+
+    @Test
+    public void aLongMoveCannotSkipAThinWall() {
+        SweptAabb sweep = new SweptAabb();
+        sweep.test(0f, 0f, 10f, 10f, 1000f, 0f, 500f, 0f, 501f, 10f, 50, 0);
+        assertTrue(sweep.hasHit());
+        assertEquals(0.49f, sweep.getTime(), 1e-6f);
+    }
+
+    @Test
+    public void keepsTheEarliestOfSeveralCells() {
+        SweptAabb sweep = new SweptAabb();
+        sweep.test(0f, 0f, 10f, 10f, 100f, 0f, 60f, 0f, 70f, 10f, 6, 0);
+        assertTrue(sweep.test(0f, 0f, 10f, 10f, 100f, 0f, 30f, 0f, 40f, 10f, 3, 0));
+        // Reached, but later than the cell already kept.
+        assertTrue(sweep.test(0f, 0f, 10f, 10f, 100f, 0f, 80f, 0f, 90f, 10f, 8, 0));
+        assertEquals(3, sweep.getTileX());
+        assertEquals(0.2f, sweep.getTime(), 1e-6f);
+    }
+
+    @Test
+    public void ignoresCellsOutOfReachOrOffTheLane() {
+        SweptAabb sweep = new SweptAabb();
+        // Beyond the end of the move.
+        assertFalse(sweep.test(0f, 0f, 10f, 10f, 5f, 0f, 20f, 0f, 30f, 10f, 2, 0));
+        // Behind the box.
+        assertFalse(sweep.test(20f, 0f, 30f, 10f, 5f, 0f, 0f, 0f, 10f, 10f, 0, 0));
+        // Only touching the lane edge, as when sliding along a floor.
+        assertFalse(sweep.test(0f, 0f, 10f, 10f, 20f, 0f, 20f, 10f, 30f, 20f, 2, 1));
+        assertFalse(sweep.hasHit());
+        assertEquals(1f, sweep.getTime(), 0f);
+    }
+
+    @Test
+    public void anEmbeddedBoxCanMoveOut() {
+        SweptAabb sweep = new SweptAabb();
+        assertFalse(sweep.test(5f, 0f, 15f, 10f, -10f, 0f, 0f, 0f, 10f, 10f, 0, 0));
+        assertFalse(sweep.hasHit());
+    }
+
+    @Test
+    public void restingContactStillBlocks() {
+        SweptAabb sweep = new SweptAabb();
+        // A hair inside the cell after snapping: still counts as touching.
+        float drift = SweptAabb.CONTACT_EPSILON * 0.5f;
+        assertTrue(sweep.test(0f, 0f, 10f + drift, 10f, 5f, 0f, 10f, 0f, 20f, 10f, 1, 0));
+        assertEquals(0f, sweep.getTime(), 0f);
+    }
+
+    @Test
+    public void resetForgetsTheHit() {
+        SweptAabb sweep = new SweptAabb();
+        sweep.test(0f, 0f, 10f, 10f, 20f, 0f, 20f, 0f, 30f, 10f, 2, 0);
+        sweep.reset();
+        assertFalse(sweep.hasHit());
+        assertEquals(1f, sweep.getTime(), 0f);
+    }
+
+    @Test
+    public void subStepsCoverTheDistance() {
+        assertEquals(1, SweptAabb.subSteps(4f, 8f, 8));
+        assertEquals(1, SweptAabb.subSteps(8f, 8f, 8));
+        assertEquals(3, SweptAabb.subSteps(20f, 8f, 8));
+        assertEquals(8, SweptAabb.subSteps(1000f, 8f, 8));
+        assertEquals(1, SweptAabb.subSteps(Float.NaN, 8f, 8));
+    }
+}
@@ -0,0 +1,186 @@
+// engine/src/test/java/com/crobot/game/sim/CrobotSimulationAllocationTest.java
+package com.crobot.game.sim;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import com.crobot.game.level.LevelModel;
+import com.example.robotparkour.level.DynamicLevelGenerator;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Steps a generated level crowded with every enemy kind under scripted input and checks that a
+ * warmed-up simulation allocates nothing. The warm-up is the same scripted run, so every pool
+ * and grid has already grown to what the measured run needs.
+ */
+public class CrobotSimulationAllocationTest {
+
+    private static final int STEPS = 10_000;
+    private static final float STEP_SECONDS = 1f / 60f;
+    private static final long SEED = 7L;
+    private static final int SPAWN_CLEARANCE = 12;
+
+    @Test
+    public void warmedUpStepsDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        LevelModel level = denseLevel(new Random(SEED));
+        CrobotSimulation simulation = new CrobotSimulation();
+        Counter counter = new Counter();
+        simulation.setListener(counter);
+
+        simulation.load(CrobotSimulation.prepare(level, true));
+        simulation.setRandomSeed(SEED);
+        run(simulation, counter);
+
+        simulation.load(CrobotSimulation.prepare(level, true));
+        simulation.setRandomSeed(SEED);
+        counter.reset();
+        // Whatever reading the counter costs is not the simulation's.
+        long probe = threads.getThreadAllocatedBytes(thread);
+        long overhead = threads.getThreadAllocatedBytes(thread) - probe;
+        long before = threads.getThreadAllocatedBytes(thread);
+        run(simulation, counter);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before - overhead;
+
+        assertEquals("bytes allocated over " + STEPS + " steps", 0L, allocated);
+        assertFalse(simulation.isLevelCompleted());
+        // Make sure the run exercised more than an idle world.
+        assertTrue(counter.jumps > 0);
+        assertTrue(counter.respawns > 0);
+        assertTrue(counter.maxProjectiles > 0);
+        assertTrue(counter.maxPlatforms > 0);
+    }
+
+    private static void run(CrobotSimulation simulation, Counter counter) {
+        for (int i = 0; i < STEPS; i++) {
+            // Walk right and back in 5 s legs, hop regularly and duck now and then.
+            boolean right = (i / 300) % 2 == 0;
+            simulation.setMoveRight(right);
+            simulation.setMoveLeft(!right);
+            int jumpPhase = i % 45;
+            if (jumpPhase == 0) {
+                simulation.setJumpPressed(true);
+            } else if (jumpPhase == 10) {
+                simulation.setJumpPressed(false);
+            }
+            int duckPhase = i % 240;
+            if (duckPhase == 200) {
+                simulation.setDuckPressed(true);
+            } else if (duckPhase == 230) {
+                simulation.setDuckPressed(false);
+            }
+            simulation.step(STEP_SECONDS);
+            counter.maxProjectiles = Math.max(counter.maxProjectiles, simulation.getProjectiles().size());
+            counter.maxPlatforms = Math.max(counter.maxPlatforms, simulation.getDebugPlatforms().size());
+        }
+    }
+
+    /**
+     * A generated labyrinth with its flags removed, so the run never ends, and two enemies per
+     * column cycling through every kind.
+     */
+    private static LevelModel denseLevel(Random random) {
+        LevelModel base = DynamicLevelGenerator.convertToModel(
+                DynamicLevelGenerator.buildLabyrinth(1, "allocation"));
+        List<LevelModel.Entity> entities = new ArrayList<>();
+        for (LevelModel.Entity entity : base.getEntities()) {
+            if (!entity.getType().toLowerCase(Locale.US).contains("flag")) {
+                entities.add(entity);
+            }
+        }
+        EnemyKind[] kinds = EnemyKind.values();
+        int tileWidth = base.getTileWidth();
+        int tileHeight = base.getTileHeight();
+        int spawnColumn = spawnColumn(base);
+        int placed = 0;
+        int swarm = 0;
+        for (int column = 4; column < base.getWidth() - 4; column++) {
+            if (Math.abs(column - spawnColumn) < SPAWN_CLEARANCE) {
+                // Leave the player room to start moving before the first hit.
+                continue;
+            }
+            for (int i = 0; i < 2; i++) {
+                EnemyKind kind = kinds[placed++ % kinds.length];
+                int row = random.nextInt(base.getHeight());
+                int ground = base.firstSolidInColumn(column, row, base.getHeight() - 1);
+                if (ground == LevelModel.NO_TILE) {
+                    ground = base.getHeight();
+                }
+                Map<String, String> extras = new HashMap<>();
+                extras.put("range", Integer.toString(tileWidth * 3));
+                switch (kind) {
+                    case BOTNET_BEE_LEADER:
+                        extras.put("swarm", "swarm" + ++swarm);
+                        break;
+                    case BOTNET_BEE_MINION:
+                        extras.put("leader", "swarm" + swarm);
+                        break;
+                    case TWOFA_GUARDIAN_JUMP:
+                    case TWOFA_GUARDIAN_DASH:
+                        extras.put("channel", "gate" + column / 8);
+                        break;
+                    default:
+                        break;
+                }
+                entities.add(new LevelModel.Entity(kind.getTypeName(),
+                        column * tileWidth + tileWidth / 2, ground * tileHeight, extras));
+            }
+        }
+        return new LevelModel(base.getWidth(), base.getHeight(), tileWidth, tileHeight,
+                base.getTileLayer(), entities, base.getCollisionMap(), base.getTilesetAssetPath());
+    }
+
+    private static int spawnColumn(LevelModel level) {
+        for (LevelModel.Entity entity : level.getEntities()) {
+            if ("spawn".equalsIgnoreCase(entity.getType())) {
+                return entity.getX() / level.getTileWidth();
+            }
+        }
+        return 2;
+    }
+
+    private static final class Counter implements CrobotSimulation.Listener {
+        int jumps;
+        int respawns;
+        int maxProjectiles;
+        int maxPlatforms;
+
+        void reset() {
+            jumps = 0;
+            respawns = 0;
+            maxProjectiles = 0;
+            maxPlatforms = 0;
+        }
+
+        @Override
+        public void onJump() {
+            jumps++;
+        }
+
+        @Override
+        public void onPlayerRespawned() {
+            respawns++;
+        }
+
+        @Override
+        public void onLevelCompleted() {
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// engine/src/test/java/com/example/robotparkour/entity/RobotBodyTest.java
+package com.example.robotparkour.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.crobot.game.physics.Aabb;
+import com.crobot.game.physics.SolidGrid;
+import com.example.robotparkour.level.LevelLayout;
+
+import org.junit.Test;
+
+public class RobotBodyTest {
+
+    private static final float TILE = 32f;
+    private static final float WIDTH = 28f;
+    private static final float HEIGHT = 40f;
+
+    // A floor on row 7, a wall at column 9 and the spawn marker in column 2.
+    private static final String[] ROOM = {
+            "............",
+            "............",
+            "..R......G..",
+            ".........G..",
+            ".........B..",
+            ".........Q..",
+            "...C..S..G..",
+            "GGGGGGGGGGGG",
+    };
+
+    @Test
+    public void layoutMarksSolidBlocksAndTheSpawn() {
+        LevelLayout layout = LevelLayout.fromStringMap(ROOM, TILE);
+        SolidGrid grid = layout.getSolidGrid();
+        assertEquals(12, layout.getWidth());
+        assertEquals(8, layout.getHeight());
+        assertEquals(2 * TILE, layout.getSpawnX(), 0f);
+        assertEquals(2 * TILE, layout.getSpawnY(), 0f);
+        assertTrue(grid.isSolid(9, 4));
+        assertTrue(grid.isSolid(0, 7));
+        assertFalse(grid.isSolid(3, 6));
+        assertFalse(grid.isSolid(6, 6));
+        assertEquals(LevelLayout.COIN, layout.getCode(3, 6));
+        assertEquals(LevelLayout.EMPTY, layout.getCode(40, 40));
+    }
+
+    @Test
+    public void landsOnTheFloorAndSnapsToItsTop() {
+        LevelLayout layout = LevelLayout.fromStringMap(ROOM, TILE);
+        RobotBody body = new RobotBody(WIDTH, HEIGHT);
+        Aabb box = box(layout.getSpawnX(), layout.getSpawnY());
+        for (int i = 0; i < 120; i++) {
+            body.update(box, layout.getSolidGrid(), 1f / 60f, false, false, false);
+        }
+        assertTrue(body.isGrounded());
+        assertEquals(7 * TILE, box.bottom, 0f);
+        assertEquals(HEIGHT, box.height(), 0f);
+        assertEquals(0f, body.getVelocityY(), 0f);
+    }
+
+    @Test
+    public void runningStopsAtTheWall() {
+        LevelLayout layout = LevelLayout.fromStringMap(ROOM, TILE);
+        RobotBody body = new RobotBody(WIDTH, HEIGHT);
+        Aabb box = box(layout.getSpawnX(), 7 * TILE - HEIGHT);
+        for (int i = 0; i < 180; i++) {
+            body.update(box, layout.getSolidGrid(), 1f / 30f, false, true, false);
+        }
+        assertTrue(body.isFacingRight());
+        assertEquals(9 * TILE, box.right, 0f);
+        assertEquals(0f, body.getVelocityX(), 0f);
+    }
+
+    @Test
+    public void jumpsOnlyFromTheGround() {
+        LevelLayout layout = LevelLayout.fromStringMap(ROOM, TILE);
+        RobotBody body = new RobotBody(WIDTH, HEIGHT);
+        Aabb box = box(layout.getSpawnX(), 7 * TILE - HEIGHT);
+        body.update(box, layout.getSolidGrid(), 1f / 60f, false, false, false);
+        assertTrue(body.isGrounded());
+
+        body.update(box, layout.getSolidGrid(), 1f / 60f, false, false, true);
+        assertFalse(body.isGrounded());
+        assertTrue(body.getVelocityY() < 0f);
+        float rising = body.getVelocityY();
+        body.update(box, layout.getSolidGrid(), 1f / 60f, false, false, true);
+        assertTrue(body.getVelocityY() > rising);
+    }
+
+    private static Aabb box(float left, float top) {
+        return new Aabb(left, top, left + WIDTH, top + HEIGHT);
+    }
+}
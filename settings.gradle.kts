@@ -21,4 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "C++Robot"
 include(":app")
+include(":engine")
  
\ No newline at end of file